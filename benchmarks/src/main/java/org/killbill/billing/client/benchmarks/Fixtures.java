@@ -0,0 +1,206 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.killbill.billing.catalog.api.BillingPeriod;
+import org.killbill.billing.catalog.api.Currency;
+import org.killbill.billing.catalog.api.TimeUnit;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.Catalog;
+import org.killbill.billing.client.model.gen.Duration;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.killbill.billing.client.model.gen.InvoiceItem;
+import org.killbill.billing.client.model.gen.Payment;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+import org.killbill.billing.client.model.gen.Phase;
+import org.killbill.billing.client.model.gen.Plan;
+import org.killbill.billing.client.model.gen.Price;
+import org.killbill.billing.client.model.gen.PriceList;
+import org.killbill.billing.client.model.gen.Product;
+import org.killbill.billing.invoice.api.InvoiceItemType;
+import org.killbill.billing.invoice.api.InvoiceStatus;
+import org.killbill.billing.payment.api.TransactionStatus;
+import org.killbill.billing.payment.api.TransactionType;
+
+/**
+ * Realistic model objects, shaped like the ones returned by Kill Bill.
+ */
+public final class Fixtures {
+
+    private static final DateTime NOW = new DateTime(2020, 6, 1, 12, 0, 0, DateTimeZone.UTC);
+    private static final LocalDate TODAY = NOW.toLocalDate();
+
+    private Fixtures() {}
+
+    public static Account account() {
+        return account(UUID.randomUUID());
+    }
+
+    public static Account account(final UUID accountId) {
+        return new Account().setAccountId(accountId)
+                            .setName("John Doe")
+                            .setFirstNameLength(4)
+                            .setExternalKey(accountId.toString())
+                            .setEmail("john@example.com")
+                            .setBillCycleDayLocal(1)
+                            .setCurrency(Currency.USD)
+                            .setPaymentMethodId(UUID.randomUUID())
+                            .setReferenceTime(NOW)
+                            .setTimeZone("UTC")
+                            .setAddress1("1 Main Street")
+                            .setPostalCode("94105")
+                            .setCompany("Acme")
+                            .setCity("San Francisco")
+                            .setState("CA")
+                            .setCountry("US")
+                            .setLocale("en_US")
+                            .setPhone("+1 415 555 0100")
+                            .setIsMigrated(false)
+                            .setAccountBalance(BigDecimal.ZERO)
+                            .setAccountCBA(BigDecimal.ZERO);
+    }
+
+    public static Invoice invoice(final int nbItems) {
+        final UUID accountId = UUID.randomUUID();
+        final UUID invoiceId = UUID.randomUUID();
+        final List<InvoiceItem> items = new ArrayList<InvoiceItem>(nbItems);
+        for (int i = 0; i < nbItems; i++) {
+            items.add(new InvoiceItem().setInvoiceItemId(UUID.randomUUID())
+                                       .setInvoiceId(invoiceId)
+                                       .setAccountId(accountId)
+                                       .setBundleId(UUID.randomUUID())
+                                       .setSubscriptionId(UUID.randomUUID())
+                                       .setProductName("Standard")
+                                       .setPlanName("standard-monthly")
+                                       .setPhaseName("standard-monthly-evergreen")
+                                       .setPrettyPlanName("Standard Monthly")
+                                       .setItemType(InvoiceItemType.RECURRING)
+                                       .setDescription("standard-monthly-evergreen")
+                                       .setStartDate(TODAY)
+                                       .setEndDate(TODAY.plusMonths(1))
+                                       .setAmount(new BigDecimal("24.95"))
+                                       .setRate(new BigDecimal("24.95"))
+                                       .setCurrency(Currency.USD));
+        }
+
+        final BigDecimal amount = new BigDecimal("24.95").multiply(BigDecimal.valueOf(nbItems));
+        return new Invoice().setInvoiceId(invoiceId)
+                            .setAccountId(accountId)
+                            .setAmount(amount)
+                            .setBalance(amount)
+                            .setCreditAdj(BigDecimal.ZERO)
+                            .setRefundAdj(BigDecimal.ZERO)
+                            .setCurrency(Currency.USD)
+                            .setStatus(InvoiceStatus.COMMITTED)
+                            .setInvoiceDate(TODAY)
+                            .setTargetDate(TODAY)
+                            .setInvoiceNumber("1234")
+                            .setItems(items);
+    }
+
+    public static Payment payment(final int nbTransactions) {
+        final UUID paymentId = UUID.randomUUID();
+        final List<PaymentTransaction> transactions = new ArrayList<PaymentTransaction>(nbTransactions);
+        for (int i = 0; i < nbTransactions; i++) {
+            transactions.add(new PaymentTransaction().setTransactionId(UUID.randomUUID())
+                                                     .setTransactionExternalKey(UUID.randomUUID().toString())
+                                                     .setPaymentId(paymentId)
+                                                     .setPaymentExternalKey(paymentId.toString())
+                                                     .setTransactionType(i == 0 ? TransactionType.AUTHORIZE : TransactionType.PURCHASE)
+                                                     .setAmount(new BigDecimal("100.00"))
+                                                     .setCurrency(Currency.USD)
+                                                     .setEffectiveDate(NOW)
+                                                     .setProcessedAmount(new BigDecimal("100.00"))
+                                                     .setProcessedCurrency(Currency.USD)
+                                                     .setStatus(TransactionStatus.SUCCESS)
+                                                     .setFirstPaymentReferenceId("ch_" + i)
+                                                     .setSecondPaymentReferenceId("txn_" + i));
+        }
+
+        return new Payment().setAccountId(UUID.randomUUID())
+                            .setPaymentId(paymentId)
+                            .setPaymentNumber("42")
+                            .setPaymentExternalKey(paymentId.toString())
+                            .setAuthAmount(new BigDecimal("100.00"))
+                            .setCapturedAmount(BigDecimal.ZERO)
+                            .setPurchasedAmount(new BigDecimal("100.00"))
+                            .setRefundedAmount(BigDecimal.ZERO)
+                            .setCreditedAmount(BigDecimal.ZERO)
+                            .setCurrency(Currency.USD)
+                            .setPaymentMethodId(UUID.randomUUID())
+                            .setTransactions(transactions);
+    }
+
+    public static Catalog catalog(final int nbProducts) {
+        final List<Product> products = new ArrayList<Product>(nbProducts);
+        final List<String> planNames = new ArrayList<String>();
+        for (int i = 0; i < nbProducts; i++) {
+            final String productName = "Product" + i;
+            final List<Plan> plans = new ArrayList<Plan>();
+            for (final BillingPeriod billingPeriod : new BillingPeriod[]{BillingPeriod.MONTHLY, BillingPeriod.ANNUAL}) {
+                final String planName = productName.toLowerCase() + "-" + billingPeriod.toString().toLowerCase();
+                planNames.add(planName);
+
+                final List<Phase> phases = new ArrayList<Phase>();
+                phases.add(new Phase().setType("TRIAL")
+                                      .setPrices(new ArrayList<Price>())
+                                      .setFixedPrices(new ArrayList<Price>())
+                                      .setDuration(new Duration().setUnit(TimeUnit.DAYS).setNumber(30)));
+                final List<Price> prices = new ArrayList<Price>();
+                prices.add(new Price().setCurrency(Currency.USD).setValue(new BigDecimal("24.95")));
+                prices.add(new Price().setCurrency(Currency.EUR).setValue(new BigDecimal("22.95")));
+                phases.add(new Phase().setType("EVERGREEN")
+                                      .setPrices(prices)
+                                      .setFixedPrices(new ArrayList<Price>())
+                                      .setDuration(new Duration().setUnit(TimeUnit.UNLIMITED).setNumber(-1)));
+
+                plans.add(new Plan().setName(planName)
+                                    .setPrettyName(planName)
+                                    .setBillingPeriod(billingPeriod)
+                                    .setPhases(phases));
+            }
+            products.add(new Product().setType("BASE")
+                                      .setName(productName)
+                                      .setPrettyName(productName)
+                                      .setPlans(plans)
+                                      .setIncluded(new ArrayList<String>())
+                                      .setAvailable(new ArrayList<String>()));
+        }
+
+        final List<Currency> currencies = new ArrayList<Currency>();
+        currencies.add(Currency.USD);
+        currencies.add(Currency.EUR);
+        final List<PriceList> priceLists = new ArrayList<PriceList>();
+        priceLists.add(new PriceList().setName("DEFAULT").setPlans(planNames));
+        return new Catalog().setName("Benchmark")
+                            .setEffectiveDate(NOW)
+                            .setCurrencies(currencies)
+                            .setProducts(products)
+                            .setPriceLists(priceLists);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.KillBillHttpClientConfig;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.AccountApi;
+import org.killbill.billing.client.model.Accounts;
+import org.killbill.billing.client.model.Invoices;
+import org.killbill.billing.client.model.gen.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end calls through the generated apis, against a {@link KillBillStubServer} (without latency): measures the
+ * client overhead (request building, pooling, I/O threads, deserialization) rather than the server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class HttpClientBenchmark {
+
+    private KillBillStubServer server;
+    private KillBillHttpClient httpClient;
+    private AccountApi accountApi;
+    private RequestOptions requestOptions;
+    private UUID accountId;
+    private Account account;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = KillBillStubServer.builder().build();
+        httpClient = new KillBillHttpClient(KillBillHttpClientConfig.builder()
+                                                                    .withKbServerUrl(server.getUrl())
+                                                                    .withUsername("admin")
+                                                                    .withPassword("password")
+                                                                    .withApiKey("bob")
+                                                                    .withApiSecret("lazar")
+                                                                    .build());
+        accountApi = new AccountApi(httpClient);
+        requestOptions = RequestOptions.builder()
+                                       .withCreatedBy("benchmark")
+                                       .build();
+        accountId = UUID.randomUUID();
+        account = Fixtures.account();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.close();
+    }
+
+    // GET
+    @Benchmark
+    public Account getAccount() throws KillBillClientException {
+        return accountApi.getAccount(accountId, requestOptions);
+    }
+
+    // POST, followed by the GET of the Location
+    @Benchmark
+    public Account createAccount() throws KillBillClientException {
+        return accountApi.createAccount(account, requestOptions);
+    }
+
+    // List of invoices with their items
+    @Benchmark
+    public Invoices getInvoicesForAccount() throws KillBillClientException {
+        return accountApi.getInvoicesForAccount(accountId, null, null, requestOptions);
+    }
+
+    // Page of 100 accounts, with the pagination headers
+    @Benchmark
+    public Accounts getAccounts() throws KillBillClientException {
+        return accountApi.getAccounts(requestOptions);
+    }
+}
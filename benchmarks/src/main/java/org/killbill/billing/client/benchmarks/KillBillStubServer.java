@@ -0,0 +1,390 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.killbill.billing.client.JaxrsResource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded stand-in for Kill Bill, serving all the /1.0/kb/... routes of the generated apis on one box, so that the
+ * client (throughput, pooling, streaming, ...) can be measured repeatably without a server and a database.
+ * <p>
+ * Responses are derived from the route:
+ * <ul>
+ * <li>POST: 201, with a Location header pointing to a new resource ({@code /1.0/kb/<last named segment>/<new id>})</li>
+ * <li>PUT, DELETE: 204</li>
+ * <li>GET of a .../pagination or .../search/... route: a page of generated objects, with the X-Killbill-Pagination-*
+ * headers (honoring the offset and limit query parameters)</li>
+ * <li>GET of a route ending with an id: a generated object of the type of the preceding segment (accounts, invoices,
+ * payments), {} for the other types</li>
+ * <li>GET of a route ending with a name: a list of generated objects if the type is known, [] for the other plural
+ * names, {} otherwise (e.g. /accounts/{accountId}/overdue)</li>
+ * </ul>
+ * Canned responses can be registered per route (ids replaced by {}), and every response can be delayed to simulate
+ * the server latency.
+ */
+public class KillBillStubServer implements AutoCloseable {
+
+    private static final String KB_PREFIX = JaxrsResource.PREFIX + "/";
+    private static final Pattern ID_SEGMENT = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9]+");
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JodaModule());
+    // Generated payloads are serialized once (by type and number of elements)
+    private final ConcurrentMap<String, byte[]> payloads = new ConcurrentHashMap<String, byte[]>();
+    private final Map<String, CannedResponse> cannedResponses;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final int totalNbRecords;
+    private final int nbItemsPerObject;
+    private final ExecutorService executor;
+    private final HttpServer server;
+
+    private KillBillStubServer(final int port, final long latencyMs, final long latencyJitterMs, final int totalNbRecords,
+                               final int nbItemsPerObject, final Map<String, CannedResponse> cannedResponses) throws IOException {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.totalNbRecords = totalNbRecords;
+        this.nbItemsPerObject = nbItemsPerObject;
+        this.cannedResponses = cannedResponses;
+        // Requests sleep to simulate latency: a thread per concurrent request
+        this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true)
+                                                                                .setNameFormat("killbill-stub-%d")
+                                                                                .build());
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.createContext(JaxrsResource.PREFIX, new HttpHandler() {
+            @Override
+            public void handle(final HttpExchange exchange) throws IOException {
+                try {
+                    KillBillStubServer.this.handle(exchange);
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        drain(exchange.getRequestBody());
+        simulateLatency();
+
+        final String verb = exchange.getRequestMethod();
+        final URI uri = exchange.getRequestURI();
+        final String path = uri.getPath();
+        final List<String> segments = segmentsOf(path);
+
+        final CannedResponse cannedResponse = cannedResponses.get(verb + " " + templateOf(segments));
+        if (cannedResponse != null) {
+            send(exchange, cannedResponse.statusCode, cannedResponse.body);
+        } else if ("POST".equals(verb)) {
+            exchange.getResponseHeaders().set("Location", getUrl() + KB_PREFIX + lastNamedSegment(segments) + "/" + UUID.randomUUID());
+            send(exchange, 201, null);
+        } else if ("PUT".equals(verb) || "DELETE".equals(verb)) {
+            send(exchange, 204, null);
+        } else if (segments.contains(JaxrsResource.PAGINATION) || segments.contains("search")) {
+            sendPage(exchange, path, segments.get(0), queryParamsOf(uri));
+        } else if (segments.isEmpty()) {
+            send(exchange, 200, EMPTY_OBJECT);
+        } else if (ID_SEGMENT.matcher(segments.get(segments.size() - 1)).matches()) {
+            send(exchange, 200, payload(lastNamedSegment(segments), -1));
+        } else {
+            final String type = segments.get(segments.size() - 1);
+            send(exchange, 200, payload(type, "catalog".equals(type) ? 1 : nbItemsPerObject));
+        }
+    }
+
+    private void sendPage(final HttpExchange exchange, final String path, final String type, final Map<String, String> queryParams) throws IOException {
+        final int offset = queryParams.containsKey("offset") ? Integer.parseInt(queryParams.get("offset")) : 0;
+        final int limit = queryParams.containsKey("limit") ? Integer.parseInt(queryParams.get("limit")) : DEFAULT_LIMIT;
+        final int nbRecords = Math.max(0, Math.min(limit, totalNbRecords - offset));
+
+        exchange.getResponseHeaders().set(JaxrsResource.HDR_PAGINATION_CURRENT_OFFSET, String.valueOf(offset));
+        exchange.getResponseHeaders().set(JaxrsResource.HDR_PAGINATION_TOTAL_NB_RECORDS, String.valueOf(totalNbRecords));
+        exchange.getResponseHeaders().set(JaxrsResource.HDR_PAGINATION_MAX_NB_RECORDS, String.valueOf(totalNbRecords));
+        if (offset + nbRecords < totalNbRecords) {
+            final int nextOffset = offset + nbRecords;
+            exchange.getResponseHeaders().set(JaxrsResource.HDR_PAGINATION_NEXT_OFFSET, String.valueOf(nextOffset));
+            exchange.getResponseHeaders().set(JaxrsResource.HDR_PAGINATION_NEXT_PAGE_URI, path + "?offset=" + nextOffset + "&limit=" + limit);
+        }
+        send(exchange, 200, payload(type, nbRecords));
+    }
+
+    /**
+     * @param nbElements number of elements of the list, -1 for a single object
+     */
+    private byte[] payload(final String type, final int nbElements) throws JsonProcessingException {
+        final String key = type + "/" + nbElements;
+        byte[] payload = payloads.get(key);
+        if (payload == null) {
+            payload = generate(type, nbElements);
+            payloads.putIfAbsent(key, payload);
+        }
+        return payload;
+    }
+
+    private byte[] generate(final String type, final int nbElements) throws JsonProcessingException {
+        if (nbElements < 0) {
+            final Object object = newObject(type);
+            return object == null ? EMPTY_OBJECT : mapper.writeValueAsBytes(object);
+        }
+
+        if (newObject(type) == null) {
+            return type.endsWith("s") ? EMPTY_ARRAY : EMPTY_OBJECT;
+        }
+        final List<Object> objects = new ArrayList<Object>(nbElements);
+        for (int i = 0; i < nbElements; i++) {
+            objects.add(newObject(type));
+        }
+        return mapper.writeValueAsBytes(objects);
+    }
+
+    private Object newObject(final String type) {
+        if ("accounts".equals(type) || "children".equals(type)) {
+            return Fixtures.account();
+        } else if ("invoices".equals(type)) {
+            return Fixtures.invoice(nbItemsPerObject);
+        } else if ("payments".equals(type) || "invoicePayments".equals(type)) {
+            return Fixtures.payment(nbItemsPerObject);
+        } else if ("catalog".equals(type)) {
+            return Fixtures.catalog(nbItemsPerObject);
+        } else {
+            return null;
+        }
+    }
+
+    private void simulateLatency() {
+        final long delayMs = latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0);
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(final HttpExchange exchange, final int statusCode, final byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(statusCode, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        final OutputStream outputStream = exchange.getResponseBody();
+        outputStream.write(body);
+        outputStream.close();
+    }
+
+    private static void drain(final InputStream inputStream) throws IOException {
+        final byte[] buffer = new byte[8192];
+        while (inputStream.read(buffer) >= 0) {
+            // Discard
+        }
+        inputStream.close();
+    }
+
+    // Segments after /1.0/kb/
+    private static List<String> segmentsOf(final String path) {
+        final List<String> segments = new ArrayList<String>();
+        if (!path.startsWith(KB_PREFIX)) {
+            return segments;
+        }
+        for (final String segment : path.substring(KB_PREFIX.length()).split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static String templateOf(final List<String> segments) {
+        final StringBuilder template = new StringBuilder(JaxrsResource.PREFIX);
+        for (final String segment : segments) {
+            template.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{}" : segment);
+        }
+        return template.toString();
+    }
+
+    private static String lastNamedSegment(final List<String> segments) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (!ID_SEGMENT.matcher(segments.get(i)).matches()) {
+                return segments.get(i);
+            }
+        }
+        return "";
+    }
+
+    private static Map<String, String> queryParamsOf(final URI uri) {
+        final Map<String, String> queryParams = new HashMap<String, String>();
+        if (uri.getRawQuery() == null) {
+            return queryParams;
+        }
+        for (final String param : uri.getRawQuery().split("&")) {
+            final int equals = param.indexOf('=');
+            if (equals > 0) {
+                queryParams.put(param.substring(0, equals), param.substring(equals + 1));
+            }
+        }
+        return queryParams;
+    }
+
+    /**
+     * Starts a server for load tests: KillBillStubServer [port [latencyMs [latencyJitterMs]]]
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final KillBillStubServer server = builder().withPort(args.length > 0 ? Integer.parseInt(args[0]) : 8080)
+                                                   .withLatencyMs(args.length > 1 ? Long.parseLong(args[1]) : 0)
+                                                   .withLatencyJitterMs(args.length > 2 ? Long.parseLong(args[2]) : 0)
+                                                   .build();
+        System.out.println("Kill Bill stub listening on " + server.getUrl());
+        Thread.currentThread().join();
+    }
+
+    /**
+     * Helper method for creating a new builder
+     *
+     * @return a new instance of KillBillStubServerBuilder
+     */
+    public static KillBillStubServerBuilder builder() {
+        return new KillBillStubServerBuilder();
+    }
+
+    private static final class CannedResponse {
+
+        private final int statusCode;
+        private final byte[] body;
+
+        private CannedResponse(final int statusCode, final byte[] body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+    }
+
+    public static class KillBillStubServerBuilder {
+
+        private final Map<String, CannedResponse> cannedResponses = new HashMap<String, CannedResponse>();
+        private int port = 0;
+        private long latencyMs = 0;
+        private long latencyJitterMs = 0;
+        private int totalNbRecords = 1000;
+        private int nbItemsPerObject = 5;
+
+        /**
+         * @param port port on the loopback interface, 0 (default) for any free port
+         */
+        public KillBillStubServerBuilder withPort(final int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * @param latencyMs delay before each response
+         */
+        public KillBillStubServerBuilder withLatencyMs(final long latencyMs) {
+            this.latencyMs = latencyMs;
+            return this;
+        }
+
+        /**
+         * @param latencyJitterMs maximum random delay added to latencyMs
+         */
+        public KillBillStubServerBuilder withLatencyJitterMs(final long latencyJitterMs) {
+            this.latencyJitterMs = latencyJitterMs;
+            return this;
+        }
+
+        /**
+         * @param totalNbRecords number of records of the paginated and search routes
+         */
+        public KillBillStubServerBuilder withTotalNbRecords(final int totalNbRecords) {
+            this.totalNbRecords = totalNbRecords;
+            return this;
+        }
+
+        /**
+         * @param nbItemsPerObject number of invoice items per invoice, transactions per payment, products per catalog
+         *                         and elements of the non-paginated lists
+         */
+        public KillBillStubServerBuilder withNbItemsPerObject(final int nbItemsPerObject) {
+            this.nbItemsPerObject = nbItemsPerObject;
+            return this;
+        }
+
+        /**
+         * @param verb     HTTP verb
+         * @param template route, with the ids replaced by {}, e.g. /1.0/kb/accounts/{}/invoices
+         * @param body     JSON body, null for none
+         */
+        public KillBillStubServerBuilder withResponse(final String verb, final String template, final int statusCode, final String body) {
+            Preconditions.checkArgument(template.startsWith(JaxrsResource.PREFIX), "Route %s isn't a Kill Bill route", template);
+            cannedResponses.put(verb + " " + template, new CannedResponse(statusCode, body == null ? null : body.getBytes(StandardCharsets.UTF_8)));
+            return this;
+        }
+
+        /**
+         * @return a started server
+         */
+        public KillBillStubServer build() throws IOException {
+            return new KillBillStubServer(port, latencyMs, latencyJitterMs, totalNbRecords, nbItemsPerObject, new HashMap<String, CannedResponse>(cannedResponses));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * Per-call overhead of the generated api methods, before any I/O: request options and uri building.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBuildingBenchmark {
+
+    private static final PathTemplate GET_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+    private static final PathTemplate GET_ACCOUNT_EMAIL_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory");
+
+    private RequestOptions inputOptions;
+    private UUID accountId;
+    private UUID accountEmailId;
+
+    @Setup
+    public void setUp() {
+        inputOptions = RequestOptions.builder()
+                                     .withCreatedBy("benchmark")
+                                     .withReason("benchmark")
+                                     .withComment("benchmark")
+                                     .withTenantApiKey("bob")
+                                     .withTenantApiSecret("lazar")
+                                     .build();
+        accountId = UUID.randomUUID();
+        accountEmailId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public RequestOptions buildRequestOptions() {
+        return RequestOptions.builder()
+                             .withCreatedBy("benchmark")
+                             .withReason("benchmark")
+                             .withComment("benchmark")
+                             .withTenantApiKey("bob")
+                             .withTenantApiSecret("lazar")
+                             .build();
+    }
+
+    @Benchmark
+    public RequestOptions extendRequestOptions() {
+        return inputOptions.extend()
+                           .withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json")
+                           .build();
+    }
+
+    @Benchmark
+    public String expandUri() {
+        return GET_ACCOUNT_URI.expand(accountId);
+    }
+
+    @Benchmark
+    public String expandUriWithTwoVariables() {
+        return GET_ACCOUNT_EMAIL_AUDIT_LOGS_WITH_HISTORY_URI.expand(accountId, accountEmailId);
+    }
+
+    // What AccountApi#getAccount does before sending the request
+    @Benchmark
+    public void prepareGetAccount(final Blackhole blackhole) {
+        final String uri = GET_ACCOUNT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        queryParams.put("accountWithBalance", String.valueOf(Boolean.FALSE));
+        queryParams.put("accountWithBalanceAndCBA", String.valueOf(Boolean.FALSE));
+        queryParams.put("audit", "NONE");
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        blackhole.consume(uri);
+        blackhole.consume(inputOptionsBuilder.build());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.killbill.billing.client.model.Catalogs;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.killbill.billing.client.model.gen.Payment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.joda.JodaModule;
+
+/**
+ * (De)serialization of the payloads, with readers and writers cached per class as KillBillHttpClient does.
+ * <p>
+ * Run with -prof gc to get the allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    // Number of invoice items, payment transactions and catalog products
+    @Param({"1", "100"})
+    public int size;
+
+    private ObjectWriter accountWriter;
+    private ObjectReader accountReader;
+    private ObjectWriter invoiceWriter;
+    private ObjectReader invoiceReader;
+    private ObjectWriter paymentWriter;
+    private ObjectReader paymentReader;
+    private ObjectWriter catalogsWriter;
+    private ObjectReader catalogsReader;
+
+    private Account account;
+    private Invoice invoice;
+    private Payment payment;
+    private Catalogs catalogs;
+
+    private byte[] accountJson;
+    private byte[] invoiceJson;
+    private byte[] paymentJson;
+    private byte[] catalogsJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Same configuration as the client
+        final ObjectMapper mapper = new ObjectMapper().registerModule(new JodaModule());
+        accountWriter = mapper.writerFor(Account.class);
+        accountReader = mapper.readerFor(Account.class);
+        invoiceWriter = mapper.writerFor(Invoice.class);
+        invoiceReader = mapper.readerFor(Invoice.class);
+        paymentWriter = mapper.writerFor(Payment.class);
+        paymentReader = mapper.readerFor(Payment.class);
+        catalogsWriter = mapper.writerFor(Catalogs.class);
+        catalogsReader = mapper.readerFor(Catalogs.class);
+
+        account = Fixtures.account();
+        invoice = Fixtures.invoice(size);
+        payment = Fixtures.payment(size);
+        catalogs = new Catalogs();
+        catalogs.add(Fixtures.catalog(size));
+
+        accountJson = accountWriter.writeValueAsBytes(account);
+        invoiceJson = invoiceWriter.writeValueAsBytes(invoice);
+        paymentJson = paymentWriter.writeValueAsBytes(payment);
+        catalogsJson = catalogsWriter.writeValueAsBytes(catalogs);
+    }
+
+    @Benchmark
+    public byte[] serializeAccount() throws JsonProcessingException {
+        return accountWriter.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public Account deserializeAccount() throws IOException {
+        return accountReader.readValue(accountJson);
+    }
+
+    @Benchmark
+    public byte[] serializeInvoice() throws JsonProcessingException {
+        return invoiceWriter.writeValueAsBytes(invoice);
+    }
+
+    @Benchmark
+    public Invoice deserializeInvoice() throws IOException {
+        return invoiceReader.readValue(invoiceJson);
+    }
+
+    @Benchmark
+    public byte[] serializePayment() throws JsonProcessingException {
+        return paymentWriter.writeValueAsBytes(payment);
+    }
+
+    @Benchmark
+    public Payment deserializePayment() throws IOException {
+        return paymentReader.readValue(paymentJson);
+    }
+
+    @Benchmark
+    public byte[] serializeCatalog() throws JsonProcessingException {
+        return catalogsWriter.writeValueAsBytes(catalogs);
+    }
+
+    @Benchmark
+    public Catalogs deserializeCatalog() throws IOException {
+        return catalogsReader.readValue(catalogsJson);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the number of in-flight requests of a single endpoint, so that a slow endpoint can't use up the whole
+ * connection pool. Requests beyond the cap are rejected right away.
+ */
+public class Bulkhead {
+
+    private final String endpoint;
+    private final int maxConcurrentRequests;
+    private final Semaphore permits;
+
+    Bulkhead(final String endpoint, final int maxConcurrentRequests) {
+        this.endpoint = endpoint;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.permits = new Semaphore(maxConcurrentRequests);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getNbInFlightRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class Bulkhead {\n");
+        sb.append("    endpoint: ").append(endpoint).append("\n");
+        sb.append("    maxConcurrentRequests: ").append(maxConcurrentRequests).append("\n");
+        sb.append("    nbInFlightRequests: ").append(getNbInFlightRequests()).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import org.asynchttpclient.Response;
+
+/**
+ * A response held by a {@link ResponseCache}, along with its freshness.
+ * <p>
+ * Stale responses are not served as-is, but their validators ({@code ETag}, {@code Last-Modified}) let Kill Bill
+ * answer with a 304 (no body) when they haven't changed.
+ */
+public class CachedResponse {
+
+    private final Response response;
+    private final boolean fresh;
+
+    public CachedResponse(final Response response, final boolean fresh) {
+        this.response = response;
+        this.fresh = fresh;
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+
+    /**
+     * @return true if the response can be served without asking Kill Bill
+     */
+    public boolean isFresh() {
+        return fresh;
+    }
+
+    public String getETag() {
+        return response.getHeader("ETag");
+    }
+
+    public String getLastModified() {
+        return response.getHeader("Last-Modified");
+    }
+
+    /**
+     * @return true if Kill Bill can be asked whether the response changed
+     */
+    public boolean hasValidators() {
+        return getETag() != null || getLastModified() != null;
+    }
+}
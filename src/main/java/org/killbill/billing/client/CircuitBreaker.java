@@ -0,0 +1,186 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of a single endpoint, see {@link CircuitBreakerPolicy}.
+ * <p>
+ * Each permitted call is tagged with the state it was started in: only the calls started in the current state count.
+ * In particular, the half-open state is decided by its own trial calls only, once all of them have completed.
+ */
+public class CircuitBreaker {
+
+    static final long REJECTED = -1;
+
+    public enum State {
+        // Calls go through
+        CLOSED,
+        // Calls are rejected
+        OPEN,
+        // A limited number of trial calls go through
+        HALF_OPEN
+    }
+
+    private final String endpoint;
+    private final CircuitBreakerPolicy policy;
+
+    // Outcomes of the last calls (ring buffer)
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int nbCalls = 0;
+    private int position = 0;
+    private int nbFailures = 0;
+    private int nbSlowCalls = 0;
+    private int nbTrialResults = 0;
+
+    private State state = State.CLOSED;
+    // Incremented at each transition, to tag the calls
+    private long generation = 0;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+
+    CircuitBreaker(final String endpoint, final CircuitBreakerPolicy policy) {
+        this.endpoint = endpoint;
+        this.policy = policy;
+        this.failures = new boolean[policy.getSlidingWindowSize()];
+        this.slowCalls = new boolean[policy.getSlidingWindowSize()];
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return nbCalls == 0 ? 0.0 : nbFailures / (double) nbCalls;
+    }
+
+    public synchronized double getSlowCallRate() {
+        return nbCalls == 0 ? 0.0 : nbSlowCalls / (double) nbCalls;
+    }
+
+    /**
+     * @return the permission of the call, to give back to {@link #onResult(long, long, boolean)} or
+     *         {@link #onIgnored(long)}, or {@link #REJECTED}
+     */
+    synchronized long tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < TimeUnit.MILLISECONDS.toNanos(policy.getWaitDurationInOpenStateMs())) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return REJECTED;
+            }
+            halfOpenPermits--;
+        }
+        return generation;
+    }
+
+    synchronized void onResult(final long permission, final long durationMs, final boolean failure) {
+        if (permission != generation) {
+            // Started in a previous state (e.g. while closed, and completed once half-open): not a call of this window
+            return;
+        }
+
+        final boolean slow = durationMs >= policy.getSlowCallDurationThresholdMs();
+        record(failure, slow);
+
+        if (state == State.HALF_OPEN) {
+            nbTrialResults++;
+            // Decided once all the trial calls have completed
+            if (nbTrialResults >= policy.getPermittedCallsInHalfOpenState()) {
+                transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+            }
+        } else if (state == State.CLOSED && nbCalls >= policy.getMinimumNumberOfCalls() && exceedsThresholds()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // The call didn't complete (e.g. cancelled): give the trial permit back, if any
+    synchronized void onIgnored(final long permission) {
+        if (state == State.HALF_OPEN && permission == generation) {
+            halfOpenPermits++;
+        }
+    }
+
+    private boolean exceedsThresholds() {
+        return getFailureRate() >= policy.getFailureRateThreshold() || getSlowCallRate() >= policy.getSlowCallRateThreshold();
+    }
+
+    private void record(final boolean failure, final boolean slow) {
+        if (nbCalls == failures.length) {
+            // Evict the oldest outcome
+            if (failures[position]) {
+                nbFailures--;
+            }
+            if (slowCalls[position]) {
+                nbSlowCalls--;
+            }
+        } else {
+            nbCalls++;
+        }
+        failures[position] = failure;
+        slowCalls[position] = slow;
+        if (failure) {
+            nbFailures++;
+        }
+        if (slow) {
+            nbSlowCalls++;
+        }
+        position = (position + 1) % failures.length;
+    }
+
+    private void transitionTo(final State newState) {
+        state = newState;
+        generation++;
+        // Each state starts with a fresh window
+        nbCalls = 0;
+        position = 0;
+        nbFailures = 0;
+        nbSlowCalls = 0;
+        nbTrialResults = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        } else if (newState == State.HALF_OPEN) {
+            halfOpenPermits = policy.getPermittedCallsInHalfOpenState();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class CircuitBreaker {\n");
+        sb.append("    endpoint: ").append(endpoint).append("\n");
+        sb.append("    state: ").append(state).append("\n");
+        sb.append("    failureRate: ").append(getFailureRate()).append("\n");
+        sb.append("    slowCallRate: ").append(getSlowCallRate()).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+}
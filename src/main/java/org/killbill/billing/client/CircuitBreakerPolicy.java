@@ -0,0 +1,171 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Thresholds of the per-endpoint {@link CircuitBreaker}s.
+ * <p>
+ * A breaker opens when, over the last {@link #getSlidingWindowSize()} calls, either the failure rate (connection
+ * errors, timeouts, 5xx) or the rate of calls slower than {@link #getSlowCallDurationThresholdMs()} reaches its
+ * threshold. Calls are then rejected for {@link #getWaitDurationInOpenStateMs()}, after which a few trial calls
+ * decide whether it closes again.
+ */
+public class CircuitBreakerPolicy {
+
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    public static final long DEFAULT_SLOW_CALL_DURATION_THRESHOLD_MS = 10000;
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.8;
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 50;
+    public static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 20;
+    public static final long DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MS = 30000;
+    public static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 5;
+
+    private final double failureRateThreshold;
+    private final long slowCallDurationThresholdMs;
+    private final double slowCallRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateMs;
+    private final int permittedCallsInHalfOpenState;
+
+    public CircuitBreakerPolicy(final double failureRateThreshold, final long slowCallDurationThresholdMs, final double slowCallRateThreshold,
+                                final int slidingWindowSize, final int minimumNumberOfCalls, final long waitDurationInOpenStateMs,
+                                final int permittedCallsInHalfOpenState) {
+        Preconditions.checkArgument(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0, "failureRateThreshold must be between 0 and 1");
+        Preconditions.checkArgument(slowCallRateThreshold > 0.0 && slowCallRateThreshold <= 1.0, "slowCallRateThreshold must be between 0 and 1");
+        Preconditions.checkArgument(slidingWindowSize >= 1, "slidingWindowSize must be at least 1");
+        Preconditions.checkArgument(minimumNumberOfCalls >= 1 && minimumNumberOfCalls <= slidingWindowSize, "minimumNumberOfCalls must be between 1 and slidingWindowSize");
+        Preconditions.checkArgument(permittedCallsInHalfOpenState >= 1, "permittedCallsInHalfOpenState must be at least 1");
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDurationThresholdMs = slowCallDurationThresholdMs;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.waitDurationInOpenStateMs = waitDurationInOpenStateMs;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public long getSlowCallDurationThresholdMs() {
+        return slowCallDurationThresholdMs;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    /**
+     * @return number of calls to observe before the rates are taken into account
+     */
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public long getWaitDurationInOpenStateMs() {
+        return waitDurationInOpenStateMs;
+    }
+
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class CircuitBreakerPolicy {\n");
+        sb.append("    failureRateThreshold: ").append(failureRateThreshold).append("\n");
+        sb.append("    slowCallDurationThresholdMs: ").append(slowCallDurationThresholdMs).append("\n");
+        sb.append("    slowCallRateThreshold: ").append(slowCallRateThreshold).append("\n");
+        sb.append("    slidingWindowSize: ").append(slidingWindowSize).append("\n");
+        sb.append("    minimumNumberOfCalls: ").append(minimumNumberOfCalls).append("\n");
+        sb.append("    waitDurationInOpenStateMs: ").append(waitDurationInOpenStateMs).append("\n");
+        sb.append("    permittedCallsInHalfOpenState: ").append(permittedCallsInHalfOpenState).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Helper method for creating a new builder
+     * @return a new instance of CircuitBreakerPolicyBuilder
+     */
+    public static CircuitBreakerPolicyBuilder builder() {
+        return new CircuitBreakerPolicyBuilder();
+    }
+
+    public static class CircuitBreakerPolicyBuilder {
+
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private long slowCallDurationThresholdMs = DEFAULT_SLOW_CALL_DURATION_THRESHOLD_MS;
+        private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+        private int minimumNumberOfCalls = DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+        private long waitDurationInOpenStateMs = DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MS;
+        private int permittedCallsInHalfOpenState = DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+
+        public CircuitBreakerPolicyBuilder withFailureRateThreshold(final double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public CircuitBreakerPolicyBuilder withSlowCallDurationThresholdMs(final long slowCallDurationThresholdMs) {
+            this.slowCallDurationThresholdMs = slowCallDurationThresholdMs;
+            return this;
+        }
+
+        public CircuitBreakerPolicyBuilder withSlowCallRateThreshold(final double slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        public CircuitBreakerPolicyBuilder withSlidingWindowSize(final int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        public CircuitBreakerPolicyBuilder withMinimumNumberOfCalls(final int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        public CircuitBreakerPolicyBuilder withWaitDurationInOpenStateMs(final long waitDurationInOpenStateMs) {
+            this.waitDurationInOpenStateMs = waitDurationInOpenStateMs;
+            return this;
+        }
+
+        public CircuitBreakerPolicyBuilder withPermittedCallsInHalfOpenState(final int permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+        public CircuitBreakerPolicy build() {
+            return new CircuitBreakerPolicy(failureRateThreshold, slowCallDurationThresholdMs, slowCallRateThreshold, slidingWindowSize,
+                                            minimumNumberOfCalls, waitDurationInOpenStateMs, permittedCallsInHalfOpenState);
+        }
+    }
+}
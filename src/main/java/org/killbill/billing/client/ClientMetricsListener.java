@@ -0,0 +1,48 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+/**
+ * Notified of every request sent by the client (see
+ * {@link KillBillHttpClientConfig.KillBillHttpClientConfigBuilder#withMetricsListener(ClientMetricsListener)}).
+ * <p>
+ * Each attempt is reported separately: a retried request, or a hedged GET, is reported once per request actually
+ * sent. Requests rejected before being sent (open circuit breaker, full bulkhead, concurrency limit) aren't reported.
+ * <p>
+ * Implementations are invoked on the I/O threads of the client: they must be thread-safe, and must not block.
+ */
+public interface ClientMetricsListener {
+
+    /**
+     * @param endpoint       path template of the request, e.g. {@code /1.0/kb/accounts/{accountId}/invoices} (for requests
+     *                       not sent by the generated apis, e.g. followed Location headers, the path with the ids
+     *                       replaced by {})
+     * @param verb           HTTP verb
+     * @param statusCode     status code of the response, -1 if no response was received
+     * @param requestBytes   size of the request body, -1 if unknown (streamed body)
+     * @param responseBytes  size of the response body, -1 if unknown (no Content-Length)
+     * @param queueTimeNanos time spent waiting for the concurrency limit before the request was sent
+     * @param latencyNanos   total time of the request, including queueTimeNanos
+     * @param failure        cause of the failure when no response was received (connection error, timeout,
+     *                       cancellation of a losing hedge), null otherwise
+     */
+    void onRequestCompleted(String endpoint, String verb, int statusCode, long requestBytes, long responseBytes,
+                            long queueTimeNanos, long latencyNanos, Throwable failure);
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Settings of the adaptive {@link ConcurrencyLimiter}.
+ * <p>
+ * The limit on in-flight requests is derived from the ratio between the long-term and the current round-trip
+ * latency (gradient): it grows while latencies are stable and shrinks as soon as requests start queueing on the
+ * server. On drops (timeouts, connection errors, 429 and 503 responses), it is decreased multiplicatively.
+ */
+public class ConcurrencyLimitPolicy {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_RTT_TOLERANCE = 1.5;
+    public static final double DEFAULT_SMOOTHING = 0.2;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final int DEFAULT_LONG_WINDOW = 600;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    public static final long DEFAULT_MAX_QUEUE_WAIT_MS = 10000;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final int longWindow;
+    private final int maxQueueSize;
+    private final long maxQueueWaitMs;
+
+    public ConcurrencyLimitPolicy(final int initialLimit, final int minLimit, final int maxLimit, final double rttTolerance, final double smoothing,
+                                  final double backoffRatio, final int longWindow, final int maxQueueSize, final long maxQueueWaitMs) {
+        Preconditions.checkArgument(minLimit >= 1 && minLimit <= initialLimit && initialLimit <= maxLimit, "Invalid limits");
+        Preconditions.checkArgument(rttTolerance >= 1.0, "rttTolerance must be at least 1");
+        Preconditions.checkArgument(smoothing > 0.0 && smoothing <= 1.0, "smoothing must be between 0 and 1");
+        Preconditions.checkArgument(backoffRatio > 0.0 && backoffRatio < 1.0, "backoffRatio must be between 0 and 1");
+        Preconditions.checkArgument(longWindow >= 1, "longWindow must be at least 1");
+        Preconditions.checkArgument(maxQueueSize >= 0, "maxQueueSize must be positive");
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.longWindow = longWindow;
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueWaitMs = maxQueueWaitMs;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @return how much slower than the long-term latency requests can get before the limit is reduced
+     */
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    /**
+     * @return weight of each new limit estimate (1 to apply it as-is)
+     */
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * @return factor applied to the limit on drops
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * @return number of samples over which the long-term latency is averaged
+     */
+    public int getLongWindow() {
+        return longWindow;
+    }
+
+    /**
+     * @return number of requests which can wait for a slot, beyond which requests are rejected (0 to never wait)
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public long getMaxQueueWaitMs() {
+        return maxQueueWaitMs;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class ConcurrencyLimitPolicy {\n");
+        sb.append("    initialLimit: ").append(initialLimit).append("\n");
+        sb.append("    minLimit: ").append(minLimit).append("\n");
+        sb.append("    maxLimit: ").append(maxLimit).append("\n");
+        sb.append("    rttTolerance: ").append(rttTolerance).append("\n");
+        sb.append("    smoothing: ").append(smoothing).append("\n");
+        sb.append("    backoffRatio: ").append(backoffRatio).append("\n");
+        sb.append("    longWindow: ").append(longWindow).append("\n");
+        sb.append("    maxQueueSize: ").append(maxQueueSize).append("\n");
+        sb.append("    maxQueueWaitMs: ").append(maxQueueWaitMs).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Helper method for creating a new builder
+     * @return a new instance of ConcurrencyLimitPolicyBuilder
+     */
+    public static ConcurrencyLimitPolicyBuilder builder() {
+        return new ConcurrencyLimitPolicyBuilder();
+    }
+
+    public static class ConcurrencyLimitPolicyBuilder {
+
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double rttTolerance = DEFAULT_RTT_TOLERANCE;
+        private double smoothing = DEFAULT_SMOOTHING;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private int longWindow = DEFAULT_LONG_WINDOW;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private long maxQueueWaitMs = DEFAULT_MAX_QUEUE_WAIT_MS;
+
+        public ConcurrencyLimitPolicyBuilder withInitialLimit(final int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withMinLimit(final int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withMaxLimit(final int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withRttTolerance(final double rttTolerance) {
+            this.rttTolerance = rttTolerance;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withSmoothing(final double smoothing) {
+            this.smoothing = smoothing;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withBackoffRatio(final double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withLongWindow(final int longWindow) {
+            this.longWindow = longWindow;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withMaxQueueSize(final int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicyBuilder withMaxQueueWaitMs(final long maxQueueWaitMs) {
+            this.maxQueueWaitMs = maxQueueWaitMs;
+            return this;
+        }
+
+        public ConcurrencyLimitPolicy build() {
+            return new ConcurrencyLimitPolicy(initialLimit, minLimit, maxLimit, rttTolerance, smoothing, backoffRatio, longWindow, maxQueueSize, maxQueueWaitMs);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-wide limit on in-flight requests, adjusted from the observed round-trip latencies (see
+ * {@link ConcurrencyLimitPolicy}). Requests over the limit wait for a slot, in order, up to the configured queue
+ * size and wait time.
+ */
+public class ConcurrencyLimiter {
+
+    private final ConcurrencyLimitPolicy policy;
+    private final ScheduledExecutorService scheduler;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<CompletableFuture<Void>>();
+
+    private double limit;
+    private double longRttNanos = -1;
+    private int nbInFlight = 0;
+
+    ConcurrencyLimiter(final ConcurrencyLimitPolicy policy, final ScheduledExecutorService scheduler) {
+        this.policy = policy;
+        this.scheduler = scheduler;
+        this.limit = policy.getInitialLimit();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getNbInFlightRequests() {
+        return nbInFlight;
+    }
+
+    public synchronized int getNbQueuedRequests() {
+        return waiters.size();
+    }
+
+    /**
+     * @return a future completed once the request can be sent, or failed with a {@link KillBillClientException}
+     *         (caused by {@link RequestRejectedException}) if the queue is full or the wait too long
+     */
+    CompletableFuture<Void> acquire() {
+        final CompletableFuture<Void> permit = new CompletableFuture<Void>();
+        synchronized (this) {
+            if (nbInFlight < (int) limit) {
+                nbInFlight++;
+                permit.complete(null);
+                return permit;
+            }
+            if (waiters.size() >= policy.getMaxQueueSize()) {
+                permit.completeExceptionally(new KillBillClientException(new RequestRejectedException(null, "Concurrency limit reached")));
+                return permit;
+            }
+            waiters.addLast(permit);
+        }
+
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                final boolean expired;
+                synchronized (ConcurrencyLimiter.this) {
+                    expired = waiters.remove(permit);
+                }
+                if (expired) {
+                    permit.completeExceptionally(new KillBillClientException(new RequestRejectedException(null, "Timed out waiting for the concurrency limit")));
+                }
+            }
+        }, policy.getMaxQueueWaitMs(), TimeUnit.MILLISECONDS);
+        return permit;
+    }
+
+    /**
+     * @return true if the request can be sent right away (it never waits)
+     */
+    synchronized boolean tryAcquire() {
+        if (nbInFlight < (int) limit && waiters.isEmpty()) {
+            nbInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Give back a permit which was acquired but couldn't be used
+     */
+    void release() {
+        onReleased(null);
+    }
+
+    /**
+     * @param rttNanos round-trip time of the request
+     * @param dropped  whether the request was dropped (timeout, connection error, overloaded server)
+     */
+    void release(final long rttNanos, final boolean dropped) {
+        onReleased(new Sample(rttNanos, dropped));
+    }
+
+    private void onReleased(final Sample sample) {
+        final List<CompletableFuture<Void>> granted = new ArrayList<CompletableFuture<Void>>();
+        synchronized (this) {
+            if (sample != null) {
+                updateLimit(sample);
+            }
+            nbInFlight--;
+            while (nbInFlight < (int) limit && !waiters.isEmpty()) {
+                nbInFlight++;
+                granted.add(waiters.pollFirst());
+            }
+        }
+        // Outside of the lock, as the requests are sent from the callbacks
+        for (final CompletableFuture<Void> permit : granted) {
+            if (!permit.complete(null)) {
+                // The caller has given up
+                release();
+            }
+        }
+    }
+
+    private void updateLimit(final Sample sample) {
+        if (sample.dropped) {
+            limit = Math.max(policy.getMinLimit(), limit * policy.getBackoffRatio());
+            return;
+        }
+
+        final double rtt = sample.rttNanos;
+        if (longRttNanos < 0) {
+            longRttNanos = rtt;
+        } else {
+            longRttNanos += (rtt - longRttNanos) * 2.0 / (policy.getLongWindow() + 1);
+            // After a long period of high latencies, don't let the past average prevent the limit from recovering
+            if (longRttNanos > 2 * rtt) {
+                longRttNanos *= 0.95;
+            }
+        }
+
+        // Don't grow the limit when it isn't the bottleneck
+        if (nbInFlight < limit / 2) {
+            return;
+        }
+
+        final double gradient = Math.max(0.5, Math.min(1.0, policy.getRttTolerance() * longRttNanos / rtt));
+        final double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = limit * (1 - policy.getSmoothing()) + newLimit * policy.getSmoothing();
+        limit = Math.max(policy.getMinLimit(), Math.min(policy.getMaxLimit(), limit));
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class ConcurrencyLimiter {\n");
+        sb.append("    limit: ").append((int) limit).append("\n");
+        sb.append("    nbInFlightRequests: ").append(nbInFlight).append("\n");
+        sb.append("    nbQueuedRequests: ").append(waiters.size()).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private static final class Sample {
+
+        private final long rttNanos;
+        private final boolean dropped;
+
+        private Sample(final long rttNanos, final boolean dropped) {
+            this.rttNanos = rttNanos;
+            this.dropped = dropped;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps lock-free counters and latency histograms per endpoint (verb and path template, e.g.
+ * {@code GET /1.0/kb/accounts/{accountId}/invoices}), to be exported by the application (logs, JMX, metrics library, ...).
+ */
+public class DefaultClientMetricsListener implements ClientMetricsListener {
+
+    // The client reports a bounded set of endpoints: guard against other callers, extra endpoints share the same metrics
+    static final int MAX_ENDPOINTS = 4096;
+    static final String OTHER_ENDPOINTS = "*";
+
+    private final ConcurrentMap<String, EndpointMetrics> metricsByEndpoint = new ConcurrentHashMap<String, EndpointMetrics>();
+
+    @Override
+    public void onRequestCompleted(final String endpoint, final String verb, final int statusCode, final long requestBytes, final long responseBytes,
+                                   final long queueTimeNanos, final long latencyNanos, final Throwable failure) {
+        final EndpointMetrics metrics = metricsFor(verb + ' ' + endpoint);
+        if (failure instanceof CancellationException) {
+            // Losing hedge, or abandoned by the caller (e.g. timeout): the latency is meaningless
+            metrics.cancelled.increment();
+            return;
+        }
+
+        metrics.requests.increment();
+        if (statusCode < 0 || statusCode >= 500) {
+            metrics.errors.increment();
+        }
+        if (requestBytes > 0) {
+            metrics.requestBytes.add(requestBytes);
+        }
+        if (responseBytes > 0) {
+            metrics.responseBytes.add(responseBytes);
+        }
+        metrics.queueTime.record(queueTimeNanos);
+        metrics.latency.record(latencyNanos);
+    }
+
+    /**
+     * @return the metrics, by endpoint
+     */
+    public Map<String, EndpointMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metricsByEndpoint);
+    }
+
+    public void reset() {
+        metricsByEndpoint.clear();
+    }
+
+    private EndpointMetrics metricsFor(final String endpoint) {
+        EndpointMetrics metrics = metricsByEndpoint.get(endpoint);
+        if (metrics == null) {
+            String key = endpoint;
+            if (metricsByEndpoint.size() >= MAX_ENDPOINTS) {
+                // Don't allocate on each request once full
+                metrics = metricsByEndpoint.get(OTHER_ENDPOINTS);
+                if (metrics != null) {
+                    return metrics;
+                }
+                key = OTHER_ENDPOINTS;
+            }
+            metrics = new EndpointMetrics();
+            final EndpointMetrics existing = metricsByEndpoint.putIfAbsent(key, metrics);
+            if (existing != null) {
+                metrics = existing;
+            }
+        }
+        return metrics;
+    }
+
+    public static class EndpointMetrics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LatencyHistogram queueTime = new LatencyHistogram();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        /**
+         * @return number of requests without response, or with a 5xx response
+         */
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getCancelled() {
+            return cancelled.sum();
+        }
+
+        public long getRequestBytes() {
+            return requestBytes.sum();
+        }
+
+        public long getResponseBytes() {
+            return responseBytes.sum();
+        }
+
+        public LatencyHistogram getQueueTime() {
+            return queueTime;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append("class EndpointMetrics {\n");
+            sb.append("    requests: ").append(getRequests()).append("\n");
+            sb.append("    errors: ").append(getErrors()).append("\n");
+            sb.append("    cancelled: ").append(getCancelled()).append("\n");
+            sb.append("    requestBytes: ").append(getRequestBytes()).append("\n");
+            sb.append("    responseBytes: ").append(getResponseBytes()).append("\n");
+            sb.append("    queueTime: ").append(queueTime).append("\n");
+            sb.append("    latency: ").append(latency).append("\n");
+            sb.append("}");
+            return sb.toString();
+        }
+    }
+}
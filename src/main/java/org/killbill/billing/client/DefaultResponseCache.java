@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.asynchttpclient.Response;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+/**
+ * In-memory {@link ResponseCache}, bounded by the total size of the cached bodies (least recently used entries are
+ * evicted first) and by the age of the entries.
+ * <p>
+ * Entries are fresh for the TTL, then kept for revalidation up to the max stale duration.
+ */
+public class DefaultResponseCache implements ResponseCache {
+
+    public static final long DEFAULT_TTL_MS = 5 * 60 * 1000;
+    public static final long DEFAULT_MAX_STALE_MS = 24 * 60 * 60 * 1000;
+    public static final long DEFAULT_MAX_SIZE_BYTES = 32 * 1024 * 1024;
+
+    private final long ttlMs;
+    private final Cache<ResponseCacheKey, Entry> cache;
+
+    public DefaultResponseCache() {
+        this(DEFAULT_TTL_MS, DEFAULT_MAX_STALE_MS, DEFAULT_MAX_SIZE_BYTES);
+    }
+
+    /**
+     * @param ttlMs        time during which an entry is served without asking Kill Bill
+     * @param maxStaleMs   time during which an entry is kept past its TTL, to be revalidated
+     * @param maxSizeBytes maximum total size of the cached bodies
+     */
+    public DefaultResponseCache(final long ttlMs, final long maxStaleMs, final long maxSizeBytes) {
+        this.ttlMs = ttlMs;
+        this.cache = CacheBuilder.newBuilder()
+                                 .expireAfterWrite(ttlMs + maxStaleMs, TimeUnit.MILLISECONDS)
+                                 .maximumWeight(maxSizeBytes)
+                                 .weigher(new Weigher<ResponseCacheKey, Entry>() {
+                                     @Override
+                                     public int weigh(final ResponseCacheKey key, final Entry entry) {
+                                         return entry.response.getResponseBodyAsBytes().length;
+                                     }
+                                 })
+                                 .build();
+    }
+
+    @Override
+    public CachedResponse get(final ResponseCacheKey key) {
+        final Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        return new CachedResponse(entry.response, System.nanoTime() - entry.storedAtNanos < TimeUnit.MILLISECONDS.toNanos(ttlMs));
+    }
+
+    @Override
+    public void put(final ResponseCacheKey key, final Response response) {
+        cache.put(key, new Entry(response));
+    }
+
+    @Override
+    public void invalidate(final String tenant, final String pathPrefix) {
+        if (tenant == null && pathPrefix == null) {
+            cache.invalidateAll();
+            return;
+        }
+
+        final Iterator<ResponseCacheKey> iterator = cache.asMap().keySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().matches(tenant, pathPrefix)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private static final class Entry {
+
+        private final Response response;
+        private final long storedAtNanos = System.nanoTime();
+
+        private Entry(final Response response) {
+            this.response = response;
+        }
+    }
+}
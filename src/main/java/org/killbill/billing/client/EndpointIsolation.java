@@ -0,0 +1,193 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Per-endpoint {@link Bulkhead}s and {@link CircuitBreaker}s of a client.
+ * <p>
+ * An endpoint is a verb and the path template of the generated api method, e.g.
+ * {@code POST /1.0/kb/accounts/{accountId}/payments}, so that there is a fixed number of them. Requests without a
+ * template (e.g. followed Location headers, or uris built by the caller) use their path instead, with the ids (UUIDs,
+ * numbers) replaced by {}.
+ */
+class EndpointIsolation {
+
+    // Guard against free-form path segments in the requests without a template: extra ones share the same endpoint
+    static final int MAX_UNTEMPLATED_ENDPOINTS = 256;
+    static final String OTHER_ENDPOINTS = "*";
+    private static final Pattern ID_SEGMENT = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9]+");
+
+    private final int maxConcurrentRequestsPerEndpoint;
+    private final CircuitBreakerPolicy circuitBreakerPolicy;
+    private final ConcurrentMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<String, Bulkhead>();
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<String, CircuitBreaker>();
+    private final Set<String> untemplatedEndpoints = Sets.newConcurrentHashSet();
+
+    EndpointIsolation(final int maxConcurrentRequestsPerEndpoint, final CircuitBreakerPolicy circuitBreakerPolicy) {
+        this.maxConcurrentRequestsPerEndpoint = maxConcurrentRequestsPerEndpoint;
+        this.circuitBreakerPolicy = circuitBreakerPolicy;
+    }
+
+    boolean isEnabled() {
+        return maxConcurrentRequestsPerEndpoint > 0 || circuitBreakerPolicy != null;
+    }
+
+    Map<String, Bulkhead> getBulkheads() {
+        return Collections.unmodifiableMap(bulkheads);
+    }
+
+    Map<String, CircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    /**
+     * @param pathTemplate path template of the generated api method, null if unknown
+     */
+    String endpointOf(final String verb, final String uri, final String pathTemplate) {
+        if (pathTemplate != null) {
+            return verb + ' ' + pathTemplate;
+        }
+
+        final String endpoint = verb + ' ' + templateOf(uri);
+        if (untemplatedEndpoints.contains(endpoint)) {
+            return endpoint;
+        }
+        if (untemplatedEndpoints.size() >= MAX_UNTEMPLATED_ENDPOINTS) {
+            return verb + ' ' + OTHER_ENDPOINTS;
+        }
+        untemplatedEndpoints.add(endpoint);
+        return endpoint;
+    }
+
+    /**
+     * @return the path of the uri, with the ids replaced by {}
+     */
+    static String templateOf(final String uri) {
+        int start = uri.indexOf("://");
+        start = start < 0 ? 0 : uri.indexOf('/', start + 3);
+        if (start < 0) {
+            return "/";
+        }
+        int end = uri.indexOf('?', start);
+        end = end < 0 ? uri.length() : end;
+
+        final StringBuilder endpoint = new StringBuilder();
+        int segmentStart = start;
+        while (segmentStart < end) {
+            int segmentEnd = uri.indexOf('/', segmentStart + 1);
+            segmentEnd = segmentEnd < 0 || segmentEnd > end ? end : segmentEnd;
+            final String segment = uri.substring(segmentStart + 1, segmentEnd);
+            endpoint.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{}" : segment);
+            segmentStart = segmentEnd;
+        }
+        return endpoint.toString();
+    }
+
+    /**
+     * @return the circuit breaker permission of the request, to give back to onCompleted or onCancelled
+     * @throws KillBillClientException wrapping a {@link RequestRejectedException} if the request can't be sent
+     */
+    long acquire(final String endpoint) throws KillBillClientException {
+        final CircuitBreaker circuitBreaker = circuitBreakerFor(endpoint);
+        final long permission = circuitBreaker != null ? circuitBreaker.tryAcquirePermission() : 0;
+        if (permission == CircuitBreaker.REJECTED) {
+            throw new KillBillClientException(new RequestRejectedException(endpoint, "Circuit breaker open"));
+        }
+
+        final Bulkhead bulkhead = bulkheadFor(endpoint);
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            if (circuitBreaker != null) {
+                circuitBreaker.onIgnored(permission);
+            }
+            throw new KillBillClientException(new RequestRejectedException(endpoint, "Too many requests in flight"));
+        }
+        return permission;
+    }
+
+    /**
+     * @param failure whether the request failed (connection error, timeout, 5xx)
+     */
+    void onCompleted(final String endpoint, final long permission, final long startNanos, final boolean failure) {
+        final CircuitBreaker circuitBreaker = circuitBreakerFor(endpoint);
+        if (circuitBreaker != null) {
+            circuitBreaker.onResult(permission, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), failure);
+        }
+        release(endpoint);
+    }
+
+    // The outcome of the request isn't known (e.g. losing hedge)
+    void onCancelled(final String endpoint, final long permission) {
+        final CircuitBreaker circuitBreaker = circuitBreakerFor(endpoint);
+        if (circuitBreaker != null) {
+            circuitBreaker.onIgnored(permission);
+        }
+        release(endpoint);
+    }
+
+    private void release(final String endpoint) {
+        final Bulkhead bulkhead = bulkheadFor(endpoint);
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    private Bulkhead bulkheadFor(final String endpoint) {
+        if (maxConcurrentRequestsPerEndpoint <= 0) {
+            return null;
+        }
+
+        // Bounded, see endpointOf
+        Bulkhead bulkhead = bulkheads.get(endpoint);
+        if (bulkhead == null) {
+            bulkhead = new Bulkhead(endpoint, maxConcurrentRequestsPerEndpoint);
+            final Bulkhead existing = bulkheads.putIfAbsent(endpoint, bulkhead);
+            if (existing != null) {
+                bulkhead = existing;
+            }
+        }
+        return bulkhead;
+    }
+
+    private CircuitBreaker circuitBreakerFor(final String endpoint) {
+        if (circuitBreakerPolicy == null) {
+            return null;
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (circuitBreaker == null) {
+            circuitBreaker = new CircuitBreaker(endpoint, circuitBreakerPolicy);
+            final CircuitBreaker existing = circuitBreakers.putIfAbsent(endpoint, circuitBreaker);
+            if (existing != null) {
+                circuitBreaker = existing;
+            }
+        }
+        return circuitBreaker;
+    }
+}
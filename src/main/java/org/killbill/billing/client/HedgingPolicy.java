@@ -0,0 +1,137 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Opt-in hedging of GET requests: when a response hasn't been received within the configured percentile of the
+ * latencies observed so far for the same endpoint (verb and path template, e.g. GET /1.0/kb/accounts/{accountId}), an
+ * identical request is sent, the first response wins and the other request is cancelled.
+ * <p>
+ * Hedges are bounded by a budget proportional to the traffic (see {@link #getMaxHedgeRatio()}), so that a slow
+ * cluster doesn't see its load increase.
+ */
+public class HedgingPolicy {
+
+    public static final double DEFAULT_HEDGE_DELAY_PERCENTILE = 0.95;
+    public static final long DEFAULT_INITIAL_HEDGE_DELAY_MS = 100;
+    public static final long DEFAULT_MIN_HEDGE_DELAY_MS = 5;
+    public static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+
+    private final double hedgeDelayPercentile;
+    private final long initialHedgeDelayMs;
+    private final long minHedgeDelayMs;
+    private final double maxHedgeRatio;
+
+    public HedgingPolicy(final double hedgeDelayPercentile, final long initialHedgeDelayMs, final long minHedgeDelayMs, final double maxHedgeRatio) {
+        Preconditions.checkArgument(hedgeDelayPercentile > 0.0 && hedgeDelayPercentile < 1.0, "hedgeDelayPercentile must be between 0 and 1");
+        Preconditions.checkArgument(initialHedgeDelayMs >= 0 && minHedgeDelayMs >= 0, "Hedge delays must be positive");
+        Preconditions.checkArgument(maxHedgeRatio >= 0.0 && maxHedgeRatio <= 1.0, "maxHedgeRatio must be between 0 and 1");
+        this.hedgeDelayPercentile = hedgeDelayPercentile;
+        this.initialHedgeDelayMs = initialHedgeDelayMs;
+        this.minHedgeDelayMs = minHedgeDelayMs;
+        this.maxHedgeRatio = maxHedgeRatio;
+    }
+
+    /**
+     * @return percentile of the observed latencies after which the hedge is sent (0.95 for p95)
+     */
+    public double getHedgeDelayPercentile() {
+        return hedgeDelayPercentile;
+    }
+
+    /**
+     * @return delay used until enough latencies have been observed
+     */
+    public long getInitialHedgeDelayMs() {
+        return initialHedgeDelayMs;
+    }
+
+    public long getMinHedgeDelayMs() {
+        return minHedgeDelayMs;
+    }
+
+    /**
+     * @return maximum number of hedges per GET request (0.05 means at most 5% extra requests because of hedging)
+     */
+    public double getMaxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    long getHedgeDelayMs(final long observedPercentileMs) {
+        if (observedPercentileMs < 0) {
+            return initialHedgeDelayMs;
+        }
+        return Math.max(minHedgeDelayMs, observedPercentileMs);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class HedgingPolicy {\n");
+        sb.append("    hedgeDelayPercentile: ").append(hedgeDelayPercentile).append("\n");
+        sb.append("    initialHedgeDelayMs: ").append(initialHedgeDelayMs).append("\n");
+        sb.append("    minHedgeDelayMs: ").append(minHedgeDelayMs).append("\n");
+        sb.append("    maxHedgeRatio: ").append(maxHedgeRatio).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Helper method for creating a new builder
+     * @return a new instance of HedgingPolicyBuilder
+     */
+    public static HedgingPolicyBuilder builder() {
+        return new HedgingPolicyBuilder();
+    }
+
+    public static class HedgingPolicyBuilder {
+
+        private double hedgeDelayPercentile = DEFAULT_HEDGE_DELAY_PERCENTILE;
+        private long initialHedgeDelayMs = DEFAULT_INITIAL_HEDGE_DELAY_MS;
+        private long minHedgeDelayMs = DEFAULT_MIN_HEDGE_DELAY_MS;
+        private double maxHedgeRatio = DEFAULT_MAX_HEDGE_RATIO;
+
+        public HedgingPolicyBuilder withHedgeDelayPercentile(final double hedgeDelayPercentile) {
+            this.hedgeDelayPercentile = hedgeDelayPercentile;
+            return this;
+        }
+
+        public HedgingPolicyBuilder withInitialHedgeDelayMs(final long initialHedgeDelayMs) {
+            this.initialHedgeDelayMs = initialHedgeDelayMs;
+            return this;
+        }
+
+        public HedgingPolicyBuilder withMinHedgeDelayMs(final long minHedgeDelayMs) {
+            this.minHedgeDelayMs = minHedgeDelayMs;
+            return this;
+        }
+
+        public HedgingPolicyBuilder withMaxHedgeRatio(final double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(hedgeDelayPercentile, initialHedgeDelayMs, minHedgeDelayMs, maxHedgeRatio);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import org.asynchttpclient.AsyncHandler;
+import org.asynchttpclient.HttpResponseBodyPart;
+import org.asynchttpclient.HttpResponseStatus;
+import org.asynchttpclient.Response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.handler.codec.http.HttpHeaders;
+
+/**
+ * Deserializes a JSON array response as the body parts arrive, using the Jackson non-blocking parser: each element
+ * is bound as soon as its last token has been received, so decoding overlaps with the network transfer and the
+ * raw body is never buffered.
+ * <p>
+ * Non successful responses are buffered as usual, so that they can be turned into a {@link KillBillClientException}.
+ * The {@link Response} returned by the handler only holds the status and headers in the successful case.
+ * <p>
+ * With an element consumer, elements are handed over to it (from the I/O thread) instead of being collected, so that
+ * only one element is held in memory at a time.
+ */
+class IncrementalJsonAsyncHandler<T extends Collection> implements AsyncHandler<Response> {
+
+    private final Class<T> clazz;
+    private final ObjectReader elementReader;
+    private final Consumer<Object> elementConsumer;
+    private final Response.ResponseBuilder responseBuilder = new Response.ResponseBuilder();
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean successful = false;
+    private T result = null;
+    private TokenBuffer currentElement = null;
+    private int currentElementDepth = 0;
+    private boolean arrayClosed = false;
+    private int nbElementsConsumed = 0;
+    private RuntimeException elementConsumerFailure = null;
+
+    IncrementalJsonAsyncHandler(final JsonFactory jsonFactory, final ObjectReader elementReader, final Class<T> clazz) throws IOException {
+        this(jsonFactory, elementReader, clazz, null);
+    }
+
+    IncrementalJsonAsyncHandler(final JsonFactory jsonFactory, final ObjectReader elementReader, final Class<T> clazz, final Consumer<Object> elementConsumer) throws IOException {
+        this.clazz = clazz;
+        this.elementReader = elementReader;
+        this.elementConsumer = elementConsumer;
+        this.parser = jsonFactory.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * @return the deserialized collection, or null if the body was empty
+     */
+    T getResult() {
+        return result;
+    }
+
+    /**
+     * @return the number of elements handed over to the element consumer
+     */
+    int getNbElementsConsumed() {
+        return nbElementsConsumed;
+    }
+
+    /**
+     * @return the exception thrown by the element consumer, which aborted the request
+     */
+    RuntimeException getElementConsumerFailure() {
+        return elementConsumerFailure;
+    }
+
+    @Override
+    public State onStatusReceived(final HttpResponseStatus responseStatus) throws Exception {
+        successful = responseStatus.getStatusCode() >= 200 && responseStatus.getStatusCode() < 300;
+        responseBuilder.accumulate(responseStatus);
+        return State.CONTINUE;
+    }
+
+    @Override
+    public State onHeadersReceived(final HttpHeaders headers) throws Exception {
+        responseBuilder.accumulate(headers);
+        return State.CONTINUE;
+    }
+
+    @Override
+    public State onBodyPartReceived(final HttpResponseBodyPart bodyPart) throws Exception {
+        if (!successful) {
+            responseBuilder.accumulate(bodyPart);
+            return State.CONTINUE;
+        }
+
+        final byte[] bytes = bodyPart.getBodyPartBytes();
+        feeder.feedInput(bytes, 0, bytes.length);
+        parseAvailableTokens();
+        return State.CONTINUE;
+    }
+
+    @Override
+    public void onThrowable(final Throwable t) {
+        try {
+            parser.close();
+        } catch (final IOException ignored) {
+        }
+    }
+
+    @Override
+    public Response onCompleted() throws Exception {
+        try {
+            if (successful) {
+                feeder.endOfInput();
+                parseAvailableTokens();
+                if (result != null && !arrayClosed) {
+                    throw new JsonParseException(parser, "Unexpected end of input");
+                }
+            }
+        } finally {
+            parser.close();
+        }
+        return responseBuilder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void parseAvailableTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (result == null) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a JSON array, got " + token);
+                }
+                result = newResult();
+                continue;
+            }
+
+            if (currentElement == null) {
+                if (token == JsonToken.END_ARRAY) {
+                    arrayClosed = true;
+                    continue;
+                }
+                currentElement = new TokenBuffer(parser);
+            }
+
+            currentElement.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                currentElementDepth++;
+            } else if (token.isStructEnd()) {
+                currentElementDepth--;
+            }
+
+            if (currentElementDepth == 0) {
+                final JsonParser elementParser = currentElement.asParser();
+                try {
+                    if (elementConsumer == null) {
+                        result.add(elementReader.readValue(elementParser));
+                    } else {
+                        consume(elementReader.readValue(elementParser));
+                    }
+                } finally {
+                    elementParser.close();
+                }
+                currentElement = null;
+            }
+        }
+    }
+
+    private void consume(final Object element) {
+        try {
+            elementConsumer.accept(element);
+        } catch (final RuntimeException e) {
+            elementConsumerFailure = e;
+            throw e;
+        }
+        nbElementsConsumed++;
+    }
+
+    private T newResult() throws IOException {
+        try {
+            return clazz.getConstructor().newInstance();
+        } catch (final ReflectiveOperationException e) {
+            throw new IOException("Unable to instantiate " + clazz, e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.asynchttpclient.request.body.Body;
+import org.asynchttpclient.request.body.generator.BodyGenerator;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Streams a collection as a JSON array, serializing one element at a time as the transport asks for more bytes
+ * (chunked transfer encoding, as the length isn't known upfront). Only the element being written is held in
+ * serialized form, whatever the size of the collection.
+ * <p>
+ * Each call to {@link #createBody()} starts over from the first element, so the request can be replayed.
+ * <p>
+ * The elements are serialized later on, from the transport thread: the collection is copied upfront (references only) so
+ * that the caller can modify it once the request is submitted, but the elements themselves must not be modified until the
+ * request completes.
+ */
+class JsonStreamingBodyGenerator implements BodyGenerator {
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final List<?> elements;
+
+    JsonStreamingBodyGenerator(final Collection<?> elements) {
+        // Not ImmutableList.copyOf, null elements are allowed
+        this.elements = new ArrayList<Object>(elements);
+    }
+
+    @Override
+    public Body createBody() {
+        return new JsonArrayBody(elements.iterator());
+    }
+
+    private final class JsonArrayBody implements Body {
+
+        private final Iterator<?> iterator;
+
+        private byte[] pending = ARRAY_START;
+        private int pendingOffset = 0;
+        private boolean separatorNeeded = false;
+        private boolean endWritten = false;
+
+        private JsonArrayBody(final Iterator<?> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public BodyState transferTo(final ByteBuf target) throws IOException {
+            while (target.isWritable()) {
+                if (pending == null) {
+                    pending = nextChunk();
+                    pendingOffset = 0;
+                    if (pending == null) {
+                        // Everything has been written
+                        return BodyState.STOP;
+                    }
+                }
+
+                final int length = Math.min(target.writableBytes(), pending.length - pendingOffset);
+                target.writeBytes(pending, pendingOffset, length);
+                pendingOffset += length;
+                if (pendingOffset == pending.length) {
+                    pending = null;
+                }
+            }
+            return BodyState.CONTINUE;
+        }
+
+        private byte[] nextChunk() throws IOException {
+            if (endWritten) {
+                return null;
+            }
+
+            if (!iterator.hasNext()) {
+                endWritten = true;
+                return ARRAY_END;
+            }
+
+            if (separatorNeeded) {
+                separatorNeeded = false;
+                return SEPARATOR;
+            }
+
+            final Object element = iterator.next();
+            separatorNeeded = true;
+            return element == null ? NULL : KillBillHttpClient.writerFor(element.getClass()).writeValueAsBytes(element);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
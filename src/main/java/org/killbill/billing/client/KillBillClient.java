@@ -0,0 +1,374 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.killbill.billing.client.api.gen.AccountApi;
+import org.killbill.billing.client.api.gen.AccountApiAsync;
+import org.killbill.billing.client.api.gen.AdminApi;
+import org.killbill.billing.client.api.gen.AdminApiAsync;
+import org.killbill.billing.client.api.gen.BundleApi;
+import org.killbill.billing.client.api.gen.BundleApiAsync;
+import org.killbill.billing.client.api.gen.CatalogApi;
+import org.killbill.billing.client.api.gen.CatalogApiAsync;
+import org.killbill.billing.client.api.gen.CreditApi;
+import org.killbill.billing.client.api.gen.CreditApiAsync;
+import org.killbill.billing.client.api.gen.CustomFieldApi;
+import org.killbill.billing.client.api.gen.CustomFieldApiAsync;
+import org.killbill.billing.client.api.gen.ExportApi;
+import org.killbill.billing.client.api.gen.ExportApiAsync;
+import org.killbill.billing.client.api.gen.InvoiceApi;
+import org.killbill.billing.client.api.gen.InvoiceApiAsync;
+import org.killbill.billing.client.api.gen.InvoiceItemApi;
+import org.killbill.billing.client.api.gen.InvoiceItemApiAsync;
+import org.killbill.billing.client.api.gen.InvoicePaymentApi;
+import org.killbill.billing.client.api.gen.InvoicePaymentApiAsync;
+import org.killbill.billing.client.api.gen.NodesInfoApi;
+import org.killbill.billing.client.api.gen.NodesInfoApiAsync;
+import org.killbill.billing.client.api.gen.OverdueApi;
+import org.killbill.billing.client.api.gen.OverdueApiAsync;
+import org.killbill.billing.client.api.gen.PaymentApi;
+import org.killbill.billing.client.api.gen.PaymentApiAsync;
+import org.killbill.billing.client.api.gen.PaymentGatewayApi;
+import org.killbill.billing.client.api.gen.PaymentGatewayApiAsync;
+import org.killbill.billing.client.api.gen.PaymentMethodApi;
+import org.killbill.billing.client.api.gen.PaymentMethodApiAsync;
+import org.killbill.billing.client.api.gen.PaymentTransactionApi;
+import org.killbill.billing.client.api.gen.PaymentTransactionApiAsync;
+import org.killbill.billing.client.api.gen.PluginInfoApi;
+import org.killbill.billing.client.api.gen.PluginInfoApiAsync;
+import org.killbill.billing.client.api.gen.SecurityApi;
+import org.killbill.billing.client.api.gen.SecurityApiAsync;
+import org.killbill.billing.client.api.gen.SubscriptionApi;
+import org.killbill.billing.client.api.gen.SubscriptionApiAsync;
+import org.killbill.billing.client.api.gen.TagApi;
+import org.killbill.billing.client.api.gen.TagApiAsync;
+import org.killbill.billing.client.api.gen.TagDefinitionApi;
+import org.killbill.billing.client.api.gen.TagDefinitionApiAsync;
+import org.killbill.billing.client.api.gen.TenantApi;
+import org.killbill.billing.client.api.gen.TenantApiAsync;
+import org.killbill.billing.client.api.gen.UsageApi;
+import org.killbill.billing.client.api.gen.UsageApiAsync;
+
+/**
+ * Entry point giving access to all the Kill Bill apis, created lazily on top of a single {@link KillBillHttpClient}
+ * (one connection pool, one set of IO threads and one ObjectMapper).
+ * <p>
+ * {@code new KillBillClient()} (like the no-arg constructors of the generated *Api classes) uses the default transport,
+ * configured via the killbill.* system properties and shared by all users of the JVM: it is reference-counted,
+ * and closed once the last KillBillClient using it has been closed.
+ */
+public class KillBillClient implements Closeable {
+
+    private static final Object DEFAULT_HTTP_CLIENT_LOCK = new Object();
+    private static KillBillHttpClient defaultHttpClient = null;
+    private static int defaultHttpClientRefCount = 0;
+
+    private final KillBillHttpClient httpClient;
+    private final boolean usesDefaultHttpClient;
+    private final boolean ownsHttpClient;
+    private final ConcurrentMap<Class<?>, Object> apis = new ConcurrentHashMap<Class<?>, Object>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * Use the shared, default, transport
+     */
+    public KillBillClient() {
+        this(acquireDefaultHttpClient(), true, false);
+    }
+
+    /**
+     * Use a dedicated transport, closed when this client is closed
+     */
+    public KillBillClient(final KillBillHttpClientConfig config) {
+        this(new KillBillHttpClient(config), false, true);
+    }
+
+    /**
+     * Use an existing transport, left open when this client is closed
+     */
+    public KillBillClient(final KillBillHttpClient httpClient) {
+        this(httpClient, false, false);
+    }
+
+    private KillBillClient(final KillBillHttpClient httpClient, final boolean usesDefaultHttpClient, final boolean ownsHttpClient) {
+        this.httpClient = httpClient;
+        this.usesDefaultHttpClient = usesDefaultHttpClient;
+        this.ownsHttpClient = ownsHttpClient;
+    }
+
+    /**
+     * Acquire a reference on the default transport, creating it if needed. Used by the no-arg constructors of the *Api classes,
+     * which never release it (the default transport is then kept for the lifetime of the JVM, as a single instance).
+     *
+     * @return the default transport
+     */
+    public static KillBillHttpClient acquireDefaultHttpClient() {
+        synchronized (DEFAULT_HTTP_CLIENT_LOCK) {
+            if (defaultHttpClient == null) {
+                defaultHttpClient = new KillBillHttpClient();
+            }
+            defaultHttpClientRefCount++;
+            return defaultHttpClient;
+        }
+    }
+
+    private static void releaseDefaultHttpClient() throws IOException {
+        final KillBillHttpClient toClose;
+        synchronized (DEFAULT_HTTP_CLIENT_LOCK) {
+            defaultHttpClientRefCount--;
+            if (defaultHttpClientRefCount > 0) {
+                return;
+            }
+            toClose = defaultHttpClient;
+            defaultHttpClient = null;
+        }
+        toClose.close();
+    }
+
+    public KillBillHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public AccountApi getAccountApi() {
+        return getApi(AccountApi.class);
+    }
+
+    public AccountApiAsync getAccountApiAsync() {
+        return getApi(AccountApiAsync.class);
+    }
+
+    public AdminApi getAdminApi() {
+        return getApi(AdminApi.class);
+    }
+
+    public AdminApiAsync getAdminApiAsync() {
+        return getApi(AdminApiAsync.class);
+    }
+
+    public BundleApi getBundleApi() {
+        return getApi(BundleApi.class);
+    }
+
+    public BundleApiAsync getBundleApiAsync() {
+        return getApi(BundleApiAsync.class);
+    }
+
+    public CatalogApi getCatalogApi() {
+        return getApi(CatalogApi.class);
+    }
+
+    public CatalogApiAsync getCatalogApiAsync() {
+        return getApi(CatalogApiAsync.class);
+    }
+
+    public CreditApi getCreditApi() {
+        return getApi(CreditApi.class);
+    }
+
+    public CreditApiAsync getCreditApiAsync() {
+        return getApi(CreditApiAsync.class);
+    }
+
+    public CustomFieldApi getCustomFieldApi() {
+        return getApi(CustomFieldApi.class);
+    }
+
+    public CustomFieldApiAsync getCustomFieldApiAsync() {
+        return getApi(CustomFieldApiAsync.class);
+    }
+
+    public ExportApi getExportApi() {
+        return getApi(ExportApi.class);
+    }
+
+    public ExportApiAsync getExportApiAsync() {
+        return getApi(ExportApiAsync.class);
+    }
+
+    public InvoiceApi getInvoiceApi() {
+        return getApi(InvoiceApi.class);
+    }
+
+    public InvoiceApiAsync getInvoiceApiAsync() {
+        return getApi(InvoiceApiAsync.class);
+    }
+
+    public InvoiceItemApi getInvoiceItemApi() {
+        return getApi(InvoiceItemApi.class);
+    }
+
+    public InvoiceItemApiAsync getInvoiceItemApiAsync() {
+        return getApi(InvoiceItemApiAsync.class);
+    }
+
+    public InvoicePaymentApi getInvoicePaymentApi() {
+        return getApi(InvoicePaymentApi.class);
+    }
+
+    public InvoicePaymentApiAsync getInvoicePaymentApiAsync() {
+        return getApi(InvoicePaymentApiAsync.class);
+    }
+
+    public NodesInfoApi getNodesInfoApi() {
+        return getApi(NodesInfoApi.class);
+    }
+
+    public NodesInfoApiAsync getNodesInfoApiAsync() {
+        return getApi(NodesInfoApiAsync.class);
+    }
+
+    public OverdueApi getOverdueApi() {
+        return getApi(OverdueApi.class);
+    }
+
+    public OverdueApiAsync getOverdueApiAsync() {
+        return getApi(OverdueApiAsync.class);
+    }
+
+    public PaymentApi getPaymentApi() {
+        return getApi(PaymentApi.class);
+    }
+
+    public PaymentApiAsync getPaymentApiAsync() {
+        return getApi(PaymentApiAsync.class);
+    }
+
+    public PaymentGatewayApi getPaymentGatewayApi() {
+        return getApi(PaymentGatewayApi.class);
+    }
+
+    public PaymentGatewayApiAsync getPaymentGatewayApiAsync() {
+        return getApi(PaymentGatewayApiAsync.class);
+    }
+
+    public PaymentMethodApi getPaymentMethodApi() {
+        return getApi(PaymentMethodApi.class);
+    }
+
+    public PaymentMethodApiAsync getPaymentMethodApiAsync() {
+        return getApi(PaymentMethodApiAsync.class);
+    }
+
+    public PaymentTransactionApi getPaymentTransactionApi() {
+        return getApi(PaymentTransactionApi.class);
+    }
+
+    public PaymentTransactionApiAsync getPaymentTransactionApiAsync() {
+        return getApi(PaymentTransactionApiAsync.class);
+    }
+
+    public PluginInfoApi getPluginInfoApi() {
+        return getApi(PluginInfoApi.class);
+    }
+
+    public PluginInfoApiAsync getPluginInfoApiAsync() {
+        return getApi(PluginInfoApiAsync.class);
+    }
+
+    public SecurityApi getSecurityApi() {
+        return getApi(SecurityApi.class);
+    }
+
+    public SecurityApiAsync getSecurityApiAsync() {
+        return getApi(SecurityApiAsync.class);
+    }
+
+    public SubscriptionApi getSubscriptionApi() {
+        return getApi(SubscriptionApi.class);
+    }
+
+    public SubscriptionApiAsync getSubscriptionApiAsync() {
+        return getApi(SubscriptionApiAsync.class);
+    }
+
+    public TagApi getTagApi() {
+        return getApi(TagApi.class);
+    }
+
+    public TagApiAsync getTagApiAsync() {
+        return getApi(TagApiAsync.class);
+    }
+
+    public TagDefinitionApi getTagDefinitionApi() {
+        return getApi(TagDefinitionApi.class);
+    }
+
+    public TagDefinitionApiAsync getTagDefinitionApiAsync() {
+        return getApi(TagDefinitionApiAsync.class);
+    }
+
+    public TenantApi getTenantApi() {
+        return getApi(TenantApi.class);
+    }
+
+    public TenantApiAsync getTenantApiAsync() {
+        return getApi(TenantApiAsync.class);
+    }
+
+    public UsageApi getUsageApi() {
+        return getApi(UsageApi.class);
+    }
+
+    public UsageApiAsync getUsageApiAsync() {
+        return getApi(UsageApiAsync.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (usesDefaultHttpClient) {
+            releaseDefaultHttpClient();
+        } else if (ownsHttpClient) {
+            httpClient.close();
+        }
+    }
+
+    private <T> T getApi(final Class<T> apiClass) {
+        final Object api = apis.get(apiClass);
+        if (api != null) {
+            return apiClass.cast(api);
+        }
+
+        final T newApi;
+        try {
+            newApi = apiClass.getConstructor(KillBillHttpClient.class).newInstance(httpClient);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        } catch (final InstantiationException e) {
+            throw new IllegalStateException(e);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (final InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+        final Object existingApi = apis.putIfAbsent(apiClass, newApi);
+        return existingApi != null ? apiClass.cast(existingApi) : newApi;
+    }
+}
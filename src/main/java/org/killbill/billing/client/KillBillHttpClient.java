@@ -27,15 +27,35 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import com.google.common.annotations.VisibleForTesting;
 
 import org.asynchttpclient.DefaultAsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
+import org.killbill.billing.client.model.KillBillObject;
 import org.killbill.billing.client.model.KillBillObjects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,11 +71,19 @@ import org.asynchttpclient.Realm;
 import org.asynchttpclient.Response;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Utf8;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class KillBillHttpClient implements Closeable {
 
@@ -84,7 +112,21 @@ public class KillBillHttpClient implements Closeable {
     private static final Logger log = LoggerFactory.getLogger(KillBillHttpClient.class);
     private static final String USER_AGENT = "KillBill-JavaClient/1.0";
 
+    // Thread-safe once configured: shared across instances so that (de)serializer caches are only warmed up once
+    private static final ObjectMapper SHARED_MAPPER = new ObjectMapper().registerModule(new JodaModule());
+    // Per-type readers and writers, to avoid the root type lookup on each call
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<Class<?>, ObjectReader>();
+    private static final ConcurrentMap<Class<?>, ObjectReader> ELEMENT_READERS = new ConcurrentHashMap<Class<?>, ObjectReader>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+    private static final byte[] EMPTY_JSON_BODY = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final String ADMIN_CACHE_PATH = "/1.0/kb/admin/cache";
+    // Only used for timers (retries, hedges, queue timeouts), the requests themselves run on the AsyncHttpClient threads
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                                                                                                                                        .setNameFormat("killbill-client-retry-%d")
+                                                                                                                                        .build());
+
     private final boolean DEBUG = Boolean.parseBoolean(System.getProperty("org.killbill.client.debug", "false"));
+    private final boolean INCREMENTAL_PARSING = Boolean.parseBoolean(System.getProperty("org.killbill.client.incrementalParsing", "true"));
 
     private final String kbServerUrl;
     private final String username;
@@ -94,6 +136,18 @@ public class KillBillHttpClient implements Closeable {
     private final AsyncHttpClient httpClient;
     private final ObjectMapper mapper;
     private final int requestTimeoutSec;
+    private final int streamingRequestBodyMinElements;
+    private final RetryPolicy retryPolicy;
+    private final RequestBudget retryBudget;
+    private final HedgingPolicy hedgingPolicy;
+    private final RequestBudget hedgeBudget;
+    private final ConcurrentMap<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<String, LatencyTracker>();
+    private final EndpointIsolation endpointIsolation;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final LoadBalancer loadBalancer;
+    private final ResponseCache responseCache;
+    private final Set<String> cacheablePaths;
+    private final ClientMetricsListener metricsListener;
 
     /**
      * @param kbServerUrl    Kill Bill url
@@ -146,14 +200,33 @@ public class KillBillHttpClient implements Closeable {
                               final Integer requestTimeout,
                               final Boolean strictSSL,
                               final String SSLProtocol) {
-        this.kbServerUrl = kbServerUrl;
-        this.username = username;
-        this.password = password;
-        this.apiKey = apiKey;
-        this.apiSecret = apiSecret;
+        this(KillBillHttpClientConfig.builder()
+                                     .withKbServerUrl(kbServerUrl)
+                                     .withUsername(username)
+                                     .withPassword(password)
+                                     .withApiKey(apiKey)
+                                     .withApiSecret(apiSecret)
+                                     .withProxy(proxyHost, proxyPort)
+                                     .withConnectTimeOut(connectTimeOut)
+                                     .withReadTimeOut(readTimeOut)
+                                     .withRequestTimeout(requestTimeout)
+                                     .withStrictSSL(strictSSL)
+                                     .build());
+    }
+
+    /**
+     * @param config client configuration, see {@link KillBillHttpClientConfig#builder()}
+     */
+    public KillBillHttpClient(final KillBillHttpClientConfig config) {
+        this.kbServerUrl = config.getKbServerUrl();
+        this.username = config.getUsername();
+        this.password = config.getPassword();
+        this.apiKey = config.getApiKey();
+        this.apiSecret = config.getApiSecret();
 
         final DefaultAsyncHttpClientConfig.Builder cfg = new DefaultAsyncHttpClientConfig.Builder();
 
+        final Integer requestTimeout = config.getRequestTimeout();
         if (requestTimeout != null) {
             cfg.setRequestTimeout(requestTimeout);
             int timeoutSec = (int) TimeUnit.MILLISECONDS.toSeconds(requestTimeout);
@@ -166,23 +239,50 @@ public class KillBillHttpClient implements Closeable {
             requestTimeoutSec = DEFAULT_HTTP_TIMEOUT_SEC;
         }
 
-        cfg.setConnectTimeout(MoreObjects.firstNonNull(connectTimeOut, DEFAULT_HTTP_TIMEOUT_SEC * 1000));
-        cfg.setReadTimeout(MoreObjects.firstNonNull(readTimeOut, DEFAULT_HTTP_TIMEOUT_SEC * 1000));
+        cfg.setConnectTimeout(MoreObjects.firstNonNull(config.getConnectTimeOut(), DEFAULT_HTTP_TIMEOUT_SEC * 1000));
+        cfg.setReadTimeout(MoreObjects.firstNonNull(config.getReadTimeOut(), DEFAULT_HTTP_TIMEOUT_SEC * 1000));
         cfg.setUserAgent(USER_AGENT);
 
-        if (proxyHost != null && proxyPort != null) {
-            final ProxyServer proxyServer = new ProxyServer.Builder(proxyHost, proxyPort).build();
+        if (config.getProxyHost() != null && config.getProxyPort() != null) {
+            final ProxyServer proxyServer = new ProxyServer.Builder(config.getProxyHost(), config.getProxyPort()).build();
             cfg.setProxyServer(proxyServer);
         }
 
-        if (strictSSL != null) {
-            cfg.setUseInsecureTrustManager(!strictSSL);
+        if (config.getStrictSSL() != null) {
+            cfg.setUseInsecureTrustManager(!config.getStrictSSL());
+        }
+
+        // Connection pool and transport
+        cfg.setMaxConnections(config.getMaxConnections());
+        cfg.setMaxConnectionsPerHost(config.getMaxConnectionsPerHost());
+        cfg.setPooledConnectionIdleTimeout(config.getPooledConnectionIdleTimeout());
+        cfg.setConnectionTtl(config.getConnectionTtl());
+        cfg.setKeepAlive(config.isKeepAlive());
+        cfg.setIoThreadsCount(config.getIoThreadsCount());
+        cfg.setUseNativeTransport(config.isUseNativeTransport());
+        if (config.getEventLoopGroup() != null) {
+            cfg.setEventLoopGroup(config.getEventLoopGroup());
         }
 
         this.httpClient = new DefaultAsyncHttpClient(cfg.build());
 
-        mapper = new ObjectMapper();
-        mapper.registerModule(new JodaModule());
+        mapper = SHARED_MAPPER;
+        streamingRequestBodyMinElements = config.getStreamingRequestBodyMinElements();
+        retryPolicy = MoreObjects.firstNonNull(config.getRetryPolicy(), RetryPolicy.NO_RETRY);
+        retryBudget = new RequestBudget(retryPolicy.getRetryBudgetRatio(), retryPolicy.getRetryBudgetMinRetries());
+        hedgingPolicy = config.getHedgingPolicy();
+        hedgeBudget = hedgingPolicy != null ? new RequestBudget(hedgingPolicy.getMaxHedgeRatio(), 0) : null;
+        endpointIsolation = new EndpointIsolation(config.getMaxConcurrentRequestsPerEndpoint(), config.getCircuitBreakerPolicy());
+        concurrencyLimiter = config.getConcurrencyLimitPolicy() != null ? new ConcurrencyLimiter(config.getConcurrencyLimitPolicy(), SCHEDULER) : null;
+        responseCache = config.getResponseCache();
+        cacheablePaths = config.getCacheablePaths();
+        metricsListener = config.getMetricsListener();
+        if (config.getLoadBalancingPolicy() != null) {
+            loadBalancer = new LoadBalancer(config.getLoadBalancingPolicy(), kbServerUrl, this, httpClient, SCHEDULER);
+            loadBalancer.start();
+        } else {
+            loadBalancer = null;
+        }
     }
 
     public KillBillHttpClient(final String kbServerUrl, final String username, final String password, final String apiKey, final String apiSecret) {
@@ -203,9 +303,47 @@ public class KillBillHttpClient implements Closeable {
 
     @Override
     public void close() throws IOException {
+        if (loadBalancer != null) {
+            loadBalancer.close();
+        }
         httpClient.close();
     }
 
+    /**
+     * @return the per-endpoint bulkheads created so far, keyed by endpoint (e.g. {@code GET /1.0/kb/accounts/{accountId}})
+     */
+    public Map<String, Bulkhead> getBulkheads() {
+        return endpointIsolation.getBulkheads();
+    }
+
+    /**
+     * @return the per-endpoint circuit breakers created so far, keyed by endpoint (e.g. {@code GET /1.0/kb/accounts/{accountId}})
+     */
+    public Map<String, CircuitBreaker> getCircuitBreakers() {
+        return endpointIsolation.getCircuitBreakers();
+    }
+
+    /**
+     * @return the adaptive concurrency limiter, null if not enabled
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * @return the load balancer across the Kill Bill nodes, null if not enabled
+     */
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * @return the cache of the read-mostly endpoints, null if not enabled
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     // POST
     public Response doPost(final String uri, final Object body, final RequestOptions requestOptions) throws KillBillClientException {
         return doPost(uri, body, Response.class, requestOptions);
@@ -269,6 +407,68 @@ public class KillBillHttpClient implements Closeable {
         return doPrepareRequest(verb, uri, null, returnClass, requestOptions, timeoutSec);
     }
 
+    /**
+     * Streaming flavor of {@link #doGet(String, Class, RequestOptions)} for list responses: elements are deserialized one
+     * at a time, as the body is received, and handed over to elementConsumer as soon as they are parsed, instead of
+     * materializing the whole list (or body).
+     * <p>
+     * elementConsumer is called from the I/O thread receiving the response, and should not block. If it throws, the
+     * request is aborted and the exception is rethrown. Once elements have been handed over, failures are not retried.
+     *
+     * @return an empty list, only holding the pagination metadata (if any), so that the next pages can be fetched
+     */
+    public <E extends KillBillObject, T extends KillBillObjects<E>> T doGetStreaming(final String uri, final Class<T> returnClass, final Consumer<? super E> elementConsumer, final RequestOptions requestOptions) throws KillBillClientException {
+        return doGetStreaming(uri, returnClass, elementConsumer, requestOptions, this.requestTimeoutSec);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends KillBillObject, T extends KillBillObjects<E>> T doGetStreaming(final String uri, final Class<T> returnClass, final Consumer<? super E> elementConsumer, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
+        final BoundRequestBuilder builder = getBuilderWithHeaders("GET", uri, requestOptions);
+        final String endpoint = endpointOf("GET", uri, requestOptions);
+
+        retryBudget.onRequest();
+        IncrementalJsonAsyncHandler<T> asynHandler;
+        Response response;
+        int attempt = 1;
+        while (true) {
+            try {
+                asynHandler = new IncrementalJsonAsyncHandler<T>(mapper.getFactory(), elementReaderFor(returnClass), returnClass, (Consumer<Object>) elementConsumer);
+            } catch (final IOException e) {
+                throw new KillBillClientException(e);
+            }
+            try {
+                response = doRequest("GET", endpoint, uri, builder, 0, asynHandler, timeoutSec);
+            } catch (final KillBillClientException e) {
+                if (asynHandler.getElementConsumerFailure() != null) {
+                    throw asynHandler.getElementConsumerFailure();
+                }
+                // Elements already handed over can't be taken back
+                if (asynHandler.getNbElementsConsumed() > 0 || !shouldRetry(attempt, retryPolicy.isRetryableFailure(e, true))) {
+                    throw e;
+                }
+                awaitRetry("GET", uri, attempt++, e);
+                continue;
+            }
+
+            if (!shouldRetry(attempt, retryPolicy.isRetryableStatus(response.getStatusCode(), true))) {
+                break;
+            }
+            awaitRetry("GET", uri, attempt++, response.getStatusCode());
+        }
+
+        if (response.getStatusCode() == 404 || response.getStatusCode() == 204) {
+            return createEmptyResult(returnClass);
+        }
+        throwExceptionOnResponseError(response);
+
+        final T result = createEmptyResult(returnClass);
+        if (result == null) {
+            throw new IllegalArgumentException("No default constructor for " + returnClass);
+        }
+        setPaginationMetadata(result, response);
+        return result;
+    }
+
     // HEAD
     public Response doHead(final String uri, final RequestOptions requestOptions) throws KillBillClientException {
         return doHead(uri, requestOptions, this.requestTimeoutSec);
@@ -289,6 +489,66 @@ public class KillBillHttpClient implements Closeable {
         return doPrepareRequest(verb, uri, null, Response.class, requestOptions, timeoutSec);
     }
 
+    // ASYNC
+    //
+    // The *Async variants never block the calling thread: the returned future is completed from the http client IO threads
+    // (exceptionally with a KillBillClientException on error), and the request timeout is the one configured on the client.
+
+    public CompletableFuture<Response> doPostAsync(final String uri, final Object body, final RequestOptions requestOptions) {
+        return doPostAsync(uri, body, Response.class, requestOptions);
+    }
+
+    public <T> CompletableFuture<T> doPostAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions) {
+        final String verb = "POST";
+        return doPrepareRequestAsync(verb, uri, body, returnClass, null, requestOptions);
+    }
+
+    public CompletableFuture<Response> doPutAsync(final String uri, final Object body, final RequestOptions options) {
+        return doPutAsync(uri, body, Response.class, options);
+    }
+
+    public <T> CompletableFuture<T> doPutAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions options) {
+        final String verb = "PUT";
+        return doPrepareRequestAsync(verb, uri, body, returnClass, null, options);
+    }
+
+    public CompletableFuture<Response> doDeleteAsync(final String uri, final RequestOptions requestOptions) {
+        return doDeleteAsync(uri, null, Response.class, requestOptions);
+    }
+
+    public CompletableFuture<Response> doDeleteAsync(final String uri, final Object body, final RequestOptions options) {
+        return doDeleteAsync(uri, body, Response.class, options);
+    }
+
+    public <T> CompletableFuture<T> doDeleteAsync(final String uri, final Object body, final Class<T> returnClass, final RequestOptions requestOptions) {
+        final String verb = "DELETE";
+        return doPrepareRequestAsync(verb, uri, body, returnClass, null, requestOptions);
+    }
+
+    public CompletableFuture<Response> doGetAsync(final String uri, final OutputStream outputStream, final RequestOptions requestOptions) {
+        final String verb = "GET";
+        return doPrepareRequestAsync(verb, uri, null, Response.class, outputStream, requestOptions);
+    }
+
+    public CompletableFuture<Response> doGetAsync(final String uri, final RequestOptions requestOptions) {
+        return doGetAsync(uri, Response.class, requestOptions);
+    }
+
+    public <T> CompletableFuture<T> doGetAsync(final String uri, final Class<T> returnClass, final RequestOptions requestOptions) {
+        final String verb = "GET";
+        return doPrepareRequestAsync(verb, uri, null, returnClass, null, requestOptions);
+    }
+
+    public CompletableFuture<Response> doHeadAsync(final String uri, final RequestOptions requestOptions) {
+        final String verb = "HEAD";
+        return doPrepareRequestAsync(verb, uri, null, Response.class, null, requestOptions);
+    }
+
+    public CompletableFuture<Response> doOptionsAsync(final String uri, final RequestOptions requestOptions) {
+        final String verb = "OPTIONS";
+        return doPrepareRequestAsync(verb, uri, null, Response.class, null, requestOptions);
+    }
+
     // COMMON
     private Response doPrepareRequest(final String verb, final String uri, final Object body, final OutputStream outputStream, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
         return doPrepareRequestInternal(verb, uri, body, Response.class, outputStream, requestOptions, timeoutSec);
@@ -299,6 +559,423 @@ public class KillBillHttpClient implements Closeable {
     }
 
     private <T> T doPrepareRequestInternal(final String verb, final String uri, final Object body, final Class<T> returnClass, final OutputStream outputStream, final RequestOptions requestOptions, final int timeoutSec) throws KillBillClientException {
+        final ResponseCacheKey cacheKey = cacheKeyOf(verb, uri, outputStream, requestOptions);
+        final CachedResponse cachedResponse = cacheKey != null ? responseCache.get(cacheKey) : null;
+        if (cachedResponse != null && cachedResponse.isFresh()) {
+            return deserializeResponse(cachedResponse.getResponse(), returnClass);
+        }
+
+        if (isHedged(verb, outputStream)) {
+            // Racing requests requires the non-blocking path
+            return awaitResult(doPrepareRequestAsync(verb, uri, body, returnClass, outputStream, requestOptions), timeoutSec);
+        }
+
+        final BoundRequestBuilder builder = getBuilderWithHeaders(verb, uri, requestOptions);
+        final long requestBytes = setBody(builder, verb, body);
+        addConditionalHeaders(builder, cachedResponse);
+        final boolean idempotent = isIdempotent(verb, outputStream, requestOptions);
+        final String endpoint = endpointOf(verb, uri, requestOptions);
+
+        retryBudget.onRequest();
+        AsyncHandler<Response> asynHandler;
+        Response response;
+        int attempt = 1;
+        while (true) {
+            // Handlers accumulate the response, a new one is needed for each attempt
+            asynHandler = createAsyncHandler(verb, returnClass, outputStream, cacheKey);
+            try {
+                response = doRequest(verb, endpoint, uri, builder, requestBytes, asynHandler, timeoutSec);
+            } catch (final KillBillClientException e) {
+                if (!shouldRetry(attempt, retryPolicy.isRetryableFailure(e, idempotent))) {
+                    throw e;
+                }
+                awaitRetry(verb, uri, attempt++, e);
+                continue;
+            }
+
+            if (!shouldRetry(attempt, retryPolicy.isRetryableStatus(response.getStatusCode(), idempotent))) {
+                break;
+            }
+            awaitRetry(verb, uri, attempt++, response.getStatusCode());
+        }
+
+        response = updateResponseCache(verb, uri, requestOptions, cacheKey, cachedResponse, response);
+        if (response.getStatusCode() == 404 || response.getStatusCode() == 204) {
+            return createEmptyResult(returnClass);
+        }
+
+        if (requestOptions.shouldFollowLocation() && response.getHeader("Location") != null) {
+            final String location = response.getHeader("Location");
+            return doGet(location, returnClass, getOptionsForFollow(requestOptions), timeoutSec);
+        }
+        throwExceptionOnResponseError(response);
+        return deserializeResponse(response, returnClass, asynHandler);
+
+    }
+
+    private <T> CompletableFuture<T> doPrepareRequestAsync(final String verb, final String uri, final Object body, final Class<T> returnClass, final OutputStream outputStream, final RequestOptions requestOptions) {
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+
+        final ResponseCacheKey cacheKey = cacheKeyOf(verb, uri, outputStream, requestOptions);
+        final CachedResponse cachedResponse = cacheKey != null ? responseCache.get(cacheKey) : null;
+        final BoundRequestBuilder builder;
+        final long requestBytes;
+        try {
+            if (cachedResponse != null && cachedResponse.isFresh()) {
+                result.complete(deserializeResponse(cachedResponse.getResponse(), returnClass));
+                return result;
+            }
+
+            builder = getBuilderWithHeaders(verb, uri, requestOptions);
+            requestBytes = setBody(builder, verb, body);
+            addConditionalHeaders(builder, cachedResponse);
+        } catch (final KillBillClientException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        retryBudget.onRequest();
+        executeAsync(new AsyncExchange<T>(verb, uri, endpointOf(verb, uri, requestOptions), cacheKey, cachedResponse, builder, requestBytes, returnClass, outputStream, requestOptions,
+                                          isIdempotent(verb, outputStream, requestOptions), result), 1);
+        return result;
+    }
+
+    private <T> void executeAsync(final AsyncExchange<T> exchange, final int attempt) {
+        final long queuedAtNanos = System.nanoTime();
+        if (concurrencyLimiter == null) {
+            sendAsync(exchange, attempt, queuedAtNanos);
+            return;
+        }
+
+        // Wait (without blocking) for the concurrency limit to allow one more request
+        concurrencyLimiter.acquire().whenComplete(new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(final Void permit, final Throwable throwable) {
+                if (throwable != null) {
+                    onAttemptCompleted(exchange, attempt, null, null, throwable);
+                } else {
+                    sendAsync(exchange, attempt, queuedAtNanos);
+                }
+            }
+        });
+    }
+
+    private <T> void sendAsync(final AsyncExchange<T> exchange, final int attempt, final long queuedAtNanos) {
+        if (exchange.result.isDone()) {
+            // Cancelled by the caller while waiting for the concurrency limit
+            releasePermit();
+            return;
+        }
+
+        final AsyncHandler<Response> asynHandler;
+        try {
+            asynHandler = createAsyncHandler(exchange.verb, exchange.returnClass, exchange.outputStream, exchange.cacheKey);
+        } catch (final KillBillClientException e) {
+            releasePermit();
+            exchange.result.completeExceptionally(e);
+            return;
+        }
+
+        if (isHedged(exchange.verb, exchange.outputStream)) {
+            new HedgedAttempt<T>(exchange, attempt).start(asynHandler, queuedAtNanos);
+            return;
+        }
+
+        final ListenableFuture<Response> future;
+        try {
+            future = execute(exchange.verb, exchange.endpoint, exchange.uri, exchange.builder, exchange.requestBytes, queuedAtNanos, asynHandler);
+        } catch (final KillBillClientException e) {
+            onAttemptCompleted(exchange, attempt, asynHandler, null, e);
+            return;
+        }
+
+        cancelOnCancellation(exchange.result, future);
+        future.toCompletableFuture()
+              .whenComplete(new BiConsumer<Response, Throwable>() {
+                  @Override
+                  public void accept(final Response response, final Throwable throwable) {
+                      onAttemptCompleted(exchange, attempt, asynHandler, response, throwable);
+                  }
+              });
+    }
+
+    private <T> void onAttemptCompleted(final AsyncExchange<T> exchange, final int attempt, final AsyncHandler<Response> asynHandler, final Response response, final Throwable throwable) {
+        final CompletableFuture<T> result = exchange.result;
+        if (throwable != null) {
+            if (shouldRetry(attempt, retryPolicy.isRetryableFailure(throwable, exchange.idempotent))) {
+                scheduleRetry(exchange, attempt, throwable);
+            } else {
+                completeExceptionally(result, throwable);
+            }
+            return;
+        }
+
+        try {
+            if (shouldRetry(attempt, retryPolicy.isRetryableStatus(response.getStatusCode(), exchange.idempotent))) {
+                scheduleRetry(exchange, attempt, response.getStatusCode());
+                return;
+            }
+
+            final Response effectiveResponse = updateResponseCache(exchange.verb, exchange.uri, exchange.requestOptions, exchange.cacheKey, exchange.cachedResponse, response);
+            if (effectiveResponse != response) {
+                // Not modified
+                result.complete(deserializeResponse(effectiveResponse, exchange.returnClass));
+                return;
+            }
+
+            if (response.getStatusCode() == 404 || response.getStatusCode() == 204) {
+                result.complete(createEmptyResult(exchange.returnClass));
+                return;
+            }
+
+            if (exchange.requestOptions.shouldFollowLocation() && response.getHeader("Location") != null) {
+                final String location = response.getHeader("Location");
+                final CompletableFuture<T> followed = doGetAsync(location, exchange.returnClass, getOptionsForFollow(exchange.requestOptions));
+                cancelOnCancellation(result, followed);
+                followed.whenComplete(new BiConsumer<T, Throwable>() {
+                    @Override
+                    public void accept(final T followed, final Throwable followThrowable) {
+                        if (followThrowable != null) {
+                            completeExceptionally(result, followThrowable);
+                        } else {
+                            result.complete(followed);
+                        }
+                    }
+                });
+                return;
+            }
+
+            throwExceptionOnResponseError(response);
+            result.complete(deserializeResponse(response, exchange.returnClass, asynHandler));
+        } catch (final Exception e) {
+            completeExceptionally(result, e);
+        }
+    }
+
+    private <T> void scheduleRetry(final AsyncExchange<T> exchange, final int attempt, final Object reason) {
+        final long backoffMs = retryPolicy.getBackoffMs(attempt);
+        log.info("Retrying {} {} in {} ms (attempt {}/{} failed: {})", exchange.verb, exchange.uri, backoffMs, attempt, retryPolicy.getMaxAttempts(), reason);
+        SCHEDULER.schedule(new Runnable() {
+            @Override
+            public void run() {
+                // The caller may have given up in the meantime
+                if (!exchange.result.isDone()) {
+                    executeAsync(exchange, attempt + 1);
+                }
+            }
+        }, backoffMs, TimeUnit.MILLISECONDS);
+    }
+
+    private ResponseCacheKey cacheKeyOf(final String verb, final String uri, final OutputStream outputStream, final RequestOptions requestOptions) {
+        if (responseCache == null || !"GET".equals(verb) || outputStream != null) {
+            return null;
+        }
+
+        final String path = pathOf(uri);
+        if (!isCacheable(path)) {
+            return null;
+        }
+
+        // Canonical query string, as the order of the parameters doesn't matter
+        final List<String> query = new ArrayList<String>();
+        final int queryStart = uri.indexOf('?');
+        if (queryStart >= 0) {
+            query.addAll(Arrays.asList(uri.substring(queryStart + 1).split("&")));
+        }
+        for (final Entry<String, String> queryParam : requestOptions.getQueryParams().entries()) {
+            query.add(queryParam.getKey() + "=" + queryParam.getValue());
+        }
+        Collections.sort(query);
+        return new ResponseCacheKey(tenantOf(requestOptions), credentialsDigestOf(requestOptions), path, Joiner.on('&').join(query));
+    }
+
+    private boolean isCacheable(final String path) {
+        for (final String cacheablePath : cacheablePaths) {
+            if (cacheablePath.endsWith("/*") ? path.startsWith(cacheablePath.substring(0, cacheablePath.length() - 1)) : path.equals(cacheablePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Everything Kill Bill authenticates and authorizes the request with (the api key is part of the key already)
+    private String credentialsDigestOf(final RequestOptions requestOptions) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        putNullable(hasher, requestOptions.getTenantApiSecret() != null ? requestOptions.getTenantApiSecret() : this.apiSecret);
+        putNullable(hasher, requestOptions.getUser() != null ? requestOptions.getUser() : this.username);
+        putNullable(hasher, requestOptions.getPassword() != null ? requestOptions.getPassword() : this.password);
+        // e.g. Authorization
+        for (final Entry<String, String> header : new TreeMap<String, String>(requestOptions.getHeaders()).entrySet()) {
+            putNullable(hasher, header.getKey());
+            putNullable(hasher, header.getValue());
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putNullable(final Hasher hasher, final String value) {
+        if (value == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    // Revalidate a stale cached response instead of downloading it again
+    private static void addConditionalHeaders(final BoundRequestBuilder builder, final CachedResponse cachedResponse) {
+        if (cachedResponse == null) {
+            return;
+        }
+        addHeader(builder, "If-None-Match", cachedResponse.getETag());
+        addHeader(builder, "If-Modified-Since", cachedResponse.getLastModified());
+    }
+
+    /**
+     * @return the response to use: the cached one if it wasn't modified
+     */
+    private Response updateResponseCache(final String verb, final String uri, final RequestOptions requestOptions, final ResponseCacheKey cacheKey,
+                                         final CachedResponse cachedResponse, final Response response) {
+        if (responseCache == null) {
+            return response;
+        }
+
+        if (cacheKey != null) {
+            if (response.getStatusCode() == 304 && cachedResponse != null) {
+                // Fresh again
+                responseCache.put(cacheKey, cachedResponse.getResponse());
+                return cachedResponse.getResponse();
+            } else if (response.getStatusCode() == 200) {
+                responseCache.put(cacheKey, response);
+            }
+            return response;
+        }
+
+        if ("GET".equals(verb) || "HEAD".equals(verb) || "OPTIONS".equals(verb) || response.getStatusCode() >= 400) {
+            return response;
+        }
+
+        // Successful write: drop the local copies which may now be stale
+        final String path = pathOf(uri);
+        final String tenant = tenantOf(requestOptions);
+        if (path.startsWith(ADMIN_CACHE_PATH + "/tenants")) {
+            responseCache.invalidate(tenant, null);
+        } else if (path.equals(ADMIN_CACHE_PATH)) {
+            responseCache.invalidate(null, null);
+        } else {
+            // e.g. uploading a catalog (POST /1.0/kb/catalog/xml) also invalidates GET /1.0/kb/catalog
+            final String resource = resourceOf(path);
+            for (final String cacheablePath : cacheablePaths) {
+                if (resource.equals(resourceOf(cacheablePath))) {
+                    responseCache.invalidate(tenant, resource);
+                    break;
+                }
+            }
+        }
+        return response;
+    }
+
+    // e.g. /1.0/kb/catalog for /1.0/kb/catalog/xml
+    private static String resourceOf(final String path) {
+        int end = 0;
+        for (int i = 0; i < 3 && end >= 0; i++) {
+            end = path.indexOf('/', end + 1);
+        }
+        return end < 0 ? path : path.substring(0, end);
+    }
+
+    private String tenantOf(final RequestOptions requestOptions) {
+        return requestOptions.getTenantApiKey() != null ? requestOptions.getTenantApiKey() : this.apiKey;
+    }
+
+    private static String pathOf(final String uri) {
+        int start = 0;
+        if (!isRelative(uri)) {
+            final int schemeEnd = uri.indexOf("://");
+            start = schemeEnd < 0 ? 0 : uri.indexOf('/', schemeEnd + 3);
+            if (start < 0) {
+                return "/";
+            }
+        }
+        final int end = uri.indexOf('?', start);
+        return end < 0 ? uri.substring(start) : uri.substring(start, end);
+    }
+
+    private boolean isHedged(final String verb, final OutputStream outputStream) {
+        return hedgingPolicy != null && "GET".equals(verb) && outputStream == null;
+    }
+
+    private LatencyTracker latencyTrackerFor(final String endpoint) {
+        // Bounded, see EndpointIsolation#endpointOf
+        LatencyTracker latencyTracker = latencyTrackers.get(endpoint);
+        if (latencyTracker == null) {
+            latencyTracker = new LatencyTracker(hedgingPolicy.getHedgeDelayPercentile());
+            final LatencyTracker existing = latencyTrackers.putIfAbsent(endpoint, latencyTracker);
+            if (existing != null) {
+                latencyTracker = existing;
+            }
+        }
+        return latencyTracker;
+    }
+
+    private boolean isIdempotent(final String verb, final OutputStream outputStream, final RequestOptions requestOptions) {
+        // Bytes already written to the caller's stream can't be taken back
+        return outputStream == null && retryPolicy.isIdempotent(verb, requestOptions.isIdempotent());
+    }
+
+    private boolean shouldRetry(final int attempt, final boolean retryable) {
+        return retryable && attempt < retryPolicy.getMaxAttempts() && retryBudget.tryAcquire();
+    }
+
+    private void awaitRetry(final String verb, final String uri, final int attempt, final Object reason) throws KillBillClientException {
+        final long backoffMs = retryPolicy.getBackoffMs(attempt);
+        log.info("Retrying {} {} in {} ms (attempt {}/{} failed: {})", verb, uri, backoffMs, attempt, retryPolicy.getMaxAttempts(), reason);
+        try {
+            Thread.sleep(backoffMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KillBillClientException(e);
+        }
+    }
+
+    private static <T> T awaitResult(final CompletableFuture<T> future, final int timeoutSec) throws KillBillClientException {
+        try {
+            return future.get(timeoutSec, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new KillBillClientException(e);
+        } catch (final TimeoutException e) {
+            // Aborts the attempts in flight (and the pending retries)
+            future.cancel(true);
+            throw new KillBillClientException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof KillBillClientException) {
+                throw (KillBillClientException) e.getCause();
+            }
+            throw new KillBillClientException(e);
+        }
+    }
+
+    // Cancelling the future returned to the caller (e.g. closing a paginated Stream) aborts the request in flight
+    private static void cancelOnCancellation(final CompletableFuture<?> result, final Future<?> request) {
+        result.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(final Object ignored, final Throwable throwable) {
+                if (throwable instanceof CancellationException && !request.isDone()) {
+                    request.cancel(true);
+                }
+            }
+        });
+    }
+
+    private static void completeExceptionally(final CompletableFuture<?> result, final Throwable throwable) {
+        if (throwable instanceof KillBillClientException || !(throwable instanceof Exception)) {
+            result.completeExceptionally(throwable);
+        } else {
+            result.completeExceptionally(new KillBillClientException((Exception) throwable));
+        }
+    }
+
+    private BoundRequestBuilder getBuilderWithHeaders(final String verb, final String uri, final RequestOptions requestOptions) throws KillBillClientException {
         final BoundRequestBuilder builder = getBuilderWithHeaderAndQuery(verb, getKBServerUrl(uri), requestOptions);
 
         // Multi-Tenancy headers
@@ -314,43 +991,68 @@ public class KillBillHttpClient implements Closeable {
 
         addHeader(builder, JaxrsResource.HDR_REQUEST_ID, requestOptions.getRequestId());
 
-        if (!"GET".equals(verb) && !"HEAD".equals(verb)) {
-            if (body != null) {
-                if (body instanceof String) {
-                    builder.setBody((String) body);
-                } else {
-                    try {
-                        builder.setBody(mapper.writeValueAsString(body));
-                    } catch (final JsonProcessingException e) {
-                        throw new KillBillClientException(e);
-                    }
-                }
-            } else {
-                builder.setBody("{}");
+        return builder;
+    }
+
+    /**
+     * @return the size of the body, -1 if streamed
+     */
+    private long setBody(final BoundRequestBuilder builder, final String verb, final Object body) throws KillBillClientException {
+        if ("GET".equals(verb) || "HEAD".equals(verb)) {
+            return 0;
+        }
+
+        if (body == null) {
+            builder.setBody(EMPTY_JSON_BODY);
+            return EMPTY_JSON_BODY.length;
+        } else if (body instanceof String) {
+            builder.setBody((String) body);
+            return Utf8.encodedLength((String) body);
+        } else if (streamingRequestBodyMinElements >= 0 && body instanceof Collection && ((Collection) body).size() >= streamingRequestBodyMinElements) {
+            // Large bulk payloads: serialized element by element while being sent
+            builder.setBody(new JsonStreamingBodyGenerator((Collection<?>) body));
+            return -1;
+        } else {
+            final byte[] bytes;
+            try {
+                // Serialize straight to UTF-8 bytes (no intermediate String)
+                bytes = writerFor(body.getClass()).writeValueAsBytes(body);
+            } catch (final JsonProcessingException e) {
+                throw new KillBillClientException(e);
             }
+            builder.setBody(bytes);
+            return bytes.length;
         }
+    }
 
-        final Response response = outputStream != null ? doRequest(builder, outputStream, timeoutSec) : doRequest(builder, timeoutSec);
-        if (response.getStatusCode() == 404 || response.getStatusCode() == 204) {
-            return createEmptyResult(returnClass);
+    private static RequestOptions getOptionsForFollow(final RequestOptions requestOptions) {
+        return RequestOptions.builder()
+                             .withUser(requestOptions.getUser())
+                             .withPassword(requestOptions.getPassword())
+                             .withTenantApiKey(requestOptions.getTenantApiKey())
+                             .withTenantApiSecret(requestOptions.getTenantApiSecret())
+                             .withRequestId(requestOptions.getRequestId())
+                             .withFollowLocation(false)
+                             .withQueryParams(requestOptions.getQueryParamsForFollow())
+                             .build();
+    }
+
+    private AsyncHandler<Response> createAsyncHandler(final String verb, final Class<?> returnClass, final OutputStream outputStream, final ResponseCacheKey cacheKey) throws KillBillClientException {
+        if (outputStream != null) {
+            return new BodyDeferringAsyncHandler(outputStream);
         }
 
-        if (requestOptions.shouldFollowLocation() && response.getHeader("Location") != null) {
-            final String location = response.getHeader("Location");
-            final RequestOptions optionsForFollow = RequestOptions.builder()
-                                                                  .withUser(requestOptions.getUser())
-                                                                  .withPassword(requestOptions.getPassword())
-                                                                  .withTenantApiKey(requestOptions.getTenantApiKey())
-                                                                  .withTenantApiSecret(requestOptions.getTenantApiSecret())
-                                                                  .withRequestId(requestOptions.getRequestId())
-                                                                  .withFollowLocation(false)
-                                                                  .withQueryParams(requestOptions.getQueryParamsForFollow())
-                                                                  .build();
-            return doGet(location, returnClass, optionsForFollow, timeoutSec);
+        // Large list responses (catalogs, audit logs, invoices, ...) are deserialized while they are being received
+        // (unless the body is to be cached)
+        if (INCREMENTAL_PARSING && !DEBUG && cacheKey == null && "GET".equals(verb) && KillBillObjects.class.isAssignableFrom(returnClass)) {
+            try {
+                return new IncrementalJsonAsyncHandler(mapper.getFactory(), elementReaderFor(returnClass), returnClass);
+            } catch (final IOException e) {
+                throw new KillBillClientException(e);
+            }
         }
-        throwExceptionOnResponseError(response);
-        return deserializeResponse(response, returnClass);
 
+        return createCompletionHandler();
     }
 
     private static void addHeader(final BoundRequestBuilder builder, final String headerName, final String value) {
@@ -359,30 +1061,161 @@ public class KillBillHttpClient implements Closeable {
         }
     }
 
-    private static Response doRequest(final BoundRequestBuilder builder, final OutputStream outputStream, final int timeoutSec) throws KillBillClientException {
-        final BodyDeferringAsyncHandler asynHandler = new BodyDeferringAsyncHandler(outputStream);
-        return doRequest(builder, asynHandler, timeoutSec);
-    }
-
-    private static Response doRequest(final BoundRequestBuilder builder, final int timeoutSec) throws KillBillClientException {
-        final AsyncCompletionHandler<Response> asynHandler = new AsyncCompletionHandler<Response>() {
+    private static AsyncCompletionHandler<Response> createCompletionHandler() {
+        return new AsyncCompletionHandler<Response>() {
             @Override
             public Response onCompleted(final Response response) throws Exception {
                 return response;
             }
         };
-        return doRequest(builder, asynHandler, timeoutSec);
     }
 
-    private static Response doRequest(final BoundRequestBuilder builder, final AsyncHandler<Response> asynHandler, final int timeoutSec) throws KillBillClientException {
+    // Key of the bulkheads, circuit breakers and metrics: null if none of them is enabled
+    private String endpointOf(final String verb, final String uri, final RequestOptions requestOptions) {
+        return endpointIsolation.isEnabled() || metricsListener != null ? endpointIsolation.endpointOf(verb, uri, requestOptions.getPathTemplate()) : null;
+    }
+
+    // Sends the request to a node of the cluster (if load balancing), through the bulkhead and circuit breaker of the endpoint
+    // (if any). The caller holds a permit of the concurrency limiter (if any), which is given back once the request completes.
+    private ListenableFuture<Response> execute(final String verb, final String endpoint, final String uri, final BoundRequestBuilder builder,
+                                               final long requestBytes, final long queuedAtNanos, final AsyncHandler<Response> asynHandler) throws KillBillClientException {
+        // Absolute URLs (e.g. Location headers) target a specific node
+        final KillBillNode node = loadBalancer != null && isRelative(uri) ? loadBalancer.select() : null;
+        if (endpoint == null && concurrencyLimiter == null && node == null && metricsListener == null) {
+            return builder.execute(asynHandler);
+        }
+
+        final long permission;
+        if (endpoint != null && endpointIsolation.isEnabled()) {
+            try {
+                permission = endpointIsolation.acquire(endpoint);
+            } catch (final KillBillClientException e) {
+                releasePermit();
+                throw e;
+            }
+        } else {
+            permission = 0;
+        }
+
+        final long startNanos = System.nanoTime();
+        final ListenableFuture<Response> future;
+        try {
+            if (node != null) {
+                node.onSent();
+                // The builder is shared by the attempts (and hedges) of the request
+                synchronized (builder) {
+                    builder.setUrl(node.getUrl() + uri);
+                    future = builder.execute(asynHandler);
+                }
+            } else {
+                future = builder.execute(asynHandler);
+            }
+        } catch (final RuntimeException e) {
+            onSent(endpoint, permission, node, startNanos, null, e, false);
+            throw e;
+        }
+        future.toCompletableFuture().whenComplete(new BiConsumer<Response, Throwable>() {
+            @Override
+            public void accept(final Response response, final Throwable throwable) {
+                onSent(endpoint, permission, node, startNanos, response, throwable, future.isCancelled());
+                if (metricsListener != null) {
+                    notifyMetricsListener(verb, endpoint, uri, requestBytes, queuedAtNanos, startNanos, response, throwable);
+                }
+            }
+        });
+        return future;
+    }
+
+    private void notifyMetricsListener(final String verb, final String endpoint, final String uri, final long requestBytes, final long queuedAtNanos,
+                                       final long startNanos, final Response response, final Throwable throwable) {
+        final long nowNanos = System.nanoTime();
+        // Path template of the endpoint, e.g. /1.0/kb/accounts/{accountId}/invoices
+        final String template = endpoint.substring(verb.length() + 1);
+        final int statusCode = response != null ? response.getStatusCode() : -1;
+        final long responseBytes = response != null ? contentLengthOf(response) : -1;
+        try {
+            metricsListener.onRequestCompleted(template, verb, statusCode, requestBytes, responseBytes, startNanos - queuedAtNanos, nowNanos - queuedAtNanos, throwable);
+        } catch (final RuntimeException e) {
+            log.warn("Metrics listener failure", e);
+        }
+    }
+
+    private static long contentLengthOf(final Response response) {
+        final String contentLength = response.getHeader("Content-Length");
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void onSent(final String endpoint, final long permission, final KillBillNode node, final long startNanos, final Response response, final Throwable throwable, final boolean cancelled) {
+        if (node != null) {
+            node.onCompleted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), throwable != null && !cancelled, loadBalancer.getMaxConsecutiveFailures());
+        }
+
+        if (endpoint != null && endpointIsolation.isEnabled()) {
+            if (cancelled) {
+                endpointIsolation.onCancelled(endpoint, permission);
+            } else {
+                endpointIsolation.onCompleted(endpoint, permission, startNanos, throwable != null || response.getStatusCode() >= 500);
+            }
+        }
+
+        if (concurrencyLimiter != null) {
+            if (cancelled) {
+                concurrencyLimiter.release();
+            } else {
+                final boolean dropped = throwable != null || response.getStatusCode() == 429 || response.getStatusCode() == 503;
+                concurrencyLimiter.release(System.nanoTime() - startNanos, dropped);
+            }
+        }
+    }
+
+    // Blocks until the concurrency limit allows one more request
+    private void acquirePermit() throws KillBillClientException {
+        if (concurrencyLimiter == null) {
+            return;
+        }
+
+        final CompletableFuture<Void> permit = concurrencyLimiter.acquire();
+        try {
+            permit.get();
+        } catch (final InterruptedException e) {
+            if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+                // Granted in the meantime
+                concurrencyLimiter.release();
+            }
+            Thread.currentThread().interrupt();
+            throw new KillBillClientException(e);
+        } catch (final ExecutionException e) {
+            throw (KillBillClientException) e.getCause();
+        }
+    }
+
+    private void releasePermit() {
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private Response doRequest(final String verb, final String endpoint, final String uri, final BoundRequestBuilder builder, final long requestBytes,
+                               final AsyncHandler<Response> asynHandler, final int timeoutSec) throws KillBillClientException {
+        final long queuedAtNanos = System.nanoTime();
+        acquirePermit();
+        final ListenableFuture<Response> futureStatus = execute(verb, endpoint, uri, builder, requestBytes, queuedAtNanos, asynHandler);
         try {
-            final ListenableFuture<Response> futureStatus = builder.execute(asynHandler);
             return futureStatus.get(timeoutSec, TimeUnit.SECONDS);
         } catch (final InterruptedException e) {
             throw new KillBillClientException(e);
         } catch (final ExecutionException e) {
             throw new KillBillClientException(e);
         } catch (final TimeoutException e) {
+            // Don't leave the request running (it may be retried)
+            futureStatus.cancel(true);
             throw new KillBillClientException(e);
         }
     }
@@ -412,6 +1245,11 @@ public class KillBillHttpClient implements Closeable {
             return clazz.cast(response);
         }
 
+        // Caller isn't interested in the body (e.g. async variants of void api calls)
+        if (Void.class == clazz) {
+            return null;
+        }
+
         // Nothing to deserialize
         if(!response.hasResponseBody()) {
             return createEmptyResult(clazz);
@@ -419,30 +1257,47 @@ public class KillBillHttpClient implements Closeable {
 
         final T result = unmarshalResponse(response, clazz);
         if (KillBillObjects.class.isAssignableFrom(clazz)) {
-            final KillBillObjects objects = ((KillBillObjects) result);
-            final String paginationCurrentOffset = response.getHeader(JaxrsResource.HDR_PAGINATION_CURRENT_OFFSET);
-            if (paginationCurrentOffset != null) {
-                objects.setPaginationCurrentOffset(Integer.parseInt(paginationCurrentOffset));
-            }
-            final String paginationNextOffset = response.getHeader(JaxrsResource.HDR_PAGINATION_NEXT_OFFSET);
-            if (paginationNextOffset != null) {
-                objects.setPaginationNextOffset(Integer.parseInt(paginationNextOffset));
-            }
-            final String paginationTotalNbRecords = response.getHeader(JaxrsResource.HDR_PAGINATION_TOTAL_NB_RECORDS);
-            if (paginationTotalNbRecords != null) {
-                objects.setPaginationTotalNbRecords(Integer.parseInt(paginationTotalNbRecords));
-            }
-            final String paginationMaxNbRecords = response.getHeader(JaxrsResource.HDR_PAGINATION_MAX_NB_RECORDS);
-            if (paginationMaxNbRecords != null) {
-                objects.setPaginationMaxNbRecords(Integer.parseInt(paginationMaxNbRecords));
-            }
-            objects.setPaginationNextPageUri(response.getHeader(JaxrsResource.HDR_PAGINATION_NEXT_PAGE_URI));
-            objects.setKillBillHttpClient(this);
+            setPaginationMetadata((KillBillObjects) result, response);
+        }
+
+        return result;
+    }
+
+    private <T> T deserializeResponse(final Response response, final Class<T> clazz, final AsyncHandler<Response> asynHandler) throws KillBillClientException {
+        if (!(asynHandler instanceof IncrementalJsonAsyncHandler)) {
+            return deserializeResponse(response, clazz);
         }
 
+        // Already deserialized by the handler
+        final Object deserialized = ((IncrementalJsonAsyncHandler) asynHandler).getResult();
+        final T result = deserialized != null ? clazz.cast(deserialized) : createEmptyResult(clazz);
+        if (result instanceof KillBillObjects) {
+            setPaginationMetadata((KillBillObjects) result, response);
+        }
         return result;
     }
 
+    private void setPaginationMetadata(final KillBillObjects objects, final Response response) {
+        final String paginationCurrentOffset = response.getHeader(JaxrsResource.HDR_PAGINATION_CURRENT_OFFSET);
+        if (paginationCurrentOffset != null) {
+            objects.setPaginationCurrentOffset(Integer.parseInt(paginationCurrentOffset));
+        }
+        final String paginationNextOffset = response.getHeader(JaxrsResource.HDR_PAGINATION_NEXT_OFFSET);
+        if (paginationNextOffset != null) {
+            objects.setPaginationNextOffset(Integer.parseInt(paginationNextOffset));
+        }
+        final String paginationTotalNbRecords = response.getHeader(JaxrsResource.HDR_PAGINATION_TOTAL_NB_RECORDS);
+        if (paginationTotalNbRecords != null) {
+            objects.setPaginationTotalNbRecords(Integer.parseInt(paginationTotalNbRecords));
+        }
+        final String paginationMaxNbRecords = response.getHeader(JaxrsResource.HDR_PAGINATION_MAX_NB_RECORDS);
+        if (paginationMaxNbRecords != null) {
+            objects.setPaginationMaxNbRecords(Integer.parseInt(paginationMaxNbRecords));
+        }
+        objects.setPaginationNextPageUri(response.getHeader(JaxrsResource.HDR_PAGINATION_NEXT_PAGE_URI));
+        objects.setKillBillHttpClient(this);
+    }
+
     private static <T> T createEmptyResult(final Class<T> clazz) {// Return empty list for KillBillObjects instead of null for convenience
         if (Iterable.class.isAssignableFrom(clazz)) {
             for (final Constructor constructor : clazz.getConstructors()) {
@@ -472,12 +1327,12 @@ public class KillBillHttpClient implements Closeable {
             if (DEBUG || !requiresMapper) {
                 final String content = response.getResponseBody();
                 log.debug("Received: " + content);
-                result = requiresMapper ? mapper.readValue(content, clazz) : (T) content;
+                result = requiresMapper ? readerFor(clazz).<T>readValue(content) : (T) content;
             } else {
                 InputStream in = null;
                 try {
                     in = response.getResponseBodyAsStream();
-                    result = mapper.readValue(in, clazz);
+                    result = readerFor(clazz).readValue(in);
                 } finally {
                     if (in != null) {
                         try {
@@ -494,6 +1349,34 @@ public class KillBillHttpClient implements Closeable {
         return result;
     }
 
+    static ObjectReader readerFor(final Class<?> clazz) {
+        ObjectReader reader = READERS.get(clazz);
+        if (reader == null) {
+            reader = SHARED_MAPPER.readerFor(clazz);
+            READERS.putIfAbsent(clazz, reader);
+        }
+        return reader;
+    }
+
+    static ObjectReader elementReaderFor(final Class<?> collectionClass) {
+        ObjectReader reader = ELEMENT_READERS.get(collectionClass);
+        if (reader == null) {
+            final JavaType elementType = SHARED_MAPPER.getTypeFactory().constructType(collectionClass).getContentType();
+            reader = SHARED_MAPPER.readerFor(elementType);
+            ELEMENT_READERS.putIfAbsent(collectionClass, reader);
+        }
+        return reader;
+    }
+
+    static ObjectWriter writerFor(final Class<?> clazz) {
+        ObjectWriter writer = WRITERS.get(clazz);
+        if (writer == null) {
+            writer = SHARED_MAPPER.writerFor(clazz);
+            WRITERS.putIfAbsent(clazz, writer);
+        }
+        return writer;
+    }
+
     private BoundRequestBuilder getBuilderWithHeaderAndQuery(final String verb, final String url, final RequestOptions requestOptions) {
         final BoundRequestBuilder builder;
 
@@ -535,16 +1418,197 @@ public class KillBillHttpClient implements Closeable {
         return builder;
     }
 
+    private static boolean isRelative(final String uri) {
+        return uri.startsWith("/") && !uri.startsWith("//");
+    }
+
     private String getKBServerUrl(final String uri) throws KillBillClientException {
+        // Fast path for the (relative) paths built by the generated apis, which don't need to be parsed
+        if (isRelative(uri)) {
+            return kbServerUrl + uri;
+        }
+
         try {
             final URI u = new URI(uri);
             if (u.isAbsolute()) {
                 return uri;
             } else {
-                return String.format("%s%s", kbServerUrl, uri);
+                return kbServerUrl + uri;
             }
         } catch (final URISyntaxException e) {
             throw new KillBillClientException(e);
         }
     }
+
+    // State of an asynchronous request, shared by all its attempts (retries and hedges)
+    private static final class AsyncExchange<T> {
+
+        private final String verb;
+        private final String uri;
+        private final String endpoint;
+        private final ResponseCacheKey cacheKey;
+        private final CachedResponse cachedResponse;
+        private final BoundRequestBuilder builder;
+        private final long requestBytes;
+        private final Class<T> returnClass;
+        private final OutputStream outputStream;
+        private final RequestOptions requestOptions;
+        private final boolean idempotent;
+        private final CompletableFuture<T> result;
+
+        private AsyncExchange(final String verb, final String uri, final String endpoint, final ResponseCacheKey cacheKey, final CachedResponse cachedResponse,
+                              final BoundRequestBuilder builder, final long requestBytes, final Class<T> returnClass, final OutputStream outputStream,
+                              final RequestOptions requestOptions, final boolean idempotent, final CompletableFuture<T> result) {
+            this.verb = verb;
+            this.uri = uri;
+            this.endpoint = endpoint;
+            this.cacheKey = cacheKey;
+            this.cachedResponse = cachedResponse;
+            this.builder = builder;
+            this.requestBytes = requestBytes;
+            this.returnClass = returnClass;
+            this.outputStream = outputStream;
+            this.requestOptions = requestOptions;
+            this.idempotent = idempotent;
+            this.result = result;
+        }
+    }
+
+    // One attempt of a hedged GET: the first request to succeed wins, the other one is cancelled
+    private final class HedgedAttempt<T> {
+
+        private final AsyncExchange<T> exchange;
+        private final int attempt;
+        private final LatencyTracker latencyTracker;
+        private final long startNanos = System.nanoTime();
+        private final List<ListenableFuture<Response>> inFlight = new ArrayList<ListenableFuture<Response>>(2);
+
+        private int outstanding = 0;
+        private boolean decided = false;
+        private ScheduledFuture<?> hedgeTimer;
+
+        private HedgedAttempt(final AsyncExchange<T> exchange, final int attempt) {
+            this.exchange = exchange;
+            this.attempt = attempt;
+            // Keyed by endpoint: the latency of unrelated endpoints returning the same type says nothing about this one
+            this.latencyTracker = latencyTrackerFor(exchange.endpoint != null ? exchange.endpoint : endpointIsolation.endpointOf(exchange.verb, exchange.uri, exchange.requestOptions.getPathTemplate()));
+        }
+
+        private void start(final AsyncHandler<Response> asynHandler, final long queuedAtNanos) {
+            hedgeBudget.onRequest();
+            exchange.result.whenComplete(new BiConsumer<T, Throwable>() {
+                @Override
+                public void accept(final T ignored, final Throwable throwable) {
+                    if (throwable instanceof CancellationException) {
+                        cancel();
+                    }
+                }
+            });
+            launch(asynHandler, queuedAtNanos);
+
+            final long hedgeDelayMs = hedgingPolicy.getHedgeDelayMs(latencyTracker.getPercentileMs());
+            synchronized (this) {
+                if (!decided) {
+                    hedgeTimer = SCHEDULER.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            hedge();
+                        }
+                    }, hedgeDelayMs, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+            }
+            // Hedges never wait for the concurrency limit
+            if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire()) {
+                return;
+            }
+            if (!hedgeBudget.tryAcquire()) {
+                releasePermit();
+                return;
+            }
+
+            final AsyncHandler<Response> asynHandler;
+            try {
+                asynHandler = createAsyncHandler(exchange.verb, exchange.returnClass, exchange.outputStream, exchange.cacheKey);
+            } catch (final KillBillClientException e) {
+                releasePermit();
+                return;
+            }
+            log.debug("Hedging GET {}", exchange.uri);
+            launch(asynHandler, System.nanoTime());
+        }
+
+        private void launch(final AsyncHandler<Response> asynHandler, final long queuedAtNanos) {
+            synchronized (this) {
+                outstanding++;
+            }
+            final ListenableFuture<Response> future;
+            try {
+                future = execute(exchange.verb, exchange.endpoint, exchange.uri, exchange.builder, exchange.requestBytes, queuedAtNanos, asynHandler);
+            } catch (final KillBillClientException e) {
+                onCompleted(asynHandler, null, e);
+                return;
+            }
+            synchronized (this) {
+                inFlight.add(future);
+                if (decided) {
+                    future.cancel(true);
+                    return;
+                }
+            }
+            future.toCompletableFuture().whenComplete(new BiConsumer<Response, Throwable>() {
+                @Override
+                public void accept(final Response response, final Throwable throwable) {
+                    onCompleted(asynHandler, response, throwable);
+                }
+            });
+        }
+
+        private void onCompleted(final AsyncHandler<Response> asynHandler, final Response response, final Throwable throwable) {
+            synchronized (this) {
+                outstanding--;
+                if (decided || (throwable != null && outstanding > 0)) {
+                    // Already decided, or the other request may still succeed
+                    return;
+                }
+                decided = true;
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+                for (final ListenableFuture<Response> future : inFlight) {
+                    if (!future.isDone()) {
+                        future.cancel(true);
+                    }
+                }
+            }
+
+            if (throwable == null) {
+                latencyTracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+            onAttemptCompleted(exchange, attempt, asynHandler, response, throwable);
+        }
+
+        // The caller gave up: abort the requests in flight and don't hedge anymore
+        private synchronized void cancel() {
+            if (decided) {
+                return;
+            }
+            decided = true;
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+            }
+            for (final ListenableFuture<Response> future : inFlight) {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,543 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+
+import io.netty.channel.EventLoopGroup;
+
+/**
+ * Configuration of a {@link KillBillHttpClient}, including the tuning knobs of the underlying AsyncHttpClient
+ * (connection pool, keep-alive, IO threads).
+ * <p>
+ * Pool sizes default to -1 (unbounded): when a bound is set and reached, requests fail fast instead of being queued,
+ * so size it for the expected concurrency.
+ */
+public class KillBillHttpClientConfig {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = -1;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = -1;
+    public static final int DEFAULT_POOLED_CONNECTION_IDLE_TIMEOUT_MS = 60 * 1000;
+    public static final int DEFAULT_CONNECTION_TTL_MS = -1;
+    public static final boolean DEFAULT_KEEP_ALIVE = true;
+    // 0 means Netty's default (2 * number of cores)
+    public static final int DEFAULT_IO_THREADS_COUNT = 0;
+    public static final boolean DEFAULT_USE_NATIVE_TRANSPORT = false;
+    public static final int DEFAULT_STREAMING_REQUEST_BODY_MIN_ELEMENTS = 1000;
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT = -1;
+    // Read-mostly configuration: catalog, tag definitions, overdue config and per-tenant config. Catalog lookups which
+    // depend on a subscription (phase, plan, product, priceList, availableAddons) are left out.
+    public static final Set<String> DEFAULT_CACHEABLE_PATHS = ImmutableSet.<String>of("/1.0/kb/catalog",
+                                                                                      "/1.0/kb/catalog/xml",
+                                                                                      "/1.0/kb/catalog/versions",
+                                                                                      "/1.0/kb/catalog/availableBasePlans",
+                                                                                      "/1.0/kb/tagDefinitions",
+                                                                                      "/1.0/kb/overdue",
+                                                                                      "/1.0/kb/overdue/xml",
+                                                                                      "/1.0/kb/tenants/uploadPerTenantConfig");
+
+    private final String kbServerUrl;
+    private final String username;
+    private final String password;
+    private final String apiKey;
+    private final String apiSecret;
+    private final String proxyHost;
+    private final Integer proxyPort;
+    private final Integer connectTimeOut;
+    private final Integer readTimeOut;
+    private final Integer requestTimeout;
+    private final Boolean strictSSL;
+    private final int maxConnections;
+    private final int maxConnectionsPerHost;
+    private final int pooledConnectionIdleTimeout;
+    private final int connectionTtl;
+    private final boolean keepAlive;
+    private final int ioThreadsCount;
+    private final boolean useNativeTransport;
+    private final EventLoopGroup eventLoopGroup;
+    private final int streamingRequestBodyMinElements;
+    private final RetryPolicy retryPolicy;
+    private final HedgingPolicy hedgingPolicy;
+    private final int maxConcurrentRequestsPerEndpoint;
+    private final CircuitBreakerPolicy circuitBreakerPolicy;
+    private final ConcurrencyLimitPolicy concurrencyLimitPolicy;
+    private final LoadBalancingPolicy loadBalancingPolicy;
+    private final ResponseCache responseCache;
+    private final Set<String> cacheablePaths;
+    private final ClientMetricsListener metricsListener;
+
+    public KillBillHttpClientConfig(final String kbServerUrl, final String username, final String password, final String apiKey, final String apiSecret,
+                                    final String proxyHost, final Integer proxyPort, final Integer connectTimeOut, final Integer readTimeOut,
+                                    final Integer requestTimeout, final Boolean strictSSL, final int maxConnections, final int maxConnectionsPerHost,
+                                    final int pooledConnectionIdleTimeout, final int connectionTtl, final boolean keepAlive, final int ioThreadsCount,
+                                    final boolean useNativeTransport, final EventLoopGroup eventLoopGroup, final int streamingRequestBodyMinElements,
+                                    final RetryPolicy retryPolicy, final HedgingPolicy hedgingPolicy, final int maxConcurrentRequestsPerEndpoint,
+                                    final CircuitBreakerPolicy circuitBreakerPolicy, final ConcurrencyLimitPolicy concurrencyLimitPolicy,
+                                    final LoadBalancingPolicy loadBalancingPolicy, final ResponseCache responseCache, final Set<String> cacheablePaths,
+                                    final ClientMetricsListener metricsListener) {
+        this.kbServerUrl = kbServerUrl;
+        this.username = username;
+        this.password = password;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.proxyHost = proxyHost;
+        this.proxyPort = proxyPort;
+        this.connectTimeOut = connectTimeOut;
+        this.readTimeOut = readTimeOut;
+        this.requestTimeout = requestTimeout;
+        this.strictSSL = strictSSL;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.pooledConnectionIdleTimeout = pooledConnectionIdleTimeout;
+        this.connectionTtl = connectionTtl;
+        this.keepAlive = keepAlive;
+        this.ioThreadsCount = ioThreadsCount;
+        this.useNativeTransport = useNativeTransport;
+        this.eventLoopGroup = eventLoopGroup;
+        this.streamingRequestBodyMinElements = streamingRequestBodyMinElements;
+        this.retryPolicy = retryPolicy;
+        this.hedgingPolicy = hedgingPolicy;
+        this.maxConcurrentRequestsPerEndpoint = maxConcurrentRequestsPerEndpoint;
+        this.circuitBreakerPolicy = circuitBreakerPolicy;
+        this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+        this.loadBalancingPolicy = loadBalancingPolicy;
+        this.responseCache = responseCache;
+        this.cacheablePaths = ImmutableSet.<String>copyOf(cacheablePaths);
+        this.metricsListener = metricsListener;
+    }
+
+    public String getKbServerUrl() {
+        return kbServerUrl;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    public String getApiSecret() {
+        return apiSecret;
+    }
+
+    public String getProxyHost() {
+        return proxyHost;
+    }
+
+    public Integer getProxyPort() {
+        return proxyPort;
+    }
+
+    public Integer getConnectTimeOut() {
+        return connectTimeOut;
+    }
+
+    public Integer getReadTimeOut() {
+        return readTimeOut;
+    }
+
+    public Integer getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public Boolean getStrictSSL() {
+        return strictSSL;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    public int getPooledConnectionIdleTimeout() {
+        return pooledConnectionIdleTimeout;
+    }
+
+    public int getConnectionTtl() {
+        return connectionTtl;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public int getIoThreadsCount() {
+        return ioThreadsCount;
+    }
+
+    public boolean isUseNativeTransport() {
+        return useNativeTransport;
+    }
+
+    public EventLoopGroup getEventLoopGroup() {
+        return eventLoopGroup;
+    }
+
+    public int getStreamingRequestBodyMinElements() {
+        return streamingRequestBodyMinElements;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    public int getMaxConcurrentRequestsPerEndpoint() {
+        return maxConcurrentRequestsPerEndpoint;
+    }
+
+    public CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        return circuitBreakerPolicy;
+    }
+
+    public ConcurrencyLimitPolicy getConcurrencyLimitPolicy() {
+        return concurrencyLimitPolicy;
+    }
+
+    public LoadBalancingPolicy getLoadBalancingPolicy() {
+        return loadBalancingPolicy;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public Set<String> getCacheablePaths() {
+        return cacheablePaths;
+    }
+
+    public ClientMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class KillBillHttpClientConfig {\n");
+        sb.append("    kbServerUrl: ").append(kbServerUrl).append("\n");
+        sb.append("    username: ").append(username).append("\n");
+        // Don't print the password
+        sb.append("    apiKey: ").append(apiKey).append("\n");
+        // Don't print the secret
+        sb.append("    proxyHost: ").append(proxyHost).append("\n");
+        sb.append("    proxyPort: ").append(proxyPort).append("\n");
+        sb.append("    connectTimeOut: ").append(connectTimeOut).append("\n");
+        sb.append("    readTimeOut: ").append(readTimeOut).append("\n");
+        sb.append("    requestTimeout: ").append(requestTimeout).append("\n");
+        sb.append("    strictSSL: ").append(strictSSL).append("\n");
+        sb.append("    maxConnections: ").append(maxConnections).append("\n");
+        sb.append("    maxConnectionsPerHost: ").append(maxConnectionsPerHost).append("\n");
+        sb.append("    pooledConnectionIdleTimeout: ").append(pooledConnectionIdleTimeout).append("\n");
+        sb.append("    connectionTtl: ").append(connectionTtl).append("\n");
+        sb.append("    keepAlive: ").append(keepAlive).append("\n");
+        sb.append("    ioThreadsCount: ").append(ioThreadsCount).append("\n");
+        sb.append("    useNativeTransport: ").append(useNativeTransport).append("\n");
+        sb.append("    eventLoopGroup: ").append(eventLoopGroup).append("\n");
+        sb.append("    streamingRequestBodyMinElements: ").append(streamingRequestBodyMinElements).append("\n");
+        sb.append("    retryPolicy: ").append(retryPolicy).append("\n");
+        sb.append("    hedgingPolicy: ").append(hedgingPolicy).append("\n");
+        sb.append("    maxConcurrentRequestsPerEndpoint: ").append(maxConcurrentRequestsPerEndpoint).append("\n");
+        sb.append("    circuitBreakerPolicy: ").append(circuitBreakerPolicy).append("\n");
+        sb.append("    concurrencyLimitPolicy: ").append(concurrencyLimitPolicy).append("\n");
+        sb.append("    loadBalancingPolicy: ").append(loadBalancingPolicy).append("\n");
+        sb.append("    responseCache: ").append(responseCache).append("\n");
+        sb.append("    cacheablePaths: ").append(cacheablePaths).append("\n");
+        sb.append("    metricsListener: ").append(metricsListener).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Helper method for creating a new builder
+     * @return a new instance of KillBillHttpClientConfigBuilder
+     */
+    public static KillBillHttpClientConfigBuilder builder() {
+        return new KillBillHttpClientConfigBuilder();
+    }
+
+    public static class KillBillHttpClientConfigBuilder {
+
+        private String kbServerUrl;
+        private String username;
+        private String password;
+        private String apiKey;
+        private String apiSecret;
+        private String proxyHost;
+        private Integer proxyPort;
+        private Integer connectTimeOut;
+        private Integer readTimeOut;
+        private Integer requestTimeout;
+        private Boolean strictSSL;
+        private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+        private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+        private int pooledConnectionIdleTimeout = DEFAULT_POOLED_CONNECTION_IDLE_TIMEOUT_MS;
+        private int connectionTtl = DEFAULT_CONNECTION_TTL_MS;
+        private boolean keepAlive = DEFAULT_KEEP_ALIVE;
+        private int ioThreadsCount = DEFAULT_IO_THREADS_COUNT;
+        private boolean useNativeTransport = DEFAULT_USE_NATIVE_TRANSPORT;
+        private EventLoopGroup eventLoopGroup;
+        private int streamingRequestBodyMinElements = DEFAULT_STREAMING_REQUEST_BODY_MIN_ELEMENTS;
+        private RetryPolicy retryPolicy = RetryPolicy.NO_RETRY;
+        private HedgingPolicy hedgingPolicy;
+        private int maxConcurrentRequestsPerEndpoint = DEFAULT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT;
+        private CircuitBreakerPolicy circuitBreakerPolicy;
+        private ConcurrencyLimitPolicy concurrencyLimitPolicy;
+        private LoadBalancingPolicy loadBalancingPolicy;
+        private ResponseCache responseCache;
+        private Set<String> cacheablePaths = DEFAULT_CACHEABLE_PATHS;
+        private ClientMetricsListener metricsListener;
+
+        public KillBillHttpClientConfigBuilder withKbServerUrl(final String kbServerUrl) {
+            this.kbServerUrl = kbServerUrl;
+            return this;
+        }
+
+        public KillBillHttpClientConfigBuilder withUsername(final String username) {
+            this.username = username;
+            return this;
+        }
+
+        public KillBillHttpClientConfigBuilder withPassword(final String password) {
+            this.password = password;
+            return this;
+        }
+
+        public KillBillHttpClientConfigBuilder withApiKey(final String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public KillBillHttpClientConfigBuilder withApiSecret(final String apiSecret) {
+            this.apiSecret = apiSecret;
+            return this;
+        }
+
+        public KillBillHttpClientConfigBuilder withProxy(final String proxyHost, final Integer proxyPort) {
+            this.proxyHost = proxyHost;
+            this.proxyPort = proxyPort;
+            return this;
+        }
+
+        /**
+         * @param connectTimeOut connect timeout in milliseconds
+         */
+        public KillBillHttpClientConfigBuilder withConnectTimeOut(final Integer connectTimeOut) {
+            this.connectTimeOut = connectTimeOut;
+            return this;
+        }
+
+        /**
+         * @param readTimeOut read timeout in milliseconds
+         */
+        public KillBillHttpClientConfigBuilder withReadTimeOut(final Integer readTimeOut) {
+            this.readTimeOut = readTimeOut;
+            return this;
+        }
+
+        /**
+         * @param requestTimeout request timeout in milliseconds
+         */
+        public KillBillHttpClientConfigBuilder withRequestTimeout(final Integer requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * @param strictSSL whether to validate SSL certificates
+         */
+        public KillBillHttpClientConfigBuilder withStrictSSL(final Boolean strictSSL) {
+            this.strictSSL = strictSSL;
+            return this;
+        }
+
+        /**
+         * @param maxConnections maximum number of connections (-1 for no limit)
+         */
+        public KillBillHttpClientConfigBuilder withMaxConnections(final int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * @param maxConnectionsPerHost maximum number of connections per Kill Bill node (-1 for no limit)
+         */
+        public KillBillHttpClientConfigBuilder withMaxConnectionsPerHost(final int maxConnectionsPerHost) {
+            this.maxConnectionsPerHost = maxConnectionsPerHost;
+            return this;
+        }
+
+        /**
+         * @param pooledConnectionIdleTimeout time in milliseconds an idle connection is kept in the pool
+         */
+        public KillBillHttpClientConfigBuilder withPooledConnectionIdleTimeout(final int pooledConnectionIdleTimeout) {
+            this.pooledConnectionIdleTimeout = pooledConnectionIdleTimeout;
+            return this;
+        }
+
+        /**
+         * @param connectionTtl maximum lifetime in milliseconds of a pooled connection (-1 for no limit), useful behind load balancers
+         */
+        public KillBillHttpClientConfigBuilder withConnectionTtl(final int connectionTtl) {
+            this.connectionTtl = connectionTtl;
+            return this;
+        }
+
+        public KillBillHttpClientConfigBuilder withKeepAlive(final boolean keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * @param ioThreadsCount number of Netty IO threads (0 for Netty's default), ignored when an EventLoopGroup is provided
+         */
+        public KillBillHttpClientConfigBuilder withIoThreadsCount(final int ioThreadsCount) {
+            this.ioThreadsCount = ioThreadsCount;
+            return this;
+        }
+
+        /**
+         * @param useNativeTransport whether to use the native (epoll / kqueue) transport, which requires the matching netty-transport-native artifact
+         */
+        public KillBillHttpClientConfigBuilder withNativeTransport(final boolean useNativeTransport) {
+            this.useNativeTransport = useNativeTransport;
+            return this;
+        }
+
+        /**
+         * @param eventLoopGroup event loop to share with other Netty based components (not shut down when the client is closed)
+         */
+        public KillBillHttpClientConfigBuilder withEventLoopGroup(final EventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
+        /**
+         * @param streamingRequestBodyMinElements collection bodies (bulk apis) with at least that many elements are streamed
+         *                                        using chunked transfer encoding (-1 to always buffer the body)
+         */
+        public KillBillHttpClientConfigBuilder withStreamingRequestBodyMinElements(final int streamingRequestBodyMinElements) {
+            this.streamingRequestBodyMinElements = streamingRequestBodyMinElements;
+            return this;
+        }
+
+        /**
+         * @param retryPolicy how transient failures are retried (disabled by default, see {@link RetryPolicy#builder()})
+         */
+        public KillBillHttpClientConfigBuilder withRetryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * @param hedgingPolicy enables hedging of GET requests (disabled by default)
+         */
+        public KillBillHttpClientConfigBuilder withHedgingPolicy(final HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRequestsPerEndpoint cap on the in-flight requests of each endpoint, requests beyond it are
+         *                                         rejected (-1 for no cap). See {@link KillBillHttpClient#getBulkheads()}.
+         */
+        public KillBillHttpClientConfigBuilder withMaxConcurrentRequestsPerEndpoint(final int maxConcurrentRequestsPerEndpoint) {
+            this.maxConcurrentRequestsPerEndpoint = maxConcurrentRequestsPerEndpoint;
+            return this;
+        }
+
+        /**
+         * @param circuitBreakerPolicy enables per-endpoint circuit breakers (disabled by default).
+         *                             See {@link KillBillHttpClient#getCircuitBreakers()}.
+         */
+        public KillBillHttpClientConfigBuilder withCircuitBreakerPolicy(final CircuitBreakerPolicy circuitBreakerPolicy) {
+            this.circuitBreakerPolicy = circuitBreakerPolicy;
+            return this;
+        }
+
+        /**
+         * @param concurrencyLimitPolicy enables the adaptive limit on in-flight requests (disabled by default).
+         *                               See {@link KillBillHttpClient#getConcurrencyLimiter()}.
+         */
+        public KillBillHttpClientConfigBuilder withConcurrencyLimitPolicy(final ConcurrencyLimitPolicy concurrencyLimitPolicy) {
+            this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+            return this;
+        }
+
+        /**
+         * @param loadBalancingPolicy enables client-side load balancing across the Kill Bill nodes, starting from the
+         *                            kbServerUrl (disabled by default). See {@link KillBillHttpClient#getLoadBalancer()}.
+         */
+        public KillBillHttpClientConfigBuilder withLoadBalancingPolicy(final LoadBalancingPolicy loadBalancingPolicy) {
+            this.loadBalancingPolicy = loadBalancingPolicy;
+            return this;
+        }
+
+        /**
+         * @param responseCache enables caching of the GET requests on the cacheable paths (disabled by default), e.g.
+         *                      {@link DefaultResponseCache}. Entries are invalidated by successful writes on the same
+         *                      paths and by the {@code AdminApi#invalidatesCache*} calls made through this client.
+         */
+        public KillBillHttpClientConfigBuilder withResponseCache(final ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * @param cacheablePaths paths whose GET responses are cached: exact paths, or prefixes ending with {@code /*}
+         *                       (e.g. {@code /1.0/kb/tagDefinitions/*})
+         */
+        public KillBillHttpClientConfigBuilder withCacheablePaths(final Set<String> cacheablePaths) {
+            this.cacheablePaths = cacheablePaths;
+            return this;
+        }
+
+        /**
+         * @param metricsListener notified of every request sent (disabled by default), e.g.
+         *                        {@link DefaultClientMetricsListener}
+         */
+        public KillBillHttpClientConfigBuilder withMetricsListener(final ClientMetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
+        public KillBillHttpClientConfig build() {
+            return new KillBillHttpClientConfig(kbServerUrl, username, password, apiKey, apiSecret, proxyHost, proxyPort,
+                                                connectTimeOut, readTimeOut, requestTimeout, strictSSL, maxConnections, maxConnectionsPerHost,
+                                                pooledConnectionIdleTimeout, connectionTtl, keepAlive, ioThreadsCount, useNativeTransport, eventLoopGroup,
+                                                streamingRequestBodyMinElements, retryPolicy, hedgingPolicy,
+                                                maxConcurrentRequestsPerEndpoint, circuitBreakerPolicy, concurrencyLimitPolicy,
+                                                loadBalancingPolicy, responseCache, cacheablePaths, metricsListener);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A node of the Kill Bill cluster, as seen by the client-side load balancer.
+ */
+public class KillBillNode {
+
+    // Weight of each new latency in the moving average
+    private static final double LATENCY_DECAY = 0.2;
+
+    private final String url;
+    private final AtomicInteger nbInFlight = new AtomicInteger();
+    private final AtomicInteger nbConsecutiveFailures = new AtomicInteger();
+
+    private volatile boolean healthy = true;
+    private volatile double latencyMs = 0.0;
+
+    KillBillNode(final String url) {
+        this.url = url;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return false if the node failed its last health check (or is out of rotation), or too many requests in a row
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public int getNbInFlightRequests() {
+        return nbInFlight.get();
+    }
+
+    /**
+     * @return moving average of the latency of the requests sent to this node
+     */
+    public double getLatencyMs() {
+        return latencyMs;
+    }
+
+    // The lower the better: expected wait if the request is queued behind the ones in flight
+    double getLoadScore() {
+        return (nbInFlight.get() + 1) * Math.max(1.0, latencyMs);
+    }
+
+    void onSent() {
+        nbInFlight.incrementAndGet();
+    }
+
+    void onCompleted(final long latencyMs, final boolean connectionFailure, final int maxConsecutiveFailures) {
+        nbInFlight.decrementAndGet();
+        if (connectionFailure) {
+            if (nbConsecutiveFailures.incrementAndGet() >= maxConsecutiveFailures) {
+                healthy = false;
+            }
+            return;
+        }
+        nbConsecutiveFailures.set(0);
+        // Racy, but an approximate average is good enough for balancing
+        this.latencyMs = this.latencyMs == 0.0 ? latencyMs : this.latencyMs + (latencyMs - this.latencyMs) * LATENCY_DECAY;
+    }
+
+    void onHealthCheck(final boolean healthy) {
+        if (healthy) {
+            nbConsecutiveFailures.set(0);
+        }
+        this.healthy = healthy;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class KillBillNode {\n");
+        sb.append("    url: ").append(url).append("\n");
+        sb.append("    healthy: ").append(healthy).append("\n");
+        sb.append("    nbInFlightRequests: ").append(nbInFlight.get()).append("\n");
+        sb.append("    latencyMs: ").append(latencyMs).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the most recent latencies in a ring buffer and periodically recomputes a given percentile, so that reading
+ * it on the request path is a volatile read.
+ */
+class LatencyTracker {
+
+    private static final int NB_SAMPLES = 1024;
+    private static final int RECOMPUTE_EVERY = 128;
+
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(NB_SAMPLES);
+    private final AtomicLong nbRecorded = new AtomicLong();
+    private final AtomicBoolean recomputing = new AtomicBoolean(false);
+
+    private volatile long percentileMs = -1;
+
+    LatencyTracker(final double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(final long latencyMs) {
+        final long n = nbRecorded.getAndIncrement();
+        samples.set((int) (n % NB_SAMPLES), latencyMs);
+        if ((n + 1) % RECOMPUTE_EVERY == 0 && recomputing.compareAndSet(false, true)) {
+            try {
+                recompute(Math.min(n + 1, NB_SAMPLES));
+            } finally {
+                recomputing.set(false);
+            }
+        }
+    }
+
+    /**
+     * @return the percentile over the recent latencies, -1 if not enough latencies have been recorded yet
+     */
+    long getPercentileMs() {
+        return percentileMs;
+    }
+
+    private void recompute(final long nbSamples) {
+        final long[] sorted = new long[(int) nbSamples];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        percentileMs = sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.asynchttpclient.AsyncHttpClient;
+import org.asynchttpclient.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Spreads the requests of a client across the nodes of the Kill Bill cluster (see {@link LoadBalancingPolicy}).
+ * <p>
+ * Each request goes to the least loaded of two healthy nodes picked at random (power of two choices), the load of a
+ * node being estimated from its in-flight requests and its recent latency.
+ * <p>
+ * The kbServerUrl of the client (the seed, often a VIP in front of the cluster) is only used to bootstrap: it is the
+ * single node until discovery returns the actual nodes, and it isn't used at all if nodes are configured upfront.
+ */
+public class LoadBalancer implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancer.class);
+
+    private static final String NODES_INFO_PATH = "/1.0/kb/nodesInfo";
+
+    private final LoadBalancingPolicy policy;
+    private final String seedUrl;
+    private final String nodeUrlTemplate;
+    private final KillBillHttpClient client;
+    private final AsyncHttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<ScheduledFuture<?>>();
+
+    // Copy-on-write: read on every request
+    private volatile List<KillBillNode> nodes;
+
+    LoadBalancer(final LoadBalancingPolicy policy, final String seedUrl, final KillBillHttpClient client, final AsyncHttpClient httpClient,
+                 final ScheduledExecutorService scheduler) {
+        this.policy = policy;
+        this.seedUrl = normalize(seedUrl);
+        this.nodeUrlTemplate = policy.getNodeUrlTemplate() != null ? normalize(policy.getNodeUrlTemplate()) : defaultNodeUrlTemplate(this.seedUrl);
+        this.client = client;
+        this.httpClient = httpClient;
+        this.scheduler = scheduler;
+
+        final List<String> urls = new ArrayList<String>();
+        for (final String nodeUrl : policy.getNodeUrls()) {
+            urls.add(normalize(nodeUrl));
+        }
+        if (urls.isEmpty()) {
+            urls.add(this.seedUrl);
+        }
+        this.nodes = merge(urls);
+    }
+
+    void start() {
+        tasks.add(scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                healthCheck();
+            }
+        }, 0, policy.getHealthCheckIntervalMs(), TimeUnit.MILLISECONDS));
+
+        if (policy.getDiscoveryIntervalMs() > 0) {
+            tasks.add(scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    discover();
+                }
+            }, 0, policy.getDiscoveryIntervalMs(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Override
+    public void close() {
+        for (final ScheduledFuture<?> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    public List<KillBillNode> getNodes() {
+        return nodes;
+    }
+
+    KillBillNode select() {
+        final List<KillBillNode> current = nodes;
+        List<KillBillNode> candidates = new ArrayList<KillBillNode>(current.size());
+        for (final KillBillNode node : current) {
+            if (node.isHealthy()) {
+                candidates.add(node);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // Better to try than to fail right away: the health checks may be lagging
+            candidates = current;
+        }
+
+        final int nbCandidates = candidates.size();
+        if (nbCandidates == 1) {
+            return candidates.get(0);
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(nbCandidates);
+        int second = random.nextInt(nbCandidates - 1);
+        if (second >= first) {
+            second++;
+        }
+        final KillBillNode a = candidates.get(first);
+        final KillBillNode b = candidates.get(second);
+        return a.getLoadScore() <= b.getLoadScore() ? a : b;
+    }
+
+    int getMaxConsecutiveFailures() {
+        return policy.getMaxConsecutiveFailures();
+    }
+
+    private void healthCheck() {
+        for (final KillBillNode node : nodes) {
+            httpClient.prepareGet(node.getUrl() + policy.getHealthCheckPath())
+                      .execute()
+                      .toCompletableFuture()
+                      .whenComplete(new BiConsumer<Response, Throwable>() {
+                          @Override
+                          public void accept(final Response response, final Throwable throwable) {
+                              final boolean healthy = throwable == null && response.getStatusCode() == 200;
+                              if (healthy != node.isHealthy()) {
+                                  log.info("Kill Bill node {} is now {}", node.getUrl(), healthy ? "healthy" : "unhealthy");
+                              }
+                              node.onHealthCheck(healthy);
+                          }
+                      });
+        }
+    }
+
+    private void discover() {
+        final KillBillNode node = select();
+        client.doGetAsync(node.getUrl() + NODES_INFO_PATH, Response.class, RequestOptions.empty())
+              .whenComplete(new BiConsumer<Response, Throwable>() {
+                  @Override
+                  public void accept(final Response response, final Throwable throwable) {
+                      if (throwable != null || response == null) {
+                          log.warn("Unable to discover the Kill Bill nodes from {}", node.getUrl(), throwable);
+                          return;
+                      }
+
+                      final List<String> urls = new ArrayList<String>();
+                      try {
+                          // Only the node names are needed, no need for the full model
+                          final JsonNode nodesInfo = KillBillHttpClient.readerFor(JsonNode.class).readTree(response.getResponseBodyAsBytes());
+                          for (final JsonNode nodeInfo : nodesInfo) {
+                              final JsonNode nodeName = nodeInfo.get("nodeName");
+                              if (nodeName != null && !nodeName.asText().isEmpty()) {
+                                  urls.add(nodeUrlTemplate.replace("{nodeName}", nodeName.asText()));
+                              }
+                          }
+                      } catch (final Exception e) {
+                          log.warn("Unable to parse the Kill Bill nodes info", e);
+                          return;
+                      }
+
+                      if (urls.isEmpty()) {
+                          // Keep the nodes known so far (e.g. the seed)
+                          return;
+                      }
+                      for (final String nodeUrl : policy.getNodeUrls()) {
+                          urls.add(normalize(nodeUrl));
+                      }
+                      // The seed isn't part of it anymore (unless it is one of the nodes)
+                      nodes = merge(urls);
+                  }
+              });
+    }
+
+    // Keeps the state (health, latency) of the nodes already known
+    private List<KillBillNode> merge(final List<String> urls) {
+        final Map<String, KillBillNode> existing = new LinkedHashMap<String, KillBillNode>();
+        if (nodes != null) {
+            for (final KillBillNode node : nodes) {
+                existing.put(node.getUrl(), node);
+            }
+        }
+
+        final Map<String, KillBillNode> merged = new LinkedHashMap<String, KillBillNode>();
+        for (final String url : urls) {
+            if (!merged.containsKey(url)) {
+                final KillBillNode node = existing.get(url);
+                merged.put(url, node != null ? node : new KillBillNode(url));
+            }
+        }
+        return ImmutableList.<KillBillNode>copyOf(merged.values());
+    }
+
+    private static String defaultNodeUrlTemplate(final String seedUrl) {
+        final URI uri = URI.create(seedUrl);
+        return uri.getScheme() + "://{nodeName}" + (uri.getPort() > 0 ? ":" + uri.getPort() : "") + (uri.getPath() != null ? uri.getPath() : "");
+    }
+
+    private static String normalize(final String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Settings of the client-side load balancing across the nodes of a Kill Bill cluster.
+ * <p>
+ * Nodes are discovered via {@code /1.0/kb/nodesInfo} (the URL of a node is derived from its name using
+ * {@link #getNodeUrlTemplate()}), and each node is probed on {@link #getHealthCheckPath()}: nodes failing the
+ * health check, including nodes put out of rotation, don't receive requests anymore until they pass it again.
+ */
+public class LoadBalancingPolicy {
+
+    public static final long DEFAULT_DISCOVERY_INTERVAL_MS = 60000;
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL_MS = 5000;
+    public static final String DEFAULT_HEALTH_CHECK_PATH = "/1.0/healthcheck";
+    public static final int DEFAULT_MAX_CONSECUTIVE_FAILURES = 3;
+
+    private final List<String> nodeUrls;
+    private final String nodeUrlTemplate;
+    private final long discoveryIntervalMs;
+    private final long healthCheckIntervalMs;
+    private final String healthCheckPath;
+    private final int maxConsecutiveFailures;
+
+    public LoadBalancingPolicy(final List<String> nodeUrls, final String nodeUrlTemplate, final long discoveryIntervalMs, final long healthCheckIntervalMs,
+                               final String healthCheckPath, final int maxConsecutiveFailures) {
+        Preconditions.checkArgument(nodeUrlTemplate == null || nodeUrlTemplate.contains("{nodeName}"), "nodeUrlTemplate must contain {nodeName}");
+        Preconditions.checkArgument(healthCheckIntervalMs > 0, "healthCheckIntervalMs must be positive");
+        Preconditions.checkArgument(maxConsecutiveFailures >= 1, "maxConsecutiveFailures must be at least 1");
+        this.nodeUrls = ImmutableList.<String>copyOf(nodeUrls);
+        this.nodeUrlTemplate = nodeUrlTemplate;
+        this.discoveryIntervalMs = discoveryIntervalMs;
+        this.healthCheckIntervalMs = healthCheckIntervalMs;
+        this.healthCheckPath = healthCheckPath;
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+    }
+
+    /**
+     * @return nodes known upfront, used instead of the kbServerUrl of the client (which then only serves as a fallback
+     *         if the list is empty)
+     */
+    public List<String> getNodeUrls() {
+        return nodeUrls;
+    }
+
+    /**
+     * @return URL of a discovered node, e.g. {@code https://{nodeName}:8443} (by default, the scheme and port
+     *         of the kbServerUrl of the client)
+     */
+    public String getNodeUrlTemplate() {
+        return nodeUrlTemplate;
+    }
+
+    /**
+     * @return delay between two discoveries (0 to only use the configured nodes)
+     */
+    public long getDiscoveryIntervalMs() {
+        return discoveryIntervalMs;
+    }
+
+    public long getHealthCheckIntervalMs() {
+        return healthCheckIntervalMs;
+    }
+
+    public String getHealthCheckPath() {
+        return healthCheckPath;
+    }
+
+    /**
+     * @return number of consecutive connection failures after which a node is considered unhealthy (until its next
+     *         successful health check)
+     */
+    public int getMaxConsecutiveFailures() {
+        return maxConsecutiveFailures;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class LoadBalancingPolicy {\n");
+        sb.append("    nodeUrls: ").append(nodeUrls).append("\n");
+        sb.append("    nodeUrlTemplate: ").append(nodeUrlTemplate).append("\n");
+        sb.append("    discoveryIntervalMs: ").append(discoveryIntervalMs).append("\n");
+        sb.append("    healthCheckIntervalMs: ").append(healthCheckIntervalMs).append("\n");
+        sb.append("    healthCheckPath: ").append(healthCheckPath).append("\n");
+        sb.append("    maxConsecutiveFailures: ").append(maxConsecutiveFailures).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Helper method for creating a new builder
+     * @return a new instance of LoadBalancingPolicyBuilder
+     */
+    public static LoadBalancingPolicyBuilder builder() {
+        return new LoadBalancingPolicyBuilder();
+    }
+
+    public static class LoadBalancingPolicyBuilder {
+
+        private List<String> nodeUrls = ImmutableList.<String>of();
+        private String nodeUrlTemplate;
+        private long discoveryIntervalMs = DEFAULT_DISCOVERY_INTERVAL_MS;
+        private long healthCheckIntervalMs = DEFAULT_HEALTH_CHECK_INTERVAL_MS;
+        private String healthCheckPath = DEFAULT_HEALTH_CHECK_PATH;
+        private int maxConsecutiveFailures = DEFAULT_MAX_CONSECUTIVE_FAILURES;
+
+        public LoadBalancingPolicyBuilder withNodeUrls(final List<String> nodeUrls) {
+            this.nodeUrls = nodeUrls;
+            return this;
+        }
+
+        public LoadBalancingPolicyBuilder withNodeUrlTemplate(final String nodeUrlTemplate) {
+            this.nodeUrlTemplate = nodeUrlTemplate;
+            return this;
+        }
+
+        public LoadBalancingPolicyBuilder withDiscoveryIntervalMs(final long discoveryIntervalMs) {
+            this.discoveryIntervalMs = discoveryIntervalMs;
+            return this;
+        }
+
+        public LoadBalancingPolicyBuilder withHealthCheckIntervalMs(final long healthCheckIntervalMs) {
+            this.healthCheckIntervalMs = healthCheckIntervalMs;
+            return this;
+        }
+
+        public LoadBalancingPolicyBuilder withHealthCheckPath(final String healthCheckPath) {
+            this.healthCheckPath = healthCheckPath;
+            return this;
+        }
+
+        public LoadBalancingPolicyBuilder withMaxConsecutiveFailures(final int maxConsecutiveFailures) {
+            this.maxConsecutiveFailures = maxConsecutiveFailures;
+            return this;
+        }
+
+        public LoadBalancingPolicy build() {
+            return new LoadBalancingPolicy(nodeUrls, nodeUrlTemplate, discoveryIntervalMs, healthCheckIntervalMs, healthCheckPath, maxConsecutiveFailures);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Endpoint path template such as /1.0/kb/accounts/{accountId}/tags, split once into its literal and variable
+ * segments so that expanding it is a simple concatenation (no regex, no URI re-parsing).
+ * <p>
+ * Values are substituted as-is (String.valueOf), without any encoding, and are given in the order in which
+ * the variables first appear in the template.
+ */
+public final class PathTemplate {
+
+    private final String template;
+    // Literal segments, interleaved with the variables: literals.size() == variableIndexes.size() + 1
+    private final String[] literals;
+    // For each variable occurrence, index of the value to substitute
+    private final int[] variableIndexes;
+    private final List<String> variableNames;
+    private final int literalsLength;
+
+    private PathTemplate(final String template) {
+        final List<String> literalSegments = new ArrayList<String>();
+        final List<Integer> indexes = new ArrayList<Integer>();
+        final List<String> names = new ArrayList<String>();
+
+        int position = 0;
+        int literalLength = 0;
+        while (true) {
+            final int start = template.indexOf('{', position);
+            if (start < 0) {
+                break;
+            }
+            final int end = template.indexOf('}', start);
+            Preconditions.checkArgument(end > start + 1, "Invalid path template %s", template);
+
+            final String literal = template.substring(position, start);
+            literalSegments.add(literal);
+            literalLength += literal.length();
+
+            final String name = template.substring(start + 1, end);
+            if (!names.contains(name)) {
+                names.add(name);
+            }
+            indexes.add(names.indexOf(name));
+            position = end + 1;
+        }
+        final String lastLiteral = template.substring(position);
+        literalSegments.add(lastLiteral);
+        literalLength += lastLiteral.length();
+
+        this.template = template;
+        this.literals = literalSegments.toArray(new String[0]);
+        this.variableIndexes = new int[indexes.size()];
+        for (int i = 0; i < variableIndexes.length; i++) {
+            variableIndexes[i] = indexes.get(i);
+        }
+        this.variableNames = ImmutableList.copyOf(names);
+        this.literalsLength = literalLength;
+    }
+
+    public static PathTemplate compile(final String template) {
+        return new PathTemplate(template);
+    }
+
+    /**
+     * @param values one value per variable, in the order of {@link #getVariableNames()}
+     * @return the expanded path
+     */
+    public String expand(final Object... values) {
+        Preconditions.checkArgument(values.length == variableNames.size(), "Expected %s values for %s", variableNames.size(), template);
+
+        final String[] stringValues = new String[values.length];
+        int length = literalsLength;
+        for (int i = 0; i < values.length; i++) {
+            stringValues[i] = String.valueOf(values[i]);
+        }
+        for (final int variableIndex : variableIndexes) {
+            length += stringValues[variableIndex].length();
+        }
+
+        final StringBuilder sb = new StringBuilder(length);
+        sb.append(literals[0]);
+        for (int i = 0; i < variableIndexes.length; i++) {
+            sb.append(stringValues[variableIndexes[i]]);
+            sb.append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket shared by all requests of a client: each request deposits a fraction of a token, each extra request
+ * (retry, hedge) withdraws a full one. When the bucket is empty, no extra request is sent.
+ */
+class RequestBudget {
+
+    // Tokens are stored in thousandths to keep the bucket lock-free
+    private static final long SCALE = 1000;
+    // The balance is capped to the tokens deposited by that many requests
+    private static final int MAX_BALANCE_REQUESTS = 100;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio          tokens deposited by each request
+     * @param initialBalance tokens available upfront
+     */
+    RequestBudget(final double ratio, final int initialBalance) {
+        this.depositPerRequest = (long) (ratio * SCALE);
+        // Enough room to absorb a burst of extra requests after a long healthy period, in proportion to the ratio (e.g.
+        // 5 hedges with a 5% ratio), but at least one extra request
+        this.maxBalance = Math.max(initialBalance * SCALE, Math.max(SCALE, (long) (ratio * MAX_BALANCE_REQUESTS * SCALE)));
+        this.balance = new AtomicLong(initialBalance * SCALE);
+    }
+
+    void onRequest() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(maxBalance, current + depositPerRequest)));
+    }
+
+    boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    double getAvailableTokens() {
+        return balance.get() / (double) SCALE;
+    }
+}
@@ -46,10 +46,29 @@ public class RequestOptions {
 
     private final Multimap<String, String> queryParamsForFollow;
 
+    private final Boolean idempotent;
+
+    private final String pathTemplate;
+
     public RequestOptions(final String requestId, final String user, final String password, final String createdBy,
                           final String reason, final String comment, final String tenantApiKey, final String tenantApiSecret,
                           final Map<String, String> headers, final Multimap<String, String> queryParams,
                           final Boolean followLocation, final Multimap<String, String> queryParamsForFollow) {
+        this(requestId, user, password, createdBy, reason, comment, tenantApiKey, tenantApiSecret, headers, queryParams, followLocation, queryParamsForFollow, null);
+    }
+
+    public RequestOptions(final String requestId, final String user, final String password, final String createdBy,
+                          final String reason, final String comment, final String tenantApiKey, final String tenantApiSecret,
+                          final Map<String, String> headers, final Multimap<String, String> queryParams,
+                          final Boolean followLocation, final Multimap<String, String> queryParamsForFollow, final Boolean idempotent) {
+        this(requestId, user, password, createdBy, reason, comment, tenantApiKey, tenantApiSecret, headers, queryParams, followLocation, queryParamsForFollow, idempotent, null);
+    }
+
+    public RequestOptions(final String requestId, final String user, final String password, final String createdBy,
+                          final String reason, final String comment, final String tenantApiKey, final String tenantApiSecret,
+                          final Map<String, String> headers, final Multimap<String, String> queryParams,
+                          final Boolean followLocation, final Multimap<String, String> queryParamsForFollow, final Boolean idempotent,
+                          final String pathTemplate) {
         this.requestId = requestId;
         this.user = user;
         this.password = password;
@@ -62,6 +81,8 @@ public class RequestOptions {
         this.queryParams = (queryParams != null) ? ImmutableMultimap.copyOf(queryParams) : ImmutableMultimap.<String, String>of();
         this.followLocation = followLocation;
         this.queryParamsForFollow = ImmutableMultimap.copyOf(queryParamsForFollow);
+        this.idempotent = idempotent;
+        this.pathTemplate = pathTemplate;
     }
 
     public String getRequestId() {
@@ -119,6 +140,24 @@ public class RequestOptions {
         return queryParamsForFollow;
     }
 
+    public Boolean getIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * @return true if the caller declared that the request can safely be sent more than once (see {@link RetryPolicy})
+     */
+    public boolean isIdempotent() {
+        return idempotent != null && idempotent;
+    }
+
+    /**
+     * @return path template of the endpoint (e.g. /1.0/kb/accounts/{accountId}), set by the generated apis
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
     public RequestOptionsBuilder extend() {
         final RequestOptionsBuilder builder = new RequestOptionsBuilder();
         builder.headers.putAll(this.headers);
@@ -128,7 +167,9 @@ public class RequestOptions {
                 .withCreatedBy(createdBy).withReason(reason).withComment(comment)
                 .withTenantApiKey(tenantApiKey).withTenantApiSecret(tenantApiSecret)
                 .withQueryParams(queryParams)
-                .withFollowLocation(followLocation).withQueryParamsForFollow(queryParamsForFollow);
+                .withFollowLocation(followLocation).withQueryParamsForFollow(queryParamsForFollow)
+                .withIdempotent(idempotent)
+                .withPathTemplate(pathTemplate);
     }
 
     @Override
@@ -153,7 +194,9 @@ public class RequestOptions {
             && Objects.equals(headers, that.headers)
             && Objects.equals(queryParams, that.queryParams)
             && Objects.equals(followLocation, that.followLocation)
-            && Objects.equals(queryParamsForFollow, that.queryParamsForFollow);
+            && Objects.equals(queryParamsForFollow, that.queryParamsForFollow)
+            && Objects.equals(idempotent, that.idempotent)
+            && Objects.equals(pathTemplate, that.pathTemplate);
     }
 
     @Override
@@ -170,7 +213,9 @@ public class RequestOptions {
             headers,
             queryParams,
             followLocation,
-            queryParamsForFollow);
+            queryParamsForFollow,
+            idempotent,
+            pathTemplate);
     }
 
     @Override
@@ -189,6 +234,8 @@ public class RequestOptions {
         sb.append("    queryParams: ").append(queryParams).append("\n");
         sb.append("    followLocation: ").append(followLocation).append("\n");
         sb.append("    queryParamsForFollow: ").append(queryParamsForFollow).append("\n");
+        sb.append("    idempotent: ").append(idempotent).append("\n");
+        sb.append("    pathTemplate: ").append(pathTemplate).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -227,6 +274,10 @@ public class RequestOptions {
 
         private Multimap<String, String> queryParamsForFollow = HashMultimap.<String, String>create();
 
+        private Boolean idempotent;
+
+        private String pathTemplate;
+
         public RequestOptionsBuilder withRequestId(final String requestId) {
             this.requestId = requestId;
             return this;
@@ -287,9 +338,28 @@ public class RequestOptions {
             return this;
         }
 
+        /**
+         * @param idempotent whether the request can safely be sent more than once, and thus retried after it may have
+         *                   reached the server (e.g. recordUsage with a tracking id, which Kill Bill deduplicates).
+         *                   The request id is only used to correlate logs: it doesn't make a request idempotent.
+         */
+        public RequestOptionsBuilder withIdempotent(final Boolean idempotent) {
+            this.idempotent = idempotent;
+            return this;
+        }
+
+        /**
+         * @param pathTemplate path template of the endpoint (e.g. /1.0/kb/accounts/{accountId}), which identifies it for
+         *                     the bulkheads, circuit breakers, hedge delays and metrics
+         */
+        public RequestOptionsBuilder withPathTemplate(final String pathTemplate) {
+            this.pathTemplate = pathTemplate;
+            return this;
+        }
+
         public RequestOptions build() {
             return new RequestOptions(requestId, user, password, createdBy, reason, comment, tenantApiKey, tenantApiSecret,
-                                      headers, queryParams, followLocation, queryParamsForFollow);
+                                      headers, queryParams, followLocation, queryParamsForFollow, idempotent, pathTemplate);
         }
     }
 }
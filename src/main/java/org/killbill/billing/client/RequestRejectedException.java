@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+/**
+ * Thrown (as the cause of a {@link KillBillClientException}) when a request isn't sent because its endpoint is
+ * isolated (circuit breaker open, or too many requests in flight), or because of the client-wide concurrency limit.
+ */
+@SuppressWarnings("serial")
+public class RequestRejectedException extends Exception {
+
+    private final String endpoint;
+
+    public RequestRejectedException(final String endpoint, final String message) {
+        super(endpoint == null ? message : message + ": " + endpoint);
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return the endpoint, null if the rejection is client-wide
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
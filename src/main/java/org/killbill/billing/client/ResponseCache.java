@@ -0,0 +1,49 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import org.asynchttpclient.Response;
+
+/**
+ * Storage of the responses of the cacheable GET endpoints (see
+ * {@link KillBillHttpClientConfig.KillBillHttpClientConfigBuilder#withResponseCache(ResponseCache)}).
+ * <p>
+ * Implementations must be thread-safe, and are responsible for bounding the size and the age of the entries.
+ * Entries which are no longer fresh can be kept for a while: when they carry validators, they are revalidated with
+ * a conditional GET instead of being downloaded again.
+ */
+public interface ResponseCache {
+
+    /**
+     * @return the cached response (fresh or stale), null if absent
+     */
+    CachedResponse get(ResponseCacheKey key);
+
+    /**
+     * Store a response, or mark it fresh again after a successful revalidation
+     */
+    void put(ResponseCacheKey key, Response response);
+
+    /**
+     * @param tenant     tenant api key of the entries to remove, null for all tenants
+     * @param pathPrefix path prefix of the entries to remove, null for all paths
+     */
+    void invalidate(String tenant, String pathPrefix);
+}
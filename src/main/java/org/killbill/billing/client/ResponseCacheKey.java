@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.util.Objects;
+
+/**
+ * Identifies a cached response: tenant, credentials, path and query string.
+ * <p>
+ * A cache hit doesn't reach Kill Bill, which therefore can't check the credentials: responses are only shared by
+ * requests made with the same ones (tenant secret, RBAC user and password, custom headers), kept as a digest.
+ */
+public final class ResponseCacheKey {
+
+    private final String tenant;
+    private final String credentialsDigest;
+    private final String path;
+    private final String query;
+
+    public ResponseCacheKey(final String tenant, final String credentialsDigest, final String path, final String query) {
+        this.tenant = tenant;
+        this.credentialsDigest = credentialsDigest;
+        this.path = path;
+        this.query = query;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public String getCredentialsDigest() {
+        return credentialsDigest;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    boolean matches(final String tenant, final String pathPrefix) {
+        return (tenant == null || tenant.equals(this.tenant)) && (pathPrefix == null || path.startsWith(pathPrefix));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ResponseCacheKey that = (ResponseCacheKey) o;
+        return Objects.equals(tenant, that.tenant) &&
+               Objects.equals(credentialsDigest, that.credentialsDigest) &&
+               Objects.equals(path, that.path) &&
+               Objects.equals(query, that.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tenant, credentialsDigest, path, query);
+    }
+
+    @Override
+    public String toString() {
+        return tenant + ":" + path + (query.isEmpty() ? "" : "?" + query);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Decides whether a failed request can be sent again, and when.
+ * <p>
+ * Safe verbs (GET, HEAD, OPTIONS) are always retried. POST, PUT and DELETE are only retried when the connection could
+ * not even be established (the request never left the client), unless the caller declared the request idempotent
+ * (see {@link RequestOptions#isIdempotent()}): once sent, a create call (payment, invoice, ...) may have been processed
+ * even if no response came back. Note that {@link JaxrsResource#HDR_REQUEST_ID} is only used by Kill Bill to
+ * correlate logs, it doesn't deduplicate requests.
+ * <p>
+ * Attempts are spaced using exponential backoff with jitter, and retries are bounded by a budget proportional to
+ * the traffic (see {@link #getRetryBudgetRatio()}), so that a struggling server doesn't see its load multiplied.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_INITIAL_BACKOFF_MS = 100;
+    public static final long DEFAULT_MAX_BACKOFF_MS = 5000;
+    public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+    public static final double DEFAULT_JITTER = 0.5;
+    public static final double DEFAULT_RETRY_BUDGET_RATIO = 0.1;
+    public static final int DEFAULT_RETRY_BUDGET_MIN_RETRIES = 10;
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = ImmutableSet.<Integer>of(502, 503, 504);
+
+    public static final RetryPolicy NO_RETRY = builder().withMaxAttempts(1).build();
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final double backoffMultiplier;
+    private final double jitter;
+    private final double retryBudgetRatio;
+    private final int retryBudgetMinRetries;
+    private final Set<Integer> retryableStatusCodes;
+
+    public RetryPolicy(final int maxAttempts, final long initialBackoffMs, final long maxBackoffMs, final double backoffMultiplier,
+                       final double jitter, final double retryBudgetRatio, final int retryBudgetMinRetries, final Set<Integer> retryableStatusCodes) {
+        Preconditions.checkArgument(maxAttempts >= 1, "maxAttempts must be at least 1");
+        Preconditions.checkArgument(initialBackoffMs >= 0 && maxBackoffMs >= initialBackoffMs, "Invalid backoff bounds");
+        Preconditions.checkArgument(backoffMultiplier >= 1.0, "backoffMultiplier must be at least 1");
+        Preconditions.checkArgument(jitter >= 0.0 && jitter <= 1.0, "jitter must be between 0 and 1");
+        Preconditions.checkArgument(retryBudgetRatio >= 0.0, "retryBudgetRatio must be positive");
+        Preconditions.checkArgument(retryBudgetMinRetries >= 0, "retryBudgetMinRetries must be positive");
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.backoffMultiplier = backoffMultiplier;
+        this.jitter = jitter;
+        this.retryBudgetRatio = retryBudgetRatio;
+        this.retryBudgetMinRetries = retryBudgetMinRetries;
+        this.retryableStatusCodes = ImmutableSet.<Integer>copyOf(retryableStatusCodes);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getInitialBackoffMs() {
+        return initialBackoffMs;
+    }
+
+    public long getMaxBackoffMs() {
+        return maxBackoffMs;
+    }
+
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * @return number of retries earned by each request (0.1 means at most 10% extra requests because of retries)
+     */
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    /**
+     * @return retries available upfront, before any request has contributed to the budget
+     */
+    public int getRetryBudgetMinRetries() {
+        return retryBudgetMinRetries;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    /**
+     * @param verb               HTTP verb
+     * @param declaredIdempotent whether the caller declared the request idempotent (see {@link RequestOptions#isIdempotent()})
+     * @return true if the request can safely be sent more than once
+     */
+    public boolean isIdempotent(final String verb, final boolean declaredIdempotent) {
+        return "GET".equals(verb) || "HEAD".equals(verb) || "OPTIONS".equals(verb) || declaredIdempotent;
+    }
+
+    /**
+     * @param failure    exception raised while executing the request
+     * @param idempotent whether the request can safely be sent more than once
+     * @return true if the failure is transient and the request can be retried
+     */
+    public boolean isRetryableFailure(final Throwable failure, final boolean idempotent) {
+        final Throwable cause = unwrap(failure);
+        if (cause instanceof ConnectException) {
+            // Nothing was sent
+            return true;
+        }
+        return idempotent && (cause instanceof IOException || cause instanceof TimeoutException);
+    }
+
+    /**
+     * @param statusCode HTTP status code of the response
+     * @param idempotent whether the request can safely be sent more than once
+     * @return true if the response denotes a transient server-side condition and the request can be retried
+     */
+    public boolean isRetryableStatus(final int statusCode, final boolean idempotent) {
+        return idempotent && retryableStatusCodes.contains(statusCode);
+    }
+
+    /**
+     * @param attempt number of the attempt which just failed (starting at 1)
+     * @return delay before the next attempt, in milliseconds
+     */
+    public long getBackoffMs(final int attempt) {
+        final double backoff = Math.min(maxBackoffMs, initialBackoffMs * Math.pow(backoffMultiplier, attempt - 1));
+        // Spread retries of concurrent clients over [backoff * (1 - jitter), backoff]
+        final double jittered = backoff * (1.0 - jitter * ThreadLocalRandom.current().nextDouble());
+        return (long) jittered;
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof KillBillClientException || cause instanceof ExecutionException || cause instanceof CompletionException) &&
+               cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class RetryPolicy {\n");
+        sb.append("    maxAttempts: ").append(maxAttempts).append("\n");
+        sb.append("    initialBackoffMs: ").append(initialBackoffMs).append("\n");
+        sb.append("    maxBackoffMs: ").append(maxBackoffMs).append("\n");
+        sb.append("    backoffMultiplier: ").append(backoffMultiplier).append("\n");
+        sb.append("    jitter: ").append(jitter).append("\n");
+        sb.append("    retryBudgetRatio: ").append(retryBudgetRatio).append("\n");
+        sb.append("    retryBudgetMinRetries: ").append(retryBudgetMinRetries).append("\n");
+        sb.append("    retryableStatusCodes: ").append(retryableStatusCodes).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Helper method for creating a new builder
+     * @return a new instance of RetryPolicyBuilder
+     */
+    public static RetryPolicyBuilder builder() {
+        return new RetryPolicyBuilder();
+    }
+
+    public static class RetryPolicyBuilder {
+
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private long initialBackoffMs = DEFAULT_INITIAL_BACKOFF_MS;
+        private long maxBackoffMs = DEFAULT_MAX_BACKOFF_MS;
+        private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+        private double jitter = DEFAULT_JITTER;
+        private double retryBudgetRatio = DEFAULT_RETRY_BUDGET_RATIO;
+        private int retryBudgetMinRetries = DEFAULT_RETRY_BUDGET_MIN_RETRIES;
+        private Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+
+        /**
+         * @param maxAttempts total number of attempts, including the first one (1 disables retries)
+         */
+        public RetryPolicyBuilder withMaxAttempts(final int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public RetryPolicyBuilder withInitialBackoffMs(final long initialBackoffMs) {
+            this.initialBackoffMs = initialBackoffMs;
+            return this;
+        }
+
+        public RetryPolicyBuilder withMaxBackoffMs(final long maxBackoffMs) {
+            this.maxBackoffMs = maxBackoffMs;
+            return this;
+        }
+
+        public RetryPolicyBuilder withBackoffMultiplier(final double backoffMultiplier) {
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        /**
+         * @param jitter fraction of the backoff which is randomized (0 for a fixed backoff, 1 for full jitter)
+         */
+        public RetryPolicyBuilder withJitter(final double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        public RetryPolicyBuilder withRetryBudgetRatio(final double retryBudgetRatio) {
+            this.retryBudgetRatio = retryBudgetRatio;
+            return this;
+        }
+
+        public RetryPolicyBuilder withRetryBudgetMinRetries(final int retryBudgetMinRetries) {
+            this.retryBudgetMinRetries = retryBudgetMinRetries;
+            return this;
+        }
+
+        public RetryPolicyBuilder withRetryableStatusCodes(final Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = retryableStatusCodes;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(maxAttempts, initialBackoffMs, maxBackoffMs, backoffMultiplier, jitter,
+                                   retryBudgetRatio, retryBudgetMinRetries, retryableStatusCodes);
+        }
+    }
+}
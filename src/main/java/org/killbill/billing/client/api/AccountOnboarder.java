@@ -0,0 +1,606 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.OnboardingResult.Status;
+import org.killbill.billing.client.api.gen.AccountApiAsync;
+import org.killbill.billing.client.api.gen.InvoiceApiAsync;
+import org.killbill.billing.client.api.gen.SubscriptionApiAsync;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.client.model.Invoices;
+import org.killbill.billing.client.model.PaymentMethods;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.Bundle;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.killbill.billing.client.model.gen.InvoiceItem;
+import org.killbill.billing.client.model.gen.PaymentMethod;
+import org.killbill.billing.client.model.gen.Subscription;
+import org.killbill.billing.util.api.AuditLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Onboards accounts in bulk: for each {@link OnboardingRecord}, creates the account, then its payment method, its
+ * subscriptions and its migration invoice.
+ * <p>
+ * The stages of a record run in order, but records are pipelined: while an account is being created, the payment
+ * method of another one can be added, and so on. Each stage has its own bound on in-flight requests
+ * (maxInFlightPerStage), so that a slow endpoint does not starve the others, and the number of records in progress is
+ * bounded too (maxInFlightRecords): {@link #onboard(Iterable, OnboardingReport)} stops pulling records from its input
+ * until some complete, so that the input can be streamed.
+ * <p>
+ * The result of each record is appended to an {@link OnboardingReport}. Running the onboarding again with the same
+ * report skips the records which succeeded, and restarts the others at the stage which failed. A previous run may
+ * have applied more than it reported (the response was lost, or the run crashed before writing the result), so unless
+ * the account has just been created by this run, each stage only runs if what it creates can't be found:
+ * <ul>
+ * <li>ACCOUNT: an account which already exists (409 on creation) is looked up by external key</li>
+ * <li>PAYMENT_METHOD: a payment method of the account with the same external key (same plugin name if the record has
+ * no external key)</li>
+ * <li>SUBSCRIPTIONS: a bundle of the account with the same external key (containing the same plans if the record has
+ * no bundle external key)</li>
+ * <li>MIGRATION_INVOICE: a migration invoice of the account with the same target date</li>
+ * </ul>
+ * Provided the payment methods and bundles have external keys, a resumed run therefore creates each entity at most
+ * once (at most one migration invoice per target date), as long as the requests of the previous run are no longer
+ * being processed by Kill Bill. Without external keys, the lookups assume the accounts are only onboarded by this tool.
+ */
+public class AccountOnboarder {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountOnboarder.class);
+
+    public static final int DEFAULT_MAX_IN_FLIGHT_PER_STAGE = 16;
+    public static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 256;
+
+    public enum Stage {
+        ACCOUNT,
+        PAYMENT_METHOD,
+        SUBSCRIPTIONS,
+        MIGRATION_INVOICE
+    }
+
+    private final AccountApiAsync accountApi;
+    private final SubscriptionApiAsync subscriptionApi;
+    private final InvoiceApiAsync invoiceApi;
+    private final RequestOptions requestOptions;
+    private final int maxInFlightRecords;
+    private final Map<Stage, StageGate> stageGates = new EnumMap<Stage, StageGate>(Stage.class);
+
+    public AccountOnboarder(final AccountApiAsync accountApi, final SubscriptionApiAsync subscriptionApi, final InvoiceApiAsync invoiceApi,
+                            final RequestOptions requestOptions, final int maxInFlightPerStage, final int maxInFlightRecords) {
+        Preconditions.checkArgument(maxInFlightPerStage > 0, "maxInFlightPerStage must be positive");
+        Preconditions.checkArgument(maxInFlightRecords > 0, "maxInFlightRecords must be positive");
+        this.accountApi = Preconditions.checkNotNull(accountApi, "accountApi");
+        this.subscriptionApi = subscriptionApi;
+        this.invoiceApi = invoiceApi;
+        this.requestOptions = Preconditions.checkNotNull(requestOptions, "requestOptions");
+        this.maxInFlightRecords = maxInFlightRecords;
+        for (final Stage stage : Stage.values()) {
+            stageGates.put(stage, new StageGate(maxInFlightPerStage));
+        }
+    }
+
+    /**
+     * Onboard the records, blocking until all of them have completed
+     *
+     * @param records records to onboard, iterated lazily
+     * @param report  report of the run, also used to resume a previous run
+     * @return the number of records which succeeded, failed and were skipped
+     * @throws IOException          if the report cannot be written
+     * @throws InterruptedException if interrupted while waiting for records to complete (records in progress are not cancelled)
+     */
+    public Summary onboard(final Iterable<OnboardingRecord> records, final OnboardingReport report) throws IOException, InterruptedException {
+        final Summary summary = new Summary();
+        // Results are reported by this thread, not by the I/O threads completing the requests
+        final BlockingQueue<OnboardingResult> completedResults = new LinkedBlockingQueue<OnboardingResult>();
+        int nbInFlightRecords = 0;
+
+        for (final OnboardingRecord record : records) {
+            final OnboardingResult previousResult = report.getPreviousResult(record.getExternalKey());
+            if (previousResult != null && previousResult.getStatus() == Status.SUCCEEDED) {
+                summary.nbSkipped++;
+                continue;
+            }
+
+            while (nbInFlightRecords >= maxInFlightRecords) {
+                report(completedResults.take(), report, summary);
+                nbInFlightRecords--;
+            }
+            OnboardingResult completedResult;
+            while ((completedResult = completedResults.poll()) != null) {
+                report(completedResult, report, summary);
+                nbInFlightRecords--;
+            }
+
+            onboard(record, previousResult).thenAccept(new Consumer<OnboardingResult>() {
+                @Override
+                public void accept(final OnboardingResult result) {
+                    completedResults.add(result);
+                }
+            });
+            nbInFlightRecords++;
+        }
+
+        while (nbInFlightRecords > 0) {
+            report(completedResults.take(), report, summary);
+            nbInFlightRecords--;
+        }
+        return summary;
+    }
+
+    private void report(final OnboardingResult result, final OnboardingReport report, final Summary summary) throws IOException {
+        if (result.getStatus() == Status.SUCCEEDED) {
+            summary.nbSucceeded++;
+        } else {
+            summary.nbFailed++;
+            log.warn("Unable to onboard account {}: {} failed with {}", result.getExternalKey(), result.getFailedStage(), result.getError());
+        }
+        report.write(result);
+    }
+
+    /**
+     * @return never completed exceptionally: failures are reported in the result
+     */
+    private CompletableFuture<OnboardingResult> onboard(final OnboardingRecord record, final OnboardingResult previousResult) {
+        final Progress progress = new Progress(record, previousResult);
+
+        CompletableFuture<Void> pipeline = CompletableFuture.completedFuture(null);
+        for (final Stage stage : Stage.values()) {
+            pipeline = pipeline.thenCompose(new Function<Void, CompletionStage<Void>>() {
+                @Override
+                public CompletionStage<Void> apply(final Void ignored) {
+                    return runStage(stage, progress);
+                }
+            });
+        }
+
+        return pipeline.handle(new BiFunction<Void, Throwable, OnboardingResult>() {
+            @Override
+            public OnboardingResult apply(final Void ignored, final Throwable throwable) {
+                return throwable == null ? progress.toResult(null) : progress.toResult(unwrap(throwable));
+            }
+        });
+    }
+
+    private CompletableFuture<Void> runStage(final Stage stage, final Progress progress) {
+        if (progress.isDone(stage)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        progress.currentStage = stage;
+        final StageGate stageGate = stageGates.get(stage);
+        return stageGate.acquire().thenCompose(new Function<Void, CompletionStage<Void>>() {
+            @Override
+            public CompletionStage<Void> apply(final Void ignored) {
+                CompletableFuture<Void> call;
+                try {
+                    call = call(stage, progress);
+                } catch (final RuntimeException e) {
+                    call = new CompletableFuture<Void>();
+                    call.completeExceptionally(e);
+                }
+                return call.whenComplete(new BiConsumer<Void, Throwable>() {
+                    @Override
+                    public void accept(final Void ignored, final Throwable throwable) {
+                        stageGate.release();
+                    }
+                });
+            }
+        });
+    }
+
+    private CompletableFuture<Void> call(final Stage stage, final Progress progress) {
+        if (progress.accountCreated) {
+            // Nothing to find on a brand new account
+            return create(stage, progress);
+        }
+        return lookUp(stage, progress).thenCompose(new Function<Boolean, CompletionStage<Void>>() {
+            @Override
+            public CompletionStage<Void> apply(final Boolean found) {
+                if (found) {
+                    log.info("Resuming the onboarding of account {}: {} already done", progress.record.getExternalKey(), stage);
+                    return CompletableFuture.completedFuture(null);
+                }
+                return create(stage, progress);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> create(final Stage stage, final Progress progress) {
+        final OnboardingRecord record = progress.record;
+        switch (stage) {
+            case ACCOUNT:
+                return createAccount(record.getAccount(), progress).thenAccept(new Consumer<Account>() {
+                    @Override
+                    public void accept(final Account account) {
+                        progress.accountId = account.getAccountId();
+                    }
+                });
+            case PAYMENT_METHOD:
+                final PaymentMethod paymentMethod = record.getPaymentMethod();
+                paymentMethod.setAccountId(progress.accountId);
+                return accountApi.createPaymentMethod(progress.accountId, paymentMethod, paymentMethod.isDefault(), null, null, null, requestOptions)
+                                 .thenAccept(new Consumer<PaymentMethod>() {
+                                     @Override
+                                     public void accept(final PaymentMethod created) {
+                                         progress.paymentMethodId = created.getPaymentMethodId();
+                                     }
+                                 });
+            case SUBSCRIPTIONS:
+                for (final Subscription subscription : record.getSubscriptions()) {
+                    subscription.setAccountId(progress.accountId);
+                }
+                return subscriptionApi.createSubscriptionWithAddOns(record.getSubscriptions(), record.getEntitlementDate(), record.getBillingDate(), null, requestOptions)
+                                      .thenAccept(new Consumer<Bundle>() {
+                                          @Override
+                                          public void accept(final Bundle bundle) {
+                                              progress.bundleId = bundle.getBundleId();
+                                          }
+                                      });
+            case MIGRATION_INVOICE:
+                for (final InvoiceItem invoiceItem : record.getMigrationInvoiceItems()) {
+                    invoiceItem.setAccountId(progress.accountId);
+                }
+                return invoiceApi.createMigrationInvoice(progress.accountId, record.getMigrationInvoiceItems(), record.getMigrationTargetDate(), requestOptions)
+                                 .thenAccept(new Consumer<Invoice>() {
+                                     @Override
+                                     public void accept(final Invoice invoice) {
+                                         progress.invoiceId = invoice.getInvoiceId();
+                                     }
+                                 });
+            default:
+                throw new IllegalStateException("Unknown stage " + stage);
+        }
+    }
+
+    /**
+     * @return whether the entity created by the stage exists already (its id is then set in progress)
+     */
+    private CompletableFuture<Boolean> lookUp(final Stage stage, final Progress progress) {
+        final OnboardingRecord record = progress.record;
+        switch (stage) {
+            case ACCOUNT:
+                // See createAccount
+                return CompletableFuture.completedFuture(false);
+            case PAYMENT_METHOD:
+                return accountApi.getPaymentMethodsForAccount(progress.accountId, null, requestOptions).thenApply(new Function<PaymentMethods, Boolean>() {
+                    @Override
+                    public Boolean apply(final PaymentMethods paymentMethods) {
+                        final PaymentMethod expected = record.getPaymentMethod();
+                        for (final PaymentMethod paymentMethod : paymentMethods) {
+                            if (expected.getExternalKey() != null ? expected.getExternalKey().equals(paymentMethod.getExternalKey())
+                                                                  : Objects.equals(expected.getPluginName(), paymentMethod.getPluginName())) {
+                                progress.paymentMethodId = paymentMethod.getPaymentMethodId();
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+                });
+            case SUBSCRIPTIONS:
+                return accountApi.getAccountBundles(progress.accountId, null, null, requestOptions).thenApply(new Function<Bundles, Boolean>() {
+                    @Override
+                    public Boolean apply(final Bundles bundles) {
+                        for (final Bundle bundle : bundles) {
+                            if (isSameBundle(bundle, record.getSubscriptions())) {
+                                progress.bundleId = bundle.getBundleId();
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+                });
+            case MIGRATION_INVOICE:
+                // Migration invoices are only listed on demand
+                final CompletableFuture<Invoices> allInvoices = accountApi.getInvoicesForAccount(progress.accountId, null, null, true, false, false, AuditLevel.NONE, requestOptions);
+                final CompletableFuture<Invoices> regularInvoices = accountApi.getInvoicesForAccount(progress.accountId, null, null, false, false, false, AuditLevel.NONE, requestOptions);
+                return allInvoices.thenCombine(regularInvoices, new BiFunction<Invoices, Invoices, Boolean>() {
+                    @Override
+                    public Boolean apply(final Invoices invoices, final Invoices regular) {
+                        final Set<UUID> regularInvoiceIds = new HashSet<UUID>();
+                        for (final Invoice invoice : regular) {
+                            regularInvoiceIds.add(invoice.getInvoiceId());
+                        }
+                        for (final Invoice invoice : invoices) {
+                            if (!regularInvoiceIds.contains(invoice.getInvoiceId()) &&
+                                (record.getMigrationTargetDate() == null || record.getMigrationTargetDate().equals(invoice.getTargetDate()))) {
+                                progress.invoiceId = invoice.getInvoiceId();
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+                });
+            default:
+                throw new IllegalStateException("Unknown stage " + stage);
+        }
+    }
+
+    private static boolean isSameBundle(final Bundle bundle, final List<Subscription> subscriptions) {
+        final Set<String> planNames = new HashSet<String>();
+        for (final Subscription subscription : subscriptions) {
+            if (subscription.getBundleExternalKey() != null) {
+                return subscription.getBundleExternalKey().equals(bundle.getExternalKey());
+            }
+            planNames.add(subscription.getPlanName());
+        }
+        final Set<String> bundlePlanNames = new HashSet<String>();
+        if (bundle.getSubscriptions() != null) {
+            for (final Subscription subscription : bundle.getSubscriptions()) {
+                bundlePlanNames.add(subscription.getPlanName());
+            }
+        }
+        return bundlePlanNames.containsAll(planNames);
+    }
+
+    private CompletableFuture<Account> createAccount(final Account account, final Progress progress) {
+        return accountApi.createAccount(account, requestOptions).handle(new BiFunction<Account, Throwable, CompletableFuture<Account>>() {
+            @Override
+            public CompletableFuture<Account> apply(final Account created, final Throwable throwable) {
+                if (throwable == null) {
+                    progress.accountCreated = true;
+                    return CompletableFuture.completedFuture(created);
+                }
+
+                final Throwable cause = unwrap(throwable);
+                if (!isConflict(cause)) {
+                    final CompletableFuture<Account> failed = new CompletableFuture<Account>();
+                    failed.completeExceptionally(cause);
+                    return failed;
+                }
+                // Created by a previous run which did not get to report it
+                return accountApi.getAccountByKey(account.getExternalKey(), requestOptions).thenApply(new Function<Account, Account>() {
+                    @Override
+                    public Account apply(final Account existing) {
+                        if (existing == null) {
+                            throw new IllegalStateException("Account " + account.getExternalKey() + " already exists but cannot be retrieved");
+                        }
+                        return existing;
+                    }
+                });
+            }
+        }).thenCompose(new Function<CompletableFuture<Account>, CompletionStage<Account>>() {
+            @Override
+            public CompletionStage<Account> apply(final CompletableFuture<Account> result) {
+                return result;
+            }
+        });
+    }
+
+    private static boolean isConflict(final Throwable cause) {
+        return cause instanceof KillBillClientException &&
+               ((KillBillClientException) cause).getResponse() != null &&
+               ((KillBillClientException) cause).getResponse().getStatusCode() == 409;
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * Helper method for creating a new builder
+     *
+     * @return a new instance of AccountOnboarderBuilder
+     */
+    public static AccountOnboarderBuilder builder() {
+        return new AccountOnboarderBuilder();
+    }
+
+    public static class Summary {
+
+        private int nbSucceeded = 0;
+        private int nbFailed = 0;
+        private int nbSkipped = 0;
+
+        public int getNbSucceeded() {
+            return nbSucceeded;
+        }
+
+        public int getNbFailed() {
+            return nbFailed;
+        }
+
+        /**
+         * @return number of records which had already succeeded in a previous run
+         */
+        public int getNbSkipped() {
+            return nbSkipped;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append("class Summary {\n");
+            sb.append("    nbSucceeded: ").append(nbSucceeded).append("\n");
+            sb.append("    nbFailed: ").append(nbFailed).append("\n");
+            sb.append("    nbSkipped: ").append(nbSkipped).append("\n");
+            sb.append("}");
+            return sb.toString();
+        }
+    }
+
+    // State of one record, only accessed by the stage in progress
+    private static final class Progress {
+
+        private final OnboardingRecord record;
+        private Stage currentStage;
+        private UUID accountId;
+        // Created by this run (not found, nor reported by a previous run)
+        private boolean accountCreated = false;
+        private UUID paymentMethodId;
+        private UUID bundleId;
+        private UUID invoiceId;
+
+        private Progress(final OnboardingRecord record, final OnboardingResult previousResult) {
+            this.record = record;
+            if (previousResult != null) {
+                this.accountId = previousResult.getAccountId();
+                this.paymentMethodId = previousResult.getPaymentMethodId();
+                this.bundleId = previousResult.getBundleId();
+                this.invoiceId = previousResult.getInvoiceId();
+            }
+        }
+
+        private boolean isDone(final Stage stage) {
+            switch (stage) {
+                case ACCOUNT:
+                    return accountId != null;
+                case PAYMENT_METHOD:
+                    return record.getPaymentMethod() == null || paymentMethodId != null;
+                case SUBSCRIPTIONS:
+                    return record.getSubscriptions() == null || record.getSubscriptions().isEmpty() || bundleId != null;
+                case MIGRATION_INVOICE:
+                    return record.getMigrationInvoiceItems() == null || record.getMigrationInvoiceItems().isEmpty() || invoiceId != null;
+                default:
+                    throw new IllegalStateException("Unknown stage " + stage);
+            }
+        }
+
+        private OnboardingResult toResult(final Throwable failure) {
+            if (failure == null) {
+                return new OnboardingResult(record.getExternalKey(), Status.SUCCEEDED, accountId, paymentMethodId, bundleId, invoiceId, null, null);
+            }
+            final String error = failure.getMessage() != null ? failure.getMessage() : failure.toString();
+            return new OnboardingResult(record.getExternalKey(), Status.FAILED, accountId, paymentMethodId, bundleId, invoiceId, currentStage, error);
+        }
+    }
+
+    // Non-blocking semaphore: waiters are completed, in order, as permits are released
+    private static final class StageGate {
+
+        private final int maxInFlight;
+        private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<CompletableFuture<Void>>();
+        private int inFlight = 0;
+
+        private StageGate(final int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        private synchronized CompletableFuture<Void> acquire() {
+            if (inFlight < maxInFlight) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            final CompletableFuture<Void> waiter = new CompletableFuture<Void>();
+            waiters.add(waiter);
+            return waiter;
+        }
+
+        private void release() {
+            final CompletableFuture<Void> next;
+            synchronized (this) {
+                next = waiters.poll();
+                if (next == null) {
+                    inFlight--;
+                }
+            }
+            // The permit is handed over: complete outside of the lock, as it runs the next stage call
+            if (next != null) {
+                next.complete(null);
+            }
+        }
+    }
+
+    public static class AccountOnboarderBuilder {
+
+        private AccountApiAsync accountApi;
+        private SubscriptionApiAsync subscriptionApi;
+        private InvoiceApiAsync invoiceApi;
+        private RequestOptions requestOptions = RequestOptions.empty();
+        private int maxInFlightPerStage = DEFAULT_MAX_IN_FLIGHT_PER_STAGE;
+        private int maxInFlightRecords = DEFAULT_MAX_IN_FLIGHT_RECORDS;
+
+        /**
+         * @param accountApi used to create the accounts and their payment methods
+         */
+        public AccountOnboarderBuilder withAccountApi(final AccountApiAsync accountApi) {
+            this.accountApi = accountApi;
+            return this;
+        }
+
+        /**
+         * @param subscriptionApi required if records have subscriptions
+         */
+        public AccountOnboarderBuilder withSubscriptionApi(final SubscriptionApiAsync subscriptionApi) {
+            this.subscriptionApi = subscriptionApi;
+            return this;
+        }
+
+        /**
+         * @param invoiceApi required if records have migration invoices
+         */
+        public AccountOnboarderBuilder withInvoiceApi(final InvoiceApiAsync invoiceApi) {
+            this.invoiceApi = invoiceApi;
+            return this;
+        }
+
+        /**
+         * @param requestOptions options of all the calls (tenant, createdBy, ...)
+         */
+        public AccountOnboarderBuilder withRequestOptions(final RequestOptions requestOptions) {
+            this.requestOptions = requestOptions;
+            return this;
+        }
+
+        /**
+         * @param maxInFlightPerStage maximum number of concurrent requests of each stage
+         */
+        public AccountOnboarderBuilder withMaxInFlightPerStage(final int maxInFlightPerStage) {
+            this.maxInFlightPerStage = maxInFlightPerStage;
+            return this;
+        }
+
+        /**
+         * @param maxInFlightRecords maximum number of records in progress
+         */
+        public AccountOnboarderBuilder withMaxInFlightRecords(final int maxInFlightRecords) {
+            this.maxInFlightRecords = maxInFlightRecords;
+            return this;
+        }
+
+        public AccountOnboarder build() {
+            return new AccountOnboarder(accountApi, subscriptionApi, invoiceApi, requestOptions, maxInFlightPerStage, maxInFlightRecords);
+        }
+    }
+}
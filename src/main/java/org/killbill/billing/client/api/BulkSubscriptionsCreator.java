@@ -0,0 +1,418 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.SubscriptionApiAsync;
+import org.killbill.billing.client.model.BulkSubscriptionsBundles;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.client.model.gen.BulkSubscriptionsBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Creates a large number of bundles with {@link SubscriptionApiAsync#createSubscriptionsWithAddOns}, split in
+ * chunks submitted concurrently, instead of one request which may exceed the server (or client) timeouts.
+ * <p>
+ * The chunk size adapts to the observed latency: after each chunk, the next chunks are sized so that a request takes
+ * about targetChunkLatencyMs, based on a moving average of the latency per bundle. A chunk which times out or fails
+ * with a 5xx halves the chunk size (other failures don't tell anything about the size). Chunks are cut as they are
+ * submitted, so the adjustments apply to the rest of the same call.
+ * <p>
+ * A chunk rejected with a 4xx (e.g. an invalid plan in one of the bundles) is bisected and its halves submitted again,
+ * until the offending bundles are isolated: the other bundles of the chunk are still created. Other failed chunks are
+ * not retried, as some of their bundles may have been created (e.g. on a read timeout). The failed bundles are
+ * reported in the {@link Result}, together with the cause, and the bundles of the successful chunks are merged in input
+ * order.
+ * <p>
+ * The size is shared by the calls of a creator, so that what has been learned is kept from one call to the next.
+ */
+public class BulkSubscriptionsCreator {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkSubscriptionsCreator.class);
+
+    public static final int DEFAULT_INITIAL_CHUNK_SIZE = 50;
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 1;
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 1000;
+    public static final long DEFAULT_TARGET_CHUNK_LATENCY_MS = 2000;
+    public static final int DEFAULT_MAX_IN_FLIGHT_CHUNKS = 4;
+
+    // Weight of the last chunk in the moving average of the latency per bundle
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final SubscriptionApiAsync subscriptionApi;
+    private final RequestOptions requestOptions;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkLatencyNanos;
+    private final int maxInFlightChunks;
+
+    // Guarded by this
+    private int chunkSize;
+    private double nanosPerBundle = -1;
+
+    public BulkSubscriptionsCreator(final SubscriptionApiAsync subscriptionApi, final RequestOptions requestOptions, final int initialChunkSize,
+                                    final int minChunkSize, final int maxChunkSize, final long targetChunkLatencyMs, final int maxInFlightChunks) {
+        Preconditions.checkArgument(minChunkSize > 0 && minChunkSize <= maxChunkSize, "Invalid chunk size bounds [%s, %s]", minChunkSize, maxChunkSize);
+        Preconditions.checkArgument(targetChunkLatencyMs > 0, "targetChunkLatencyMs must be positive");
+        Preconditions.checkArgument(maxInFlightChunks > 0, "maxInFlightChunks must be positive");
+        this.subscriptionApi = Preconditions.checkNotNull(subscriptionApi, "subscriptionApi");
+        this.requestOptions = Preconditions.checkNotNull(requestOptions, "requestOptions");
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetChunkLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetChunkLatencyMs);
+        this.maxInFlightChunks = maxInFlightChunks;
+        this.chunkSize = clamp(initialChunkSize);
+    }
+
+    /**
+     * Create the bundles, see {@link SubscriptionApiAsync#createSubscriptionsWithAddOns(BulkSubscriptionsBundles, LocalDate, LocalDate, Map, RequestOptions)}
+     *
+     * @return completed once all the chunks have completed, never exceptionally: failures are reported in the result
+     */
+    public CompletableFuture<Result> createSubscriptionsWithAddOns(final BulkSubscriptionsBundles body, final LocalDate entitlementDate,
+                                                                   final LocalDate billingDate, final Map<String, String> pluginProperty) {
+        Preconditions.checkNotNull(body, "body");
+        final Submission submission = new Submission(body, entitlementDate, billingDate, pluginProperty);
+        submission.submitChunks();
+        return submission.result;
+    }
+
+    /**
+     * @return the size of the next chunks
+     */
+    public synchronized int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param failure cause of the failure of the chunk, null if successful
+     */
+    private synchronized void onChunkCompleted(final int size, final long latencyNanos, final Throwable failure) {
+        if (failure != null) {
+            if (isOverloaded(failure)) {
+                chunkSize = clamp(chunkSize / 2);
+            }
+            return;
+        }
+        final double sample = (double) latencyNanos / size;
+        nanosPerBundle = nanosPerBundle < 0 ? sample : LATENCY_SMOOTHING * sample + (1 - LATENCY_SMOOTHING) * nanosPerBundle;
+        chunkSize = clamp((int) Math.min(Integer.MAX_VALUE, targetChunkLatencyNanos / Math.max(nanosPerBundle, 1)));
+    }
+
+    private int clamp(final int size) {
+        return Math.max(minChunkSize, Math.min(maxChunkSize, size));
+    }
+
+    // The chunk may have been too large for the server: timeout or 5xx
+    private static boolean isOverloaded(final Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        final int statusCode = statusCodeOf(failure);
+        return statusCode == 408 || statusCode >= 500;
+    }
+
+    // The chunk was refused as a whole because of some of its bundles, none was created
+    private static boolean isRejected(final Throwable failure) {
+        final int statusCode = statusCodeOf(failure);
+        // Not throttling, nor the (unlikely) request timeout
+        return statusCode >= 400 && statusCode < 500 && statusCode != 408 && statusCode != 429;
+    }
+
+    private static int statusCodeOf(final Throwable failure) {
+        if (failure instanceof KillBillClientException && ((KillBillClientException) failure).getResponse() != null) {
+            return ((KillBillClientException) failure).getResponse().getStatusCode();
+        }
+        return -1;
+    }
+
+    /**
+     * Helper method for creating a new builder
+     *
+     * @return a new instance of BulkSubscriptionsCreatorBuilder
+     */
+    public static BulkSubscriptionsCreatorBuilder builder() {
+        return new BulkSubscriptionsCreatorBuilder();
+    }
+
+    public static class Result {
+
+        private final Bundles bundles;
+        private final List<FailedBundle> failedBundles;
+
+        public Result(final Bundles bundles, final List<FailedBundle> failedBundles) {
+            this.bundles = bundles;
+            this.failedBundles = Collections.unmodifiableList(failedBundles);
+        }
+
+        /**
+         * @return the bundles created, in input order
+         */
+        public Bundles getBundles() {
+            return bundles;
+        }
+
+        /**
+         * @return the bundles of the chunks which failed, in input order (some of them may have been created)
+         */
+        public List<FailedBundle> getFailedBundles() {
+            return failedBundles;
+        }
+
+        public boolean isSuccessful() {
+            return failedBundles.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append("class Result {\n");
+            sb.append("    nbBundles: ").append(bundles.size()).append("\n");
+            sb.append("    nbFailedBundles: ").append(failedBundles.size()).append("\n");
+            sb.append("}");
+            return sb.toString();
+        }
+    }
+
+    public static class FailedBundle {
+
+        private final BulkSubscriptionsBundle bundle;
+        private final Throwable cause;
+
+        public FailedBundle(final BulkSubscriptionsBundle bundle, final Throwable cause) {
+            this.bundle = bundle;
+            this.cause = cause;
+        }
+
+        public BulkSubscriptionsBundle getBundle() {
+            return bundle;
+        }
+
+        /**
+         * @return failure of the chunk the bundle was part of (the bundle alone, if rejected by Kill Bill)
+         */
+        public Throwable getCause() {
+            return cause;
+        }
+    }
+
+    private final class Submission {
+
+        private final BulkSubscriptionsBundles body;
+        private final LocalDate entitlementDate;
+        private final LocalDate billingDate;
+        private final Map<String, String> pluginProperty;
+        private final CompletableFuture<Result> result = new CompletableFuture<Result>();
+
+        // Guarded by this, keyed by offset of the chunk to merge in input order
+        private final Map<Integer, Bundles> createdBundles = new TreeMap<Integer, Bundles>();
+        private final Map<Integer, List<FailedBundle>> failedBundles = new TreeMap<Integer, List<FailedBundle>>();
+        // Halves of the rejected chunks, submitted before the next chunks are cut
+        private final Deque<Chunk> bisectedChunks = new ArrayDeque<Chunk>();
+        private int nextOffset = 0;
+        private int nbInFlightChunks = 0;
+
+        private Submission(final BulkSubscriptionsBundles body, final LocalDate entitlementDate, final LocalDate billingDate, final Map<String, String> pluginProperty) {
+            this.body = body;
+            this.entitlementDate = entitlementDate;
+            this.billingDate = billingDate;
+            this.pluginProperty = pluginProperty;
+        }
+
+        private void submitChunks() {
+            final List<Chunk> chunks = new ArrayList<Chunk>();
+            final boolean done;
+            synchronized (this) {
+                while (nbInFlightChunks < maxInFlightChunks && !bisectedChunks.isEmpty()) {
+                    chunks.add(bisectedChunks.poll());
+                    nbInFlightChunks++;
+                }
+                while (nbInFlightChunks < maxInFlightChunks && nextOffset < body.size()) {
+                    final int end = Math.min(body.size(), nextOffset + getChunkSize());
+                    final BulkSubscriptionsBundles chunk = new BulkSubscriptionsBundles();
+                    chunk.addAll(body.subList(nextOffset, end));
+                    chunks.add(new Chunk(nextOffset, chunk));
+                    nextOffset = end;
+                    nbInFlightChunks++;
+                }
+                done = nbInFlightChunks == 0 && bisectedChunks.isEmpty() && nextOffset >= body.size();
+            }
+
+            // Send outside of the lock: a chunk may complete right away, and submit the next ones
+            for (final Chunk chunk : chunks) {
+                submitChunk(chunk.offset, chunk.bundles);
+            }
+            if (done) {
+                complete();
+            }
+        }
+
+        private void submitChunk(final int offset, final BulkSubscriptionsBundles chunk) {
+            final long startNanos = System.nanoTime();
+            CompletableFuture<Bundles> call;
+            try {
+                call = subscriptionApi.createSubscriptionsWithAddOns(chunk, entitlementDate, billingDate, pluginProperty, requestOptions);
+            } catch (final RuntimeException e) {
+                call = new CompletableFuture<Bundles>();
+                call.completeExceptionally(e);
+            }
+            call.whenComplete(new BiConsumer<Bundles, Throwable>() {
+                @Override
+                public void accept(final Bundles bundles, final Throwable throwable) {
+                    final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                    onChunkCompleted(chunk.size(), System.nanoTime() - startNanos, cause);
+                    synchronized (Submission.this) {
+                        if (throwable == null) {
+                            createdBundles.put(offset, bundles);
+                        } else if (chunk.size() > 1 && isRejected(cause)) {
+                            log.info("{} bundle(s) at offset {} rejected, bisecting: {}", chunk.size(), offset, cause.toString());
+                            final int half = chunk.size() / 2;
+                            final BulkSubscriptionsBundles first = new BulkSubscriptionsBundles();
+                            first.addAll(chunk.subList(0, half));
+                            final BulkSubscriptionsBundles second = new BulkSubscriptionsBundles();
+                            second.addAll(chunk.subList(half, chunk.size()));
+                            bisectedChunks.add(new Chunk(offset, first));
+                            bisectedChunks.add(new Chunk(offset + half, second));
+                        } else {
+                            log.warn("Unable to create {} bundle(s) at offset {}, next chunk size {}: {}", chunk.size(), offset, getChunkSize(), cause.toString());
+                            final List<FailedBundle> failed = new ArrayList<FailedBundle>(chunk.size());
+                            for (final BulkSubscriptionsBundle bundle : chunk) {
+                                failed.add(new FailedBundle(bundle, cause));
+                            }
+                            failedBundles.put(offset, failed);
+                        }
+                        nbInFlightChunks--;
+                    }
+                    submitChunks();
+                }
+            });
+        }
+
+        private void complete() {
+            final Bundles merged = new Bundles();
+            final List<FailedBundle> failed = new ArrayList<FailedBundle>();
+            synchronized (this) {
+                for (final Bundles bundles : createdBundles.values()) {
+                    if (bundles != null) {
+                        merged.addAll(bundles);
+                    }
+                }
+                for (final List<FailedBundle> failedChunk : failedBundles.values()) {
+                    failed.addAll(failedChunk);
+                }
+            }
+            result.complete(new Result(merged, failed));
+        }
+    }
+
+    private static final class Chunk {
+
+        // Offset of the first bundle in the input
+        private final int offset;
+        private final BulkSubscriptionsBundles bundles;
+
+        private Chunk(final int offset, final BulkSubscriptionsBundles bundles) {
+            this.offset = offset;
+            this.bundles = bundles;
+        }
+    }
+
+    public static class BulkSubscriptionsCreatorBuilder {
+
+        private SubscriptionApiAsync subscriptionApi;
+        private RequestOptions requestOptions = RequestOptions.empty();
+        private int initialChunkSize = DEFAULT_INITIAL_CHUNK_SIZE;
+        private int minChunkSize = DEFAULT_MIN_CHUNK_SIZE;
+        private int maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
+        private long targetChunkLatencyMs = DEFAULT_TARGET_CHUNK_LATENCY_MS;
+        private int maxInFlightChunks = DEFAULT_MAX_IN_FLIGHT_CHUNKS;
+
+        public BulkSubscriptionsCreatorBuilder withSubscriptionApi(final SubscriptionApiAsync subscriptionApi) {
+            this.subscriptionApi = subscriptionApi;
+            return this;
+        }
+
+        /**
+         * @param requestOptions options of the createSubscriptionsWithAddOns calls (tenant, createdBy, ...)
+         */
+        public BulkSubscriptionsCreatorBuilder withRequestOptions(final RequestOptions requestOptions) {
+            this.requestOptions = requestOptions;
+            return this;
+        }
+
+        /**
+         * @param initialChunkSize number of bundles of the first chunks, before any latency has been observed
+         */
+        public BulkSubscriptionsCreatorBuilder withInitialChunkSize(final int initialChunkSize) {
+            this.initialChunkSize = initialChunkSize;
+            return this;
+        }
+
+        public BulkSubscriptionsCreatorBuilder withMinChunkSize(final int minChunkSize) {
+            this.minChunkSize = minChunkSize;
+            return this;
+        }
+
+        public BulkSubscriptionsCreatorBuilder withMaxChunkSize(final int maxChunkSize) {
+            this.maxChunkSize = maxChunkSize;
+            return this;
+        }
+
+        /**
+         * @param targetChunkLatencyMs latency of a chunk request the chunk size is tuned for, well below the request timeouts
+         */
+        public BulkSubscriptionsCreatorBuilder withTargetChunkLatencyMs(final long targetChunkLatencyMs) {
+            this.targetChunkLatencyMs = targetChunkLatencyMs;
+            return this;
+        }
+
+        /**
+         * @param maxInFlightChunks maximum number of chunks submitted concurrently
+         */
+        public BulkSubscriptionsCreatorBuilder withMaxInFlightChunks(final int maxInFlightChunks) {
+            this.maxInFlightChunks = maxInFlightChunks;
+            return this;
+        }
+
+        public BulkSubscriptionsCreator build() {
+            return new BulkSubscriptionsCreator(subscriptionApi, requestOptions, initialChunkSize, minChunkSize, maxChunkSize, targetChunkLatencyMs, maxInFlightChunks);
+        }
+    }
+}
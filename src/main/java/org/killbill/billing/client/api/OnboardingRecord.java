@@ -0,0 +1,152 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.model.InvoiceItems;
+import org.killbill.billing.client.model.Subscriptions;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.PaymentMethod;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Everything to create for one account with {@link AccountOnboarder}: the account itself, and optionally a payment
+ * method, a bundle of subscriptions and a migration invoice.
+ * <p>
+ * The account external key identifies the record in the {@link OnboardingReport}. The account id of the payment
+ * method, subscriptions and invoice items is set once the account has been created.
+ */
+public class OnboardingRecord {
+
+    private final Account account;
+    private final PaymentMethod paymentMethod;
+    private final Subscriptions subscriptions;
+    private final LocalDate entitlementDate;
+    private final LocalDate billingDate;
+    private final InvoiceItems migrationInvoiceItems;
+    private final LocalDate migrationTargetDate;
+
+    public OnboardingRecord(final Account account, final PaymentMethod paymentMethod, final Subscriptions subscriptions, final LocalDate entitlementDate,
+                            final LocalDate billingDate, final InvoiceItems migrationInvoiceItems, final LocalDate migrationTargetDate) {
+        Preconditions.checkArgument(account != null && account.getExternalKey() != null, "The account and its external key are required");
+        this.account = account;
+        this.paymentMethod = paymentMethod;
+        this.subscriptions = subscriptions;
+        this.entitlementDate = entitlementDate;
+        this.billingDate = billingDate;
+        this.migrationInvoiceItems = migrationInvoiceItems;
+        this.migrationTargetDate = migrationTargetDate;
+    }
+
+    public String getExternalKey() {
+        return account.getExternalKey();
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public Subscriptions getSubscriptions() {
+        return subscriptions;
+    }
+
+    public LocalDate getEntitlementDate() {
+        return entitlementDate;
+    }
+
+    public LocalDate getBillingDate() {
+        return billingDate;
+    }
+
+    public InvoiceItems getMigrationInvoiceItems() {
+        return migrationInvoiceItems;
+    }
+
+    public LocalDate getMigrationTargetDate() {
+        return migrationTargetDate;
+    }
+
+    /**
+     * Helper method for creating a new builder
+     *
+     * @return a new instance of OnboardingRecordBuilder
+     */
+    public static OnboardingRecordBuilder builder() {
+        return new OnboardingRecordBuilder();
+    }
+
+    public static class OnboardingRecordBuilder {
+
+        private Account account;
+        private PaymentMethod paymentMethod;
+        private Subscriptions subscriptions;
+        private LocalDate entitlementDate;
+        private LocalDate billingDate;
+        private InvoiceItems migrationInvoiceItems;
+        private LocalDate migrationTargetDate;
+
+        public OnboardingRecordBuilder withAccount(final Account account) {
+            this.account = account;
+            return this;
+        }
+
+        public OnboardingRecordBuilder withPaymentMethod(final PaymentMethod paymentMethod) {
+            this.paymentMethod = paymentMethod;
+            return this;
+        }
+
+        /**
+         * @param subscriptions base subscription and its add-ons, created as one bundle
+         */
+        public OnboardingRecordBuilder withSubscriptions(final Subscriptions subscriptions) {
+            this.subscriptions = subscriptions;
+            return this;
+        }
+
+        public OnboardingRecordBuilder withEntitlementDate(final LocalDate entitlementDate) {
+            this.entitlementDate = entitlementDate;
+            return this;
+        }
+
+        public OnboardingRecordBuilder withBillingDate(final LocalDate billingDate) {
+            this.billingDate = billingDate;
+            return this;
+        }
+
+        public OnboardingRecordBuilder withMigrationInvoiceItems(final InvoiceItems migrationInvoiceItems) {
+            this.migrationInvoiceItems = migrationInvoiceItems;
+            return this;
+        }
+
+        public OnboardingRecordBuilder withMigrationTargetDate(final LocalDate migrationTargetDate) {
+            this.migrationTargetDate = migrationTargetDate;
+            return this;
+        }
+
+        public OnboardingRecord build() {
+            return new OnboardingRecord(account, paymentMethod, subscriptions, entitlementDate, billingDate, migrationInvoiceItems, migrationTargetDate);
+        }
+    }
+}
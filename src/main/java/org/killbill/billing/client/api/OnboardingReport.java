@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Report of an {@link AccountOnboarder} run: one {@link OnboardingResult} per line (JSON), appended as the records
+ * complete.
+ * <p>
+ * Opening an existing report loads its results (the last line of a record wins), so that running the onboarding
+ * again with the same report resumes it: succeeded records are skipped, failed ones restart at the stage which
+ * failed.
+ * <p>
+ * Not thread-safe: used by the thread running the onboarding.
+ */
+public class OnboardingReport implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(OnboardingReport.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = MAPPER.readerFor(OnboardingResult.class);
+    private static final ObjectWriter WRITER = MAPPER.writerFor(OnboardingResult.class);
+
+    private final Map<String, OnboardingResult> previousResults = new HashMap<String, OnboardingResult>();
+    private final Writer writer;
+
+    public OnboardingReport(final File file) throws IOException {
+        if (file.exists()) {
+            load(file);
+        }
+        this.writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the result of the record in the previous runs, null if none
+     */
+    public OnboardingResult getPreviousResult(final String externalKey) {
+        return previousResults.get(externalKey);
+    }
+
+    public void write(final OnboardingResult result) throws IOException {
+        writer.write(WRITER.writeValueAsString(result));
+        writer.write('\n');
+        // Lose at most the line being written on a crash
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void load(final File file) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    final OnboardingResult result = READER.readValue(line);
+                    previousResults.put(result.getExternalKey(), result);
+                } catch (final IOException e) {
+                    // e.g. last line partially written by a crashed run: the record will be onboarded again
+                    log.warn("Ignoring invalid line {} of onboarding report {}: {}", lineNumber, file, e.getMessage());
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+import org.killbill.billing.client.api.AccountOnboarder.Stage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of the onboarding of one account: the ids of the objects created so far and, on failure, the stage which
+ * failed and why.
+ */
+public class OnboardingResult {
+
+    public enum Status {
+        SUCCEEDED,
+        FAILED
+    }
+
+    private final String externalKey;
+    private final Status status;
+    private final UUID accountId;
+    private final UUID paymentMethodId;
+    private final UUID bundleId;
+    private final UUID invoiceId;
+    private final Stage failedStage;
+    private final String error;
+
+    @JsonCreator
+    public OnboardingResult(@JsonProperty("externalKey") final String externalKey,
+                            @JsonProperty("status") final Status status,
+                            @JsonProperty("accountId") @Nullable final UUID accountId,
+                            @JsonProperty("paymentMethodId") @Nullable final UUID paymentMethodId,
+                            @JsonProperty("bundleId") @Nullable final UUID bundleId,
+                            @JsonProperty("invoiceId") @Nullable final UUID invoiceId,
+                            @JsonProperty("failedStage") @Nullable final Stage failedStage,
+                            @JsonProperty("error") @Nullable final String error) {
+        this.externalKey = externalKey;
+        this.status = status;
+        this.accountId = accountId;
+        this.paymentMethodId = paymentMethodId;
+        this.bundleId = bundleId;
+        this.invoiceId = invoiceId;
+        this.failedStage = failedStage;
+        this.error = error;
+    }
+
+    public String getExternalKey() {
+        return externalKey;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public UUID getPaymentMethodId() {
+        return paymentMethodId;
+    }
+
+    public UUID getBundleId() {
+        return bundleId;
+    }
+
+    public UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    public Stage getFailedStage() {
+        return failedStage;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("class OnboardingResult {\n");
+        sb.append("    externalKey: ").append(externalKey).append("\n");
+        sb.append("    status: ").append(status).append("\n");
+        sb.append("    accountId: ").append(accountId).append("\n");
+        sb.append("    paymentMethodId: ").append(paymentMethodId).append("\n");
+        sb.append("    bundleId: ").append(bundleId).append("\n");
+        sb.append("    invoiceId: ").append(invoiceId).append("\n");
+        sb.append("    failedStage: ").append(failedStage).append("\n");
+        sb.append("    error: ").append(error).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+}
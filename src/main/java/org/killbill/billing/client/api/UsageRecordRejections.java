@@ -0,0 +1,58 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+
+import org.killbill.billing.client.BillingException;
+import org.killbill.billing.client.KillBillClientException;
+
+/**
+ * Recognizes the rejection of a usage record whose tracking id Kill Bill has already recorded, i.e. a record which
+ * doesn't need to be sent again. Any other rejection (bad credentials, throttling, validation) isn't one.
+ */
+final class UsageRecordRejections {
+
+    private UsageRecordRejections() {
+    }
+
+    static boolean isAlreadyRecorded(final Throwable throwable, final String trackingId) {
+        final Throwable cause = unwrap(throwable);
+        if (!(cause instanceof KillBillClientException) || ((KillBillClientException) cause).getResponse() == null) {
+            return false;
+        }
+        final KillBillClientException exception = (KillBillClientException) cause;
+        if (exception.getResponse().getStatusCode() == 409) {
+            return true;
+        }
+        // e.g. 400 "Tracking Id '...' already exists"
+        final BillingException billingException = exception.getBillingException();
+        return exception.getResponse().getStatusCode() < 500 &&
+               billingException != null &&
+               billingException.getMessage() != null &&
+               billingException.getMessage().contains(trackingId) &&
+               billingException.getMessage().toLowerCase(Locale.ROOT).contains("already exists");
+    }
+
+    static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
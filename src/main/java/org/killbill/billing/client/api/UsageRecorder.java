@@ -0,0 +1,480 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.UsageApiAsync;
+import org.killbill.billing.client.model.gen.SubscriptionUsageRecord;
+import org.killbill.billing.client.model.gen.UnitUsageRecord;
+import org.killbill.billing.client.model.gen.UsageRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Buffers usage events in memory and records them in batches, instead of one {@link UsageApiAsync#recordUsage} call
+ * (and its follow-location GET) per event.
+ * <p>
+ * Events for the same subscription, unit type and record date are merged (their amounts are summed), and each flush
+ * sends one request per subscription. Flushes happen every flushIntervalMs, as soon as maxBufferedRecords distinct
+ * records are buffered, and on {@link #close()}.
+ * <p>
+ * Each request of a flush carries a tracking id derived from the recorder id, a random id of the recorder instance,
+ * the flush sequence number and the subscription id: tracking ids are never reused, even by a recorder created again
+ * with the same recorder id. The requests are declared idempotent, so that the transport retries transient failures
+ * (if the client has a retry policy), and a request which still fails is sent again, unchanged, with the next flush
+ * (up to maxFlushAttempts times): Kill Bill rejects tracking ids it has already recorded, so amounts are never
+ * counted twice, and such a rejection counts as a success. Any other failure (including 401, 403 and 429) is retried,
+ * the record is dropped and logged once maxFlushAttempts is reached.
+ * <p>
+ * Flushes don't overlap: a flush starts once the requests of the previous one have completed, and the periodic and
+ * size-triggered flushes are skipped while one is in progress (the events keep being merged in the buffer).
+ * <p>
+ * Events buffered in memory are lost if the JVM dies before they are flushed.
+ */
+public class UsageRecorder implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(UsageRecorder.class);
+
+    public static final int DEFAULT_MAX_BUFFERED_RECORDS = 1000;
+    public static final long DEFAULT_FLUSH_INTERVAL_MS = 1000;
+    public static final int DEFAULT_MAX_FLUSH_ATTEMPTS = 5;
+    public static final long DEFAULT_CLOSE_TIMEOUT_MS = 30000;
+
+    private final UsageApiAsync usageApi;
+    private final RequestOptions requestOptions;
+    private final String recorderId;
+    // The flush sequence restarts with each instance
+    private final UUID instanceId = UUID.randomUUID();
+    private final int maxBufferedRecords;
+    private final int maxFlushAttempts;
+    private final long closeTimeoutMs;
+    private final ScheduledExecutorService scheduler;
+
+    // Recording threads share the read lock, a flush (and close) takes the write lock to swap the buffer
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private ConcurrentMap<UsageKey, LongAdder> buffer = new ConcurrentHashMap<UsageKey, LongAdder>();
+    private final Queue<PendingRecord> failedRecords = new ConcurrentLinkedQueue<PendingRecord>();
+    private final AtomicLong flushSequence = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicLong nbDroppedRecords = new AtomicLong();
+
+    // Flushes are chained, see flush()
+    private final Object flushLock = new Object();
+    private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+
+    // Guarded by bufferLock
+    private boolean closed = false;
+
+    public UsageRecorder(final UsageApiAsync usageApi, final RequestOptions requestOptions, final String recorderId, final int maxBufferedRecords,
+                         final long flushIntervalMs, final int maxFlushAttempts, final long closeTimeoutMs) {
+        Preconditions.checkArgument(maxBufferedRecords > 0, "maxBufferedRecords must be positive");
+        Preconditions.checkArgument(flushIntervalMs > 0, "flushIntervalMs must be positive");
+        Preconditions.checkArgument(maxFlushAttempts > 0, "maxFlushAttempts must be positive");
+        this.usageApi = Preconditions.checkNotNull(usageApi, "usageApi");
+        this.requestOptions = Preconditions.checkNotNull(requestOptions, "requestOptions");
+        this.recorderId = recorderId != null ? recorderId : UUID.randomUUID().toString();
+        this.maxBufferedRecords = maxBufferedRecords;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.closeTimeoutMs = closeTimeoutMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                                                                                              .setNameFormat("killbill-usage-recorder-%d")
+                                                                                              .build());
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                flushQuietly();
+            }
+        }, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffer a usage event
+     */
+    public void record(final UUID subscriptionId, final String unitType, final LocalDate recordDate, final long amount) {
+        Preconditions.checkNotNull(subscriptionId, "subscriptionId");
+        Preconditions.checkNotNull(unitType, "unitType");
+        Preconditions.checkNotNull(recordDate, "recordDate");
+
+        final UsageKey key = new UsageKey(subscriptionId, unitType, recordDate);
+        final int nbBufferedRecords;
+        bufferLock.readLock().lock();
+        try {
+            // Checked under the lock, so that an accepted event is always in the buffer drained by close()
+            Preconditions.checkState(!closed, "UsageRecorder is closed");
+            LongAdder total = buffer.get(key);
+            if (total == null) {
+                total = new LongAdder();
+                final LongAdder existing = buffer.putIfAbsent(key, total);
+                if (existing != null) {
+                    total = existing;
+                }
+            }
+            total.add(amount);
+            nbBufferedRecords = buffer.size();
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+
+        if (nbBufferedRecords >= maxBufferedRecords && flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        flushScheduled.set(false);
+                        flushQuietly();
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                // Closing: the event is flushed by close()
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Buffer all the usage events of a record (drop-in replacement for UsageApi#recordUsage). The tracking id of the
+     * record is ignored.
+     */
+    public void record(final SubscriptionUsageRecord subscriptionUsageRecord) {
+        for (final UnitUsageRecord unitUsageRecord : subscriptionUsageRecord.getUnitUsageRecords()) {
+            if (unitUsageRecord.getUsageRecords() == null) {
+                continue;
+            }
+            for (final UsageRecord usageRecord : unitUsageRecord.getUsageRecords()) {
+                record(subscriptionUsageRecord.getSubscriptionId(), unitUsageRecord.getUnitType(), usageRecord.getRecordDate(), usageRecord.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Send the buffered events, and the ones of the previous flushes which failed, once the previous flush has completed
+     *
+     * @return completed once all the requests of the flush have completed (successfully or not)
+     */
+    public CompletableFuture<Void> flush() {
+        synchronized (flushLock) {
+            lastFlush = lastFlush.handle(new BiFunction<Void, Throwable, Void>() {
+                @Override
+                public Void apply(final Void ignored, final Throwable throwable) {
+                    return null;
+                }
+            }).thenCompose(new Function<Void, CompletionStage<Void>>() {
+                @Override
+                public CompletionStage<Void> apply(final Void ignored) {
+                    return doFlush();
+                }
+            });
+            return lastFlush;
+        }
+    }
+
+    private CompletableFuture<Void> doFlush() {
+        final Map<UsageKey, LongAdder> drained;
+        bufferLock.writeLock().lock();
+        try {
+            drained = buffer;
+            buffer = new ConcurrentHashMap<UsageKey, LongAdder>();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        final List<PendingRecord> pendingRecords = new ArrayList<PendingRecord>();
+        PendingRecord failedRecord;
+        while ((failedRecord = failedRecords.poll()) != null) {
+            pendingRecords.add(failedRecord);
+        }
+        if (!drained.isEmpty()) {
+            pendingRecords.addAll(toPendingRecords(drained, flushSequence.incrementAndGet()));
+        }
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>(pendingRecords.size());
+        for (final PendingRecord pendingRecord : pendingRecords) {
+            futures.add(send(pendingRecord));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * @return number of subscription records given up on (failed maxFlushAttempts times)
+     */
+    public long getNbDroppedRecords() {
+        return nbDroppedRecords.get();
+    }
+
+    /**
+     * Flush the remaining events, waiting at most closeTimeoutMs for the requests to complete
+     */
+    @Override
+    public void close() {
+        bufferLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+        scheduler.shutdownNow();
+        try {
+            flush().get(closeTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            log.warn("Unable to flush the usage records of recorder {}", recorderId, e);
+        }
+        if (!failedRecords.isEmpty()) {
+            log.warn("Usage records of recorder {} not recorded: {}", recorderId, failedRecords);
+        }
+    }
+
+    private void flushQuietly() {
+        synchronized (flushLock) {
+            if (!lastFlush.isDone()) {
+                // Still sending the previous flush: its failed records and the new events go with the next one
+                return;
+            }
+        }
+        try {
+            flush();
+        } catch (final RuntimeException e) {
+            // Don't kill the periodic flush
+            log.warn("Unable to flush the usage records of recorder {}", recorderId, e);
+        }
+    }
+
+    private List<PendingRecord> toPendingRecords(final Map<UsageKey, LongAdder> drained, final long sequence) {
+        final Map<UUID, Map<String, List<UsageRecord>>> usageBySubscription = new LinkedHashMap<UUID, Map<String, List<UsageRecord>>>();
+        for (final Entry<UsageKey, LongAdder> entry : drained.entrySet()) {
+            final UsageKey key = entry.getKey();
+            Map<String, List<UsageRecord>> usageByUnitType = usageBySubscription.get(key.subscriptionId);
+            if (usageByUnitType == null) {
+                usageByUnitType = new LinkedHashMap<String, List<UsageRecord>>();
+                usageBySubscription.put(key.subscriptionId, usageByUnitType);
+            }
+            List<UsageRecord> usageRecords = usageByUnitType.get(key.unitType);
+            if (usageRecords == null) {
+                usageRecords = new ArrayList<UsageRecord>();
+                usageByUnitType.put(key.unitType, usageRecords);
+            }
+            usageRecords.add(new UsageRecord(key.recordDate, entry.getValue().sum()));
+        }
+
+        final List<PendingRecord> pendingRecords = new ArrayList<PendingRecord>(usageBySubscription.size());
+        for (final Entry<UUID, Map<String, List<UsageRecord>>> entry : usageBySubscription.entrySet()) {
+            final List<UnitUsageRecord> unitUsageRecords = new ArrayList<UnitUsageRecord>(entry.getValue().size());
+            for (final Entry<String, List<UsageRecord>> unitEntry : entry.getValue().entrySet()) {
+                unitUsageRecords.add(new UnitUsageRecord(unitEntry.getKey(), unitEntry.getValue()));
+            }
+            final String trackingId = trackingIdOf(sequence, entry.getKey());
+            pendingRecords.add(new PendingRecord(new SubscriptionUsageRecord(entry.getKey(), trackingId, unitUsageRecords)));
+        }
+        return pendingRecords;
+    }
+
+    private String trackingIdOf(final long sequence, final UUID subscriptionId) {
+        final String name = recorderId + "/" + instanceId + "/" + sequence + "/" + subscriptionId;
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private CompletableFuture<Void> send(final PendingRecord pendingRecord) {
+        pendingRecord.attempts++;
+        // Kill Bill rejects a tracking id it has already recorded: let the transport retry the request. No need to fetch the usage back either.
+        final RequestOptions options = requestOptions.extend()
+                                                     .withRequestId(pendingRecord.record.getTrackingId())
+                                                     .withIdempotent(true)
+                                                     .withFollowLocation(false)
+                                                     .build();
+        final CompletableFuture<Void> result = new CompletableFuture<Void>();
+        usageApi.recordUsage(pendingRecord.record, options).whenComplete(new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(final Void ignored, final Throwable throwable) {
+                if (throwable != null) {
+                    onFailure(pendingRecord, throwable);
+                }
+                result.complete(null);
+            }
+        });
+        return result;
+    }
+
+    private void onFailure(final PendingRecord pendingRecord, final Throwable throwable) {
+        final Throwable cause = UsageRecordRejections.unwrap(throwable);
+        if (UsageRecordRejections.isAlreadyRecorded(cause, pendingRecord.record.getTrackingId())) {
+            // Recorded by a previous attempt whose response was lost
+            log.info("Usage record {} already recorded", pendingRecord.record.getTrackingId());
+        } else if (pendingRecord.attempts >= maxFlushAttempts) {
+            nbDroppedRecords.incrementAndGet();
+            log.warn("Dropping usage record {} after {} attempt(s)", pendingRecord.record, pendingRecord.attempts, cause);
+        } else {
+            log.info("Unable to record usage {} (attempt {}/{}), will retry with the next flush: {}",
+                     pendingRecord.record.getTrackingId(), pendingRecord.attempts, maxFlushAttempts, cause.toString());
+            failedRecords.add(pendingRecord);
+        }
+    }
+
+    /**
+     * Helper method for creating a new builder
+     *
+     * @return a new instance of UsageRecorderBuilder
+     */
+    public static UsageRecorderBuilder builder() {
+        return new UsageRecorderBuilder();
+    }
+
+    private static final class UsageKey {
+
+        private final UUID subscriptionId;
+        private final String unitType;
+        private final LocalDate recordDate;
+
+        private UsageKey(final UUID subscriptionId, final String unitType, final LocalDate recordDate) {
+            this.subscriptionId = subscriptionId;
+            this.unitType = unitType;
+            this.recordDate = recordDate;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final UsageKey that = (UsageKey) o;
+            return subscriptionId.equals(that.subscriptionId) &&
+                   unitType.equals(that.unitType) &&
+                   recordDate.equals(that.recordDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(subscriptionId, unitType, recordDate);
+        }
+    }
+
+    private static final class PendingRecord {
+
+        private final SubscriptionUsageRecord record;
+        // Only accessed by one flush at a time
+        private int attempts = 0;
+
+        private PendingRecord(final SubscriptionUsageRecord record) {
+            this.record = record;
+        }
+
+        @Override
+        public String toString() {
+            return record.getTrackingId();
+        }
+    }
+
+    public static class UsageRecorderBuilder {
+
+        private UsageApiAsync usageApi;
+        private RequestOptions requestOptions = RequestOptions.empty();
+        private String recorderId;
+        private int maxBufferedRecords = DEFAULT_MAX_BUFFERED_RECORDS;
+        private long flushIntervalMs = DEFAULT_FLUSH_INTERVAL_MS;
+        private int maxFlushAttempts = DEFAULT_MAX_FLUSH_ATTEMPTS;
+        private long closeTimeoutMs = DEFAULT_CLOSE_TIMEOUT_MS;
+
+        public UsageRecorderBuilder withUsageApi(final UsageApiAsync usageApi) {
+            this.usageApi = usageApi;
+            return this;
+        }
+
+        /**
+         * @param requestOptions options of the recordUsage calls (tenant, createdBy, ...)
+         */
+        public UsageRecorderBuilder withRequestOptions(final RequestOptions requestOptions) {
+            this.requestOptions = requestOptions;
+            return this;
+        }
+
+        /**
+         * @param recorderId identifier of the recorder, used in the logs and to derive the tracking ids (random by default)
+         */
+        public UsageRecorderBuilder withRecorderId(final String recorderId) {
+            this.recorderId = recorderId;
+            return this;
+        }
+
+        /**
+         * @param maxBufferedRecords number of distinct (subscription, unit type, record date) records triggering a flush
+         */
+        public UsageRecorderBuilder withMaxBufferedRecords(final int maxBufferedRecords) {
+            this.maxBufferedRecords = maxBufferedRecords;
+            return this;
+        }
+
+        public UsageRecorderBuilder withFlushIntervalMs(final long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+            return this;
+        }
+
+        /**
+         * @param maxFlushAttempts number of flushes a failing record is sent with, before being dropped
+         */
+        public UsageRecorderBuilder withMaxFlushAttempts(final int maxFlushAttempts) {
+            this.maxFlushAttempts = maxFlushAttempts;
+            return this;
+        }
+
+        public UsageRecorderBuilder withCloseTimeoutMs(final long closeTimeoutMs) {
+            this.closeTimeoutMs = closeTimeoutMs;
+            return this;
+        }
+
+        public UsageRecorder build() {
+            return new UsageRecorder(usageApi, requestOptions, recorderId, maxBufferedRecords, flushIntervalMs, maxFlushAttempts, closeTimeoutMs);
+        }
+    }
+}
@@ -0,0 +1,816 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.UsageApiAsync;
+import org.killbill.billing.client.model.gen.SubscriptionUsageRecord;
+import org.killbill.billing.client.model.gen.UnitUsageRecord;
+import org.killbill.billing.client.model.gen.UsageRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Durable, append-only journal of usage events, drained to {@link UsageApiAsync#recordUsage} by a background thread, so
+ * that producers neither wait for Kill Bill nor lose events if the JVM dies.
+ * <p>
+ * Events are appended to memory-mapped segment files (usage-NNN.spool) in a directory, which survive a crash of the
+ * JVM (and, with forceOnAppend, of the machine). Appending doesn't allocate, and only blocks when maxSegments
+ * segments are waiting to be drained (backpressure).
+ * <p>
+ * The drainer reads batches of up to maxBatchRecords events, merges them by subscription, unit type and record
+ * date, and sends one request per subscription, up to maxConcurrentRequests at a time: the batch is acknowledged once
+ * all of its requests have succeeded. The bounds of a batch are persisted in the checkpoint file before
+ * it is sent, and the tracking id of each request is derived from the spool id, the start of the batch and the
+ * subscription: after a restart, the last batch is sent again, identical, and Kill Bill rejects the requests it has
+ * already recorded (such rejections are skipped). Any other failure, including 401, 403 and 429, is retried every
+ * retryBackoffMs until the request succeeds: a request Kill Bill keeps rejecting stops the drain (and, once maxSegments
+ * segments are full, the producers) until it is fixed, rather than losing its usage. Drained segments are deleted.
+ * <p>
+ * A record corrupted on disk (bad checksum) is skipped and logged with its position, see {@link #getNbCorruptedRecords()}.
+ * <p>
+ * A spool directory must be used by a single UsageSpool at a time.
+ */
+public class UsageSpool implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(UsageSpool.class);
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_MAX_SEGMENTS = 16;
+    public static final int DEFAULT_MAX_BATCH_RECORDS = 10000;
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    public static final long DEFAULT_POLL_INTERVAL_MS = 1000;
+    public static final long DEFAULT_RETRY_BACKOFF_MS = 1000;
+    public static final long DEFAULT_CLOSE_TIMEOUT_MS = 30000;
+
+    private static final String SEGMENT_PREFIX = "usage-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    // Record: payload length (0: not written yet, -1: end of segment), CRC32 of the payload, payload
+    private static final int END_OF_SEGMENT = -1;
+    private static final int HEADER_SIZE = 8;
+    // Payload: subscription id (2 longs), record date (yyyymmdd), amount, unit type (length, chars)
+    private static final int FIXED_PAYLOAD_SIZE = 8 + 8 + 4 + 8 + 2;
+
+    private final File directory;
+    private final UsageApiAsync usageApi;
+    private final RequestOptions requestOptions;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int maxBatchRecords;
+    private final int maxConcurrentRequests;
+    private final long pollIntervalMs;
+    private final long retryBackoffMs;
+    private final long closeTimeoutMs;
+    private final boolean forceOnAppend;
+    private final Checkpoint checkpoint;
+    private final Thread drainer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    private final CRC32 writeCrc = new CRC32();
+    // Guarded by lock
+    private final TreeMap<Long, Segment> segments = new TreeMap<Long, Segment>();
+    private Segment writeSegment;
+    private int writeOffset;
+    private long writePosition;
+
+    private final AtomicLong nbCorruptedRecords = new AtomicLong();
+
+    private volatile boolean closed = false;
+
+    public UsageSpool(final File directory, final UsageApiAsync usageApi, final RequestOptions requestOptions, final int segmentSize, final int maxSegments,
+                      final int maxBatchRecords, final int maxConcurrentRequests, final long pollIntervalMs, final long retryBackoffMs,
+                      final long closeTimeoutMs, final boolean forceOnAppend) throws IOException {
+        Preconditions.checkArgument(segmentSize > HEADER_SIZE + FIXED_PAYLOAD_SIZE, "segmentSize is too small");
+        Preconditions.checkArgument(maxSegments > 1, "maxSegments must be at least 2");
+        Preconditions.checkArgument(maxBatchRecords > 0, "maxBatchRecords must be positive");
+        Preconditions.checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+        this.directory = Preconditions.checkNotNull(directory, "directory");
+        this.usageApi = Preconditions.checkNotNull(usageApi, "usageApi");
+        this.requestOptions = Preconditions.checkNotNull(requestOptions, "requestOptions");
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.maxBatchRecords = maxBatchRecords;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.pollIntervalMs = pollIntervalMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.closeTimeoutMs = closeTimeoutMs;
+        this.forceOnAppend = forceOnAppend;
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create the spool directory " + directory);
+        }
+        this.checkpoint = new Checkpoint(new File(directory, CHECKPOINT_FILE));
+        recover();
+
+        this.drainer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drain();
+            }
+        }, "killbill-usage-spool-" + directory.getName());
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Append a usage event, waiting for space if the spool is full
+     */
+    public void append(final UUID subscriptionId, final String unitType, final LocalDate recordDate, final long amount) throws IOException, InterruptedException {
+        offer(subscriptionId, unitType, recordDate, amount, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Append a usage event, waiting at most the given time for space if the spool is full
+     *
+     * @return false if the spool is still full
+     */
+    public boolean offer(final UUID subscriptionId, final String unitType, final LocalDate recordDate, final long amount,
+                         final long timeout, final TimeUnit unit) throws IOException, InterruptedException {
+        Preconditions.checkNotNull(subscriptionId, "subscriptionId");
+        Preconditions.checkNotNull(unitType, "unitType");
+        Preconditions.checkNotNull(recordDate, "recordDate");
+        Preconditions.checkArgument(unitType.length() <= Short.MAX_VALUE, "unitType %s is too long", unitType);
+        final int payloadSize = FIXED_PAYLOAD_SIZE + 2 * unitType.length();
+        final int recordSize = HEADER_SIZE + payloadSize;
+        // Keep room for the end of segment marker
+        Preconditions.checkArgument(recordSize + 4 <= segmentSize, "unitType %s is too long", unitType);
+
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            Preconditions.checkState(!closed, "UsageSpool is closed");
+            if (writeOffset + recordSize + 4 > segmentSize) {
+                while (segments.size() >= maxSegments) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = notFull.awaitNanos(remainingNanos);
+                    Preconditions.checkState(!closed, "UsageSpool is closed");
+                }
+                rotate();
+            }
+
+            final MappedByteBuffer buffer = writeSegment.buffer;
+            int offset = writeOffset + HEADER_SIZE;
+            buffer.putLong(offset, subscriptionId.getMostSignificantBits());
+            offset += 8;
+            buffer.putLong(offset, subscriptionId.getLeastSignificantBits());
+            offset += 8;
+            buffer.putInt(offset, recordDate.getYear() * 10000 + recordDate.getMonthOfYear() * 100 + recordDate.getDayOfMonth());
+            offset += 4;
+            buffer.putLong(offset, amount);
+            offset += 8;
+            buffer.putShort(offset, (short) unitType.length());
+            offset += 2;
+            for (int i = 0; i < unitType.length(); i++) {
+                buffer.putChar(offset, unitType.charAt(i));
+                offset += 2;
+            }
+
+            final ByteBuffer payload = writeSegment.writeView;
+            payload.limit(offset).position(writeOffset + HEADER_SIZE);
+            writeCrc.reset();
+            writeCrc.update(payload);
+            buffer.putInt(writeOffset + 4, (int) writeCrc.getValue());
+            // Written last: the record is complete once its length is set
+            buffer.putInt(writeOffset, payloadSize);
+            if (forceOnAppend) {
+                buffer.force();
+            }
+
+            writeOffset = offset;
+            writePosition = positionOf(writeSegment.index, writeOffset);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of segments on disk (waiting to be drained, or being written)
+     */
+    public int getNbSegments() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of records skipped by the drainer because they were corrupted on disk
+     */
+    public long getNbCorruptedRecords() {
+        return nbCorruptedRecords.get();
+    }
+
+    /**
+     * Stop the drainer (waiting at most closeTimeoutMs for the current batch): the events not drained yet stay in the
+     * spool, and are sent once it is opened again
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+            for (final Segment segment : segments.values()) {
+                segment.buffer.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            drainer.join(closeTimeoutMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (drainer.isAlive()) {
+            drainer.interrupt();
+            log.warn("Usage spool {} closed while a batch was being sent, it will be sent again", directory);
+        }
+    }
+
+    private void recover() throws IOException {
+        final File[] files = directory.listFiles();
+        final List<Long> indexes = new ArrayList<Long>();
+        if (files != null) {
+            for (final File file : files) {
+                final String name = file.getName();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    indexes.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                }
+            }
+        }
+
+        final long ackedSegmentIndex = segmentIndexOf(checkpoint.acked);
+        for (final Long index : indexes) {
+            if (index < ackedSegmentIndex) {
+                // Drained, but not deleted yet
+                deleteSegmentFile(index);
+            } else {
+                segments.put(index, new Segment(index, segmentFile(index), segmentSize));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(ackedSegmentIndex, new Segment(ackedSegmentIndex, segmentFile(ackedSegmentIndex), segmentSize));
+        }
+
+        // Find the end of the last segment: the first record not written, or not completely written
+        writeSegment = segments.lastEntry().getValue();
+        final MappedByteBuffer buffer = writeSegment.buffer;
+        final CRC32 crc = new CRC32();
+        int offset = writeSegment.index == ackedSegmentIndex ? offsetOf(checkpoint.acked) : 0;
+        while (offset + HEADER_SIZE <= segmentSize) {
+            final int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            } else if (length == END_OF_SEGMENT) {
+                // Crashed while rotating
+                writeOffset = offset;
+                rotate();
+                offset = 0;
+                break;
+            } else if (length < 0 || offset + HEADER_SIZE + length > segmentSize || !isValid(writeSegment, offset, length, crc)) {
+                log.warn("Usage spool {}: discarding the partially written record at offset {} of segment {}", directory, offset, writeSegment.index);
+                for (int i = offset; i < segmentSize; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                buffer.force();
+                break;
+            }
+            offset += HEADER_SIZE + length;
+        }
+        writeOffset = offset;
+        writePosition = positionOf(writeSegment.index, writeOffset);
+    }
+
+    // Called with the lock held
+    private void rotate() throws IOException {
+        writeSegment.buffer.putInt(writeOffset, END_OF_SEGMENT);
+        writeSegment.buffer.force();
+
+        final long index = writeSegment.index + 1;
+        writeSegment = new Segment(index, segmentFile(index), segmentSize);
+        segments.put(index, writeSegment);
+        writeOffset = 0;
+        writePosition = positionOf(index, 0);
+    }
+
+    private void drain() {
+        while (!closed) {
+            try {
+                final Batch batch = nextBatch();
+                if (batch == null) {
+                    continue;
+                }
+                if (checkpoint.inflight != batch.end) {
+                    // Fix the bounds of the batch before sending it, so that it is sent again identically after a crash
+                    checkpoint.write(checkpoint.acked, batch.end);
+                }
+                if (send(batch)) {
+                    checkpoint.write(batch.end, batch.end);
+                    releaseSegmentsBefore(batch.end);
+                }
+            } catch (final InterruptedException e) {
+                return;
+            } catch (final RuntimeException e) {
+                log.warn("Usage spool {}: unexpected error while draining", directory, e);
+                sleepQuietly(retryBackoffMs);
+            }
+        }
+    }
+
+    // Next batch to send, null if there is nothing to drain yet
+    private Batch nextBatch() throws InterruptedException {
+        final long start = checkpoint.acked;
+        // Batch sent before a restart: it must be sent again identically, whatever maxBatchRecords
+        final boolean replay = checkpoint.inflight > start;
+        final long limit;
+        final TreeMap<Long, Segment> segmentsSnapshot;
+        lock.lock();
+        try {
+            if (replay) {
+                limit = checkpoint.inflight;
+            } else {
+                if (writePosition == start) {
+                    notEmpty.await(pollIntervalMs, TimeUnit.MILLISECONDS);
+                }
+                limit = writePosition;
+            }
+            if (limit == start) {
+                return null;
+            }
+            segmentsSnapshot = new TreeMap<Long, Segment>(segments);
+        } finally {
+            lock.unlock();
+        }
+
+        final Batch batch = new Batch(start);
+        final CRC32 crc = new CRC32();
+        long position = start;
+        int nbRecords = 0;
+        while (position < limit && (replay || nbRecords < maxBatchRecords)) {
+            final Segment segment = segmentsSnapshot.get(segmentIndexOf(position));
+            if (segment == null) {
+                log.error("Usage spool {}: segment {} is missing, skipping it", directory, segmentIndexOf(position));
+                position = Math.min(limit, positionOf(segmentIndexOf(position) + 1, 0));
+                continue;
+            }
+            final int offset = offsetOf(position);
+            final int length = offset + 4 <= segmentSize ? segment.buffer.getInt(offset) : 0;
+            if (length == END_OF_SEGMENT) {
+                position = positionOf(segment.index + 1, 0);
+                continue;
+            }
+            if (length <= 0 || offset + HEADER_SIZE + length > segmentSize || !isValid(segment, offset, length, crc)) {
+                // The writer only exposes complete records: the file was damaged. Skip the record (the rest of the
+                // segment if its length is unusable) rather than blocking the spool, the outcome is the same on replay.
+                final boolean lengthUsable = length > 0 && offset + HEADER_SIZE + length <= segmentSize;
+                final long next = lengthUsable ? positionOf(segment.index, offset + HEADER_SIZE + length) : Math.min(limit, positionOf(segment.index + 1, 0));
+                nbCorruptedRecords.incrementAndGet();
+                log.error("Usage spool {}: skipping the corrupted record at offset {} of segment {} ({} bytes)",
+                          directory, offset, segmentFile(segment.index), lengthUsable ? HEADER_SIZE + length : segmentSize - offset);
+                position = next;
+                continue;
+            }
+
+            int payloadOffset = offset + HEADER_SIZE;
+            final UUID subscriptionId = new UUID(segment.buffer.getLong(payloadOffset), segment.buffer.getLong(payloadOffset + 8));
+            payloadOffset += 16;
+            final int date = segment.buffer.getInt(payloadOffset);
+            payloadOffset += 4;
+            final long amount = segment.buffer.getLong(payloadOffset);
+            payloadOffset += 8;
+            final char[] unitType = new char[segment.buffer.getShort(payloadOffset)];
+            payloadOffset += 2;
+            for (int i = 0; i < unitType.length; i++) {
+                unitType[i] = segment.buffer.getChar(payloadOffset);
+                payloadOffset += 2;
+            }
+            batch.add(subscriptionId, new String(unitType), new LocalDate(date / 10000, (date / 100) % 100, date % 100), amount);
+
+            position = positionOf(segment.index, offset + HEADER_SIZE + length);
+            nbRecords++;
+        }
+        batch.end = position;
+        return batch;
+    }
+
+    // Returns false if the spool was closed before the batch was completely sent
+    private boolean send(final Batch batch) throws InterruptedException {
+        List<SubscriptionUsageRecord> pendingRecords = new ArrayList<SubscriptionUsageRecord>(batch.usageBySubscription.size());
+        for (final Entry<UUID, Map<String, Map<LocalDate, Long>>> entry : batch.usageBySubscription.entrySet()) {
+            final List<UnitUsageRecord> unitUsageRecords = new ArrayList<UnitUsageRecord>(entry.getValue().size());
+            for (final Entry<String, Map<LocalDate, Long>> unitEntry : entry.getValue().entrySet()) {
+                final List<UsageRecord> usageRecords = new ArrayList<UsageRecord>(unitEntry.getValue().size());
+                for (final Entry<LocalDate, Long> dateEntry : unitEntry.getValue().entrySet()) {
+                    usageRecords.add(new UsageRecord(dateEntry.getKey(), dateEntry.getValue()));
+                }
+                unitUsageRecords.add(new UnitUsageRecord(unitEntry.getKey(), usageRecords));
+            }
+            pendingRecords.add(new SubscriptionUsageRecord(entry.getKey(), trackingIdOf(batch.start, entry.getKey()), unitUsageRecords));
+        }
+
+        while (true) {
+            final Semaphore inFlight = new Semaphore(maxConcurrentRequests);
+            final Queue<SubscriptionUsageRecord> failedRecords = new ConcurrentLinkedQueue<SubscriptionUsageRecord>();
+            int nbSent = 0;
+            for (final SubscriptionUsageRecord record : pendingRecords) {
+                if (closed) {
+                    break;
+                }
+                inFlight.acquire();
+                send(record, inFlight, failedRecords);
+                nbSent++;
+            }
+            // Wait for the requests in flight
+            inFlight.acquire(maxConcurrentRequests);
+
+            if (nbSent == pendingRecords.size() && failedRecords.isEmpty()) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            log.warn("Usage spool {}: unable to record {} usage record(s), retrying in {} ms", directory, failedRecords.size(), retryBackoffMs);
+            Thread.sleep(retryBackoffMs);
+            pendingRecords = new ArrayList<SubscriptionUsageRecord>(failedRecords);
+        }
+    }
+
+    private void send(final SubscriptionUsageRecord record, final Semaphore inFlight, final Queue<SubscriptionUsageRecord> failedRecords) {
+        final String trackingId = record.getTrackingId();
+        // Kill Bill rejects a tracking id it has already recorded: let the transport retry the request. No need to fetch the usage back either.
+        final RequestOptions options = requestOptions.extend()
+                                                     .withRequestId(trackingId)
+                                                     .withIdempotent(true)
+                                                     .withFollowLocation(false)
+                                                     .build();
+        CompletableFuture<Void> call;
+        try {
+            call = usageApi.recordUsage(record, options);
+        } catch (final RuntimeException e) {
+            call = new CompletableFuture<Void>();
+            call.completeExceptionally(e);
+        }
+        call.whenComplete(new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(final Void ignored, final Throwable throwable) {
+                if (throwable != null) {
+                    final Throwable cause = UsageRecordRejections.unwrap(throwable);
+                    if (UsageRecordRejections.isAlreadyRecorded(cause, trackingId)) {
+                        // Replay of a batch, or retry of a request whose response was lost
+                        log.info("Usage spool {}: usage record {} already recorded", directory, trackingId);
+                    } else {
+                        log.info("Usage spool {}: unable to record usage {}: {}", directory, trackingId, cause.toString());
+                        failedRecords.add(record);
+                    }
+                }
+                inFlight.release();
+            }
+        });
+    }
+
+    private void releaseSegmentsBefore(final long position) {
+        final long segmentIndex = segmentIndexOf(position);
+        lock.lock();
+        try {
+            final Iterator<Entry<Long, Segment>> iterator = segments.headMap(segmentIndex, false).entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Entry<Long, Segment> entry = iterator.next();
+                iterator.remove();
+                deleteSegmentFile(entry.getKey());
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String trackingIdOf(final long batchStart, final UUID subscriptionId) {
+        final String name = checkpoint.spoolId + "/" + batchStart + "/" + subscriptionId;
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private boolean isValid(final Segment segment, final int offset, final int length, final CRC32 crc) {
+        final ByteBuffer payload = segment.buffer.duplicate();
+        payload.limit(offset + HEADER_SIZE + length).position(offset + HEADER_SIZE);
+        crc.reset();
+        crc.update(payload);
+        return (int) crc.getValue() == segment.buffer.getInt(offset + 4);
+    }
+
+    private File segmentFile(final long index) {
+        return new File(directory, String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private void deleteSegmentFile(final long index) {
+        final File file = segmentFile(index);
+        if (!file.delete() && file.exists()) {
+            log.warn("Usage spool {}: unable to delete drained segment {}", directory, file);
+        }
+    }
+
+    private void sleepQuietly(final long sleepMs) {
+        try {
+            Thread.sleep(sleepMs);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A position in the spool: segment index (high bits) and offset in the segment (low bits)
+    private static long positionOf(final long segmentIndex, final int offset) {
+        return (segmentIndex << 32) | offset;
+    }
+
+    private static long segmentIndexOf(final long position) {
+        return position >>> 32;
+    }
+
+    private static int offsetOf(final long position) {
+        return (int) position;
+    }
+
+    /**
+     * Helper method for creating a new builder
+     *
+     * @return a new instance of UsageSpoolBuilder
+     */
+    public static UsageSpoolBuilder builder() {
+        return new UsageSpoolBuilder();
+    }
+
+    private static final class Segment {
+
+        private final long index;
+        private final MappedByteBuffer buffer;
+        // Used by the writer (under the lock) to compute the checksums
+        private final ByteBuffer writeView;
+
+        private Segment(final long index, final File file, final int size) throws IOException {
+            this.index = index;
+            final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+            try {
+                // The mapping remains valid once the file is closed
+                this.buffer = randomAccessFile.getChannel().map(MapMode.READ_WRITE, 0, size);
+            } finally {
+                randomAccessFile.close();
+            }
+            this.writeView = buffer.duplicate();
+        }
+    }
+
+    // Events of a batch, merged by subscription, unit type and record date
+    private static final class Batch {
+
+        private final long start;
+        private final Map<UUID, Map<String, Map<LocalDate, Long>>> usageBySubscription = new LinkedHashMap<UUID, Map<String, Map<LocalDate, Long>>>();
+        private long end;
+
+        private Batch(final long start) {
+            this.start = start;
+        }
+
+        private void add(final UUID subscriptionId, final String unitType, final LocalDate recordDate, final long amount) {
+            Map<String, Map<LocalDate, Long>> usageByUnitType = usageBySubscription.get(subscriptionId);
+            if (usageByUnitType == null) {
+                usageByUnitType = new LinkedHashMap<String, Map<LocalDate, Long>>();
+                usageBySubscription.put(subscriptionId, usageByUnitType);
+            }
+            Map<LocalDate, Long> usageByDate = usageByUnitType.get(unitType);
+            if (usageByDate == null) {
+                usageByDate = new TreeMap<LocalDate, Long>();
+                usageByUnitType.put(unitType, usageByDate);
+            }
+            final Long total = usageByDate.get(recordDate);
+            usageByDate.put(recordDate, total == null ? amount : total + amount);
+        }
+    }
+
+    /**
+     * Spool id and drain progress, in two alternating slots so that a torn write never loses the previous state.
+     * Only written by the drainer thread.
+     */
+    private static final class Checkpoint {
+
+        private static final int SLOT_SIZE = 32;
+        private static final int SIZE = 16 + 2 * SLOT_SIZE;
+
+        private final MappedByteBuffer buffer;
+        private final UUID spoolId;
+        private long sequence;
+        // Everything before acked has been recorded, [acked, inflight) is being sent
+        private volatile long acked;
+        private volatile long inflight;
+
+        private Checkpoint(final File file) throws IOException {
+            final boolean exists = file.exists() && file.length() >= SIZE;
+            final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+            try {
+                final FileChannel channel = randomAccessFile.getChannel();
+                this.buffer = channel.map(MapMode.READ_WRITE, 0, SIZE);
+            } finally {
+                randomAccessFile.close();
+            }
+
+            if (!exists) {
+                spoolId = UUID.randomUUID();
+                buffer.putLong(0, spoolId.getMostSignificantBits());
+                buffer.putLong(8, spoolId.getLeastSignificantBits());
+                write(0, 0);
+                return;
+            }
+
+            spoolId = new UUID(buffer.getLong(0), buffer.getLong(8));
+            sequence = -1;
+            for (int slot = 0; slot < 2; slot++) {
+                final int offset = 16 + slot * SLOT_SIZE;
+                final long slotSequence = buffer.getLong(offset);
+                if (slotSequence > sequence && checksum(slotSequence, buffer.getLong(offset + 8), buffer.getLong(offset + 16)) == buffer.getLong(offset + 24)) {
+                    sequence = slotSequence;
+                    acked = buffer.getLong(offset + 8);
+                    inflight = buffer.getLong(offset + 16);
+                }
+            }
+            Preconditions.checkState(sequence >= 0, "Corrupted usage spool checkpoint %s", file);
+        }
+
+        private void write(final long acked, final long inflight) {
+            sequence++;
+            final int offset = 16 + (int) (sequence % 2) * SLOT_SIZE;
+            buffer.putLong(offset, sequence);
+            buffer.putLong(offset + 8, acked);
+            buffer.putLong(offset + 16, inflight);
+            buffer.putLong(offset + 24, checksum(sequence, acked, inflight));
+            buffer.force();
+            this.acked = acked;
+            this.inflight = inflight;
+        }
+
+        private static long checksum(final long sequence, final long acked, final long inflight) {
+            final CRC32 crc = new CRC32();
+            final ByteBuffer bytes = ByteBuffer.allocate(24);
+            bytes.putLong(sequence).putLong(acked).putLong(inflight).flip();
+            crc.update(bytes);
+            return crc.getValue();
+        }
+    }
+
+    public static class UsageSpoolBuilder {
+
+        private File directory;
+        private UsageApiAsync usageApi;
+        private RequestOptions requestOptions = RequestOptions.empty();
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private int maxSegments = DEFAULT_MAX_SEGMENTS;
+        private int maxBatchRecords = DEFAULT_MAX_BATCH_RECORDS;
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+        private long pollIntervalMs = DEFAULT_POLL_INTERVAL_MS;
+        private long retryBackoffMs = DEFAULT_RETRY_BACKOFF_MS;
+        private long closeTimeoutMs = DEFAULT_CLOSE_TIMEOUT_MS;
+        private boolean forceOnAppend = false;
+
+        public UsageSpoolBuilder withDirectory(final File directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public UsageSpoolBuilder withUsageApi(final UsageApiAsync usageApi) {
+            this.usageApi = usageApi;
+            return this;
+        }
+
+        /**
+         * @param requestOptions options of the recordUsage calls (tenant, createdBy, ...)
+         */
+        public UsageSpoolBuilder withRequestOptions(final RequestOptions requestOptions) {
+            this.requestOptions = requestOptions;
+            return this;
+        }
+
+        /**
+         * @param segmentSize size of each segment file, in bytes
+         */
+        public UsageSpoolBuilder withSegmentSize(final int segmentSize) {
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * @param maxSegments number of segments on disk above which appends block
+         */
+        public UsageSpoolBuilder withMaxSegments(final int maxSegments) {
+            this.maxSegments = maxSegments;
+            return this;
+        }
+
+        /**
+         * @param maxBatchRecords maximum number of events per batch
+         */
+        public UsageSpoolBuilder withMaxBatchRecords(final int maxBatchRecords) {
+            this.maxBatchRecords = maxBatchRecords;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRequests maximum number of requests of a batch (one per subscription) sent concurrently
+         */
+        public UsageSpoolBuilder withMaxConcurrentRequests(final int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * @param pollIntervalMs maximum time the drainer waits for new events before checking again
+         */
+        public UsageSpoolBuilder withPollIntervalMs(final long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+            return this;
+        }
+
+        public UsageSpoolBuilder withRetryBackoffMs(final long retryBackoffMs) {
+            this.retryBackoffMs = retryBackoffMs;
+            return this;
+        }
+
+        public UsageSpoolBuilder withCloseTimeoutMs(final long closeTimeoutMs) {
+            this.closeTimeoutMs = closeTimeoutMs;
+            return this;
+        }
+
+        /**
+         * @param forceOnAppend whether to flush each event to the storage device (survives a crash of the machine, not
+         *                      only of the JVM, at the cost of a write to the device per event)
+         */
+        public UsageSpoolBuilder withForceOnAppend(final boolean forceOnAppend) {
+            this.forceOnAppend = forceOnAppend;
+            return this;
+        }
+
+        /**
+         * @return an open spool, draining the events left by a previous instance, if any
+         */
+        public UsageSpool build() throws IOException {
+            return new UsageSpool(directory, usageApi, requestOptions, segmentSize, maxSegments, maxBatchRecords, maxConcurrentRequests,
+                                  pollIntervalMs, retryBackoffMs, closeTimeoutMs, forceOnAppend);
+        }
+    }
+}
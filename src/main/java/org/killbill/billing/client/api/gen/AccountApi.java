@@ -58,7 +58,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -71,10 +73,48 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class AccountApi {
 
+    private static final PathTemplate ADD_ACCOUNT_BLOCKING_STATE_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/block");
+    private static final PathTemplate ADD_EMAIL_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails");
+    private static final PathTemplate CLOSE_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+    private static final PathTemplate CREATE_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate CREATE_ACCOUNT_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/tags");
+    private static final PathTemplate CREATE_PAYMENT_METHOD_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods");
+    private static final PathTemplate DELETE_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate DELETE_ACCOUNT_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/tags");
+    private static final PathTemplate GET_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+    private static final PathTemplate GET_ACCOUNT_AUDIT_LOGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/auditLogs");
+    private static final PathTemplate GET_ACCOUNT_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/auditLogsWithHistory");
+    private static final PathTemplate GET_ACCOUNT_BUNDLES_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/bundles");
+    private static final PathTemplate GET_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate GET_ACCOUNT_EMAIL_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory");
+    private static final PathTemplate GET_ACCOUNT_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/tags");
+    private static final PathTemplate GET_ACCOUNT_TIMELINE_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/timeline");
+    private static final PathTemplate GET_ALL_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/allCustomFields");
+    private static final PathTemplate GET_ALL_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/allTags");
+    private static final PathTemplate GET_BLOCKING_STATE_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/accounts/block/{blockingId}/auditLogsWithHistory");
+    private static final PathTemplate GET_BLOCKING_STATES_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/block");
+    private static final PathTemplate GET_CHILDREN_ACCOUNTS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/children");
+    private static final PathTemplate GET_EMAILS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails");
+    private static final PathTemplate GET_INVOICE_PAYMENTS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoicePayments");
+    private static final PathTemplate GET_INVOICES_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoices");
+    private static final PathTemplate GET_OVERDUE_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/overdue");
+    private static final PathTemplate GET_PAYMENT_METHODS_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods");
+    private static final PathTemplate GET_PAYMENTS_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/payments");
+    private static final PathTemplate MODIFY_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate PAY_ALL_INVOICES_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoicePayments");
+    private static final PathTemplate PROCESS_PAYMENT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/payments");
+    private static final PathTemplate REBALANCE_EXISTING_CBAON_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/cbaRebalancing");
+    private static final PathTemplate REFRESH_PAYMENT_METHODS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods/refresh");
+    private static final PathTemplate REMOVE_EMAIL_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{email}");
+    private static final PathTemplate SEARCH_ACCOUNTS_URI = PathTemplate.compile("/1.0/kb/accounts/search/{searchKey}");
+    private static final PathTemplate SET_DEFAULT_PAYMENT_METHOD_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault");
+    private static final PathTemplate TRANSFER_CHILD_CREDIT_TO_PARENT_URI = PathTemplate.compile("/1.0/kb/accounts/{childAccountId}/transferCredit");
+    private static final PathTemplate UPDATE_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+
     private final KillBillHttpClient httpClient;
 
     public AccountApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public AccountApi(final KillBillHttpClient httpClient) {
@@ -85,8 +125,7 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling addAccountBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addAccountBlockingState");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/block"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ADD_ACCOUNT_BLOCKING_STATE_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -97,6 +136,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/block");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -110,11 +150,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling addEmail");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addEmail");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = ADD_EMAIL_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -132,8 +172,7 @@ public class AccountApi {
     public void closeAccount(final UUID accountId, final Boolean cancelAllSubscriptions, final Boolean writeOffUnpaidInvoices, final Boolean itemAdjustUnpaidInvoices, final Boolean removeFutureNotifications, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling closeAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = CLOSE_ACCOUNT_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (cancelAllSubscriptions != null) {
@@ -150,6 +189,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -164,6 +204,7 @@ public class AccountApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -177,11 +218,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createAccountCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = CREATE_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -195,11 +236,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createAccountTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createAccountTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/tags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = CREATE_ACCOUNT_TAGS_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -217,8 +258,7 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createPaymentMethod");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentMethod");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = CREATE_PAYMENT_METHOD_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (isDefault != null) {
@@ -235,6 +275,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -249,8 +290,7 @@ public class AccountApi {
     public void deleteAccountCustomFields(final UUID accountId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = DELETE_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -258,6 +298,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -270,8 +311,7 @@ public class AccountApi {
     public void deleteAccountTags(final UUID accountId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteAccountTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/tags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = DELETE_ACCOUNT_TAGS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -279,6 +319,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -294,8 +335,7 @@ public class AccountApi {
     public Account getAccount(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ACCOUNT_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (accountWithBalance != null) {
@@ -309,6 +349,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -319,11 +360,11 @@ public class AccountApi {
     public AuditLogs getAccountAuditLogs(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountAuditLogs");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/auditLogs"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ACCOUNT_AUDIT_LOGS_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/auditLogs");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -333,11 +374,11 @@ public class AccountApi {
     public AuditLogs getAccountAuditLogsWithHistory(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ACCOUNT_AUDIT_LOGS_WITH_HISTORY_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -351,8 +392,7 @@ public class AccountApi {
     public Bundles getAccountBundles(final UUID accountId, final String externalKey, final String bundlesFilter, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountBundles");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/bundles"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ACCOUNT_BUNDLES_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (externalKey != null) {
@@ -366,6 +406,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/bundles");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -397,6 +438,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -411,8 +453,7 @@ public class AccountApi {
     public CustomFields getAccountCustomFields(final UUID accountId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -420,6 +461,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -431,12 +473,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountEmailAuditLogsWithHistory");
         Preconditions.checkNotNull(accountEmailId, "Missing the required parameter 'accountEmailId' when calling getAccountEmailAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString())
-          .replaceAll("\\{" + "accountEmailId" + "\\}", accountEmailId.toString());
+        final String uri = GET_ACCOUNT_EMAIL_AUDIT_LOGS_WITH_HISTORY_URI.expand(accountId, accountEmailId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -450,8 +491,7 @@ public class AccountApi {
     public Tags getAccountTags(final UUID accountId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/tags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ACCOUNT_TAGS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -462,6 +502,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -476,8 +517,7 @@ public class AccountApi {
     public AccountTimeline getAccountTimeline(final UUID accountId, final Boolean parallel, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountTimeline");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/timeline"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ACCOUNT_TIMELINE_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (parallel != null) {
@@ -488,6 +528,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/timeline");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -521,6 +562,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/pagination");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -535,8 +577,7 @@ public class AccountApi {
     public CustomFields getAllCustomFields(final UUID accountId, final ObjectType objectType, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAllCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/allCustomFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ALL_CUSTOM_FIELDS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (objectType != null) {
@@ -547,6 +588,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/allCustomFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -561,8 +603,7 @@ public class AccountApi {
     public Tags getAllTags(final UUID accountId, final ObjectType objectType, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAllTags");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/allTags"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_ALL_TAGS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (objectType != null) {
@@ -576,6 +617,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/allTags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -586,11 +628,11 @@ public class AccountApi {
     public AuditLogs getBlockingStateAuditLogsWithHistory(final UUID blockingId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(blockingId, "Missing the required parameter 'blockingId' when calling getBlockingStateAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/accounts/block/{blockingId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "blockingId" + "\\}", blockingId.toString());
+        final String uri = GET_BLOCKING_STATE_AUDIT_LOGS_WITH_HISTORY_URI.expand(blockingId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/block/{blockingId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -604,8 +646,7 @@ public class AccountApi {
     public BlockingStates getBlockingStates(final UUID accountId, final List<BlockingStateType> blockingStateTypes, final List<String> blockingStateSvcs, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getBlockingStates");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/block"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_BLOCKING_STATES_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (blockingStateTypes != null) {
@@ -619,6 +660,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/block");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -633,8 +675,7 @@ public class AccountApi {
     public Accounts getChildrenAccounts(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getChildrenAccounts");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/children"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_CHILDREN_ACCOUNTS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (accountWithBalance != null) {
@@ -648,6 +689,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/children");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -658,11 +700,11 @@ public class AccountApi {
     public AccountEmails getEmails(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getEmails");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_EMAILS_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -676,8 +718,7 @@ public class AccountApi {
     public InvoicePayments getInvoicePayments(final UUID accountId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicePayments");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/invoicePayments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_INVOICE_PAYMENTS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
@@ -694,6 +735,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/invoicePayments");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -708,8 +750,7 @@ public class AccountApi {
     public Invoices getInvoicesForAccount(final UUID accountId, final LocalDate startDate, final LocalDate endDate, final Boolean withMigrationInvoices, final Boolean unpaidInvoicesOnly, final Boolean includeVoidedInvoices, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicesForAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/invoices"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_INVOICES_FOR_ACCOUNT_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (startDate != null) {
@@ -732,6 +773,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/invoices");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -742,11 +784,11 @@ public class AccountApi {
     public OverdueState getOverdueAccount(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getOverdueAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/overdue"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_OVERDUE_ACCOUNT_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/overdue");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -760,8 +802,7 @@ public class AccountApi {
     public PaymentMethods getPaymentMethodsForAccount(final UUID accountId, final Boolean withPluginInfo, final Boolean includedDeleted, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getPaymentMethodsForAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_PAYMENT_METHODS_FOR_ACCOUNT_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
@@ -778,6 +819,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -792,8 +834,7 @@ public class AccountApi {
     public Payments getPaymentsForAccount(final UUID accountId, final Boolean withAttempts, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getPaymentsForAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/payments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = GET_PAYMENTS_FOR_ACCOUNT_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withAttempts != null) {
@@ -810,6 +851,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/payments");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -821,11 +863,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling modifyAccountCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyAccountCustomFields");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/customFields"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = MODIFY_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -840,8 +882,7 @@ public class AccountApi {
     public void payAllInvoices(final UUID accountId, final UUID paymentMethodId, final Boolean externalPayment, final BigDecimal paymentAmount, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling payAllInvoices");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/invoicePayments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = PAY_ALL_INVOICES_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (paymentMethodId != null) {
@@ -861,6 +902,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/invoicePayments");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -875,8 +917,7 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling processPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling processPayment");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/payments"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = PROCESS_PAYMENT_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (paymentMethodId != null) {
@@ -890,6 +931,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/payments");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -921,6 +963,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/payments");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -934,11 +977,11 @@ public class AccountApi {
     public void rebalanceExistingCBAOnAccount(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling rebalanceExistingCBAOnAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/cbaRebalancing"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = REBALANCE_EXISTING_CBAON_ACCOUNT_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/cbaRebalancing");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -949,8 +992,7 @@ public class AccountApi {
     public void refreshPaymentMethods(final UUID accountId, final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling refreshPaymentMethods");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods/refresh"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = REFRESH_PAYMENT_METHODS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (pluginName != null) {
@@ -961,6 +1003,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods/refresh");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -973,12 +1016,11 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling removeEmail");
         Preconditions.checkNotNull(email, "Missing the required parameter 'email' when calling removeEmail");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/emails/{email}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString())
-          .replaceAll("\\{" + "email" + "\\}", email.toString());
+        final String uri = REMOVE_EMAIL_URI.expand(accountId, email);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails/{email}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -992,8 +1034,7 @@ public class AccountApi {
     public Accounts searchAccounts(final String searchKey, final Long offset, final Long limit, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchAccounts");
 
-        final String uri = "/1.0/kb/accounts/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = SEARCH_ACCOUNTS_URI.expand(searchKey);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (offset != null) {
@@ -1013,6 +1054,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/search/{searchKey}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -1028,9 +1070,7 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling setDefaultPaymentMethod");
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling setDefaultPaymentMethod");
 
-        final String uri = "/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString())
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = SET_DEFAULT_PAYMENT_METHOD_URI.expand(accountId, paymentMethodId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (payAllUnpaidInvoices != null) {
@@ -1041,6 +1081,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -1052,11 +1093,11 @@ public class AccountApi {
     public void transferChildCreditToParent(final UUID childAccountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(childAccountId, "Missing the required parameter 'childAccountId' when calling transferChildCreditToParent");
 
-        final String uri = "/1.0/kb/accounts/{childAccountId}/transferCredit"
-          .replaceAll("\\{" + "childAccountId" + "\\}", childAccountId.toString());
+        final String uri = TRANSFER_CHILD_CREDIT_TO_PARENT_URI.expand(childAccountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{childAccountId}/transferCredit");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -1072,8 +1113,7 @@ public class AccountApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling updateAccount");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateAccount");
 
-        final String uri = "/1.0/kb/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = UPDATE_ACCOUNT_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (treatNullAsReset != null) {
@@ -1081,6 +1121,7 @@ public class AccountApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
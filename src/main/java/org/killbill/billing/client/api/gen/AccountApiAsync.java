@@ -0,0 +1,1133 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import org.killbill.billing.client.model.gen.Account;
+import org.killbill.billing.client.model.gen.AccountEmail;
+import org.killbill.billing.client.model.gen.AccountTimeline;
+
+import java.math.BigDecimal;
+import org.killbill.billing.client.model.gen.BlockingState;
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.model.gen.OverdueState;
+import org.killbill.billing.client.model.gen.Payment;
+import org.killbill.billing.client.model.gen.PaymentMethod;
+import org.killbill.billing.client.model.gen.PaymentTransaction;
+
+import java.util.UUID;
+import org.killbill.billing.client.model.BlockingStates;
+import java.util.List;
+import java.util.Map;
+import org.killbill.billing.client.model.AccountEmails;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.util.api.AuditLevel;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.client.model.Accounts;
+import org.killbill.billing.ObjectType;
+import org.killbill.billing.entitlement.api.BlockingStateType;
+import org.killbill.billing.client.model.InvoicePayments;
+import org.killbill.billing.client.model.Invoices;
+import org.killbill.billing.client.model.PaymentMethods;
+import org.killbill.billing.client.model.Payments;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.Converter;
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class AccountApiAsync {
+
+    private static final PathTemplate ADD_ACCOUNT_BLOCKING_STATE_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/block");
+    private static final PathTemplate ADD_EMAIL_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails");
+    private static final PathTemplate CLOSE_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+    private static final PathTemplate CREATE_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate CREATE_ACCOUNT_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/tags");
+    private static final PathTemplate CREATE_PAYMENT_METHOD_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods");
+    private static final PathTemplate DELETE_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate DELETE_ACCOUNT_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/tags");
+    private static final PathTemplate GET_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+    private static final PathTemplate GET_ACCOUNT_AUDIT_LOGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/auditLogs");
+    private static final PathTemplate GET_ACCOUNT_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/auditLogsWithHistory");
+    private static final PathTemplate GET_ACCOUNT_BUNDLES_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/bundles");
+    private static final PathTemplate GET_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate GET_ACCOUNT_EMAIL_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory");
+    private static final PathTemplate GET_ACCOUNT_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/tags");
+    private static final PathTemplate GET_ACCOUNT_TIMELINE_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/timeline");
+    private static final PathTemplate GET_ALL_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/allCustomFields");
+    private static final PathTemplate GET_ALL_TAGS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/allTags");
+    private static final PathTemplate GET_BLOCKING_STATE_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/accounts/block/{blockingId}/auditLogsWithHistory");
+    private static final PathTemplate GET_BLOCKING_STATES_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/block");
+    private static final PathTemplate GET_CHILDREN_ACCOUNTS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/children");
+    private static final PathTemplate GET_EMAILS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails");
+    private static final PathTemplate GET_INVOICE_PAYMENTS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoicePayments");
+    private static final PathTemplate GET_INVOICES_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoices");
+    private static final PathTemplate GET_OVERDUE_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/overdue");
+    private static final PathTemplate GET_PAYMENT_METHODS_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods");
+    private static final PathTemplate GET_PAYMENTS_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/payments");
+    private static final PathTemplate MODIFY_ACCOUNT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/customFields");
+    private static final PathTemplate PAY_ALL_INVOICES_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/invoicePayments");
+    private static final PathTemplate PROCESS_PAYMENT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/payments");
+    private static final PathTemplate REBALANCE_EXISTING_CBAON_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/cbaRebalancing");
+    private static final PathTemplate REFRESH_PAYMENT_METHODS_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods/refresh");
+    private static final PathTemplate REMOVE_EMAIL_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/emails/{email}");
+    private static final PathTemplate SEARCH_ACCOUNTS_URI = PathTemplate.compile("/1.0/kb/accounts/search/{searchKey}");
+    private static final PathTemplate SET_DEFAULT_PAYMENT_METHOD_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault");
+    private static final PathTemplate TRANSFER_CHILD_CREDIT_TO_PARENT_URI = PathTemplate.compile("/1.0/kb/accounts/{childAccountId}/transferCredit");
+    private static final PathTemplate UPDATE_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/accounts/{accountId}");
+
+    private final KillBillHttpClient httpClient;
+
+    public AccountApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public AccountApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<BlockingStates> addAccountBlockingState(final UUID accountId, final BlockingState body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling addAccountBlockingState");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addAccountBlockingState");
+
+        final String uri = ADD_ACCOUNT_BLOCKING_STATE_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/block");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, BlockingStates.class, requestOptions);
+    }
+
+    public CompletableFuture<AccountEmails> addEmail(final UUID accountId, final AccountEmail body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling addEmail");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addEmail");
+
+        final String uri = ADD_EMAIL_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, AccountEmails.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> closeAccount(final UUID accountId, final RequestOptions inputOptions) {
+        return closeAccount(accountId, Boolean.valueOf(false), Boolean.valueOf(false), Boolean.valueOf(false), Boolean.valueOf(true), inputOptions);
+    }
+
+
+    public CompletableFuture<Void> closeAccount(final UUID accountId, final Boolean cancelAllSubscriptions, final Boolean writeOffUnpaidInvoices, final Boolean itemAdjustUnpaidInvoices, final Boolean removeFutureNotifications, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling closeAccount");
+
+        final String uri = CLOSE_ACCOUNT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (cancelAllSubscriptions != null) {
+            queryParams.put("cancelAllSubscriptions", String.valueOf(cancelAllSubscriptions));
+        }
+        if (writeOffUnpaidInvoices != null) {
+            queryParams.put("writeOffUnpaidInvoices", String.valueOf(writeOffUnpaidInvoices));
+        }
+        if (itemAdjustUnpaidInvoices != null) {
+            queryParams.put("itemAdjustUnpaidInvoices", String.valueOf(itemAdjustUnpaidInvoices));
+        }
+        if (removeFutureNotifications != null) {
+            queryParams.put("removeFutureNotifications", String.valueOf(removeFutureNotifications));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Account> createAccount(final Account body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createAccount");
+
+        final String uri = "/1.0/kb/accounts";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Account.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> createAccountCustomFields(final UUID accountId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createAccountCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createAccountCustomFields");
+
+        final String uri = CREATE_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> createAccountTags(final UUID accountId, final List<UUID> body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createAccountTags");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createAccountTags");
+
+        final String uri = CREATE_ACCOUNT_TAGS_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/tags");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Tags.class, requestOptions);
+    }
+
+    public CompletableFuture<PaymentMethod> createPaymentMethod(final UUID accountId, final PaymentMethod body, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return createPaymentMethod(accountId, body, Boolean.valueOf(false), Boolean.valueOf(false), controlPluginName, pluginProperty, inputOptions);
+    }
+
+    public CompletableFuture<PaymentMethod> createPaymentMethod(final UUID accountId, final PaymentMethod body, final Boolean isDefault, final Boolean payAllUnpaidInvoices, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createPaymentMethod");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentMethod");
+
+        final String uri = CREATE_PAYMENT_METHOD_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (isDefault != null) {
+            queryParams.put("isDefault", String.valueOf(isDefault));
+        }
+        if (payAllUnpaidInvoices != null) {
+            queryParams.put("payAllUnpaidInvoices", String.valueOf(payAllUnpaidInvoices));
+        }
+        if (controlPluginName != null) {
+            queryParams.putAll("controlPluginName", controlPluginName);
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, PaymentMethod.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteAccountCustomFields(final UUID accountId, final List<UUID> customField, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteAccountCustomFields");
+
+        final String uri = DELETE_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (customField != null) {
+            queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteAccountTags(final UUID accountId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteAccountTags");
+
+        final String uri = DELETE_ACCOUNT_TAGS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (tagDef != null) {
+            queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Account> getAccount(final UUID accountId, final RequestOptions inputOptions) {
+        return getAccount(accountId, Boolean.valueOf(false), Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Account> getAccount(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccount");
+
+        final String uri = GET_ACCOUNT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (accountWithBalance != null) {
+            queryParams.put("accountWithBalance", String.valueOf(accountWithBalance));
+        }
+        if (accountWithBalanceAndCBA != null) {
+            queryParams.put("accountWithBalanceAndCBA", String.valueOf(accountWithBalanceAndCBA));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Account.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getAccountAuditLogs(final UUID accountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountAuditLogs");
+
+        final String uri = GET_ACCOUNT_AUDIT_LOGS_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/auditLogs");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getAccountAuditLogsWithHistory(final UUID accountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountAuditLogsWithHistory");
+
+        final String uri = GET_ACCOUNT_AUDIT_LOGS_WITH_HISTORY_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<Bundles> getAccountBundles(final UUID accountId, final String externalKey, final String bundlesFilter, final RequestOptions inputOptions) {
+        return getAccountBundles(accountId, externalKey, bundlesFilter, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Bundles> getAccountBundles(final UUID accountId, final String externalKey, final String bundlesFilter, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountBundles");
+
+        final String uri = GET_ACCOUNT_BUNDLES_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (externalKey != null) {
+            queryParams.put("externalKey", String.valueOf(externalKey));
+        }
+        if (bundlesFilter != null) {
+            queryParams.put("bundlesFilter", String.valueOf(bundlesFilter));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/bundles");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Bundles.class, requestOptions);
+    }
+
+    public CompletableFuture<Account> getAccountByKey(final String externalKey, final RequestOptions inputOptions) {
+        return getAccountByKey(externalKey, Boolean.valueOf(false), Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Account> getAccountByKey(final String externalKey, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(externalKey, "Missing the required parameter 'externalKey' when calling getAccountByKey");
+
+        final String uri = "/1.0/kb/accounts";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (externalKey != null) {
+            queryParams.put("externalKey", String.valueOf(externalKey));
+        }
+        if (accountWithBalance != null) {
+            queryParams.put("accountWithBalance", String.valueOf(accountWithBalance));
+        }
+        if (accountWithBalanceAndCBA != null) {
+            queryParams.put("accountWithBalanceAndCBA", String.valueOf(accountWithBalanceAndCBA));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Account.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> getAccountCustomFields(final UUID accountId, final RequestOptions inputOptions) {
+        return getAccountCustomFields(accountId, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> getAccountCustomFields(final UUID accountId, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountCustomFields");
+
+        final String uri = GET_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getAccountEmailAuditLogsWithHistory(final UUID accountId, final UUID accountEmailId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountEmailAuditLogsWithHistory");
+        Preconditions.checkNotNull(accountEmailId, "Missing the required parameter 'accountEmailId' when calling getAccountEmailAuditLogsWithHistory");
+
+        final String uri = GET_ACCOUNT_EMAIL_AUDIT_LOGS_WITH_HISTORY_URI.expand(accountId, accountEmailId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails/{accountEmailId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> getAccountTags(final UUID accountId, final RequestOptions inputOptions) {
+        return getAccountTags(accountId, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Tags> getAccountTags(final UUID accountId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountTags");
+
+        final String uri = GET_ACCOUNT_TAGS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (includedDeleted != null) {
+            queryParams.put("includedDeleted", String.valueOf(includedDeleted));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Tags.class, requestOptions);
+    }
+
+    public CompletableFuture<AccountTimeline> getAccountTimeline(final UUID accountId, final RequestOptions inputOptions) {
+        return getAccountTimeline(accountId, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<AccountTimeline> getAccountTimeline(final UUID accountId, final Boolean parallel, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAccountTimeline");
+
+        final String uri = GET_ACCOUNT_TIMELINE_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (parallel != null) {
+            queryParams.put("parallel", String.valueOf(parallel));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/timeline");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AccountTimeline.class, requestOptions);
+    }
+
+    public CompletableFuture<Accounts> getAccounts(final RequestOptions inputOptions) {
+        return getAccounts(Long.valueOf(0), Long.valueOf(100), Boolean.valueOf(false), Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Accounts> getAccounts(final Long offset, final Long limit, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/accounts/pagination";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (accountWithBalance != null) {
+            queryParams.put("accountWithBalance", String.valueOf(accountWithBalance));
+        }
+        if (accountWithBalanceAndCBA != null) {
+            queryParams.put("accountWithBalanceAndCBA", String.valueOf(accountWithBalanceAndCBA));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/pagination");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Accounts.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> getAllCustomFields(final UUID accountId, final ObjectType objectType, final RequestOptions inputOptions) {
+        return getAllCustomFields(accountId, objectType, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> getAllCustomFields(final UUID accountId, final ObjectType objectType, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAllCustomFields");
+
+        final String uri = GET_ALL_CUSTOM_FIELDS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (objectType != null) {
+            queryParams.put("objectType", String.valueOf(objectType));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/allCustomFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> getAllTags(final UUID accountId, final ObjectType objectType, final RequestOptions inputOptions) {
+        return getAllTags(accountId, objectType, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Tags> getAllTags(final UUID accountId, final ObjectType objectType, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getAllTags");
+
+        final String uri = GET_ALL_TAGS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (objectType != null) {
+            queryParams.put("objectType", String.valueOf(objectType));
+        }
+        if (includedDeleted != null) {
+            queryParams.put("includedDeleted", String.valueOf(includedDeleted));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/allTags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Tags.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getBlockingStateAuditLogsWithHistory(final UUID blockingId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(blockingId, "Missing the required parameter 'blockingId' when calling getBlockingStateAuditLogsWithHistory");
+
+        final String uri = GET_BLOCKING_STATE_AUDIT_LOGS_WITH_HISTORY_URI.expand(blockingId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/block/{blockingId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<BlockingStates> getBlockingStates(final UUID accountId, final List<BlockingStateType> blockingStateTypes, final List<String> blockingStateSvcs, final RequestOptions inputOptions) {
+        return getBlockingStates(accountId, blockingStateTypes, blockingStateSvcs, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<BlockingStates> getBlockingStates(final UUID accountId, final List<BlockingStateType> blockingStateTypes, final List<String> blockingStateSvcs, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getBlockingStates");
+
+        final String uri = GET_BLOCKING_STATES_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (blockingStateTypes != null) {
+            queryParams.putAll("blockingStateTypes", Converter.convertEnumListToStringList(blockingStateTypes));
+        }
+        if (blockingStateSvcs != null) {
+            queryParams.putAll("blockingStateSvcs", blockingStateSvcs);
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/block");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, BlockingStates.class, requestOptions);
+    }
+
+    public CompletableFuture<Accounts> getChildrenAccounts(final UUID accountId, final RequestOptions inputOptions) {
+        return getChildrenAccounts(accountId, Boolean.valueOf(false), Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Accounts> getChildrenAccounts(final UUID accountId, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getChildrenAccounts");
+
+        final String uri = GET_CHILDREN_ACCOUNTS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (accountWithBalance != null) {
+            queryParams.put("accountWithBalance", String.valueOf(accountWithBalance));
+        }
+        if (accountWithBalanceAndCBA != null) {
+            queryParams.put("accountWithBalanceAndCBA", String.valueOf(accountWithBalanceAndCBA));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/children");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Accounts.class, requestOptions);
+    }
+
+    public CompletableFuture<AccountEmails> getEmails(final UUID accountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getEmails");
+
+        final String uri = GET_EMAILS_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AccountEmails.class, requestOptions);
+    }
+
+    public CompletableFuture<InvoicePayments> getInvoicePayments(final UUID accountId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return getInvoicePayments(accountId, Boolean.valueOf(false), Boolean.valueOf(false), pluginProperty, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<InvoicePayments> getInvoicePayments(final UUID accountId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicePayments");
+
+        final String uri = GET_INVOICE_PAYMENTS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (withPluginInfo != null) {
+            queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
+        }
+        if (withAttempts != null) {
+            queryParams.put("withAttempts", String.valueOf(withAttempts));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/invoicePayments");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, InvoicePayments.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoices> getInvoicesForAccount(final UUID accountId, final LocalDate startDate, final LocalDate endDate, final RequestOptions inputOptions) {
+        return getInvoicesForAccount(accountId, startDate, endDate, Boolean.valueOf(false), Boolean.valueOf(false), Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Invoices> getInvoicesForAccount(final UUID accountId, final LocalDate startDate, final LocalDate endDate, final Boolean withMigrationInvoices, final Boolean unpaidInvoicesOnly, final Boolean includeVoidedInvoices, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoicesForAccount");
+
+        final String uri = GET_INVOICES_FOR_ACCOUNT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (startDate != null) {
+            queryParams.put("startDate", String.valueOf(startDate));
+        }
+        if (endDate != null) {
+            queryParams.put("endDate", String.valueOf(endDate));
+        }
+        if (withMigrationInvoices != null) {
+            queryParams.put("withMigrationInvoices", String.valueOf(withMigrationInvoices));
+        }
+        if (unpaidInvoicesOnly != null) {
+            queryParams.put("unpaidInvoicesOnly", String.valueOf(unpaidInvoicesOnly));
+        }
+        if (includeVoidedInvoices != null) {
+            queryParams.put("includeVoidedInvoices", String.valueOf(includeVoidedInvoices));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/invoices");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Invoices.class, requestOptions);
+    }
+
+    public CompletableFuture<OverdueState> getOverdueAccount(final UUID accountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getOverdueAccount");
+
+        final String uri = GET_OVERDUE_ACCOUNT_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/overdue");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, OverdueState.class, requestOptions);
+    }
+
+    public CompletableFuture<PaymentMethods> getPaymentMethodsForAccount(final UUID accountId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return getPaymentMethodsForAccount(accountId, Boolean.valueOf(false), Boolean.valueOf(false), pluginProperty, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<PaymentMethods> getPaymentMethodsForAccount(final UUID accountId, final Boolean withPluginInfo, final Boolean includedDeleted, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getPaymentMethodsForAccount");
+
+        final String uri = GET_PAYMENT_METHODS_FOR_ACCOUNT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (withPluginInfo != null) {
+            queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
+        }
+        if (includedDeleted != null) {
+            queryParams.put("includedDeleted", String.valueOf(includedDeleted));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, PaymentMethods.class, requestOptions);
+    }
+
+    public CompletableFuture<Payments> getPaymentsForAccount(final UUID accountId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return getPaymentsForAccount(accountId, Boolean.valueOf(false), Boolean.valueOf(false), pluginProperty, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Payments> getPaymentsForAccount(final UUID accountId, final Boolean withAttempts, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getPaymentsForAccount");
+
+        final String uri = GET_PAYMENTS_FOR_ACCOUNT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (withAttempts != null) {
+            queryParams.put("withAttempts", String.valueOf(withAttempts));
+        }
+        if (withPluginInfo != null) {
+            queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/payments");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Payments.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> modifyAccountCustomFields(final UUID accountId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling modifyAccountCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyAccountCustomFields");
+
+        final String uri = MODIFY_ACCOUNT_CUSTOM_FIELDS_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/customFields");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> payAllInvoices(final UUID accountId, final UUID paymentMethodId, final BigDecimal paymentAmount, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return payAllInvoices(accountId, paymentMethodId, Boolean.valueOf(false), paymentAmount, targetDate, pluginProperty, inputOptions);
+    }
+
+    public CompletableFuture<Void> payAllInvoices(final UUID accountId, final UUID paymentMethodId, final Boolean externalPayment, final BigDecimal paymentAmount, final LocalDate targetDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling payAllInvoices");
+
+        final String uri = PAY_ALL_INVOICES_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (paymentMethodId != null) {
+            queryParams.put("paymentMethodId", String.valueOf(paymentMethodId));
+        }
+        if (externalPayment != null) {
+            queryParams.put("externalPayment", String.valueOf(externalPayment));
+        }
+        if (paymentAmount != null) {
+            queryParams.put("paymentAmount", String.valueOf(paymentAmount));
+        }
+        if (targetDate != null) {
+            queryParams.put("targetDate", String.valueOf(targetDate));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/invoicePayments");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Payment> processPayment(final UUID accountId, final PaymentTransaction body, final UUID paymentMethodId, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling processPayment");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling processPayment");
+
+        final String uri = PROCESS_PAYMENT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (paymentMethodId != null) {
+            queryParams.put("paymentMethodId", String.valueOf(paymentMethodId));
+        }
+        if (controlPluginName != null) {
+            queryParams.putAll("controlPluginName", controlPluginName);
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/payments");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Payment.class, requestOptions);
+    }
+
+    public CompletableFuture<Payment> processPaymentByExternalKey(final PaymentTransaction body, final String externalKey, final UUID paymentMethodId, final List<String> controlPluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling processPaymentByExternalKey");
+        Preconditions.checkNotNull(externalKey, "Missing the required parameter 'externalKey' when calling processPaymentByExternalKey");
+
+        final String uri = "/1.0/kb/accounts/payments";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (externalKey != null) {
+            queryParams.put("externalKey", String.valueOf(externalKey));
+        }
+        if (paymentMethodId != null) {
+            queryParams.put("paymentMethodId", String.valueOf(paymentMethodId));
+        }
+        if (controlPluginName != null) {
+            queryParams.putAll("controlPluginName", controlPluginName);
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/payments");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Payment.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> rebalanceExistingCBAOnAccount(final UUID accountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling rebalanceExistingCBAOnAccount");
+
+        final String uri = REBALANCE_EXISTING_CBAON_ACCOUNT_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/cbaRebalancing");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> refreshPaymentMethods(final UUID accountId, final String pluginName, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling refreshPaymentMethods");
+
+        final String uri = REFRESH_PAYMENT_METHODS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (pluginName != null) {
+            queryParams.put("pluginName", String.valueOf(pluginName));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods/refresh");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> removeEmail(final UUID accountId, final String email, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling removeEmail");
+        Preconditions.checkNotNull(email, "Missing the required parameter 'email' when calling removeEmail");
+
+        final String uri = REMOVE_EMAIL_URI.expand(accountId, email);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/emails/{email}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Accounts> searchAccounts(final String searchKey, final RequestOptions inputOptions) {
+        return searchAccounts(searchKey, Long.valueOf(0), Long.valueOf(100), Boolean.valueOf(false), Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Accounts> searchAccounts(final String searchKey, final Long offset, final Long limit, final Boolean accountWithBalance, final Boolean accountWithBalanceAndCBA, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchAccounts");
+
+        final String uri = SEARCH_ACCOUNTS_URI.expand(searchKey);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (accountWithBalance != null) {
+            queryParams.put("accountWithBalance", String.valueOf(accountWithBalance));
+        }
+        if (accountWithBalanceAndCBA != null) {
+            queryParams.put("accountWithBalanceAndCBA", String.valueOf(accountWithBalanceAndCBA));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/search/{searchKey}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Accounts.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> setDefaultPaymentMethod(final UUID accountId, final UUID paymentMethodId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return setDefaultPaymentMethod(accountId, paymentMethodId, Boolean.valueOf(false), pluginProperty, inputOptions);
+    }
+
+    public CompletableFuture<Void> setDefaultPaymentMethod(final UUID accountId, final UUID paymentMethodId, final Boolean payAllUnpaidInvoices, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling setDefaultPaymentMethod");
+        Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling setDefaultPaymentMethod");
+
+        final String uri = SET_DEFAULT_PAYMENT_METHOD_URI.expand(accountId, paymentMethodId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (payAllUnpaidInvoices != null) {
+            queryParams.put("payAllUnpaidInvoices", String.valueOf(payAllUnpaidInvoices));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}/paymentMethods/{paymentMethodId}/setDefault");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> transferChildCreditToParent(final UUID childAccountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(childAccountId, "Missing the required parameter 'childAccountId' when calling transferChildCreditToParent");
+
+        final String uri = TRANSFER_CHILD_CREDIT_TO_PARENT_URI.expand(childAccountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{childAccountId}/transferCredit");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> updateAccount(final UUID accountId, final Account body, final RequestOptions inputOptions) {
+        return updateAccount(accountId, body, Boolean.valueOf(false), inputOptions);
+    }
+
+    public CompletableFuture<Void> updateAccount(final UUID accountId, final Account body, final Boolean treatNullAsReset, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling updateAccount");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateAccount");
+
+        final String uri = UPDATE_ACCOUNT_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (treatNullAsReset != null) {
+            queryParams.put("treatNullAsReset", String.valueOf(treatNullAsReset));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/accounts/{accountId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+}
@@ -32,7 +32,9 @@ import com.google.common.base.MoreObjects;
 import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -45,10 +47,13 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class AdminApi {
 
+    private static final PathTemplate INVALIDATES_CACHE_BY_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/admin/cache/accounts/{accountId}");
+    private static final PathTemplate UPDATE_PAYMENT_TRANSACTION_STATE_URI = PathTemplate.compile("/1.0/kb/admin/payments/{paymentId}/transactions/{paymentTransactionId}");
+
     private final KillBillHttpClient httpClient;
 
     public AdminApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public AdminApi(final KillBillHttpClient httpClient) {
@@ -93,6 +98,7 @@ public class AdminApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/queues");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/octet-stream");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -112,6 +118,7 @@ public class AdminApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/cache");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -123,11 +130,11 @@ public class AdminApi {
     public void invalidatesCacheByAccount(final UUID accountId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling invalidatesCacheByAccount");
 
-        final String uri = "/1.0/kb/admin/cache/accounts/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = INVALIDATES_CACHE_BY_ACCOUNT_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/cache/accounts/{accountId}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -141,6 +148,7 @@ public class AdminApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/cache/tenants");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -153,6 +161,7 @@ public class AdminApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/healthcheck");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -166,6 +175,7 @@ public class AdminApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/healthcheck");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -189,6 +199,7 @@ public class AdminApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/invoices");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -204,12 +215,11 @@ public class AdminApi {
         Preconditions.checkNotNull(paymentTransactionId, "Missing the required parameter 'paymentTransactionId' when calling updatePaymentTransactionState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updatePaymentTransactionState");
 
-        final String uri = "/1.0/kb/admin/payments/{paymentId}/transactions/{paymentTransactionId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString())
-          .replaceAll("\\{" + "paymentTransactionId" + "\\}", paymentTransactionId.toString());
+        final String uri = UPDATE_PAYMENT_TRANSACTION_STATE_URI.expand(paymentId, paymentTransactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/payments/{paymentId}/transactions/{paymentTransactionId}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
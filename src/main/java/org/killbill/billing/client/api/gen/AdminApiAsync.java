@@ -0,0 +1,235 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.killbill.billing.client.model.gen.AdminPayment;
+import java.util.UUID;
+import java.io.OutputStream;
+import org.asynchttpclient.Response;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class AdminApiAsync {
+
+    private static final PathTemplate INVALIDATES_CACHE_BY_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/admin/cache/accounts/{accountId}");
+    private static final PathTemplate UPDATE_PAYMENT_TRANSACTION_STATE_URI = PathTemplate.compile("/1.0/kb/admin/payments/{paymentId}/transactions/{paymentTransactionId}");
+
+    private final KillBillHttpClient httpClient;
+
+    public AdminApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public AdminApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<Integer> getQueueEntries(final UUID accountId, final String queueName, final String serviceName, final String minDate, final String maxDate, final OutputStream outputStream, final RequestOptions inputOptions) {
+        return getQueueEntries(accountId, queueName, serviceName, Boolean.valueOf(true), minDate, maxDate, Boolean.valueOf(true), Boolean.valueOf(true), Boolean.valueOf(true), outputStream, inputOptions);
+    }
+
+    public CompletableFuture<Integer> getQueueEntries(final UUID accountId, final String queueName, final String serviceName, final Boolean withHistory, final String minDate, final String maxDate, final Boolean withInProcessing, final Boolean withBusEvents, final Boolean withNotifications, final OutputStream outputStream, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/admin/queues";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (accountId != null) {
+            queryParams.put("accountId", String.valueOf(accountId));
+        }
+        if (queueName != null) {
+            queryParams.put("queueName", String.valueOf(queueName));
+        }
+        if (serviceName != null) {
+            queryParams.put("serviceName", String.valueOf(serviceName));
+        }
+        if (withHistory != null) {
+            queryParams.put("withHistory", String.valueOf(withHistory));
+        }
+        if (minDate != null) {
+            queryParams.put("minDate", String.valueOf(minDate));
+        }
+        if (maxDate != null) {
+            queryParams.put("maxDate", String.valueOf(maxDate));
+        }
+        if (withInProcessing != null) {
+            queryParams.put("withInProcessing", String.valueOf(withInProcessing));
+        }
+        if (withBusEvents != null) {
+            queryParams.put("withBusEvents", String.valueOf(withBusEvents));
+        }
+        if (withNotifications != null) {
+            queryParams.put("withNotifications", String.valueOf(withNotifications));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/queues");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/octet-stream");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, outputStream, requestOptions).thenApply(new Function<Response, Integer>() {
+            @Override
+            public Integer apply(final Response response) {
+                return response.getStatusCode();
+            }
+        });
+    }
+
+
+    public CompletableFuture<Void> invalidatesCache(final String cacheName, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/admin/cache";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (cacheName != null) {
+            queryParams.put("cacheName", String.valueOf(cacheName));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/cache");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> invalidatesCacheByAccount(final UUID accountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling invalidatesCacheByAccount");
+
+        final String uri = INVALIDATES_CACHE_BY_ACCOUNT_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/cache/accounts/{accountId}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> invalidatesCacheByTenant(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/admin/cache/tenants";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/cache/tenants");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> putInRotation(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/admin/healthcheck";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/healthcheck");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> putOutOfRotation(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/admin/healthcheck";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/healthcheck");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> triggerInvoiceGenerationForParkedAccounts(final RequestOptions inputOptions) {
+        return triggerInvoiceGenerationForParkedAccounts(Long.valueOf(0), Long.valueOf(100), inputOptions);
+    }
+
+    public CompletableFuture<Void> triggerInvoiceGenerationForParkedAccounts(final Long offset, final Long limit, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/admin/invoices";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/invoices");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> updatePaymentTransactionState(final UUID paymentId, final UUID paymentTransactionId, final AdminPayment body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling updatePaymentTransactionState");
+        Preconditions.checkNotNull(paymentTransactionId, "Missing the required parameter 'paymentTransactionId' when calling updatePaymentTransactionState");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updatePaymentTransactionState");
+
+        final String uri = UPDATE_PAYMENT_TRANSACTION_STATE_URI.expand(paymentId, paymentTransactionId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/admin/payments/{paymentId}/transactions/{paymentTransactionId}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+}
@@ -43,7 +43,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -56,10 +58,26 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class BundleApi {
 
+    private static final PathTemplate ADD_BUNDLE_BLOCKING_STATE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/block");
+    private static final PathTemplate CREATE_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate CREATE_BUNDLE_TAGS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/tags");
+    private static final PathTemplate DELETE_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate DELETE_BUNDLE_TAGS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/tags");
+    private static final PathTemplate GET_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}");
+    private static final PathTemplate GET_BUNDLE_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/auditLogsWithHistory");
+    private static final PathTemplate GET_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate GET_BUNDLE_TAGS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/tags");
+    private static final PathTemplate MODIFY_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate PAUSE_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/pause");
+    private static final PathTemplate RENAME_EXTERNAL_KEY_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/renameKey");
+    private static final PathTemplate RESUME_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/resume");
+    private static final PathTemplate SEARCH_BUNDLES_URI = PathTemplate.compile("/1.0/kb/bundles/search/{searchKey}");
+    private static final PathTemplate TRANSFER_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}");
+
     private final KillBillHttpClient httpClient;
 
     public BundleApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public BundleApi(final KillBillHttpClient httpClient) {
@@ -70,8 +88,7 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling addBundleBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addBundleBlockingState");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/block"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = ADD_BUNDLE_BLOCKING_STATE_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -82,6 +99,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/block");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -95,11 +113,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling createBundleCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = CREATE_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -113,11 +131,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling createBundleTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createBundleTags");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/tags"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = CREATE_BUNDLE_TAGS_URI.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -131,8 +149,7 @@ public class BundleApi {
     public void deleteBundleCustomFields(final UUID bundleId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling deleteBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = DELETE_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -140,6 +157,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -152,8 +170,7 @@ public class BundleApi {
     public void deleteBundleTags(final UUID bundleId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling deleteBundleTags");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/tags"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = DELETE_BUNDLE_TAGS_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -161,6 +178,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -176,8 +194,7 @@ public class BundleApi {
     public Bundle getBundle(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = GET_BUNDLE_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -185,6 +202,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -195,11 +213,11 @@ public class BundleApi {
     public AuditLogs getBundleAuditLogsWithHistory(final UUID bundleId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = GET_BUNDLE_AUDIT_LOGS_WITH_HISTORY_URI.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -227,6 +245,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -241,8 +260,7 @@ public class BundleApi {
     public CustomFields getBundleCustomFields(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = GET_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -250,6 +268,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -264,8 +283,7 @@ public class BundleApi {
     public Tags getBundleTags(final UUID bundleId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleTags");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/tags"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = GET_BUNDLE_TAGS_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -276,6 +294,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -303,6 +322,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/pagination");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -314,11 +334,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling modifyBundleCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyBundleCustomFields");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/customFields"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = MODIFY_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -329,8 +349,7 @@ public class BundleApi {
     public void pauseBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling pauseBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/pause"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = PAUSE_BUNDLE_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -341,6 +360,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/pause");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -353,11 +373,11 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling renameExternalKey");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling renameExternalKey");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/renameKey"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = RENAME_EXTERNAL_KEY_URI.expand(bundleId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/renameKey");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -367,8 +387,7 @@ public class BundleApi {
     public void resumeBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling resumeBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}/resume"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = RESUME_BUNDLE_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -379,6 +398,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/resume");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -394,8 +414,7 @@ public class BundleApi {
     public Bundles searchBundles(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchBundles");
 
-        final String uri = "/1.0/kb/bundles/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = SEARCH_BUNDLES_URI.expand(searchKey);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (offset != null) {
@@ -409,6 +428,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/search/{searchKey}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -424,8 +444,7 @@ public class BundleApi {
         Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling transferBundle");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling transferBundle");
 
-        final String uri = "/1.0/kb/bundles/{bundleId}"
-          .replaceAll("\\{" + "bundleId" + "\\}", bundleId.toString());
+        final String uri = TRANSFER_BUNDLE_URI.expand(bundleId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -439,6 +458,7 @@ public class BundleApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
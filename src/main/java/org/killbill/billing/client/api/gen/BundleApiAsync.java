@@ -0,0 +1,472 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import org.killbill.billing.client.model.gen.BlockingState;
+import org.killbill.billing.client.model.gen.Bundle;
+import org.joda.time.LocalDate;
+
+import java.util.UUID;
+import org.killbill.billing.client.model.BlockingStates;
+import java.util.List;
+import java.util.Map;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.util.api.AuditLevel;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.catalog.api.BillingActionPolicy;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.Converter;
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class BundleApiAsync {
+
+    private static final PathTemplate ADD_BUNDLE_BLOCKING_STATE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/block");
+    private static final PathTemplate CREATE_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate CREATE_BUNDLE_TAGS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/tags");
+    private static final PathTemplate DELETE_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate DELETE_BUNDLE_TAGS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/tags");
+    private static final PathTemplate GET_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}");
+    private static final PathTemplate GET_BUNDLE_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/auditLogsWithHistory");
+    private static final PathTemplate GET_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate GET_BUNDLE_TAGS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/tags");
+    private static final PathTemplate MODIFY_BUNDLE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/customFields");
+    private static final PathTemplate PAUSE_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/pause");
+    private static final PathTemplate RENAME_EXTERNAL_KEY_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/renameKey");
+    private static final PathTemplate RESUME_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}/resume");
+    private static final PathTemplate SEARCH_BUNDLES_URI = PathTemplate.compile("/1.0/kb/bundles/search/{searchKey}");
+    private static final PathTemplate TRANSFER_BUNDLE_URI = PathTemplate.compile("/1.0/kb/bundles/{bundleId}");
+
+    private final KillBillHttpClient httpClient;
+
+    public BundleApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public BundleApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<BlockingStates> addBundleBlockingState(final UUID bundleId, final BlockingState body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling addBundleBlockingState");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addBundleBlockingState");
+
+        final String uri = ADD_BUNDLE_BLOCKING_STATE_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/block");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, BlockingStates.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> createBundleCustomFields(final UUID bundleId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling createBundleCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createBundleCustomFields");
+
+        final String uri = CREATE_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> createBundleTags(final UUID bundleId, final List<UUID> body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling createBundleTags");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createBundleTags");
+
+        final String uri = CREATE_BUNDLE_TAGS_URI.expand(bundleId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/tags");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Tags.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteBundleCustomFields(final UUID bundleId, final List<UUID> customField, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling deleteBundleCustomFields");
+
+        final String uri = DELETE_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (customField != null) {
+            queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteBundleTags(final UUID bundleId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling deleteBundleTags");
+
+        final String uri = DELETE_BUNDLE_TAGS_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (tagDef != null) {
+            queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Bundle> getBundle(final UUID bundleId, final RequestOptions inputOptions) {
+        return getBundle(bundleId, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Bundle> getBundle(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundle");
+
+        final String uri = GET_BUNDLE_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Bundle.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getBundleAuditLogsWithHistory(final UUID bundleId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleAuditLogsWithHistory");
+
+        final String uri = GET_BUNDLE_AUDIT_LOGS_WITH_HISTORY_URI.expand(bundleId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<Bundles> getBundleByKey(final String externalKey, final RequestOptions inputOptions) {
+        return getBundleByKey(externalKey, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Bundles> getBundleByKey(final String externalKey, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(externalKey, "Missing the required parameter 'externalKey' when calling getBundleByKey");
+
+        final String uri = "/1.0/kb/bundles";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (externalKey != null) {
+            queryParams.put("externalKey", String.valueOf(externalKey));
+        }
+        if (includedDeleted != null) {
+            queryParams.put("includedDeleted", String.valueOf(includedDeleted));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Bundles.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> getBundleCustomFields(final UUID bundleId, final RequestOptions inputOptions) {
+        return getBundleCustomFields(bundleId, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> getBundleCustomFields(final UUID bundleId, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleCustomFields");
+
+        final String uri = GET_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> getBundleTags(final UUID bundleId, final RequestOptions inputOptions) {
+        return getBundleTags(bundleId, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Tags> getBundleTags(final UUID bundleId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling getBundleTags");
+
+        final String uri = GET_BUNDLE_TAGS_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (includedDeleted != null) {
+            queryParams.put("includedDeleted", String.valueOf(includedDeleted));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Tags.class, requestOptions);
+    }
+
+    public CompletableFuture<Bundles> getBundles(final RequestOptions inputOptions) {
+        return getBundles(Long.valueOf(0), Long.valueOf(100), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Bundles> getBundles(final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/bundles/pagination";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/pagination");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Bundles.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> modifyBundleCustomFields(final UUID bundleId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling modifyBundleCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyBundleCustomFields");
+
+        final String uri = MODIFY_BUNDLE_CUSTOM_FIELDS_URI.expand(bundleId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/customFields");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> pauseBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling pauseBundle");
+
+        final String uri = PAUSE_BUNDLE_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/pause");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> renameExternalKey(final UUID bundleId, final Bundle body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling renameExternalKey");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling renameExternalKey");
+
+        final String uri = RENAME_EXTERNAL_KEY_URI.expand(bundleId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/renameKey");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> resumeBundle(final UUID bundleId, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling resumeBundle");
+
+        final String uri = RESUME_BUNDLE_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}/resume");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Bundles> searchBundles(final String searchKey, final RequestOptions inputOptions) {
+        return searchBundles(searchKey, Long.valueOf(0), Long.valueOf(100), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Bundles> searchBundles(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchBundles");
+
+        final String uri = SEARCH_BUNDLES_URI.expand(searchKey);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/search/{searchKey}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Bundles.class, requestOptions);
+    }
+
+    public CompletableFuture<Bundle> transferBundle(final UUID bundleId, final Bundle body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return transferBundle(bundleId, body, requestedDate, BillingActionPolicy.END_OF_TERM, pluginProperty, inputOptions);
+    }
+
+    public CompletableFuture<Bundle> transferBundle(final UUID bundleId, final Bundle body, final LocalDate requestedDate, final BillingActionPolicy billingPolicy, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(bundleId, "Missing the required parameter 'bundleId' when calling transferBundle");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling transferBundle");
+
+        final String uri = TRANSFER_BUNDLE_URI.expand(bundleId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (billingPolicy != null) {
+            queryParams.put("billingPolicy", String.valueOf(billingPolicy));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/bundles/{bundleId}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Bundle.class, requestOptions);
+    }
+
+}
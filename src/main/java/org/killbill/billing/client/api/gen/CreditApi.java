@@ -34,7 +34,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -47,10 +49,12 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class CreditApi {
 
+    private static final PathTemplate GET_CREDIT_URI = PathTemplate.compile("/1.0/kb/credits/{creditId}");
+
     private final KillBillHttpClient httpClient;
 
     public CreditApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public CreditApi(final KillBillHttpClient httpClient) {
@@ -75,6 +79,7 @@ public class CreditApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/credits");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -88,11 +93,11 @@ public class CreditApi {
     public InvoiceItem getCredit(final UUID creditId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(creditId, "Missing the required parameter 'creditId' when calling getCredit");
 
-        final String uri = "/1.0/kb/credits/{creditId}"
-          .replaceAll("\\{" + "creditId" + "\\}", creditId.toString());
+        final String uri = GET_CREDIT_URI.expand(creditId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/credits/{creditId}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
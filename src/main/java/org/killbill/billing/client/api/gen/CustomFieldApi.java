@@ -31,7 +31,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -44,10 +46,13 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class CustomFieldApi {
 
+    private static final PathTemplate GET_CUSTOM_FIELD_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/customFields/{customFieldId}/auditLogsWithHistory");
+    private static final PathTemplate SEARCH_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/customFields/search/{searchKey}");
+
     private final KillBillHttpClient httpClient;
 
     public CustomFieldApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public CustomFieldApi(final KillBillHttpClient httpClient) {
@@ -57,11 +62,11 @@ public class CustomFieldApi {
     public AuditLogs getCustomFieldAuditLogsWithHistory(final UUID customFieldId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(customFieldId, "Missing the required parameter 'customFieldId' when calling getCustomFieldAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/customFields/{customFieldId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "customFieldId" + "\\}", customFieldId.toString());
+        final String uri = GET_CUSTOM_FIELD_AUDIT_LOGS_WITH_HISTORY_URI.expand(customFieldId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/{customFieldId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -88,6 +93,7 @@ public class CustomFieldApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/pagination");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -102,8 +108,7 @@ public class CustomFieldApi {
     public CustomFields searchCustomFields(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchCustomFields");
 
-        final String uri = "/1.0/kb/customFields/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = SEARCH_CUSTOM_FIELDS_URI.expand(searchKey);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (offset != null) {
@@ -117,6 +122,7 @@ public class CustomFieldApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/search/{searchKey}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -153,6 +159,7 @@ public class CustomFieldApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/search");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
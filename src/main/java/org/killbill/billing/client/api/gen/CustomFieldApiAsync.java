@@ -0,0 +1,170 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.UUID;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.util.api.AuditLevel;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class CustomFieldApiAsync {
+
+    private static final PathTemplate GET_CUSTOM_FIELD_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/customFields/{customFieldId}/auditLogsWithHistory");
+    private static final PathTemplate SEARCH_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/customFields/search/{searchKey}");
+
+    private final KillBillHttpClient httpClient;
+
+    public CustomFieldApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public CustomFieldApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<AuditLogs> getCustomFieldAuditLogsWithHistory(final UUID customFieldId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(customFieldId, "Missing the required parameter 'customFieldId' when calling getCustomFieldAuditLogsWithHistory");
+
+        final String uri = GET_CUSTOM_FIELD_AUDIT_LOGS_WITH_HISTORY_URI.expand(customFieldId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/{customFieldId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> getCustomFields(final RequestOptions inputOptions) {
+        return getCustomFields(Long.valueOf(0), Long.valueOf(100), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> getCustomFields(final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/customFields/pagination";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/pagination");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> searchCustomFields(final String searchKey, final RequestOptions inputOptions) {
+        return searchCustomFields(searchKey, Long.valueOf(0), Long.valueOf(100), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> searchCustomFields(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchCustomFields");
+
+        final String uri = SEARCH_CUSTOM_FIELDS_URI.expand(searchKey);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/search/{searchKey}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> searchCustomFieldsByTypeName(final String objectType, final String fieldName, final String fieldValue, final RequestOptions inputOptions) {
+        return searchCustomFieldsByTypeName(objectType, fieldName, fieldValue, Long.valueOf(0), Long.valueOf(100), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> searchCustomFieldsByTypeName(final String objectType, final String fieldName, final String fieldValue, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/customFields/search";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (objectType != null) {
+            queryParams.put("objectType", String.valueOf(objectType));
+        }
+        if (fieldName != null) {
+            queryParams.put("fieldName", String.valueOf(fieldName));
+        }
+        if (fieldValue != null) {
+            queryParams.put("fieldValue", String.valueOf(fieldValue));
+        }
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/customFields/search");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+}
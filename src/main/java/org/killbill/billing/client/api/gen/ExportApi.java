@@ -28,7 +28,9 @@ import org.asynchttpclient.Response;
 import com.google.common.base.Preconditions;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -41,10 +43,12 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class ExportApi {
 
+    private static final PathTemplate EXPORT_DATA_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/export/{accountId}");
+
     private final KillBillHttpClient httpClient;
 
     public ExportApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public ExportApi(final KillBillHttpClient httpClient) {
@@ -54,11 +58,11 @@ public class ExportApi {
     public int exportDataForAccount(final UUID accountId, final OutputStream outputStream, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling exportDataForAccount");
 
-        final String uri = "/1.0/kb/export/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = EXPORT_DATA_FOR_ACCOUNT_URI.expand(accountId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/export/{accountId}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/octet-stream");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
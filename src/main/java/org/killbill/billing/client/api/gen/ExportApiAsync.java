@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.UUID;
+import java.io.OutputStream;
+import org.asynchttpclient.Response;
+
+import com.google.common.base.Preconditions;
+
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class ExportApiAsync {
+
+    private static final PathTemplate EXPORT_DATA_FOR_ACCOUNT_URI = PathTemplate.compile("/1.0/kb/export/{accountId}");
+
+    private final KillBillHttpClient httpClient;
+
+    public ExportApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public ExportApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<Integer> exportDataForAccount(final UUID accountId, final OutputStream outputStream, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling exportDataForAccount");
+
+        final String uri = EXPORT_DATA_FOR_ACCOUNT_URI.expand(accountId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/export/{accountId}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/octet-stream");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, outputStream, requestOptions).thenApply(new Function<Response, Integer>() {
+            @Override
+            public Integer apply(final Response response) {
+                return response.getStatusCode();
+            }
+        });
+    }
+
+}
@@ -45,7 +45,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -58,10 +60,38 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class InvoiceApi {
 
+    private static final PathTemplate ADJUST_INVOICE_ITEM_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}");
+    private static final PathTemplate COMMIT_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/commitInvoice");
+    private static final PathTemplate CREATE_EXTERNAL_CHARGES_URI = PathTemplate.compile("/1.0/kb/invoices/charges/{accountId}");
+    private static final PathTemplate CREATE_INSTANT_PAYMENT_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/payments");
+    private static final PathTemplate CREATE_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate CREATE_INVOICE_TAGS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/tags");
+    private static final PathTemplate CREATE_MIGRATION_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/migration/{accountId}");
+    private static final PathTemplate CREATE_TAX_ITEMS_URI = PathTemplate.compile("/1.0/kb/invoices/taxes/{accountId}");
+    private static final PathTemplate DELETE_CBA_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/{invoiceItemId}/cba");
+    private static final PathTemplate DELETE_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate DELETE_INVOICE_TAGS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/tags");
+    private static final PathTemplate GET_CATALOG_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/catalogTranslation/{locale}");
+    private static final PathTemplate GET_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}");
+    private static final PathTemplate GET_INVOICE_AS_HTML_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/html");
+    private static final PathTemplate GET_INVOICE_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/auditLogsWithHistory");
+    private static final PathTemplate GET_INVOICE_BY_ITEM_ID_URI = PathTemplate.compile("/1.0/kb/invoices/byItemId/{itemId}");
+    private static final PathTemplate GET_INVOICE_BY_NUMBER_URI = PathTemplate.compile("/1.0/kb/invoices/byNumber/{invoiceNumber}");
+    private static final PathTemplate GET_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate GET_INVOICE_MPTEMPLATE_URI = PathTemplate.compile("/1.0/kb/invoices/manualPayTemplate/{locale}");
+    private static final PathTemplate GET_INVOICE_TAGS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/tags");
+    private static final PathTemplate GET_INVOICE_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/translation/{locale}");
+    private static final PathTemplate GET_PAYMENTS_FOR_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/payments");
+    private static final PathTemplate MODIFY_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate SEARCH_INVOICES_URI = PathTemplate.compile("/1.0/kb/invoices/search/{searchKey}");
+    private static final PathTemplate UPLOAD_CATALOG_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/catalogTranslation/{locale}");
+    private static final PathTemplate UPLOAD_INVOICE_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/translation/{locale}");
+    private static final PathTemplate VOID_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/voidInvoice");
+
     private final KillBillHttpClient httpClient;
 
     public InvoiceApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public InvoiceApi(final KillBillHttpClient httpClient) {
@@ -72,8 +102,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling adjustInvoiceItem");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling adjustInvoiceItem");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = ADJUST_INVOICE_ITEM_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -84,6 +113,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -97,11 +127,11 @@ public class InvoiceApi {
     public void commitInvoice(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling commitInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/commitInvoice"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = COMMIT_INVOICE_URI.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/commitInvoice");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -117,8 +147,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createExternalCharges");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createExternalCharges");
 
-        final String uri = "/1.0/kb/invoices/charges/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = CREATE_EXTERNAL_CHARGES_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -132,6 +161,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/charges/{accountId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -156,6 +186,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -174,8 +205,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInstantPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInstantPayment");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/payments"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = CREATE_INSTANT_PAYMENT_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (externalPayment != null) {
@@ -186,6 +216,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/payments");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -200,11 +231,11 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInvoiceCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = CREATE_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -218,11 +249,11 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInvoiceTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceTags");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/tags"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = CREATE_INVOICE_TAGS_URI.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -236,8 +267,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createMigrationInvoice");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createMigrationInvoice");
 
-        final String uri = "/1.0/kb/invoices/migration/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = CREATE_MIGRATION_INVOICE_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (targetDate != null) {
@@ -245,6 +275,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/migration/{accountId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -263,8 +294,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createTaxItems");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTaxItems");
 
-        final String uri = "/1.0/kb/invoices/taxes/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = CREATE_TAX_ITEMS_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (autoCommit != null) {
@@ -278,6 +308,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/taxes/{accountId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -294,9 +325,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteCBA");
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteCBA");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/{invoiceItemId}/cba"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString())
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = DELETE_CBA_URI.expand(invoiceId, invoiceItemId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (accountId != null) {
@@ -304,6 +333,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/{invoiceItemId}/cba");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -316,8 +346,7 @@ public class InvoiceApi {
     public void deleteInvoiceCustomFields(final UUID invoiceId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling deleteInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = DELETE_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -325,6 +354,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -337,8 +367,7 @@ public class InvoiceApi {
     public void deleteInvoiceTags(final UUID invoiceId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling deleteInvoiceTags");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/tags"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = DELETE_INVOICE_TAGS_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -346,6 +375,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -369,6 +399,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/dryRun");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -382,11 +413,11 @@ public class InvoiceApi {
     public String getCatalogTranslation(final String locale, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getCatalogTranslation");
 
-        final String uri = "/1.0/kb/invoices/catalogTranslation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = GET_CATALOG_TRANSLATION_URI.expand(locale);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/catalogTranslation/{locale}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -400,8 +431,7 @@ public class InvoiceApi {
     public Invoice getInvoice(final UUID invoiceId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = GET_INVOICE_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withChildrenItems != null) {
@@ -412,6 +442,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -422,11 +453,11 @@ public class InvoiceApi {
     public String getInvoiceAsHTML(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceAsHTML");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/html"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = GET_INVOICE_AS_HTML_URI.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/html");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -436,11 +467,11 @@ public class InvoiceApi {
     public AuditLogs getInvoiceAuditLogsWithHistory(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = GET_INVOICE_AUDIT_LOGS_WITH_HISTORY_URI.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -454,8 +485,7 @@ public class InvoiceApi {
     public Invoice getInvoiceByItemId(final UUID itemId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(itemId, "Missing the required parameter 'itemId' when calling getInvoiceByItemId");
 
-        final String uri = "/1.0/kb/invoices/byItemId/{itemId}"
-          .replaceAll("\\{" + "itemId" + "\\}", itemId.toString());
+        final String uri = GET_INVOICE_BY_ITEM_ID_URI.expand(itemId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withChildrenItems != null) {
@@ -466,6 +496,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/byItemId/{itemId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -480,8 +511,7 @@ public class InvoiceApi {
     public Invoice getInvoiceByNumber(final Integer invoiceNumber, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceNumber, "Missing the required parameter 'invoiceNumber' when calling getInvoiceByNumber");
 
-        final String uri = "/1.0/kb/invoices/byNumber/{invoiceNumber}"
-          .replaceAll("\\{" + "invoiceNumber" + "\\}", invoiceNumber.toString());
+        final String uri = GET_INVOICE_BY_NUMBER_URI.expand(invoiceNumber);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withChildrenItems != null) {
@@ -492,6 +522,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/byNumber/{invoiceNumber}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -506,8 +537,7 @@ public class InvoiceApi {
     public CustomFields getInvoiceCustomFields(final UUID invoiceId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = GET_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -515,6 +545,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -525,11 +556,11 @@ public class InvoiceApi {
     public String getInvoiceMPTemplate(final String locale, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getInvoiceMPTemplate");
 
-        final String uri = "/1.0/kb/invoices/manualPayTemplate/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = GET_INVOICE_MPTEMPLATE_URI.expand(locale);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/manualPayTemplate/{locale}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -543,8 +574,7 @@ public class InvoiceApi {
     public Tags getInvoiceTags(final UUID invoiceId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceTags");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/tags"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = GET_INVOICE_TAGS_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -555,6 +585,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -568,6 +599,7 @@ public class InvoiceApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/template");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -577,11 +609,11 @@ public class InvoiceApi {
     public String getInvoiceTranslation(final String locale, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getInvoiceTranslation");
 
-        final String uri = "/1.0/kb/invoices/translation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = GET_INVOICE_TRANSLATION_URI.expand(locale);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/translation/{locale}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -608,6 +640,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/pagination");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -622,8 +655,7 @@ public class InvoiceApi {
     public InvoicePayments getPaymentsForInvoice(final UUID invoiceId, final Boolean withPluginInfo, final Boolean withAttempts, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getPaymentsForInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/payments"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = GET_PAYMENTS_FOR_INVOICE_URI.expand(invoiceId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
@@ -637,6 +669,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/payments");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -648,11 +681,11 @@ public class InvoiceApi {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling modifyInvoiceCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoiceCustomFields");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/customFields"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = MODIFY_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -667,8 +700,7 @@ public class InvoiceApi {
     public Invoices searchInvoices(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchInvoices");
 
-        final String uri = "/1.0/kb/invoices/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = SEARCH_INVOICES_URI.expand(searchKey);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (offset != null) {
@@ -682,6 +714,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/search/{searchKey}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -697,8 +730,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling uploadCatalogTranslation");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadCatalogTranslation");
 
-        final String uri = "/1.0/kb/invoices/catalogTranslation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = UPLOAD_CATALOG_TRANSLATION_URI.expand(locale);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (deleteIfExists != null) {
@@ -706,6 +738,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/catalogTranslation/{locale}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -731,6 +764,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/manualPayTemplate");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -756,6 +790,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/template");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -774,8 +809,7 @@ public class InvoiceApi {
         Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling uploadInvoiceTranslation");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadInvoiceTranslation");
 
-        final String uri = "/1.0/kb/invoices/translation/{locale}"
-          .replaceAll("\\{" + "locale" + "\\}", locale.toString());
+        final String uri = UPLOAD_INVOICE_TRANSLATION_URI.expand(locale);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (deleteIfExists != null) {
@@ -783,6 +817,7 @@ public class InvoiceApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/translation/{locale}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -796,11 +831,11 @@ public class InvoiceApi {
     public void voidInvoice(final UUID invoiceId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling voidInvoice");
 
-        final String uri = "/1.0/kb/invoices/{invoiceId}/voidInvoice"
-          .replaceAll("\\{" + "invoiceId" + "\\}", invoiceId.toString());
+        final String uri = VOID_INVOICE_URI.expand(invoiceId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/voidInvoice");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
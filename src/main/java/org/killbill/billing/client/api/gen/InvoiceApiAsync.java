@@ -0,0 +1,846 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import org.killbill.billing.client.model.gen.Invoice;
+import org.killbill.billing.client.model.gen.InvoiceDryRun;
+import org.killbill.billing.client.model.gen.InvoiceItem;
+import org.killbill.billing.client.model.gen.InvoicePayment;
+import org.joda.time.LocalDate;
+
+import java.util.UUID;
+import java.util.Map;
+import org.killbill.billing.client.model.InvoiceItems;
+import java.util.List;
+import org.killbill.billing.client.model.CustomFields;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.util.api.AuditLevel;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.Invoices;
+import org.killbill.billing.client.model.InvoicePayments;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.Converter;
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class InvoiceApiAsync {
+
+    private static final PathTemplate ADJUST_INVOICE_ITEM_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}");
+    private static final PathTemplate COMMIT_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/commitInvoice");
+    private static final PathTemplate CREATE_EXTERNAL_CHARGES_URI = PathTemplate.compile("/1.0/kb/invoices/charges/{accountId}");
+    private static final PathTemplate CREATE_INSTANT_PAYMENT_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/payments");
+    private static final PathTemplate CREATE_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate CREATE_INVOICE_TAGS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/tags");
+    private static final PathTemplate CREATE_MIGRATION_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/migration/{accountId}");
+    private static final PathTemplate CREATE_TAX_ITEMS_URI = PathTemplate.compile("/1.0/kb/invoices/taxes/{accountId}");
+    private static final PathTemplate DELETE_CBA_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/{invoiceItemId}/cba");
+    private static final PathTemplate DELETE_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate DELETE_INVOICE_TAGS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/tags");
+    private static final PathTemplate GET_CATALOG_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/catalogTranslation/{locale}");
+    private static final PathTemplate GET_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}");
+    private static final PathTemplate GET_INVOICE_AS_HTML_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/html");
+    private static final PathTemplate GET_INVOICE_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/auditLogsWithHistory");
+    private static final PathTemplate GET_INVOICE_BY_ITEM_ID_URI = PathTemplate.compile("/1.0/kb/invoices/byItemId/{itemId}");
+    private static final PathTemplate GET_INVOICE_BY_NUMBER_URI = PathTemplate.compile("/1.0/kb/invoices/byNumber/{invoiceNumber}");
+    private static final PathTemplate GET_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate GET_INVOICE_MPTEMPLATE_URI = PathTemplate.compile("/1.0/kb/invoices/manualPayTemplate/{locale}");
+    private static final PathTemplate GET_INVOICE_TAGS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/tags");
+    private static final PathTemplate GET_INVOICE_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/translation/{locale}");
+    private static final PathTemplate GET_PAYMENTS_FOR_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/payments");
+    private static final PathTemplate MODIFY_INVOICE_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/customFields");
+    private static final PathTemplate SEARCH_INVOICES_URI = PathTemplate.compile("/1.0/kb/invoices/search/{searchKey}");
+    private static final PathTemplate UPLOAD_CATALOG_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/catalogTranslation/{locale}");
+    private static final PathTemplate UPLOAD_INVOICE_TRANSLATION_URI = PathTemplate.compile("/1.0/kb/invoices/translation/{locale}");
+    private static final PathTemplate VOID_INVOICE_URI = PathTemplate.compile("/1.0/kb/invoices/{invoiceId}/voidInvoice");
+
+    private final KillBillHttpClient httpClient;
+
+    public InvoiceApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public InvoiceApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<Invoice> adjustInvoiceItem(final UUID invoiceId, final InvoiceItem body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling adjustInvoiceItem");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling adjustInvoiceItem");
+
+        final String uri = ADJUST_INVOICE_ITEM_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Invoice.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> commitInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling commitInvoice");
+
+        final String uri = COMMIT_INVOICE_URI.expand(invoiceId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/commitInvoice");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<InvoiceItems> createExternalCharges(final UUID accountId, final InvoiceItems body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return createExternalCharges(accountId, body, requestedDate, Boolean.valueOf(false), pluginProperty, inputOptions);
+    }
+
+    public CompletableFuture<InvoiceItems> createExternalCharges(final UUID accountId, final InvoiceItems body, final LocalDate requestedDate, final Boolean autoCommit, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createExternalCharges");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createExternalCharges");
+
+        final String uri = CREATE_EXTERNAL_CHARGES_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (autoCommit != null) {
+            queryParams.put("autoCommit", String.valueOf(autoCommit));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/charges/{accountId}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, InvoiceItems.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoice> createFutureInvoice(final UUID accountId, final LocalDate targetDate, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createFutureInvoice");
+
+        final String uri = "/1.0/kb/invoices";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (accountId != null) {
+            queryParams.put("accountId", String.valueOf(accountId));
+        }
+        if (targetDate != null) {
+            queryParams.put("targetDate", String.valueOf(targetDate));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, null, Invoice.class, requestOptions);
+    }
+
+    public CompletableFuture<InvoicePayment> createInstantPayment(final UUID invoiceId, final InvoicePayment body, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return createInstantPayment(invoiceId, body, Boolean.valueOf(false), pluginProperty, inputOptions);
+    }
+
+    public CompletableFuture<InvoicePayment> createInstantPayment(final UUID invoiceId, final InvoicePayment body, final Boolean externalPayment, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInstantPayment");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInstantPayment");
+
+        final String uri = CREATE_INSTANT_PAYMENT_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (externalPayment != null) {
+            queryParams.put("externalPayment", String.valueOf(externalPayment));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/payments");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, InvoicePayment.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> createInvoiceCustomFields(final UUID invoiceId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInvoiceCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceCustomFields");
+
+        final String uri = CREATE_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> createInvoiceTags(final UUID invoiceId, final List<UUID> body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling createInvoiceTags");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceTags");
+
+        final String uri = CREATE_INVOICE_TAGS_URI.expand(invoiceId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/tags");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Tags.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoice> createMigrationInvoice(final UUID accountId, final InvoiceItems body, final LocalDate targetDate, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createMigrationInvoice");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createMigrationInvoice");
+
+        final String uri = CREATE_MIGRATION_INVOICE_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (targetDate != null) {
+            queryParams.put("targetDate", String.valueOf(targetDate));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/migration/{accountId}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Invoice.class, requestOptions);
+    }
+
+    public CompletableFuture<InvoiceItems> createTaxItems(final UUID accountId, final InvoiceItems body, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        return createTaxItems(accountId, body, Boolean.valueOf(false), requestedDate, pluginProperty, inputOptions);
+    }
+
+    public CompletableFuture<InvoiceItems> createTaxItems(final UUID accountId, final InvoiceItems body, final Boolean autoCommit, final LocalDate requestedDate, final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling createTaxItems");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTaxItems");
+
+        final String uri = CREATE_TAX_ITEMS_URI.expand(accountId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (autoCommit != null) {
+            queryParams.put("autoCommit", String.valueOf(autoCommit));
+        }
+        if (requestedDate != null) {
+            queryParams.put("requestedDate", String.valueOf(requestedDate));
+        }
+        if (pluginProperty != null) {
+            queryParams.putAll("pluginProperty", Converter.convertPluginPropertyMap(pluginProperty));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/taxes/{accountId}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, InvoiceItems.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteCBA(final UUID invoiceId, final UUID invoiceItemId, final UUID accountId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling deleteCBA");
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteCBA");
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling deleteCBA");
+
+        final String uri = DELETE_CBA_URI.expand(invoiceId, invoiceItemId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (accountId != null) {
+            queryParams.put("accountId", String.valueOf(accountId));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/{invoiceItemId}/cba");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteInvoiceCustomFields(final UUID invoiceId, final List<UUID> customField, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling deleteInvoiceCustomFields");
+
+        final String uri = DELETE_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (customField != null) {
+            queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteInvoiceTags(final UUID invoiceId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling deleteInvoiceTags");
+
+        final String uri = DELETE_INVOICE_TAGS_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (tagDef != null) {
+            queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoice> generateDryRunInvoice(final InvoiceDryRun body, final UUID accountId, final LocalDate targetDate, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling generateDryRunInvoice");
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling generateDryRunInvoice");
+
+        final String uri = "/1.0/kb/invoices/dryRun";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (accountId != null) {
+            queryParams.put("accountId", String.valueOf(accountId));
+        }
+        if (targetDate != null) {
+            queryParams.put("targetDate", String.valueOf(targetDate));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/dryRun");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Invoice.class, requestOptions);
+    }
+
+    public CompletableFuture<String> getCatalogTranslation(final String locale, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getCatalogTranslation");
+
+        final String uri = GET_CATALOG_TRANSLATION_URI.expand(locale);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/catalogTranslation/{locale}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, String.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoice> getInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        return getInvoice(invoiceId, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Invoice> getInvoice(final UUID invoiceId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoice");
+
+        final String uri = GET_INVOICE_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (withChildrenItems != null) {
+            queryParams.put("withChildrenItems", String.valueOf(withChildrenItems));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Invoice.class, requestOptions);
+    }
+
+    public CompletableFuture<String> getInvoiceAsHTML(final UUID invoiceId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceAsHTML");
+
+        final String uri = GET_INVOICE_AS_HTML_URI.expand(invoiceId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/html");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, String.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getInvoiceAuditLogsWithHistory(final UUID invoiceId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceAuditLogsWithHistory");
+
+        final String uri = GET_INVOICE_AUDIT_LOGS_WITH_HISTORY_URI.expand(invoiceId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByItemId(final UUID itemId, final RequestOptions inputOptions) {
+        return getInvoiceByItemId(itemId, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByItemId(final UUID itemId, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(itemId, "Missing the required parameter 'itemId' when calling getInvoiceByItemId");
+
+        final String uri = GET_INVOICE_BY_ITEM_ID_URI.expand(itemId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (withChildrenItems != null) {
+            queryParams.put("withChildrenItems", String.valueOf(withChildrenItems));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/byItemId/{itemId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Invoice.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByNumber(final Integer invoiceNumber, final RequestOptions inputOptions) {
+        return getInvoiceByNumber(invoiceNumber, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Invoice> getInvoiceByNumber(final Integer invoiceNumber, final Boolean withChildrenItems, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceNumber, "Missing the required parameter 'invoiceNumber' when calling getInvoiceByNumber");
+
+        final String uri = GET_INVOICE_BY_NUMBER_URI.expand(invoiceNumber);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (withChildrenItems != null) {
+            queryParams.put("withChildrenItems", String.valueOf(withChildrenItems));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/byNumber/{invoiceNumber}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Invoice.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceCustomFields(final UUID invoiceId, final RequestOptions inputOptions) {
+        return getInvoiceCustomFields(invoiceId, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceCustomFields(final UUID invoiceId, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceCustomFields");
+
+        final String uri = GET_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<String> getInvoiceMPTemplate(final String locale, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getInvoiceMPTemplate");
+
+        final String uri = GET_INVOICE_MPTEMPLATE_URI.expand(locale);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/manualPayTemplate/{locale}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, String.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> getInvoiceTags(final UUID invoiceId, final RequestOptions inputOptions) {
+        return getInvoiceTags(invoiceId, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Tags> getInvoiceTags(final UUID invoiceId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getInvoiceTags");
+
+        final String uri = GET_INVOICE_TAGS_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (includedDeleted != null) {
+            queryParams.put("includedDeleted", String.valueOf(includedDeleted));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Tags.class, requestOptions);
+    }
+
+    public CompletableFuture<String> getInvoiceTemplate(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/invoices/template";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/template");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, String.class, requestOptions);
+    }
+
+    public CompletableFuture<String> getInvoiceTranslation(final String locale, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling getInvoiceTranslation");
+
+        final String uri = GET_INVOICE_TRANSLATION_URI.expand(locale);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/translation/{locale}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, String.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoices> getInvoices(final RequestOptions inputOptions) {
+        return getInvoices(Long.valueOf(0), Long.valueOf(100), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Invoices> getInvoices(final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/invoices/pagination";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/pagination");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Invoices.class, requestOptions);
+    }
+
+    public CompletableFuture<InvoicePayments> getPaymentsForInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        return getPaymentsForInvoice(invoiceId, Boolean.valueOf(false), Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<InvoicePayments> getPaymentsForInvoice(final UUID invoiceId, final Boolean withPluginInfo, final Boolean withAttempts, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling getPaymentsForInvoice");
+
+        final String uri = GET_PAYMENTS_FOR_INVOICE_URI.expand(invoiceId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (withPluginInfo != null) {
+            queryParams.put("withPluginInfo", String.valueOf(withPluginInfo));
+        }
+        if (withAttempts != null) {
+            queryParams.put("withAttempts", String.valueOf(withAttempts));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/payments");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, InvoicePayments.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> modifyInvoiceCustomFields(final UUID invoiceId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling modifyInvoiceCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoiceCustomFields");
+
+        final String uri = MODIFY_INVOICE_CUSTOM_FIELDS_URI.expand(invoiceId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/customFields");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Invoices> searchInvoices(final String searchKey, final RequestOptions inputOptions) {
+        return searchInvoices(searchKey, Long.valueOf(0), Long.valueOf(100), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Invoices> searchInvoices(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchInvoices");
+
+        final String uri = SEARCH_INVOICES_URI.expand(searchKey);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (offset != null) {
+            queryParams.put("offset", String.valueOf(offset));
+        }
+        if (limit != null) {
+            queryParams.put("limit", String.valueOf(limit));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/search/{searchKey}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Invoices.class, requestOptions);
+    }
+
+    public CompletableFuture<String> uploadCatalogTranslation(final String locale, final String body, final RequestOptions inputOptions) {
+        return uploadCatalogTranslation(locale, body, Boolean.valueOf(false), inputOptions);
+    }
+
+    public CompletableFuture<String> uploadCatalogTranslation(final String locale, final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling uploadCatalogTranslation");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadCatalogTranslation");
+
+        final String uri = UPLOAD_CATALOG_TRANSLATION_URI.expand(locale);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (deleteIfExists != null) {
+            queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/catalogTranslation/{locale}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, String.class, requestOptions);
+    }
+
+    public CompletableFuture<String> uploadInvoiceMPTemplate(final String body, final RequestOptions inputOptions) {
+        return uploadInvoiceMPTemplate(body, Boolean.valueOf(false), inputOptions);
+    }
+
+    public CompletableFuture<String> uploadInvoiceMPTemplate(final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadInvoiceMPTemplate");
+
+        final String uri = "/1.0/kb/invoices/manualPayTemplate";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (deleteIfExists != null) {
+            queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/manualPayTemplate");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/html");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, String.class, requestOptions);
+    }
+
+    public CompletableFuture<String> uploadInvoiceTemplate(final String body, final RequestOptions inputOptions) {
+        return uploadInvoiceTemplate(body, Boolean.valueOf(false), inputOptions);
+    }
+
+    public CompletableFuture<String> uploadInvoiceTemplate(final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadInvoiceTemplate");
+
+        final String uri = "/1.0/kb/invoices/template";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (deleteIfExists != null) {
+            queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/template");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/html");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/html");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, String.class, requestOptions);
+    }
+
+    public CompletableFuture<String> uploadInvoiceTranslation(final String locale, final String body, final RequestOptions inputOptions) {
+        return uploadInvoiceTranslation(locale, body, Boolean.valueOf(false), inputOptions);
+    }
+
+    public CompletableFuture<String> uploadInvoiceTranslation(final String locale, final String body, final Boolean deleteIfExists, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(locale, "Missing the required parameter 'locale' when calling uploadInvoiceTranslation");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadInvoiceTranslation");
+
+        final String uri = UPLOAD_INVOICE_TRANSLATION_URI.expand(locale);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (deleteIfExists != null) {
+            queryParams.put("deleteIfExists", String.valueOf(deleteIfExists));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/translation/{locale}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "text/plain");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, String.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> voidInvoice(final UUID invoiceId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceId, "Missing the required parameter 'invoiceId' when calling voidInvoice");
+
+        final String uri = VOID_INVOICE_URI.expand(invoiceId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoices/{invoiceId}/voidInvoice");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, null, Void.class, requestOptions);
+    }
+
+}
@@ -35,7 +35,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -48,10 +50,19 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class InvoiceItemApi {
 
+    private static final PathTemplate CREATE_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+    private static final PathTemplate CREATE_INVOICE_ITEM_TAGS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+    private static final PathTemplate DELETE_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+    private static final PathTemplate DELETE_INVOICE_ITEM_TAGS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+    private static final PathTemplate GET_INVOICE_ITEM_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/auditLogsWithHistory");
+    private static final PathTemplate GET_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+    private static final PathTemplate GET_INVOICE_ITEM_TAGS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+    private static final PathTemplate MODIFY_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+
     private final KillBillHttpClient httpClient;
 
     public InvoiceItemApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public InvoiceItemApi(final KillBillHttpClient httpClient) {
@@ -62,11 +73,11 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling createInvoiceItemCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = CREATE_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -80,11 +91,11 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling createInvoiceItemTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceItemTags");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/tags"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = CREATE_INVOICE_ITEM_TAGS_URI.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -98,8 +109,7 @@ public class InvoiceItemApi {
     public void deleteInvoiceItemCustomFields(final UUID invoiceItemId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = DELETE_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -107,6 +117,7 @@ public class InvoiceItemApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -119,8 +130,7 @@ public class InvoiceItemApi {
     public void deleteInvoiceItemTags(final UUID invoiceItemId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteInvoiceItemTags");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/tags"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = DELETE_INVOICE_ITEM_TAGS_URI.expand(invoiceItemId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -128,6 +138,7 @@ public class InvoiceItemApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -139,11 +150,11 @@ public class InvoiceItemApi {
     public AuditLogs getInvoiceItemAuditLogsWithHistory(final UUID invoiceItemId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = GET_INVOICE_ITEM_AUDIT_LOGS_WITH_HISTORY_URI.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -157,8 +168,7 @@ public class InvoiceItemApi {
     public CustomFields getInvoiceItemCustomFields(final UUID invoiceItemId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = GET_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -166,6 +176,7 @@ public class InvoiceItemApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -181,8 +192,7 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemTags");
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoiceItemTags");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/tags"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = GET_INVOICE_ITEM_TAGS_URI.expand(invoiceItemId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (accountId != null) {
@@ -196,6 +206,7 @@ public class InvoiceItemApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -207,11 +218,11 @@ public class InvoiceItemApi {
         Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling modifyInvoiceItemCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoiceItemCustomFields");
 
-        final String uri = "/1.0/kb/invoiceItems/{invoiceItemId}/customFields"
-          .replaceAll("\\{" + "invoiceItemId" + "\\}", invoiceItemId.toString());
+        final String uri = MODIFY_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.UUID;
+import org.killbill.billing.client.model.CustomFields;
+import java.util.List;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.util.api.AuditLevel;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.Converter;
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class InvoiceItemApiAsync {
+
+    private static final PathTemplate CREATE_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+    private static final PathTemplate CREATE_INVOICE_ITEM_TAGS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+    private static final PathTemplate DELETE_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+    private static final PathTemplate DELETE_INVOICE_ITEM_TAGS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+    private static final PathTemplate GET_INVOICE_ITEM_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/auditLogsWithHistory");
+    private static final PathTemplate GET_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+    private static final PathTemplate GET_INVOICE_ITEM_TAGS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+    private static final PathTemplate MODIFY_INVOICE_ITEM_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+
+    private final KillBillHttpClient httpClient;
+
+    public InvoiceItemApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public InvoiceItemApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<CustomFields> createInvoiceItemCustomFields(final UUID invoiceItemId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling createInvoiceItemCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceItemCustomFields");
+
+        final String uri = CREATE_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> createInvoiceItemTags(final UUID invoiceItemId, final List<UUID> body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling createInvoiceItemTags");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoiceItemTags");
+
+        final String uri = CREATE_INVOICE_ITEM_TAGS_URI.expand(invoiceItemId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Tags.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteInvoiceItemCustomFields(final UUID invoiceItemId, final List<UUID> customField, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteInvoiceItemCustomFields");
+
+        final String uri = DELETE_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (customField != null) {
+            queryParams.putAll("customField", Converter.convertUUIDListToStringList(customField));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteInvoiceItemTags(final UUID invoiceItemId, final List<UUID> tagDef, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling deleteInvoiceItemTags");
+
+        final String uri = DELETE_INVOICE_ITEM_TAGS_URI.expand(invoiceItemId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (tagDef != null) {
+            queryParams.putAll("tagDef", Converter.convertUUIDListToStringList(tagDef));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getInvoiceItemAuditLogsWithHistory(final UUID invoiceItemId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemAuditLogsWithHistory");
+
+        final String uri = GET_INVOICE_ITEM_AUDIT_LOGS_WITH_HISTORY_URI.expand(invoiceItemId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceItemCustomFields(final UUID invoiceItemId, final RequestOptions inputOptions) {
+        return getInvoiceItemCustomFields(invoiceItemId, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<CustomFields> getInvoiceItemCustomFields(final UUID invoiceItemId, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemCustomFields");
+
+        final String uri = GET_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, CustomFields.class, requestOptions);
+    }
+
+    public CompletableFuture<Tags> getInvoiceItemTags(final UUID invoiceItemId, final UUID accountId, final RequestOptions inputOptions) {
+        return getInvoiceItemTags(invoiceItemId, accountId, Boolean.valueOf(false), AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<Tags> getInvoiceItemTags(final UUID invoiceItemId, final UUID accountId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling getInvoiceItemTags");
+        Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling getInvoiceItemTags");
+
+        final String uri = GET_INVOICE_ITEM_TAGS_URI.expand(invoiceItemId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (accountId != null) {
+            queryParams.put("accountId", String.valueOf(accountId));
+        }
+        if (includedDeleted != null) {
+            queryParams.put("includedDeleted", String.valueOf(includedDeleted));
+        }
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/tags");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Tags.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> modifyInvoiceItemCustomFields(final UUID invoiceItemId, final CustomFields body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(invoiceItemId, "Missing the required parameter 'invoiceItemId' when calling modifyInvoiceItemCustomFields");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoiceItemCustomFields");
+
+        final String uri = MODIFY_INVOICE_ITEM_CUSTOM_FIELDS_URI.expand(invoiceItemId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoiceItems/{invoiceItemId}/customFields");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+}
@@ -40,7 +40,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -53,10 +55,24 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class InvoicePaymentApi {
 
+    private static final PathTemplate COMPLETE_INVOICE_PAYMENT_TRANSACTION_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}");
+    private static final PathTemplate CREATE_CHARGEBACK_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/chargebacks");
+    private static final PathTemplate CREATE_CHARGEBACK_REVERSAL_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/chargebackReversals");
+    private static final PathTemplate CREATE_INVOICE_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/customFields");
+    private static final PathTemplate CREATE_INVOICE_PAYMENT_TAGS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/tags");
+    private static final PathTemplate CREATE_REFUND_WITH_ADJUSTMENTS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/refunds");
+    private static final PathTemplate DELETE_INVOICE_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/customFields");
+    private static final PathTemplate DELETE_INVOICE_PAYMENT_TAGS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/tags");
+    private static final PathTemplate GET_INVOICE_PAYMENT_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}");
+    private static final PathTemplate GET_INVOICE_PAYMENT_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{invoicePaymentId}/auditLogsWithHistory");
+    private static final PathTemplate GET_INVOICE_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/customFields");
+    private static final PathTemplate GET_INVOICE_PAYMENT_TAGS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/tags");
+    private static final PathTemplate MODIFY_INVOICE_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/invoicePayments/{paymentId}/customFields");
+
     private final KillBillHttpClient httpClient;
 
     public InvoicePaymentApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public InvoicePaymentApi(final KillBillHttpClient httpClient) {
@@ -67,8 +83,7 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling completeInvoicePaymentTransaction");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling completeInvoicePaymentTransaction");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = COMPLETE_INVOICE_PAYMENT_TRANSACTION_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -79,6 +94,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -91,8 +107,7 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createChargeback");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createChargeback");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/chargebacks"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CREATE_CHARGEBACK_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (pluginProperty != null) {
@@ -100,6 +115,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/chargebacks");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -114,8 +130,7 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createChargebackReversal");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createChargebackReversal");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/chargebackReversals"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CREATE_CHARGEBACK_REVERSAL_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (pluginProperty != null) {
@@ -123,6 +138,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/chargebackReversals");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -137,11 +153,11 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createInvoicePaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CREATE_INVOICE_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -155,11 +171,11 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createInvoicePaymentTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createInvoicePaymentTags");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CREATE_INVOICE_PAYMENT_TAGS_URI.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -177,8 +193,7 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createRefundWithAdjustments");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createRefundWithAdjustments");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/refunds"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CREATE_REFUND_WITH_ADJUSTMENTS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (externalPayment != null) {
@@ -192,6 +207,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/refunds");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -206,8 +222,7 @@ public class InvoicePaymentApi {
     public void deleteInvoicePaymentCustomFields(final UUID paymentId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deleteInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = DELETE_INVOICE_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -215,6 +230,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -227,8 +243,7 @@ public class InvoicePaymentApi {
     public void deleteInvoicePaymentTags(final UUID paymentId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deleteInvoicePaymentTags");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = DELETE_INVOICE_PAYMENT_TAGS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -236,6 +251,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -251,8 +267,7 @@ public class InvoicePaymentApi {
     public InvoicePayment getInvoicePayment(final UUID paymentId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getInvoicePayment");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = GET_INVOICE_PAYMENT_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
@@ -269,6 +284,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -279,11 +295,11 @@ public class InvoicePaymentApi {
     public AuditLogs getInvoicePaymentAuditLogsWithHistory(final UUID invoicePaymentId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(invoicePaymentId, "Missing the required parameter 'invoicePaymentId' when calling getInvoicePaymentAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/invoicePayments/{invoicePaymentId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "invoicePaymentId" + "\\}", invoicePaymentId.toString());
+        final String uri = GET_INVOICE_PAYMENT_AUDIT_LOGS_WITH_HISTORY_URI.expand(invoicePaymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{invoicePaymentId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -297,8 +313,7 @@ public class InvoicePaymentApi {
     public CustomFields getInvoicePaymentCustomFields(final UUID paymentId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = GET_INVOICE_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -306,6 +321,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -320,8 +336,7 @@ public class InvoicePaymentApi {
     public Tags getInvoicePaymentTags(final UUID paymentId, final Boolean includedDeleted, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getInvoicePaymentTags");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = GET_INVOICE_PAYMENT_TAGS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -335,6 +350,7 @@ public class InvoicePaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -346,11 +362,11 @@ public class InvoicePaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling modifyInvoicePaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyInvoicePaymentCustomFields");
 
-        final String uri = "/1.0/kb/invoicePayments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = MODIFY_INVOICE_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/invoicePayments/{paymentId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -41,7 +41,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -54,10 +56,29 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class PaymentApi {
 
+    private static final PathTemplate CANCEL_SCHEDULED_PAYMENT_TRANSACTION_BY_ID_URI = PathTemplate.compile("/1.0/kb/payments/{paymentTransactionId}/cancelScheduledPaymentTransaction");
+    private static final PathTemplate CAPTURE_AUTHORIZATION_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}");
+    private static final PathTemplate CHARGEBACK_PAYMENT_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/chargebacks");
+    private static final PathTemplate CHARGEBACK_REVERSAL_PAYMENT_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/chargebackReversals");
+    private static final PathTemplate COMPLETE_TRANSACTION_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}");
+    private static final PathTemplate CREATE_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/customFields");
+    private static final PathTemplate CREATE_PAYMENT_TAGS_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/tags");
+    private static final PathTemplate DELETE_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/customFields");
+    private static final PathTemplate DELETE_PAYMENT_TAGS_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/tags");
+    private static final PathTemplate GET_PAYMENT_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}");
+    private static final PathTemplate GET_PAYMENT_ATTEMPT_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/payments/attempts/{paymentAttemptId}/auditLogsWithHistory");
+    private static final PathTemplate GET_PAYMENT_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/auditLogsWithHistory");
+    private static final PathTemplate GET_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/customFields");
+    private static final PathTemplate GET_PAYMENT_TAGS_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/tags");
+    private static final PathTemplate MODIFY_PAYMENT_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/customFields");
+    private static final PathTemplate REFUND_PAYMENT_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}/refunds");
+    private static final PathTemplate SEARCH_PAYMENTS_URI = PathTemplate.compile("/1.0/kb/payments/search/{searchKey}");
+    private static final PathTemplate VOID_PAYMENT_URI = PathTemplate.compile("/1.0/kb/payments/{paymentId}");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public PaymentApi(final KillBillHttpClient httpClient) {
@@ -76,6 +97,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/cancelScheduledPaymentTransaction");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -88,11 +110,11 @@ public class PaymentApi {
     public void cancelScheduledPaymentTransactionById(final UUID paymentTransactionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentTransactionId, "Missing the required parameter 'paymentTransactionId' when calling cancelScheduledPaymentTransactionById");
 
-        final String uri = "/1.0/kb/payments/{paymentTransactionId}/cancelScheduledPaymentTransaction"
-          .replaceAll("\\{" + "paymentTransactionId" + "\\}", paymentTransactionId.toString());
+        final String uri = CANCEL_SCHEDULED_PAYMENT_TRANSACTION_BY_ID_URI.expand(paymentTransactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentTransactionId}/cancelScheduledPaymentTransaction");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -104,8 +126,7 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling captureAuthorization");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling captureAuthorization");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CAPTURE_AUTHORIZATION_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -116,6 +137,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -140,6 +162,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -154,8 +177,7 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling chargebackPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling chargebackPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/chargebacks"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CHARGEBACK_PAYMENT_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -166,6 +188,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/chargebacks");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -190,6 +213,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/chargebacks");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -204,8 +228,7 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling chargebackReversalPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling chargebackReversalPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/chargebackReversals"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CHARGEBACK_REVERSAL_PAYMENT_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -216,6 +239,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/chargebackReversals");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -240,6 +264,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/chargebackReversals");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -254,8 +279,7 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling completeTransaction");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling completeTransaction");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = COMPLETE_TRANSACTION_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -266,6 +290,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -288,6 +313,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -307,6 +333,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/combo");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -321,11 +348,11 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createPaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CREATE_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -339,11 +366,11 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling createPaymentTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentTags");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = CREATE_PAYMENT_TAGS_URI.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -357,8 +384,7 @@ public class PaymentApi {
     public void deletePaymentCustomFields(final UUID paymentId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deletePaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = DELETE_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -366,6 +392,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -378,8 +405,7 @@ public class PaymentApi {
     public void deletePaymentTags(final UUID paymentId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling deletePaymentTags");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = DELETE_PAYMENT_TAGS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -387,6 +413,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -402,8 +429,7 @@ public class PaymentApi {
     public Payment getPayment(final UUID paymentId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = GET_PAYMENT_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
@@ -420,6 +446,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -430,11 +457,11 @@ public class PaymentApi {
     public AuditLogs getPaymentAttemptAuditLogsWithHistory(final UUID paymentAttemptId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentAttemptId, "Missing the required parameter 'paymentAttemptId' when calling getPaymentAttemptAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/payments/attempts/{paymentAttemptId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "paymentAttemptId" + "\\}", paymentAttemptId.toString());
+        final String uri = GET_PAYMENT_ATTEMPT_AUDIT_LOGS_WITH_HISTORY_URI.expand(paymentAttemptId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/attempts/{paymentAttemptId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -444,11 +471,11 @@ public class PaymentApi {
     public AuditLogs getPaymentAuditLogsWithHistory(final UUID paymentId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPaymentAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = GET_PAYMENT_AUDIT_LOGS_WITH_HISTORY_URI.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -482,6 +509,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -496,8 +524,7 @@ public class PaymentApi {
     public CustomFields getPaymentCustomFields(final UUID paymentId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = GET_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -505,6 +532,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -519,8 +547,7 @@ public class PaymentApi {
     public Tags getPaymentTags(final UUID paymentId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling getPaymentTags");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/tags"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = GET_PAYMENT_TAGS_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -531,6 +558,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -570,6 +598,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/pagination");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -581,11 +610,11 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling modifyPaymentCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyPaymentCustomFields");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/customFields"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = MODIFY_PAYMENT_CUSTOM_FIELDS_URI.expand(paymentId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -597,8 +626,7 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling refundPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling refundPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}/refunds"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = REFUND_PAYMENT_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -609,6 +637,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}/refunds");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -633,6 +662,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/refunds");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -650,8 +680,7 @@ public class PaymentApi {
     public Payments searchPayments(final String searchKey, final Long offset, final Long limit, final Boolean withPluginInfo, final Boolean withAttempts, final String pluginName, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchPayments");
 
-        final String uri = "/1.0/kb/payments/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = SEARCH_PAYMENTS_URI.expand(searchKey);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (offset != null) {
@@ -677,6 +706,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/search/{searchKey}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -689,8 +719,7 @@ public class PaymentApi {
         Preconditions.checkNotNull(paymentId, "Missing the required parameter 'paymentId' when calling voidPayment");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling voidPayment");
 
-        final String uri = "/1.0/kb/payments/{paymentId}"
-          .replaceAll("\\{" + "paymentId" + "\\}", paymentId.toString());
+        final String uri = VOID_PAYMENT_URI.expand(paymentId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -701,6 +730,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments/{paymentId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -724,6 +754,7 @@ public class PaymentApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/payments");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
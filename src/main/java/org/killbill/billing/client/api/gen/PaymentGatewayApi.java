@@ -35,7 +35,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -48,10 +50,13 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class PaymentGatewayApi {
 
+    private static final PathTemplate BUILD_FORM_DESCRIPTOR_URI = PathTemplate.compile("/1.0/kb/paymentGateways/hosted/form/{accountId}");
+    private static final PathTemplate PROCESS_NOTIFICATION_URI = PathTemplate.compile("/1.0/kb/paymentGateways/notification/{pluginName}");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentGatewayApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public PaymentGatewayApi(final KillBillHttpClient httpClient) {
@@ -72,6 +77,7 @@ public class PaymentGatewayApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentGateways/hosted/form");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -86,8 +92,7 @@ public class PaymentGatewayApi {
         Preconditions.checkNotNull(accountId, "Missing the required parameter 'accountId' when calling buildFormDescriptor");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling buildFormDescriptor");
 
-        final String uri = "/1.0/kb/paymentGateways/hosted/form/{accountId}"
-          .replaceAll("\\{" + "accountId" + "\\}", accountId.toString());
+        final String uri = BUILD_FORM_DESCRIPTOR_URI.expand(accountId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (paymentMethodId != null) {
@@ -101,6 +106,7 @@ public class PaymentGatewayApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentGateways/hosted/form/{accountId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -115,8 +121,7 @@ public class PaymentGatewayApi {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling processNotification");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling processNotification");
 
-        final String uri = "/1.0/kb/paymentGateways/notification/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = PROCESS_NOTIFICATION_URI.expand(pluginName);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -127,6 +132,7 @@ public class PaymentGatewayApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentGateways/notification/{pluginName}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -37,7 +37,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -50,10 +52,19 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class PaymentMethodApi {
 
+    private static final PathTemplate CREATE_PAYMENT_METHOD_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
+    private static final PathTemplate DELETE_PAYMENT_METHOD_URI = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}");
+    private static final PathTemplate DELETE_PAYMENT_METHOD_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
+    private static final PathTemplate GET_PAYMENT_METHOD_URI = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}");
+    private static final PathTemplate GET_PAYMENT_METHOD_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}/auditLogsWithHistory");
+    private static final PathTemplate GET_PAYMENT_METHOD_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
+    private static final PathTemplate MODIFY_PAYMENT_METHOD_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
+    private static final PathTemplate SEARCH_PAYMENT_METHODS_URI = PathTemplate.compile("/1.0/kb/paymentMethods/search/{searchKey}");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentMethodApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public PaymentMethodApi(final KillBillHttpClient httpClient) {
@@ -64,11 +75,11 @@ public class PaymentMethodApi {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling createPaymentMethodCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createPaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = CREATE_PAYMENT_METHOD_CUSTOM_FIELDS_URI.expand(paymentMethodId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -86,8 +97,7 @@ public class PaymentMethodApi {
     public void deletePaymentMethod(final UUID paymentMethodId, final Boolean deleteDefaultPmWithAutoPayOff, final Boolean forceDefaultPmDeletion, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling deletePaymentMethod");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = DELETE_PAYMENT_METHOD_URI.expand(paymentMethodId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (deleteDefaultPmWithAutoPayOff != null) {
@@ -101,6 +111,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/{paymentMethodId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -112,8 +123,7 @@ public class PaymentMethodApi {
     public void deletePaymentMethodCustomFields(final UUID paymentMethodId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling deletePaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = DELETE_PAYMENT_METHOD_CUSTOM_FIELDS_URI.expand(paymentMethodId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -121,6 +131,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -136,8 +147,7 @@ public class PaymentMethodApi {
     public PaymentMethod getPaymentMethod(final UUID paymentMethodId, final Boolean includedDeleted, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling getPaymentMethod");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = GET_PAYMENT_METHOD_URI.expand(paymentMethodId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -154,6 +164,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/{paymentMethodId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -164,11 +175,11 @@ public class PaymentMethodApi {
     public AuditLogs getPaymentMethodAuditLogsWithHistory(final UUID paymentMethodId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling getPaymentMethodAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = GET_PAYMENT_METHOD_AUDIT_LOGS_WITH_HISTORY_URI.expand(paymentMethodId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/{paymentMethodId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -202,6 +213,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -216,8 +228,7 @@ public class PaymentMethodApi {
     public CustomFields getPaymentMethodCustomFields(final UUID paymentMethodId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling getPaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = GET_PAYMENT_METHOD_CUSTOM_FIELDS_URI.expand(paymentMethodId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -225,6 +236,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -261,6 +273,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/pagination");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -272,11 +285,11 @@ public class PaymentMethodApi {
         Preconditions.checkNotNull(paymentMethodId, "Missing the required parameter 'paymentMethodId' when calling modifyPaymentMethodCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyPaymentMethodCustomFields");
 
-        final String uri = "/1.0/kb/paymentMethods/{paymentMethodId}/customFields"
-          .replaceAll("\\{" + "paymentMethodId" + "\\}", paymentMethodId.toString());
+        final String uri = MODIFY_PAYMENT_METHOD_CUSTOM_FIELDS_URI.expand(paymentMethodId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/{paymentMethodId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -291,8 +304,7 @@ public class PaymentMethodApi {
     public PaymentMethods searchPaymentMethods(final String searchKey, final Long offset, final Long limit, final String pluginName, final Boolean withPluginInfo, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchPaymentMethods");
 
-        final String uri = "/1.0/kb/paymentMethods/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = SEARCH_PAYMENT_METHODS_URI.expand(searchKey);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (offset != null) {
@@ -315,6 +327,7 @@ public class PaymentMethodApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentMethods/search/{searchKey}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -39,7 +39,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -52,10 +54,21 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class PaymentTransactionApi {
 
+    private static final PathTemplate CREATE_TRANSACTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/customFields");
+    private static final PathTemplate CREATE_TRANSACTION_TAGS_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/tags");
+    private static final PathTemplate DELETE_TRANSACTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/customFields");
+    private static final PathTemplate DELETE_TRANSACTION_TAGS_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/tags");
+    private static final PathTemplate GET_PAYMENT_BY_TRANSACTION_ID_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}");
+    private static final PathTemplate GET_TRANSACTION_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/auditLogsWithHistory");
+    private static final PathTemplate GET_TRANSACTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/customFields");
+    private static final PathTemplate GET_TRANSACTION_TAGS_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/tags");
+    private static final PathTemplate MODIFY_TRANSACTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}/customFields");
+    private static final PathTemplate NOTIFY_STATE_CHANGED_URI = PathTemplate.compile("/1.0/kb/paymentTransactions/{transactionId}");
+
     private final KillBillHttpClient httpClient;
 
     public PaymentTransactionApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public PaymentTransactionApi(final KillBillHttpClient httpClient) {
@@ -66,11 +79,11 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling createTransactionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = CREATE_TRANSACTION_CUSTOM_FIELDS_URI.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -84,11 +97,11 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling createTransactionTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTransactionTags");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/tags"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = CREATE_TRANSACTION_TAGS_URI.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -102,8 +115,7 @@ public class PaymentTransactionApi {
     public void deleteTransactionCustomFields(final UUID transactionId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling deleteTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = DELETE_TRANSACTION_CUSTOM_FIELDS_URI.expand(transactionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -111,6 +123,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -123,8 +136,7 @@ public class PaymentTransactionApi {
     public void deleteTransactionTags(final UUID transactionId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling deleteTransactionTags");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/tags"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = DELETE_TRANSACTION_TAGS_URI.expand(transactionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -132,6 +144,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -167,6 +180,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -181,8 +195,7 @@ public class PaymentTransactionApi {
     public Payment getPaymentByTransactionId(final UUID transactionId, final Boolean withPluginInfo, final Boolean withAttempts, final Map<String, String> pluginProperty, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getPaymentByTransactionId");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = GET_PAYMENT_BY_TRANSACTION_ID_URI.expand(transactionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (withPluginInfo != null) {
@@ -199,6 +212,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -209,11 +223,11 @@ public class PaymentTransactionApi {
     public AuditLogs getTransactionAuditLogsWithHistory(final UUID transactionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getTransactionAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = GET_TRANSACTION_AUDIT_LOGS_WITH_HISTORY_URI.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -227,8 +241,7 @@ public class PaymentTransactionApi {
     public CustomFields getTransactionCustomFields(final UUID transactionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = GET_TRANSACTION_CUSTOM_FIELDS_URI.expand(transactionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -236,6 +249,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -250,8 +264,7 @@ public class PaymentTransactionApi {
     public Tags getTransactionTags(final UUID transactionId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling getTransactionTags");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/tags"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = GET_TRANSACTION_TAGS_URI.expand(transactionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -262,6 +275,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -273,11 +287,11 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling modifyTransactionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifyTransactionCustomFields");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}/customFields"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = MODIFY_TRANSACTION_CUSTOM_FIELDS_URI.expand(transactionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -289,8 +303,7 @@ public class PaymentTransactionApi {
         Preconditions.checkNotNull(transactionId, "Missing the required parameter 'transactionId' when calling notifyStateChanged");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling notifyStateChanged");
 
-        final String uri = "/1.0/kb/paymentTransactions/{transactionId}"
-          .replaceAll("\\{" + "transactionId" + "\\}", transactionId.toString());
+        final String uri = NOTIFY_STATE_CHANGED_URI.expand(transactionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (controlPluginName != null) {
@@ -298,6 +311,7 @@ public class PaymentTransactionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/paymentTransactions/{transactionId}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -24,6 +24,7 @@ package org.killbill.billing.client.api.gen;
 import org.killbill.billing.client.model.PluginInfos;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
@@ -40,7 +41,7 @@ public class PluginInfoApi {
     private final KillBillHttpClient httpClient;
 
     public PluginInfoApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public PluginInfoApi(final KillBillHttpClient httpClient) {
@@ -53,6 +54,7 @@ public class PluginInfoApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/pluginsInfo");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
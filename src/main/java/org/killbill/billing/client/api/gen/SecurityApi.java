@@ -30,7 +30,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.MoreObjects;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -43,10 +45,16 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class SecurityApi {
 
+    private static final PathTemplate GET_ROLE_DEFINITION_URI = PathTemplate.compile("/1.0/kb/security/roles/{role}");
+    private static final PathTemplate GET_USER_ROLES_URI = PathTemplate.compile("/1.0/kb/security/users/{username}/roles");
+    private static final PathTemplate INVALIDATE_USER_URI = PathTemplate.compile("/1.0/kb/security/users/{username}");
+    private static final PathTemplate UPDATE_USER_PASSWORD_URI = PathTemplate.compile("/1.0/kb/security/users/{username}/password");
+    private static final PathTemplate UPDATE_USER_ROLES_URI = PathTemplate.compile("/1.0/kb/security/users/{username}/roles");
+
     private final KillBillHttpClient httpClient;
 
     public SecurityApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public SecurityApi(final KillBillHttpClient httpClient) {
@@ -60,6 +68,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/roles");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -76,6 +85,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -91,6 +101,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/permissions");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -103,6 +114,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/subject");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -112,11 +124,11 @@ public class SecurityApi {
     public RoleDefinition getRoleDefinition(final String role, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(role, "Missing the required parameter 'role' when calling getRoleDefinition");
 
-        final String uri = "/1.0/kb/security/roles/{role}"
-          .replaceAll("\\{" + "role" + "\\}", role.toString());
+        final String uri = GET_ROLE_DEFINITION_URI.expand(role);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/roles/{role}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -126,11 +138,11 @@ public class SecurityApi {
     public UserRoles getUserRoles(final String username, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling getUserRoles");
 
-        final String uri = "/1.0/kb/security/users/{username}/roles"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = GET_USER_ROLES_URI.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}/roles");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -141,11 +153,11 @@ public class SecurityApi {
     public void invalidateUser(final String username, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling invalidateUser");
 
-        final String uri = "/1.0/kb/security/users/{username}"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = INVALIDATE_USER_URI.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -160,6 +172,7 @@ public class SecurityApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/roles");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -171,11 +184,11 @@ public class SecurityApi {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling updateUserPassword");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateUserPassword");
 
-        final String uri = "/1.0/kb/security/users/{username}/password"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = UPDATE_USER_PASSWORD_URI.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}/password");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -187,11 +200,11 @@ public class SecurityApi {
         Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling updateUserRoles");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateUserRoles");
 
-        final String uri = "/1.0/kb/security/users/{username}/roles"
-          .replaceAll("\\{" + "username" + "\\}", username.toString());
+        final String uri = UPDATE_USER_ROLES_URI.expand(username);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}/roles");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import org.killbill.billing.client.model.gen.RoleDefinition;
+import org.killbill.billing.client.model.gen.Subject;
+import org.killbill.billing.client.model.gen.UserRoles;
+import org.killbill.billing.client.model.Strings;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class SecurityApiAsync {
+
+    private static final PathTemplate GET_ROLE_DEFINITION_URI = PathTemplate.compile("/1.0/kb/security/roles/{role}");
+    private static final PathTemplate GET_USER_ROLES_URI = PathTemplate.compile("/1.0/kb/security/users/{username}/roles");
+    private static final PathTemplate INVALIDATE_USER_URI = PathTemplate.compile("/1.0/kb/security/users/{username}");
+    private static final PathTemplate UPDATE_USER_PASSWORD_URI = PathTemplate.compile("/1.0/kb/security/users/{username}/password");
+    private static final PathTemplate UPDATE_USER_ROLES_URI = PathTemplate.compile("/1.0/kb/security/users/{username}/roles");
+
+    private final KillBillHttpClient httpClient;
+
+    public SecurityApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public SecurityApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<RoleDefinition> addRoleDefinition(final RoleDefinition body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addRoleDefinition");
+
+        final String uri = "/1.0/kb/security/roles";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/roles");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, RoleDefinition.class, requestOptions);
+    }
+
+    public CompletableFuture<UserRoles> addUserRoles(final UserRoles body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addUserRoles");
+
+        final String uri = "/1.0/kb/security/users";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, UserRoles.class, requestOptions);
+    }
+
+    public CompletableFuture<Strings> getCurrentUserPermissions(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/security/permissions";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/permissions");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Strings.class, requestOptions);
+    }
+
+    public CompletableFuture<Subject> getCurrentUserSubject(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/security/subject";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/subject");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Subject.class, requestOptions);
+    }
+
+    public CompletableFuture<RoleDefinition> getRoleDefinition(final String role, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(role, "Missing the required parameter 'role' when calling getRoleDefinition");
+
+        final String uri = GET_ROLE_DEFINITION_URI.expand(role);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/roles/{role}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, RoleDefinition.class, requestOptions);
+    }
+
+    public CompletableFuture<UserRoles> getUserRoles(final String username, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling getUserRoles");
+
+        final String uri = GET_USER_ROLES_URI.expand(username);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}/roles");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, UserRoles.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> invalidateUser(final String username, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling invalidateUser");
+
+        final String uri = INVALIDATE_USER_URI.expand(username);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> updateRoleDefinition(final RoleDefinition body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateRoleDefinition");
+
+        final String uri = "/1.0/kb/security/roles";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/roles");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> updateUserPassword(final String username, final UserRoles body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling updateUserPassword");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateUserPassword");
+
+        final String uri = UPDATE_USER_PASSWORD_URI.expand(username);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}/password");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> updateUserRoles(final String username, final UserRoles body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(username, "Missing the required parameter 'username' when calling updateUserRoles");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateUserRoles");
+
+        final String uri = UPDATE_USER_ROLES_URI.expand(username);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/security/users/{username}/roles");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPutAsync(uri, body, Void.class, requestOptions);
+    }
+
+}
@@ -47,7 +47,9 @@ import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.Converter;
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -60,10 +62,27 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class SubscriptionApi {
 
+    private static final PathTemplate ADD_SUBSCRIPTION_BLOCKING_STATE_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/block");
+    private static final PathTemplate CANCEL_SUBSCRIPTION_PLAN_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}");
+    private static final PathTemplate CHANGE_SUBSCRIPTION_PLAN_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}");
+    private static final PathTemplate CREATE_SUBSCRIPTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/customFields");
+    private static final PathTemplate CREATE_SUBSCRIPTION_TAGS_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/tags");
+    private static final PathTemplate DELETE_SUBSCRIPTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/customFields");
+    private static final PathTemplate DELETE_SUBSCRIPTION_TAGS_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/tags");
+    private static final PathTemplate GET_SUBSCRIPTION_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}");
+    private static final PathTemplate GET_SUBSCRIPTION_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/auditLogsWithHistory");
+    private static final PathTemplate GET_SUBSCRIPTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/customFields");
+    private static final PathTemplate GET_SUBSCRIPTION_EVENT_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/subscriptions/events/{eventId}/auditLogsWithHistory");
+    private static final PathTemplate GET_SUBSCRIPTION_TAGS_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/tags");
+    private static final PathTemplate MODIFY_SUBSCRIPTION_CUSTOM_FIELDS_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/customFields");
+    private static final PathTemplate UNCANCEL_SUBSCRIPTION_PLAN_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/uncancel");
+    private static final PathTemplate UNDO_CHANGE_SUBSCRIPTION_PLAN_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/undoChangePlan");
+    private static final PathTemplate UPDATE_SUBSCRIPTION_BCD_URI = PathTemplate.compile("/1.0/kb/subscriptions/{subscriptionId}/bcd");
+
     private final KillBillHttpClient httpClient;
 
     public SubscriptionApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public SubscriptionApi(final KillBillHttpClient httpClient) {
@@ -74,8 +93,7 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling addSubscriptionBlockingState");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling addSubscriptionBlockingState");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/block"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = ADD_SUBSCRIPTION_BLOCKING_STATE_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -86,6 +104,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/block");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -103,8 +122,7 @@ public class SubscriptionApi {
     public void cancelSubscriptionPlan(final UUID subscriptionId, final LocalDate requestedDate, final Boolean callCompletion, final Long callTimeoutSec, final EntitlementActionPolicy entitlementPolicy, final BillingActionPolicy billingPolicy, final Boolean useRequestedDateForBilling, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling cancelSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = CANCEL_SUBSCRIPTION_PLAN_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -130,6 +148,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -145,8 +164,7 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling changeSubscriptionPlan");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling changeSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = CHANGE_SUBSCRIPTION_PLAN_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (requestedDate != null) {
@@ -166,6 +184,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -207,6 +226,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -221,11 +241,11 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling createSubscriptionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createSubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = CREATE_SUBSCRIPTION_CUSTOM_FIELDS_URI.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/customFields");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -239,11 +259,11 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling createSubscriptionTags");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createSubscriptionTags");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/tags"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = CREATE_SUBSCRIPTION_TAGS_URI.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/tags");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -286,6 +306,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/createSubscriptionWithAddOns");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -329,6 +350,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/createSubscriptionsWithAddOns");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -343,8 +365,7 @@ public class SubscriptionApi {
     public void deleteSubscriptionCustomFields(final UUID subscriptionId, final List<UUID> customField, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling deleteSubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = DELETE_SUBSCRIPTION_CUSTOM_FIELDS_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (customField != null) {
@@ -352,6 +373,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -364,8 +386,7 @@ public class SubscriptionApi {
     public void deleteSubscriptionTags(final UUID subscriptionId, final List<UUID> tagDef, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling deleteSubscriptionTags");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/tags"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = DELETE_SUBSCRIPTION_TAGS_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (tagDef != null) {
@@ -373,6 +394,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -388,8 +410,7 @@ public class SubscriptionApi {
     public Subscription getSubscription(final UUID subscriptionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscription");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = GET_SUBSCRIPTION_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -397,6 +418,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -407,11 +429,11 @@ public class SubscriptionApi {
     public AuditLogs getSubscriptionAuditLogsWithHistory(final UUID subscriptionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscriptionAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = GET_SUBSCRIPTION_AUDIT_LOGS_WITH_HISTORY_URI.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -436,6 +458,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -450,8 +473,7 @@ public class SubscriptionApi {
     public CustomFields getSubscriptionCustomFields(final UUID subscriptionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = GET_SUBSCRIPTION_CUSTOM_FIELDS_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -459,6 +481,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/customFields");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -469,11 +492,11 @@ public class SubscriptionApi {
     public AuditLogs getSubscriptionEventAuditLogsWithHistory(final UUID eventId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(eventId, "Missing the required parameter 'eventId' when calling getSubscriptionEventAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/subscriptions/events/{eventId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "eventId" + "\\}", eventId.toString());
+        final String uri = GET_SUBSCRIPTION_EVENT_AUDIT_LOGS_WITH_HISTORY_URI.expand(eventId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/events/{eventId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -487,8 +510,7 @@ public class SubscriptionApi {
     public Tags getSubscriptionTags(final UUID subscriptionId, final Boolean includedDeleted, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getSubscriptionTags");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/tags"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = GET_SUBSCRIPTION_TAGS_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (includedDeleted != null) {
@@ -499,6 +521,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/tags");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -510,11 +533,11 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling modifySubscriptionCustomFields");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling modifySubscriptionCustomFields");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/customFields"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = MODIFY_SUBSCRIPTION_CUSTOM_FIELDS_URI.expand(subscriptionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/customFields");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -525,8 +548,7 @@ public class SubscriptionApi {
     public void uncancelSubscriptionPlan(final UUID subscriptionId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling uncancelSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/uncancel"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = UNCANCEL_SUBSCRIPTION_PLAN_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (pluginProperty != null) {
@@ -534,6 +556,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/uncancel");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -544,8 +567,7 @@ public class SubscriptionApi {
     public void undoChangeSubscriptionPlan(final UUID subscriptionId, final Map<String, String> pluginProperty, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling undoChangeSubscriptionPlan");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/undoChangePlan"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = UNDO_CHANGE_SUBSCRIPTION_PLAN_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (pluginProperty != null) {
@@ -553,6 +575,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/undoChangePlan");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -568,8 +591,7 @@ public class SubscriptionApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling updateSubscriptionBCD");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling updateSubscriptionBCD");
 
-        final String uri = "/1.0/kb/subscriptions/{subscriptionId}/bcd"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = UPDATE_SUBSCRIPTION_BCD_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (effectiveFromDate != null) {
@@ -580,6 +602,7 @@ public class SubscriptionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/subscriptions/{subscriptionId}/bcd");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
@@ -31,7 +31,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -44,10 +46,13 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class TagApi {
 
+    private static final PathTemplate GET_TAG_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/tags/{tagId}/auditLogsWithHistory");
+    private static final PathTemplate SEARCH_TAGS_URI = PathTemplate.compile("/1.0/kb/tags/search/{searchKey}");
+
     private final KillBillHttpClient httpClient;
 
     public TagApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public TagApi(final KillBillHttpClient httpClient) {
@@ -57,11 +62,11 @@ public class TagApi {
     public AuditLogs getTagAuditLogsWithHistory(final UUID tagId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tagId, "Missing the required parameter 'tagId' when calling getTagAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/tags/{tagId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "tagId" + "\\}", tagId.toString());
+        final String uri = GET_TAG_AUDIT_LOGS_WITH_HISTORY_URI.expand(tagId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tags/{tagId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -88,6 +93,7 @@ public class TagApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tags/pagination");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -102,8 +108,7 @@ public class TagApi {
     public Tags searchTags(final String searchKey, final Long offset, final Long limit, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(searchKey, "Missing the required parameter 'searchKey' when calling searchTags");
 
-        final String uri = "/1.0/kb/tags/search/{searchKey}"
-          .replaceAll("\\{" + "searchKey" + "\\}", searchKey.toString());
+        final String uri = SEARCH_TAGS_URI.expand(searchKey);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (offset != null) {
@@ -117,6 +122,7 @@ public class TagApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tags/search/{searchKey}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
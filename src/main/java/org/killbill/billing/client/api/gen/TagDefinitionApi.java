@@ -33,7 +33,9 @@ import com.google.common.base.MoreObjects;
 import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -46,10 +48,14 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class TagDefinitionApi {
 
+    private static final PathTemplate DELETE_TAG_DEFINITION_URI = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}");
+    private static final PathTemplate GET_TAG_DEFINITION_URI = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}");
+    private static final PathTemplate GET_TAG_DEFINITION_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}/auditLogsWithHistory");
+
     private final KillBillHttpClient httpClient;
 
     public TagDefinitionApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public TagDefinitionApi(final KillBillHttpClient httpClient) {
@@ -63,6 +69,7 @@ public class TagDefinitionApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -76,11 +83,11 @@ public class TagDefinitionApi {
     public void deleteTagDefinition(final UUID tagDefinitionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling deleteTagDefinition");
 
-        final String uri = "/1.0/kb/tagDefinitions/{tagDefinitionId}"
-          .replaceAll("\\{" + "tagDefinitionId" + "\\}", tagDefinitionId.toString());
+        final String uri = DELETE_TAG_DEFINITION_URI.expand(tagDefinitionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions/{tagDefinitionId}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -94,8 +101,7 @@ public class TagDefinitionApi {
     public TagDefinition getTagDefinition(final UUID tagDefinitionId, final AuditLevel audit, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling getTagDefinition");
 
-        final String uri = "/1.0/kb/tagDefinitions/{tagDefinitionId}"
-          .replaceAll("\\{" + "tagDefinitionId" + "\\}", tagDefinitionId.toString());
+        final String uri = GET_TAG_DEFINITION_URI.expand(tagDefinitionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (audit != null) {
@@ -103,6 +109,7 @@ public class TagDefinitionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions/{tagDefinitionId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -113,11 +120,11 @@ public class TagDefinitionApi {
     public AuditLogs getTagDefinitionAuditLogsWithHistory(final UUID tagDefinitionId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling getTagDefinitionAuditLogsWithHistory");
 
-        final String uri = "/1.0/kb/tagDefinitions/{tagDefinitionId}/auditLogsWithHistory"
-          .replaceAll("\\{" + "tagDefinitionId" + "\\}", tagDefinitionId.toString());
+        final String uri = GET_TAG_DEFINITION_AUDIT_LOGS_WITH_HISTORY_URI.expand(tagDefinitionId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions/{tagDefinitionId}/auditLogsWithHistory");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -138,6 +145,7 @@ public class TagDefinitionApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
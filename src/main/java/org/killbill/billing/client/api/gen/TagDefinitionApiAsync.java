@@ -0,0 +1,156 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import org.killbill.billing.client.model.gen.TagDefinition;
+import java.util.UUID;
+import org.killbill.billing.util.api.AuditLevel;
+import org.killbill.billing.client.model.AuditLogs;
+import org.killbill.billing.client.model.TagDefinitions;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class TagDefinitionApiAsync {
+
+    private static final PathTemplate DELETE_TAG_DEFINITION_URI = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}");
+    private static final PathTemplate GET_TAG_DEFINITION_URI = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}");
+    private static final PathTemplate GET_TAG_DEFINITION_AUDIT_LOGS_WITH_HISTORY_URI = PathTemplate.compile("/1.0/kb/tagDefinitions/{tagDefinitionId}/auditLogsWithHistory");
+
+    private final KillBillHttpClient httpClient;
+
+    public TagDefinitionApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public TagDefinitionApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<TagDefinition> createTagDefinition(final TagDefinition body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTagDefinition");
+
+        final String uri = "/1.0/kb/tagDefinitions";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, TagDefinition.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteTagDefinition(final UUID tagDefinitionId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling deleteTagDefinition");
+
+        final String uri = DELETE_TAG_DEFINITION_URI.expand(tagDefinitionId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions/{tagDefinitionId}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<TagDefinition> getTagDefinition(final UUID tagDefinitionId, final RequestOptions inputOptions) {
+        return getTagDefinition(tagDefinitionId, AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<TagDefinition> getTagDefinition(final UUID tagDefinitionId, final AuditLevel audit, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling getTagDefinition");
+
+        final String uri = GET_TAG_DEFINITION_URI.expand(tagDefinitionId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions/{tagDefinitionId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TagDefinition.class, requestOptions);
+    }
+
+    public CompletableFuture<AuditLogs> getTagDefinitionAuditLogsWithHistory(final UUID tagDefinitionId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(tagDefinitionId, "Missing the required parameter 'tagDefinitionId' when calling getTagDefinitionAuditLogsWithHistory");
+
+        final String uri = GET_TAG_DEFINITION_AUDIT_LOGS_WITH_HISTORY_URI.expand(tagDefinitionId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions/{tagDefinitionId}/auditLogsWithHistory");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, AuditLogs.class, requestOptions);
+    }
+
+    public CompletableFuture<TagDefinitions> getTagDefinitions(final RequestOptions inputOptions) {
+        return getTagDefinitions(AuditLevel.NONE, inputOptions);
+    }
+
+    public CompletableFuture<TagDefinitions> getTagDefinitions(final AuditLevel audit, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/tagDefinitions";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (audit != null) {
+            queryParams.put("audit", String.valueOf(audit));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tagDefinitions");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TagDefinitions.class, requestOptions);
+    }
+
+}
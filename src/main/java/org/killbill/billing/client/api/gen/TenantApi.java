@@ -31,7 +31,9 @@ import com.google.common.base.MoreObjects;
 import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -44,10 +46,22 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class TenantApi {
 
+    private static final PathTemplate DELETE_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+    private static final PathTemplate DELETE_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+    private static final PathTemplate DELETE_USER_KEY_VALUE_URI = PathTemplate.compile("/1.0/kb/tenants/userKeyValue/{keyName}");
+    private static final PathTemplate GET_ALL_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPerTenantConfig/{keyPrefix}/search");
+    private static final PathTemplate GET_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+    private static final PathTemplate GET_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+    private static final PathTemplate GET_TENANT_URI = PathTemplate.compile("/1.0/kb/tenants/{tenantId}");
+    private static final PathTemplate GET_USER_KEY_VALUE_URI = PathTemplate.compile("/1.0/kb/tenants/userKeyValue/{keyName}");
+    private static final PathTemplate INSERT_USER_KEY_VALUE_URI = PathTemplate.compile("/1.0/kb/tenants/userKeyValue/{keyName}");
+    private static final PathTemplate UPLOAD_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+    private static final PathTemplate UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+
     private final KillBillHttpClient httpClient;
 
     public TenantApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public TenantApi(final KillBillHttpClient httpClient) {
@@ -69,6 +83,7 @@ public class TenantApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -86,6 +101,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -95,11 +111,11 @@ public class TenantApi {
     public void deletePluginConfiguration(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling deletePluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = DELETE_PLUGIN_CONFIGURATION_URI.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -109,11 +125,11 @@ public class TenantApi {
     public void deletePluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling deletePluginPaymentStateMachineConfig");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = DELETE_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -126,6 +142,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/registerNotificationCallback");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -135,11 +152,11 @@ public class TenantApi {
     public void deleteUserKeyValue(final String keyName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling deleteUserKeyValue");
 
-        final String uri = "/1.0/kb/tenants/userKeyValue/{keyName}"
-          .replaceAll("\\{" + "keyName" + "\\}", keyName.toString());
+        final String uri = DELETE_USER_KEY_VALUE_URI.expand(keyName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/userKeyValue/{keyName}");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
         httpClient.doDelete(uri, requestOptions);
@@ -148,11 +165,11 @@ public class TenantApi {
     public TenantKeyValue getAllPluginConfiguration(final String keyPrefix, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(keyPrefix, "Missing the required parameter 'keyPrefix' when calling getAllPluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPerTenantConfig/{keyPrefix}/search"
-          .replaceAll("\\{" + "keyPrefix" + "\\}", keyPrefix.toString());
+        final String uri = GET_ALL_PLUGIN_CONFIGURATION_URI.expand(keyPrefix);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig/{keyPrefix}/search");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -165,6 +182,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -174,11 +192,11 @@ public class TenantApi {
     public TenantKeyValue getPluginConfiguration(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling getPluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = GET_PLUGIN_CONFIGURATION_URI.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -188,11 +206,11 @@ public class TenantApi {
     public TenantKeyValue getPluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling getPluginPaymentStateMachineConfig");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = GET_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -205,6 +223,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/registerNotificationCallback");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -214,11 +233,11 @@ public class TenantApi {
     public Tenant getTenant(final UUID tenantId, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(tenantId, "Missing the required parameter 'tenantId' when calling getTenant");
 
-        final String uri = "/1.0/kb/tenants/{tenantId}"
-          .replaceAll("\\{" + "tenantId" + "\\}", tenantId.toString());
+        final String uri = GET_TENANT_URI.expand(tenantId);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/{tenantId}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -235,6 +254,7 @@ public class TenantApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -245,11 +265,11 @@ public class TenantApi {
     public TenantKeyValue getUserKeyValue(final String keyName, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling getUserKeyValue");
 
-        final String uri = "/1.0/kb/tenants/userKeyValue/{keyName}"
-          .replaceAll("\\{" + "keyName" + "\\}", keyName.toString());
+        final String uri = GET_USER_KEY_VALUE_URI.expand(keyName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/userKeyValue/{keyName}");
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
 
@@ -260,11 +280,11 @@ public class TenantApi {
         Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling insertUserKeyValue");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling insertUserKeyValue");
 
-        final String uri = "/1.0/kb/tenants/userKeyValue/{keyName}"
-          .replaceAll("\\{" + "keyName" + "\\}", keyName.toString());
+        final String uri = INSERT_USER_KEY_VALUE_URI.expand(keyName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/userKeyValue/{keyName}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -284,6 +304,7 @@ public class TenantApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/registerNotificationCallback");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withQueryParams(queryParams);
@@ -301,6 +322,7 @@ public class TenantApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -314,11 +336,11 @@ public class TenantApi {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling uploadPluginConfiguration");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadPluginConfiguration");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = UPLOAD_PLUGIN_CONFIGURATION_URI.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -332,11 +354,11 @@ public class TenantApi {
         Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling uploadPluginPaymentStateMachineConfig");
         Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadPluginPaymentStateMachineConfig");
 
-        final String uri = "/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}"
-          .replaceAll("\\{" + "pluginName" + "\\}", pluginName.toString());
+        final String uri = UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI.expand(pluginName);
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import org.killbill.billing.client.model.gen.Tenant;
+import org.killbill.billing.client.model.gen.TenantKeyValue;
+import java.util.UUID;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class TenantApiAsync {
+
+    private static final PathTemplate DELETE_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+    private static final PathTemplate DELETE_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+    private static final PathTemplate DELETE_USER_KEY_VALUE_URI = PathTemplate.compile("/1.0/kb/tenants/userKeyValue/{keyName}");
+    private static final PathTemplate GET_ALL_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPerTenantConfig/{keyPrefix}/search");
+    private static final PathTemplate GET_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+    private static final PathTemplate GET_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+    private static final PathTemplate GET_TENANT_URI = PathTemplate.compile("/1.0/kb/tenants/{tenantId}");
+    private static final PathTemplate GET_USER_KEY_VALUE_URI = PathTemplate.compile("/1.0/kb/tenants/userKeyValue/{keyName}");
+    private static final PathTemplate INSERT_USER_KEY_VALUE_URI = PathTemplate.compile("/1.0/kb/tenants/userKeyValue/{keyName}");
+    private static final PathTemplate UPLOAD_PLUGIN_CONFIGURATION_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+    private static final PathTemplate UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI = PathTemplate.compile("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+
+    private final KillBillHttpClient httpClient;
+
+    public TenantApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public TenantApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<Tenant> createTenant(final Tenant body, final RequestOptions inputOptions) {
+        return createTenant(body, Boolean.valueOf(false), inputOptions);
+    }
+
+    public CompletableFuture<Tenant> createTenant(final Tenant body, final Boolean useGlobalDefault, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling createTenant");
+
+        final String uri = "/1.0/kb/tenants";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (useGlobalDefault != null) {
+            queryParams.put("useGlobalDefault", String.valueOf(useGlobalDefault));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Tenant.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deletePerTenantConfiguration(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/tenants/uploadPerTenantConfig";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deletePluginConfiguration(final String pluginName, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling deletePluginConfiguration");
+
+        final String uri = DELETE_PLUGIN_CONFIGURATION_URI.expand(pluginName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deletePluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling deletePluginPaymentStateMachineConfig");
+
+        final String uri = DELETE_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI.expand(pluginName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deletePushNotificationCallbacks(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/tenants/registerNotificationCallback";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/registerNotificationCallback");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+
+    public CompletableFuture<Void> deleteUserKeyValue(final String keyName, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling deleteUserKeyValue");
+
+        final String uri = DELETE_USER_KEY_VALUE_URI.expand(keyName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/userKeyValue/{keyName}");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doDeleteAsync(uri, null, Void.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> getAllPluginConfiguration(final String keyPrefix, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(keyPrefix, "Missing the required parameter 'keyPrefix' when calling getAllPluginConfiguration");
+
+        final String uri = GET_ALL_PLUGIN_CONFIGURATION_URI.expand(keyPrefix);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig/{keyPrefix}/search");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> getPerTenantConfiguration(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/tenants/uploadPerTenantConfig";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> getPluginConfiguration(final String pluginName, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling getPluginConfiguration");
+
+        final String uri = GET_PLUGIN_CONFIGURATION_URI.expand(pluginName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> getPluginPaymentStateMachineConfig(final String pluginName, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling getPluginPaymentStateMachineConfig");
+
+        final String uri = GET_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI.expand(pluginName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> getPushNotificationCallbacks(final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/tenants/registerNotificationCallback";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/registerNotificationCallback");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<Tenant> getTenant(final UUID tenantId, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(tenantId, "Missing the required parameter 'tenantId' when calling getTenant");
+
+        final String uri = GET_TENANT_URI.expand(tenantId);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/{tenantId}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Tenant.class, requestOptions);
+    }
+
+    public CompletableFuture<Tenant> getTenantByApiKey(final String apiKey, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/tenants";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (apiKey != null) {
+            queryParams.put("apiKey", String.valueOf(apiKey));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, Tenant.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> getUserKeyValue(final String keyName, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling getUserKeyValue");
+
+        final String uri = GET_USER_KEY_VALUE_URI.expand(keyName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/userKeyValue/{keyName}");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> insertUserKeyValue(final String keyName, final String body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(keyName, "Missing the required parameter 'keyName' when calling insertUserKeyValue");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling insertUserKeyValue");
+
+        final String uri = INSERT_USER_KEY_VALUE_URI.expand(keyName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/userKeyValue/{keyName}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> registerPushNotificationCallback(final String cb, final RequestOptions inputOptions) {
+
+        final String uri = "/1.0/kb/tenants/registerNotificationCallback";
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (cb != null) {
+            queryParams.put("cb", String.valueOf(cb));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/registerNotificationCallback");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, null, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> uploadPerTenantConfiguration(final String body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadPerTenantConfiguration");
+
+        final String uri = "/1.0/kb/tenants/uploadPerTenantConfig";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPerTenantConfig");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> uploadPluginConfiguration(final String pluginName, final String body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling uploadPluginConfiguration");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadPluginConfiguration");
+
+        final String uri = UPLOAD_PLUGIN_CONFIGURATION_URI.expand(pluginName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginConfig/{pluginName}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, TenantKeyValue.class, requestOptions);
+    }
+
+    public CompletableFuture<TenantKeyValue> uploadPluginPaymentStateMachineConfig(final String pluginName, final String body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(pluginName, "Missing the required parameter 'pluginName' when calling uploadPluginPaymentStateMachineConfig");
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling uploadPluginPaymentStateMachineConfig");
+
+        final String uri = UPLOAD_PLUGIN_PAYMENT_STATE_MACHINE_CONFIG_URI.expand(pluginName);
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/tenants/uploadPluginPaymentStateMachineConfig/{pluginName}");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "text/plain");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, TenantKeyValue.class, requestOptions);
+    }
+
+}
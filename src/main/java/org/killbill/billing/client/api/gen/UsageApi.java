@@ -32,7 +32,9 @@ import com.google.common.base.MoreObjects;
 import com.google.common.collect.LinkedListMultimap;
 
 import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClient;
 import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
 import org.killbill.billing.client.RequestOptions;
 import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
 
@@ -45,10 +47,13 @@ import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
  */
 public class UsageApi {
 
+    private static final PathTemplate GET_ALL_USAGE_URI = PathTemplate.compile("/1.0/kb/usages/{subscriptionId}");
+    private static final PathTemplate GET_USAGE_URI = PathTemplate.compile("/1.0/kb/usages/{subscriptionId}/{unitType}");
+
     private final KillBillHttpClient httpClient;
 
     public UsageApi() {
-        this(new KillBillHttpClient());
+        this(KillBillClient.acquireDefaultHttpClient());
     }
 
     public UsageApi(final KillBillHttpClient httpClient) {
@@ -58,8 +63,7 @@ public class UsageApi {
     public RolledUpUsage getAllUsage(final UUID subscriptionId, final LocalDate startDate, final LocalDate endDate, final RequestOptions inputOptions) throws KillBillClientException {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getAllUsage");
 
-        final String uri = "/1.0/kb/usages/{subscriptionId}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString());
+        final String uri = GET_ALL_USAGE_URI.expand(subscriptionId);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (startDate != null) {
@@ -70,6 +74,7 @@ public class UsageApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/usages/{subscriptionId}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -81,9 +86,7 @@ public class UsageApi {
         Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getUsage");
         Preconditions.checkNotNull(unitType, "Missing the required parameter 'unitType' when calling getUsage");
 
-        final String uri = "/1.0/kb/usages/{subscriptionId}/{unitType}"
-          .replaceAll("\\{" + "subscriptionId" + "\\}", subscriptionId.toString())
-          .replaceAll("\\{" + "unitType" + "\\}", unitType.toString());
+        final String uri = GET_USAGE_URI.expand(subscriptionId, unitType);
 
         final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
         if (startDate != null) {
@@ -94,6 +97,7 @@ public class UsageApi {
         }
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/usages/{subscriptionId}/{unitType}");
         inputOptionsBuilder.withQueryParams(queryParams);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
         final RequestOptions requestOptions = inputOptionsBuilder.build();
@@ -108,6 +112,7 @@ public class UsageApi {
 
 
         final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/usages");
         final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
         inputOptionsBuilder.withFollowLocation(followLocation);
         inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
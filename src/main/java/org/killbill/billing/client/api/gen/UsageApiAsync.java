@@ -0,0 +1,125 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.killbill.billing.client.api.gen;
+
+
+import java.util.concurrent.CompletableFuture;
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.model.gen.RolledUpUsage;
+import org.killbill.billing.client.model.gen.SubscriptionUsageRecord;
+import java.util.UUID;
+
+import com.google.common.collect.Multimap;
+import com.google.common.base.Preconditions;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.LinkedListMultimap;
+
+import org.killbill.billing.client.KillBillClient;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.PathTemplate;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.RequestOptions.RequestOptionsBuilder;
+
+
+/**
+ *           DO NOT EDIT !!!
+ *
+ * This code has been generated by the Kill Bill swagger generator.
+ *  @See https://github.com/killbill/killbill-swagger-coden
+ */
+public class UsageApiAsync {
+
+    private static final PathTemplate GET_ALL_USAGE_URI = PathTemplate.compile("/1.0/kb/usages/{subscriptionId}");
+    private static final PathTemplate GET_USAGE_URI = PathTemplate.compile("/1.0/kb/usages/{subscriptionId}/{unitType}");
+
+    private final KillBillHttpClient httpClient;
+
+    public UsageApiAsync() {
+        this(KillBillClient.acquireDefaultHttpClient());
+    }
+
+    public UsageApiAsync(final KillBillHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public CompletableFuture<RolledUpUsage> getAllUsage(final UUID subscriptionId, final LocalDate startDate, final LocalDate endDate, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getAllUsage");
+
+        final String uri = GET_ALL_USAGE_URI.expand(subscriptionId);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (startDate != null) {
+            queryParams.put("startDate", String.valueOf(startDate));
+        }
+        if (endDate != null) {
+            queryParams.put("endDate", String.valueOf(endDate));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/usages/{subscriptionId}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, RolledUpUsage.class, requestOptions);
+    }
+
+    public CompletableFuture<RolledUpUsage> getUsage(final UUID subscriptionId, final String unitType, final LocalDate startDate, final LocalDate endDate, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(subscriptionId, "Missing the required parameter 'subscriptionId' when calling getUsage");
+        Preconditions.checkNotNull(unitType, "Missing the required parameter 'unitType' when calling getUsage");
+
+        final String uri = GET_USAGE_URI.expand(subscriptionId, unitType);
+
+        final Multimap<String, String> queryParams = LinkedListMultimap.create(inputOptions.getQueryParams());
+        if (startDate != null) {
+            queryParams.put("startDate", String.valueOf(startDate));
+        }
+        if (endDate != null) {
+            queryParams.put("endDate", String.valueOf(endDate));
+        }
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/usages/{subscriptionId}/{unitType}");
+        inputOptionsBuilder.withQueryParams(queryParams);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doGetAsync(uri, RolledUpUsage.class, requestOptions);
+    }
+
+    public CompletableFuture<Void> recordUsage(final SubscriptionUsageRecord body, final RequestOptions inputOptions) {
+        Preconditions.checkNotNull(body, "Missing the required parameter 'body' when calling recordUsage");
+
+        final String uri = "/1.0/kb/usages";
+
+
+        final RequestOptionsBuilder inputOptionsBuilder = inputOptions.extend();
+        inputOptionsBuilder.withPathTemplate("/1.0/kb/usages");
+        final Boolean followLocation = MoreObjects.firstNonNull(inputOptions.getFollowLocation(), Boolean.TRUE);
+        inputOptionsBuilder.withFollowLocation(followLocation);
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_ACCEPT, "application/json");
+        inputOptionsBuilder.withHeader(KillBillHttpClient.HTTP_HEADER_CONTENT_TYPE, "application/json");
+        final RequestOptions requestOptions = inputOptionsBuilder.build();
+
+        return httpClient.doPostAsync(uri, body, Void.class, requestOptions);
+    }
+
+}
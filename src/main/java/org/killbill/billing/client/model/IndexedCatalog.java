@@ -0,0 +1,247 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.joda.time.DateTime;
+import org.killbill.billing.client.model.gen.Catalog;
+import org.killbill.billing.client.model.gen.Phase;
+import org.killbill.billing.client.model.gen.Plan;
+import org.killbill.billing.client.model.gen.PriceList;
+import org.killbill.billing.client.model.gen.Product;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Read-only view of the versions of a catalog (as returned by CatalogApi#getCatalogJson), indexed for constant-time
+ * lookups of plans, products, phases and price lists.
+ * <p>
+ * Versions are indexed by effective date: lookups without a date use the version in effect now (the first version if
+ * they are all in the future), not a version uploaded ahead of its effective date. The model objects are shared with
+ * the {@link Catalogs} the index was built from, and must not be modified.
+ * <p>
+ * Phases have no name in the JSON model: they are indexed using the Kill Bill naming convention,
+ * {@code <plan name>-<phase type in lower case>} (e.g. {@code standard-monthly-trial}).
+ */
+public final class IndexedCatalog {
+
+    private final NavigableMap<DateTime, Version> versions;
+    private final Version latest;
+
+    public IndexedCatalog(final Catalogs catalogs) {
+        Preconditions.checkArgument(catalogs != null && !catalogs.isEmpty(), "No catalog to index");
+
+        final TreeMap<DateTime, Version> versionsByEffectiveDate = new TreeMap<DateTime, Version>();
+        for (final Catalog catalog : catalogs) {
+            versionsByEffectiveDate.put(catalog.getEffectiveDate(), new Version(catalog));
+        }
+        this.versions = Collections.unmodifiableNavigableMap(versionsByEffectiveDate);
+        this.latest = versions.lastEntry().getValue();
+    }
+
+    /**
+     * @return the versions, by effective date
+     */
+    public NavigableMap<DateTime, Version> getVersions() {
+        return versions;
+    }
+
+    /**
+     * @return the version with the latest effective date, which may not be in effect yet
+     */
+    public Version getLatestVersion() {
+        return latest;
+    }
+
+    /**
+     * @return the version in effect now, the first version if they are all in the future
+     */
+    public Version getCurrentVersion() {
+        final Version version = getVersion(DateTime.now());
+        return version == null ? versions.firstEntry().getValue() : version;
+    }
+
+    /**
+     * @param date point in time
+     * @return the version in effect at that date, null if the date is before the first version
+     */
+    public Version getVersion(final DateTime date) {
+        final Entry<DateTime, Version> entry = versions.floorEntry(date);
+        return entry == null ? null : entry.getValue();
+    }
+
+    public Plan findPlan(final String planName) {
+        return getCurrentVersion().findPlan(planName);
+    }
+
+    public Plan findPlan(final String planName, final DateTime date) {
+        final Version version = getVersion(date);
+        return version == null ? null : version.findPlan(planName);
+    }
+
+    public Product findProduct(final String productName) {
+        return getCurrentVersion().findProduct(productName);
+    }
+
+    public Product findProduct(final String productName, final DateTime date) {
+        final Version version = getVersion(date);
+        return version == null ? null : version.findProduct(productName);
+    }
+
+    public Product findProductForPlan(final String planName) {
+        return getCurrentVersion().findProductForPlan(planName);
+    }
+
+    public Phase findPhase(final String phaseName) {
+        return getCurrentVersion().findPhase(phaseName);
+    }
+
+    public Phase findPhase(final String phaseName, final DateTime date) {
+        final Version version = getVersion(date);
+        return version == null ? null : version.findPhase(phaseName);
+    }
+
+    public PriceList findPriceList(final String priceListName) {
+        return getCurrentVersion().findPriceList(priceListName);
+    }
+
+    public PriceList findPriceList(final String priceListName, final DateTime date) {
+        final Version version = getVersion(date);
+        return version == null ? null : version.findPriceList(priceListName);
+    }
+
+    /**
+     * A single version of the catalog, with its indexes
+     */
+    public static final class Version {
+
+        private final Catalog catalog;
+        private final Map<String, Product> productsByName;
+        private final Map<String, Plan> plansByName;
+        private final Map<String, Product> productsByPlanName;
+        private final Map<String, Phase> phasesByName;
+        private final Map<String, PriceList> priceListsByName;
+        private final Map<String, Set<String>> planNamesByPriceListName;
+
+        private Version(final Catalog catalog) {
+            this.catalog = catalog;
+
+            // Duplicates would be a catalog validation error in Kill Bill: last one wins
+            final Map<String, Product> products = new TreeMap<String, Product>();
+            final Map<String, Plan> plans = new TreeMap<String, Plan>();
+            final Map<String, Product> productsByPlan = new TreeMap<String, Product>();
+            final Map<String, Phase> phases = new TreeMap<String, Phase>();
+            for (final Product product : nullToEmpty(catalog.getProducts())) {
+                products.put(product.getName(), product);
+                for (final Plan plan : nullToEmpty(product.getPlans())) {
+                    plans.put(plan.getName(), plan);
+                    productsByPlan.put(plan.getName(), product);
+                    for (final Phase phase : nullToEmpty(plan.getPhases())) {
+                        phases.put(phaseName(plan, phase), phase);
+                    }
+                }
+            }
+
+            final Map<String, PriceList> priceLists = new TreeMap<String, PriceList>();
+            final Map<String, Set<String>> planNamesByPriceList = new TreeMap<String, Set<String>>();
+            for (final PriceList priceList : nullToEmpty(catalog.getPriceLists())) {
+                priceLists.put(priceList.getName(), priceList);
+                planNamesByPriceList.put(priceList.getName(), ImmutableSet.<String>copyOf(nullToEmpty(priceList.getPlans())));
+            }
+
+            this.productsByName = ImmutableMap.<String, Product>copyOf(products);
+            this.plansByName = ImmutableMap.<String, Plan>copyOf(plans);
+            this.productsByPlanName = ImmutableMap.<String, Product>copyOf(productsByPlan);
+            this.phasesByName = ImmutableMap.<String, Phase>copyOf(phases);
+            this.priceListsByName = ImmutableMap.<String, PriceList>copyOf(priceLists);
+            this.planNamesByPriceListName = ImmutableMap.<String, Set<String>>copyOf(planNamesByPriceList);
+        }
+
+        public Catalog getCatalog() {
+            return catalog;
+        }
+
+        public DateTime getEffectiveDate() {
+            return catalog.getEffectiveDate();
+        }
+
+        public Plan findPlan(final String planName) {
+            return plansByName.get(planName);
+        }
+
+        public Product findProduct(final String productName) {
+            return productsByName.get(productName);
+        }
+
+        public Product findProductForPlan(final String planName) {
+            return productsByPlanName.get(planName);
+        }
+
+        public Phase findPhase(final String phaseName) {
+            return phasesByName.get(phaseName);
+        }
+
+        public PriceList findPriceList(final String priceListName) {
+            return priceListsByName.get(priceListName);
+        }
+
+        /**
+         * @return names of the plans of the price list (empty if the price list doesn't exist)
+         */
+        public Set<String> getPlanNames(final String priceListName) {
+            final Set<String> planNames = planNamesByPriceListName.get(priceListName);
+            return planNames == null ? ImmutableSet.<String>of() : planNames;
+        }
+
+        public Map<String, Product> getProducts() {
+            return productsByName;
+        }
+
+        public Map<String, Plan> getPlans() {
+            return plansByName;
+        }
+
+        public Map<String, Phase> getPhases() {
+            return phasesByName;
+        }
+
+        public Map<String, PriceList> getPriceLists() {
+            return priceListsByName;
+        }
+
+        private static String phaseName(final Plan plan, final Phase phase) {
+            return plan.getName() + "-" + phase.getType().toLowerCase(Locale.ENGLISH);
+        }
+
+        private static <E> List<E> nullToEmpty(final List<E> list) {
+            return list == null ? Collections.<E>emptyList() : list;
+        }
+    }
+}
@@ -20,6 +20,11 @@
 package org.killbill.billing.client.model;
 
 import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.killbill.billing.client.KillBillClientException;
 import org.killbill.billing.client.KillBillHttpClient;
@@ -31,6 +36,8 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public abstract class KillBillObjects<T extends KillBillObject> extends ArrayList<T> {
 
+    public static final int DEFAULT_NB_PAGES_TO_PREFETCH = 1;
+
     @JsonIgnore
     private KillBillHttpClient killBillHttpClient;
 
@@ -57,6 +64,58 @@ public abstract class KillBillObjects<T extends KillBillObject> extends ArrayLis
         return killBillHttpClient.doGet(paginationNextPageUri, clazz, RequestOptions.empty());
     }
 
+    /**
+     * Streaming flavor of {@link #getNext(Class)}: the elements of the next page are passed to elementConsumer as they
+     * are parsed, and the returned (empty) page only holds the pagination metadata.
+     */
+    @JsonIgnore
+    public <U extends KillBillObjects<T>> U getNext(final Class<U> clazz, final Consumer<? super T> elementConsumer) throws KillBillClientException {
+        if (killBillHttpClient == null || paginationNextPageUri == null) {
+            return null;
+        }
+        return killBillHttpClient.doGetStreaming(paginationNextPageUri, clazz, elementConsumer, RequestOptions.empty());
+    }
+
+    /**
+     * @param clazz type of the pages
+     * @return an iterator over the elements of this page and all the following ones, prefetching the next page in the background
+     */
+    @JsonIgnore
+    public <U extends KillBillObjects<T>> PaginatedIterator<T, U> iterateAllPages(final Class<U> clazz) {
+        return iterateAllPages(clazz, DEFAULT_NB_PAGES_TO_PREFETCH, RequestOptions.empty());
+    }
+
+    /**
+     * @param clazz             type of the pages
+     * @param nbPagesToPrefetch maximum number of pages to fetch ahead of the one being consumed (0 to disable prefetching)
+     * @param requestOptions    options used to fetch the following pages
+     * @return an iterator over the elements of this page and all the following ones
+     */
+    @JsonIgnore
+    public <U extends KillBillObjects<T>> PaginatedIterator<T, U> iterateAllPages(final Class<U> clazz, final int nbPagesToPrefetch, final RequestOptions requestOptions) {
+        return new PaginatedIterator<T, U>(this, clazz, nbPagesToPrefetch, requestOptions);
+    }
+
+    /**
+     * Same as {@link #iterateAllPages(Class)}, as a sequential Stream. Closing the Stream cancels the in-flight page requests.
+     */
+    @JsonIgnore
+    public <U extends KillBillObjects<T>> Stream<T> streamAllPages(final Class<U> clazz) {
+        return streamAllPages(clazz, DEFAULT_NB_PAGES_TO_PREFETCH, RequestOptions.empty());
+    }
+
+    @JsonIgnore
+    public <U extends KillBillObjects<T>> Stream<T> streamAllPages(final Class<U> clazz, final int nbPagesToPrefetch, final RequestOptions requestOptions) {
+        final PaginatedIterator<T, U> iterator = iterateAllPages(clazz, nbPagesToPrefetch, requestOptions);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(new Runnable() {
+                                @Override
+                                public void run() {
+                                    iterator.close();
+                                }
+                            });
+    }
+
     @JsonIgnore
     public KillBillHttpClient getKillBillHttpClient() {
         return killBillHttpClient;
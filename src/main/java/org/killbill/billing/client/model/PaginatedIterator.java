@@ -0,0 +1,162 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.model;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillClientRuntimeException;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Iterates over all the elements of a paginated result, following paginationNextPageUri.
+ * <p>
+ * While the current page is being consumed, up to nbPagesToPrefetch subsequent pages are fetched in the background
+ * (using the non-blocking api of {@link KillBillHttpClient}), so at most nbPagesToPrefetch + 1 pages are held in memory.
+ * Failures to fetch a page are surfaced as {@link KillBillClientRuntimeException} from {@link #hasNext()}.
+ * <p>
+ * {@link #close()} aborts the page requests in flight.
+ */
+public class PaginatedIterator<T extends KillBillObject, U extends KillBillObjects<T>> implements Iterator<T>, Closeable {
+
+    private final Class<U> clazz;
+    private final RequestOptions requestOptions;
+    private final int nbPagesToPrefetch;
+    private final Deque<CompletableFuture<U>> prefetchedPages = new ArrayDeque<CompletableFuture<U>>();
+    // Requests started by the chained prefetches (on the I/O threads), which cancelling prefetchedPages doesn't reach
+    private final Queue<CompletableFuture<U>> inFlightRequests = new ConcurrentLinkedQueue<CompletableFuture<U>>();
+
+    private KillBillObjects<T> currentPage;
+    private Iterator<T> currentPageIterator;
+    private volatile boolean closed = false;
+
+    public PaginatedIterator(final KillBillObjects<T> firstPage, final Class<U> clazz, final int nbPagesToPrefetch, final RequestOptions requestOptions) {
+        Preconditions.checkArgument(nbPagesToPrefetch >= 0, "nbPagesToPrefetch must not be negative");
+        this.clazz = clazz;
+        this.requestOptions = requestOptions;
+        this.nbPagesToPrefetch = nbPagesToPrefetch;
+        this.currentPage = firstPage;
+        this.currentPageIterator = firstPage.iterator();
+        prefetch();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!closed && !currentPageIterator.hasNext()) {
+            final U nextPage = nextPage();
+            if (nextPage == null) {
+                close();
+            } else {
+                currentPage = nextPage;
+                currentPageIterator = nextPage.iterator();
+                prefetch();
+            }
+        }
+        return !closed;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPageIterator.next();
+    }
+
+    /**
+     * Stop iterating and cancel the in-flight page requests, if any.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        currentPageIterator = Collections.<T>emptyIterator();
+        for (final CompletableFuture<U> page : prefetchedPages) {
+            page.cancel(true);
+        }
+        prefetchedPages.clear();
+        CompletableFuture<U> request;
+        while ((request = inFlightRequests.poll()) != null) {
+            request.cancel(true);
+        }
+    }
+
+    private U nextPage() {
+        final CompletableFuture<U> page = prefetchedPages.isEmpty() ? fetchNext(currentPage) : prefetchedPages.removeFirst();
+        try {
+            return page.join();
+        } catch (final CompletionException e) {
+            close();
+            if (e.getCause() instanceof KillBillClientException) {
+                throw new KillBillClientRuntimeException((KillBillClientException) e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    private void prefetch() {
+        while (prefetchedPages.size() < nbPagesToPrefetch) {
+            if (prefetchedPages.isEmpty()) {
+                prefetchedPages.addLast(fetchNext(currentPage));
+            } else {
+                prefetchedPages.addLast(prefetchedPages.getLast().thenCompose(new Function<U, CompletableFuture<U>>() {
+                    @Override
+                    public CompletableFuture<U> apply(final U previousPage) {
+                        return fetchNext(previousPage);
+                    }
+                }));
+            }
+        }
+    }
+
+    private CompletableFuture<U> fetchNext(final KillBillObjects<T> page) {
+        if (closed || page == null || page.getKillBillHttpClient() == null || page.getPaginationNextPageUri() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Cancelling it aborts the underlying HTTP request
+        final CompletableFuture<U> request = page.getKillBillHttpClient().doGetAsync(page.getPaginationNextPageUri(), clazz, requestOptions);
+        inFlightRequests.add(request);
+        request.whenComplete(new BiConsumer<U, Throwable>() {
+            @Override
+            public void accept(final U ignored, final Throwable throwable) {
+                inFlightRequests.remove(request);
+            }
+        });
+        if (closed) {
+            // Raced with close()
+            request.cancel(true);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.killbill.billing.client.KillBillClientException;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Scans a paginated listing (e.g. AccountApiAsync#getAccounts or InvoiceApiAsync#searchInvoices) by fetching the
+ * first page, and then fetching the remaining offset/limit ranges concurrently, based on paginationTotalNbRecords.
+ * <p>
+ * Records are handed over to the sink one at a time (calls to the sink are serialized, so it doesn't need to be
+ * thread-safe), either in offset order or as soon as their page is available. In ordered mode, no more than
+ * parallelism pages are buffered while waiting for a slow page.
+ * <p>
+ * If the total number of records isn't known (no X-Killbill-Pagination-TotalNbRecords header), the pages are
+ * fetched one after the other instead, until a page isn't full.
+ * <p>
+ * Like the serial cursor, offset-based pagination doesn't provide a consistent snapshot: records created or
+ * deleted during the scan may be skipped or seen twice.
+ */
+public class ParallelPaginatedScanner<T extends KillBillObject, U extends KillBillObjects<T>> {
+
+    private static final int UNKNOWN_NB_PAGES = -1;
+
+    public interface PageFetcher<U> {
+
+        CompletableFuture<U> fetch(long offset, long limit);
+    }
+
+    private final PageFetcher<U> pageFetcher;
+    private final long pageSize;
+    private final int parallelism;
+
+    /**
+     * @param pageFetcher fetches a page, typically by calling the Async flavor of the listing api
+     * @param pageSize    limit to use for each page
+     * @param parallelism maximum number of pages being fetched concurrently
+     */
+    public ParallelPaginatedScanner(final PageFetcher<U> pageFetcher, final long pageSize, final int parallelism) {
+        Preconditions.checkArgument(pageSize > 0, "pageSize must be strictly positive");
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be strictly positive");
+        this.pageFetcher = pageFetcher;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Blocking flavor of {@link #scanAsync(Consumer, boolean)}.
+     *
+     * @return the number of records passed to the sink
+     */
+    public long scan(final Consumer<? super T> sink, final boolean ordered) throws KillBillClientException {
+        try {
+            return scanAsync(sink, ordered).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof KillBillClientException) {
+                throw (KillBillClientException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param sink    called for each record
+     * @param ordered whether records should be passed to the sink in offset order
+     * @return a future completed with the number of records passed to the sink, once all the pages have been processed
+     */
+    public CompletableFuture<Long> scanAsync(final Consumer<? super T> sink, final boolean ordered) {
+        final CompletableFuture<Long> result = new CompletableFuture<Long>();
+        pageFetcher.fetch(0, pageSize).whenComplete(new BiConsumer<U, Throwable>() {
+            @Override
+            public void accept(final U firstPage, final Throwable throwable) {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+                final long nbRecords = firstPage == null ? 0 : firstPage.getPaginationTotalNbRecords();
+                final int nbPages;
+                if (firstPage != null && nbRecords < firstPage.size()) {
+                    // Missing total (reported as 0): don't stop at the first page
+                    nbPages = UNKNOWN_NB_PAGES;
+                } else {
+                    nbPages = (int) Math.max(1, (nbRecords + pageSize - 1) / pageSize);
+                }
+                new Scan(sink, ordered, nbPages, result).start(firstPage);
+            }
+        });
+        return result;
+    }
+
+    private final class Scan {
+
+        private final Consumer<? super T> sink;
+        private final boolean ordered;
+        // UNKNOWN_NB_PAGES if the pages are fetched serially
+        private final int nbPages;
+        private final CompletableFuture<Long> result;
+        // Pages fetched but not yet delivered (ordered mode only), keyed by page index
+        private final Map<Integer, U> pendingPages = new HashMap<Integer, U>();
+
+        private int nextPageToFetch = 1;
+        private int nextPageToDeliver = 0;
+        private int nbPagesDelivered = 0;
+        private long nbRecordsDelivered = 0;
+
+        private Scan(final Consumer<? super T> sink, final boolean ordered, final int nbPages, final CompletableFuture<Long> result) {
+            this.sink = sink;
+            this.ordered = ordered;
+            this.nbPages = nbPages;
+            this.result = result;
+        }
+
+        private void start(final U firstPage) {
+            onPage(0, firstPage);
+        }
+
+        private synchronized void onPage(final int pageIndex, final U page) {
+            if (result.isDone()) {
+                return;
+            }
+
+            try {
+                if (ordered) {
+                    pendingPages.put(pageIndex, page);
+                    while (pendingPages.containsKey(nextPageToDeliver)) {
+                        deliver(pendingPages.remove(nextPageToDeliver));
+                        nextPageToDeliver++;
+                    }
+                } else {
+                    deliver(page);
+                }
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            if (nbPages == UNKNOWN_NB_PAGES) {
+                if (page == null || page.size() < pageSize) {
+                    result.complete(nbRecordsDelivered);
+                } else {
+                    fetch(nextPageToFetch++);
+                }
+                return;
+            }
+
+            if (nbPagesDelivered == nbPages) {
+                result.complete(nbRecordsDelivered);
+                return;
+            }
+            fetchMore();
+        }
+
+        private void deliver(final U page) {
+            if (page != null) {
+                for (final T record : page) {
+                    sink.accept(record);
+                    nbRecordsDelivered++;
+                }
+            }
+            nbPagesDelivered++;
+        }
+
+        private void fetchMore() {
+            // In ordered mode, the window is anchored on the oldest undelivered page to bound the number of buffered pages
+            final int windowStart = ordered ? nextPageToDeliver : nbPagesDelivered;
+            while (nextPageToFetch < nbPages && nextPageToFetch < windowStart + parallelism) {
+                fetch(nextPageToFetch++);
+            }
+        }
+
+        private void fetch(final int pageIndex) {
+            pageFetcher.fetch(pageIndex * pageSize, pageSize).whenComplete(new BiConsumer<U, Throwable>() {
+                @Override
+                public void accept(final U page, final Throwable throwable) {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        onPage(pageIndex, page);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestCircuitBreaker {
+
+    private static CircuitBreaker newCircuitBreaker(final int permittedCallsInHalfOpenState) {
+        return new CircuitBreaker("GET /1.0/kb/accounts/{accountId}",
+                                  CircuitBreakerPolicy.builder()
+                                                      .withFailureRateThreshold(0.5)
+                                                      .withSlowCallDurationThresholdMs(60000)
+                                                      .withSlidingWindowSize(4)
+                                                      .withMinimumNumberOfCalls(4)
+                                                      .withWaitDurationInOpenStateMs(0)
+                                                      .withPermittedCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                                                      .build());
+    }
+
+    private static void open(final CircuitBreaker circuitBreaker) {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onResult(circuitBreaker.tryAcquirePermission(), 1, true);
+        }
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test(groups = "fast")
+    public void testOpensOnFailures() {
+        final CircuitBreaker circuitBreaker = newCircuitBreaker(1);
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onResult(circuitBreaker.tryAcquirePermission(), 1, true);
+        }
+        // Not enough calls yet
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onResult(circuitBreaker.tryAcquirePermission(), 1, false);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test(groups = "fast")
+    public void testHalfOpenDecidesOnceAllTrialsCompleted() {
+        final CircuitBreaker circuitBreaker = newCircuitBreaker(3);
+        open(circuitBreaker);
+
+        final long first = circuitBreaker.tryAcquirePermission();
+        final long second = circuitBreaker.tryAcquirePermission();
+        final long third = circuitBreaker.tryAcquirePermission();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.assertEquals(circuitBreaker.tryAcquirePermission(), CircuitBreaker.REJECTED);
+
+        // A single failed trial doesn't reopen the breaker
+        circuitBreaker.onResult(first, 1, true);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        circuitBreaker.onResult(second, 1, false);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+
+        // 1 failure out of 3 trials
+        circuitBreaker.onResult(third, 1, false);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test(groups = "fast")
+    public void testHalfOpenReopensOnFailedTrials() {
+        final CircuitBreaker circuitBreaker = newCircuitBreaker(2);
+        open(circuitBreaker);
+
+        final long first = circuitBreaker.tryAcquirePermission();
+        final long second = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onResult(first, 1, true);
+        circuitBreaker.onResult(second, 1, true);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test(groups = "fast")
+    public void testCallsStartedBeforeHalfOpenAreNotTrials() {
+        final CircuitBreaker circuitBreaker = newCircuitBreaker(1);
+        // In flight while the breaker opens
+        final long closedCall = circuitBreaker.tryAcquirePermission();
+        open(circuitBreaker);
+
+        final long trial = circuitBreaker.tryAcquirePermission();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onResult(closedCall, 1, true);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        // Not a trial permit either
+        circuitBreaker.onIgnored(closedCall);
+        Assert.assertEquals(circuitBreaker.tryAcquirePermission(), CircuitBreaker.REJECTED);
+
+        circuitBreaker.onResult(trial, 1, false);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test(groups = "fast")
+    public void testIgnoredTrialGivesPermitBack() {
+        final CircuitBreaker circuitBreaker = newCircuitBreaker(1);
+        open(circuitBreaker);
+
+        final long trial = circuitBreaker.tryAcquirePermission();
+        Assert.assertEquals(circuitBreaker.tryAcquirePermission(), CircuitBreaker.REJECTED);
+        circuitBreaker.onIgnored(trial);
+
+        final long retried = circuitBreaker.tryAcquirePermission();
+        Assert.assertNotEquals(retried, CircuitBreaker.REJECTED);
+        circuitBreaker.onResult(retried, 1, false);
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.asynchttpclient.HttpResponseBodyPart;
+import org.asynchttpclient.HttpResponseStatus;
+import org.asynchttpclient.Response;
+import org.killbill.billing.ObjectType;
+import org.killbill.billing.client.model.Strings;
+import org.killbill.billing.client.model.Tags;
+import org.killbill.billing.client.model.gen.Tag;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.joda.JodaModule;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+
+public class TestIncrementalJsonAsyncHandler {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JodaModule());
+
+    private Tags tags;
+    private byte[] tagsJson;
+
+    @BeforeMethod(groups = "fast")
+    public void setUp() throws Exception {
+        tags = new Tags();
+        // Multi-byte characters (2, 3 and 4 bytes in UTF-8), nested structures and escapes, to split anywhere
+        tags.add(newTag("caf\u00e9"));
+        tags.add(newTag("\u20ac \"quoted\" \\ [not, an] {object}"));
+        tags.add(newTag("\ud83d\ude00"));
+        tagsJson = mapper.writeValueAsBytes(tags);
+    }
+
+    @Test(groups = "fast")
+    public void testBodySplitAtEveryByteBoundary() throws Exception {
+        for (int split = 0; split <= tagsJson.length; split++) {
+            final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, null);
+            final Response response = receive(handler, 200, Arrays.copyOfRange(tagsJson, 0, split), Arrays.copyOfRange(tagsJson, split, tagsJson.length));
+
+            Assert.assertEquals(response.getStatusCode(), 200);
+            Assert.assertEquals(handler.getResult(), tags, "Split at byte " + split);
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testBodyReceivedByteByByte() throws Exception {
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, null);
+        receive(handler, 200, bytesOf(tagsJson));
+
+        Assert.assertEquals(handler.getResult(), tags);
+    }
+
+    @Test(groups = "fast")
+    public void testMultiByteCharactersSplitAcrossParts() throws Exception {
+        final Strings strings = new Strings();
+        strings.add("\u00e9\u20ac\ud83d\ude00");
+        strings.add("");
+        strings.add("\u65e5\u672c\u8a9e");
+        final IncrementalJsonAsyncHandler<Strings> handler = newHandler(Strings.class, null);
+        receive(handler, 200, bytesOf(mapper.writeValueAsBytes(strings)));
+
+        Assert.assertEquals(handler.getResult(), strings);
+    }
+
+    @Test(groups = "fast")
+    public void testEmptyArray() throws Exception {
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, null);
+        receive(handler, 200, bytesOf(" [ \n ] ".getBytes(StandardCharsets.UTF_8)));
+
+        Assert.assertNotNull(handler.getResult());
+        Assert.assertTrue(handler.getResult().isEmpty());
+    }
+
+    @Test(groups = "fast")
+    public void testEmptyBody() throws Exception {
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, null);
+        receive(handler, 200);
+
+        Assert.assertNull(handler.getResult());
+    }
+
+    @Test(groups = "fast", expectedExceptions = JsonParseException.class)
+    public void testTruncatedBody() throws Exception {
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, null);
+        receive(handler, 200, Arrays.copyOfRange(tagsJson, 0, tagsJson.length - 1));
+    }
+
+    @Test(groups = "fast", expectedExceptions = JsonParseException.class)
+    public void testNotAnArray() throws Exception {
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, null);
+        receive(handler, 200, mapper.writeValueAsBytes(tags.get(0)));
+    }
+
+    @Test(groups = "fast")
+    public void testNonSuccessfulResponseIsBuffered() throws Exception {
+        // Not an array: must not be parsed
+        final String error = "{\"className\":\"org.killbill.billing.ObjectDoesNotExist\",\"message\":\"Object not found \u20ac\"}";
+        final byte[] errorBytes = error.getBytes(StandardCharsets.UTF_8);
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, null);
+        final Response response = receive(handler, 404, Arrays.copyOfRange(errorBytes, 0, errorBytes.length - 5), Arrays.copyOfRange(errorBytes, errorBytes.length - 5, errorBytes.length));
+
+        Assert.assertNull(handler.getResult());
+        Assert.assertEquals(response.getStatusCode(), 404);
+        Assert.assertEquals(response.getResponseBody(), error);
+    }
+
+    @Test(groups = "fast")
+    public void testElementConsumer() throws Exception {
+        final List<Object> consumed = new ArrayList<Object>();
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, new Consumer<Object>() {
+            @Override
+            public void accept(final Object element) {
+                consumed.add(element);
+            }
+        });
+        receive(handler, 200, bytesOf(tagsJson));
+
+        Assert.assertEquals(consumed, new ArrayList<Object>(tags));
+        Assert.assertEquals(handler.getNbElementsConsumed(), 3);
+        // Not collected
+        Assert.assertTrue(handler.getResult().isEmpty());
+    }
+
+    @Test(groups = "fast")
+    public void testElementConsumerFailure() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("Consumer failure");
+        final IncrementalJsonAsyncHandler<Tags> handler = newHandler(Tags.class, new Consumer<Object>() {
+            @Override
+            public void accept(final Object element) {
+                if (tags.get(1).equals(element)) {
+                    throw failure;
+                }
+            }
+        });
+        try {
+            receive(handler, 200, tagsJson);
+            Assert.fail("The consumer failure should abort the request");
+        } catch (final IllegalStateException e) {
+            Assert.assertSame(e, failure);
+        }
+        Assert.assertSame(handler.getElementConsumerFailure(), failure);
+        Assert.assertEquals(handler.getNbElementsConsumed(), 1);
+    }
+
+    private <T extends Collection> IncrementalJsonAsyncHandler<T> newHandler(final Class<T> clazz, final Consumer<Object> elementConsumer) throws Exception {
+        return new IncrementalJsonAsyncHandler<T>(mapper.getFactory(), KillBillHttpClient.elementReaderFor(clazz), clazz, elementConsumer);
+    }
+
+    private static Response receive(final IncrementalJsonAsyncHandler<?> handler, final int statusCode, final byte[]... bodyParts) throws Exception {
+        final HttpResponseStatus status = Mockito.mock(HttpResponseStatus.class);
+        Mockito.when(status.getStatusCode()).thenReturn(statusCode);
+        handler.onStatusReceived(status);
+        handler.onHeadersReceived(new DefaultHttpHeaders());
+        for (final byte[] bytes : bodyParts) {
+            final HttpResponseBodyPart bodyPart = Mockito.mock(HttpResponseBodyPart.class);
+            Mockito.when(bodyPart.getBodyPartBytes()).thenReturn(bytes);
+            Mockito.when(bodyPart.length()).thenReturn(bytes.length);
+            Mockito.when(bodyPart.getBodyByteBuffer()).thenReturn(ByteBuffer.wrap(bytes));
+            handler.onBodyPartReceived(bodyPart);
+        }
+        return handler.onCompleted();
+    }
+
+    private static byte[][] bytesOf(final byte[] bytes) {
+        final byte[][] parts = new byte[bytes.length][];
+        for (int i = 0; i < bytes.length; i++) {
+            parts[i] = new byte[]{bytes[i]};
+        }
+        return parts;
+    }
+
+    private static Tag newTag(final String tagDefinitionName) {
+        return new Tag().setTagId(UUID.randomUUID())
+                        .setObjectType(ObjectType.ACCOUNT)
+                        .setObjectId(UUID.randomUUID())
+                        .setTagDefinitionId(UUID.randomUUID())
+                        .setTagDefinitionName(tagDefinitionName);
+    }
+}
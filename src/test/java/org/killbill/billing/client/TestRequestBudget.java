@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestRequestBudget {
+
+    @Test(groups = "fast")
+    public void testInitialBalance() {
+        final RequestBudget budget = new RequestBudget(0.1, 3);
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertFalse(budget.tryAcquire());
+    }
+
+    @Test(groups = "fast")
+    public void testRequestsEarnRetries() {
+        final RequestBudget budget = new RequestBudget(0.1, 0);
+        Assert.assertFalse(budget.tryAcquire());
+
+        for (int i = 0; i < 9; i++) {
+            budget.onRequest();
+        }
+        Assert.assertFalse(budget.tryAcquire());
+
+        budget.onRequest();
+        Assert.assertTrue(budget.tryAcquire());
+        Assert.assertFalse(budget.tryAcquire());
+    }
+
+    @Test(groups = "fast")
+    public void testBalanceIsCapped() {
+        final RequestBudget budget = new RequestBudget(1.0, 10);
+        for (int i = 0; i < 10000; i++) {
+            budget.onRequest();
+        }
+        // At most the retries earned by the last 100 requests after a long healthy period
+        Assert.assertEquals(budget.getAvailableTokens(), 100.0, 0.001);
+        int nbRetries = 0;
+        while (budget.tryAcquire()) {
+            nbRetries++;
+        }
+        Assert.assertEquals(nbRetries, 100);
+    }
+
+    @Test(groups = "fast")
+    public void testBalanceIsCappedInProportionToTheRatio() {
+        // e.g. hedge budget, no initial balance
+        final RequestBudget budget = new RequestBudget(0.05, 0);
+        for (int i = 0; i < 10000; i++) {
+            budget.onRequest();
+        }
+        Assert.assertEquals(budget.getAvailableTokens(), 5.0, 0.001);
+
+        final RequestBudget initialBalanceBudget = new RequestBudget(0.05, 20);
+        for (int i = 0; i < 10000; i++) {
+            initialBalanceBudget.onRequest();
+        }
+        Assert.assertEquals(initialBalanceBudget.getAvailableTokens(), 20.0, 0.001);
+
+        // Still one extra request with a tiny ratio
+        final RequestBudget tinyRatioBudget = new RequestBudget(0.001, 0);
+        for (int i = 0; i < 10000; i++) {
+            tinyRatioBudget.onRequest();
+        }
+        Assert.assertEquals(tinyRatioBudget.getAvailableTokens(), 1.0, 0.001);
+    }
+
+    @Test(groups = "fast")
+    public void testNoRetriesWithZeroRatio() {
+        final RequestBudget budget = new RequestBudget(0.0, 0);
+        for (int i = 0; i < 1000; i++) {
+            budget.onRequest();
+        }
+        Assert.assertFalse(budget.tryAcquire());
+    }
+}
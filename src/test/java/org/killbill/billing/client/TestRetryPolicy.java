@@ -0,0 +1,145 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestRetryPolicy {
+
+    @Test(groups = "fast")
+    public void testRetriesAreDisabledByDefault() {
+        Assert.assertSame(KillBillHttpClientConfig.builder().build().getRetryPolicy(), RetryPolicy.NO_RETRY);
+        Assert.assertEquals(RetryPolicy.NO_RETRY.getMaxAttempts(), 1);
+    }
+
+    @Test(groups = "fast")
+    public void testExponentialBackoffWithoutJitter() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder()
+                                                   .withInitialBackoffMs(100)
+                                                   .withMaxBackoffMs(1000)
+                                                   .withBackoffMultiplier(2.0)
+                                                   .withJitter(0.0)
+                                                   .build();
+        Assert.assertEquals(retryPolicy.getBackoffMs(1), 100);
+        Assert.assertEquals(retryPolicy.getBackoffMs(2), 200);
+        Assert.assertEquals(retryPolicy.getBackoffMs(3), 400);
+        Assert.assertEquals(retryPolicy.getBackoffMs(4), 800);
+        // Capped
+        Assert.assertEquals(retryPolicy.getBackoffMs(5), 1000);
+        Assert.assertEquals(retryPolicy.getBackoffMs(50), 1000);
+    }
+
+    @Test(groups = "fast")
+    public void testJitterStaysWithinBounds() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder()
+                                                   .withInitialBackoffMs(1000)
+                                                   .withMaxBackoffMs(1000)
+                                                   .withJitter(0.5)
+                                                   .build();
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            final long backoffMs = retryPolicy.getBackoffMs(1);
+            min = Math.min(min, backoffMs);
+            max = Math.max(max, backoffMs);
+        }
+        Assert.assertTrue(min >= 500, "min=" + min);
+        Assert.assertTrue(max <= 1000, "max=" + max);
+        // Actually randomized
+        Assert.assertTrue(max > min);
+    }
+
+    @Test(groups = "fast", expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidJitter() {
+        RetryPolicy.builder().withJitter(1.5).build();
+    }
+
+    @Test(groups = "fast")
+    public void testOnlySafeVerbsAreIdempotentByDefault() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder().build();
+        Assert.assertTrue(retryPolicy.isIdempotent("GET", false));
+        Assert.assertTrue(retryPolicy.isIdempotent("HEAD", false));
+        Assert.assertTrue(retryPolicy.isIdempotent("OPTIONS", false));
+        Assert.assertFalse(retryPolicy.isIdempotent("POST", false));
+        Assert.assertFalse(retryPolicy.isIdempotent("PUT", false));
+        Assert.assertFalse(retryPolicy.isIdempotent("DELETE", false));
+        Assert.assertTrue(retryPolicy.isIdempotent("POST", true));
+    }
+
+    @Test(groups = "fast")
+    public void testRequestIdDoesNotMakeRequestsIdempotent() {
+        final RequestOptions tracedOnly = RequestOptions.builder().withRequestId("a1b2c3").build();
+        Assert.assertFalse(tracedOnly.isIdempotent());
+
+        final RequestOptions declared = RequestOptions.builder().withRequestId("a1b2c3").withIdempotent(true).build();
+        Assert.assertTrue(declared.isIdempotent());
+        // Kept when extending the options
+        Assert.assertTrue(declared.extend().withCreatedBy("admin").build().isIdempotent());
+    }
+
+    @Test(groups = "fast")
+    public void testConnectionFailuresAreAlwaysRetryable() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder().build();
+        final ConnectException connectException = new ConnectException("Connection refused");
+        Assert.assertTrue(retryPolicy.isRetryableFailure(connectException, false));
+        Assert.assertTrue(retryPolicy.isRetryableFailure(new KillBillClientException(new ExecutionException(connectException)), false));
+        Assert.assertTrue(retryPolicy.isRetryableFailure(new CompletionException(new KillBillClientException(connectException)), false));
+    }
+
+    @Test(groups = "fast")
+    public void testFailuresAfterSendingAreOnlyRetryableWhenIdempotent() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder().build();
+        final Exception readTimeout = new KillBillClientException(new ExecutionException(new SocketTimeoutException("Read timed out")));
+        final Exception requestTimeout = new KillBillClientException(new TimeoutException());
+        final Exception connectionReset = new KillBillClientException(new IOException("Connection reset by peer"));
+
+        Assert.assertFalse(retryPolicy.isRetryableFailure(readTimeout, false));
+        Assert.assertFalse(retryPolicy.isRetryableFailure(requestTimeout, false));
+        Assert.assertFalse(retryPolicy.isRetryableFailure(connectionReset, false));
+
+        Assert.assertTrue(retryPolicy.isRetryableFailure(readTimeout, true));
+        Assert.assertTrue(retryPolicy.isRetryableFailure(requestTimeout, true));
+        Assert.assertTrue(retryPolicy.isRetryableFailure(connectionReset, true));
+
+        // Not transient
+        Assert.assertFalse(retryPolicy.isRetryableFailure(new KillBillClientException(new IllegalArgumentException()), true));
+    }
+
+    @Test(groups = "fast")
+    public void testRetryableStatusCodes() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder().build();
+        Assert.assertTrue(retryPolicy.isRetryableStatus(502, true));
+        Assert.assertTrue(retryPolicy.isRetryableStatus(503, true));
+        Assert.assertTrue(retryPolicy.isRetryableStatus(504, true));
+        Assert.assertFalse(retryPolicy.isRetryableStatus(500, true));
+        Assert.assertFalse(retryPolicy.isRetryableStatus(409, true));
+        Assert.assertFalse(retryPolicy.isRetryableStatus(200, true));
+        // The request may have been processed
+        Assert.assertFalse(retryPolicy.isRetryableStatus(503, false));
+    }
+}
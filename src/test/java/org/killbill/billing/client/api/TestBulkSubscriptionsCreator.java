@@ -0,0 +1,203 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.asynchttpclient.Response;
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.SubscriptionApiAsync;
+import org.killbill.billing.client.model.BulkSubscriptionsBundles;
+import org.killbill.billing.client.model.Bundles;
+import org.killbill.billing.client.model.gen.BulkSubscriptionsBundle;
+import org.killbill.billing.client.model.gen.Bundle;
+import org.killbill.billing.client.model.gen.Subscription;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TestBulkSubscriptionsCreator {
+
+    private FakeSubscriptionApiAsync subscriptionApi;
+    private BulkSubscriptionsCreator creator;
+
+    @BeforeMethod(groups = "fast")
+    public void setUp() {
+        subscriptionApi = new FakeSubscriptionApiAsync();
+        creator = BulkSubscriptionsCreator.builder()
+                                          .withSubscriptionApi(subscriptionApi)
+                                          .withInitialChunkSize(4)
+                                          .withMinChunkSize(1)
+                                          .withMaxChunkSize(4)
+                                          .withMaxInFlightChunks(2)
+                                          .build();
+    }
+
+    @Test(groups = "fast")
+    public void testBundlesAreCreatedInInputOrder() throws Exception {
+        final BulkSubscriptionsCreator.Result result = create(10);
+
+        Assert.assertTrue(result.isSuccessful());
+        Assert.assertEquals(externalKeysOf(result.getBundles()), keys(0, 10));
+        // Completions submit the next chunks, in any order
+        Collections.sort(subscriptionApi.chunkSizes);
+        Assert.assertEquals(subscriptionApi.chunkSizes, list(2, 4, 4));
+    }
+
+    @Test(groups = "fast")
+    public void testRejectedBundlesAreIsolated() throws Exception {
+        subscriptionApi.invalidKeys.add("key-2");
+        subscriptionApi.invalidKeys.add("key-9");
+        final BulkSubscriptionsCreator.Result result = create(10);
+
+        final List<String> expected = keys(0, 10);
+        expected.remove("key-2");
+        expected.remove("key-9");
+        Assert.assertEquals(externalKeysOf(result.getBundles()), expected);
+        Assert.assertEquals(result.getFailedBundles().size(), 2);
+        Assert.assertEquals(externalKeyOf(result.getFailedBundles().get(0).getBundle()), "key-2");
+        Assert.assertEquals(externalKeyOf(result.getFailedBundles().get(1).getBundle()), "key-9");
+        Assert.assertEquals(((KillBillClientException) result.getFailedBundles().get(0).getCause()).getResponse().getStatusCode(), 400);
+        // A rejection doesn't mean the chunks are too large
+        Assert.assertEquals(creator.getChunkSize(), 4);
+    }
+
+    @Test(groups = "fast")
+    public void testServerErrorShrinksChunks() throws Exception {
+        subscriptionApi.failure = new KillBillClientException(responseWithStatus(503));
+        final BulkSubscriptionsCreator.Result result = create(4);
+
+        // Not retried, some bundles may have been created
+        Assert.assertEquals(result.getBundles().size(), 0);
+        Assert.assertEquals(result.getFailedBundles().size(), 4);
+        Assert.assertEquals(subscriptionApi.chunkSizes, list(4));
+        Assert.assertEquals(creator.getChunkSize(), 2);
+    }
+
+    @Test(groups = "fast")
+    public void testTimeoutShrinksChunks() throws Exception {
+        subscriptionApi.failure = new KillBillClientException(new TimeoutException("Request timeout"));
+        final BulkSubscriptionsCreator.Result result = create(4);
+
+        Assert.assertEquals(result.getFailedBundles().size(), 4);
+        Assert.assertEquals(creator.getChunkSize(), 2);
+    }
+
+    @Test(groups = "fast")
+    public void testThrottlingNeitherShrinksNorBisects() throws Exception {
+        subscriptionApi.failure = new KillBillClientException(responseWithStatus(429));
+        final BulkSubscriptionsCreator.Result result = create(4);
+
+        Assert.assertEquals(result.getFailedBundles().size(), 4);
+        Assert.assertEquals(subscriptionApi.chunkSizes, list(4));
+        Assert.assertEquals(creator.getChunkSize(), 4);
+    }
+
+    private BulkSubscriptionsCreator.Result create(final int nbBundles) throws Exception {
+        final BulkSubscriptionsBundles body = new BulkSubscriptionsBundles();
+        for (final String key : keys(0, nbBundles)) {
+            final BulkSubscriptionsBundle bundle = new BulkSubscriptionsBundle();
+            bundle.addBaseEntitlementAndAddOnsItem(new Subscription().setExternalKey(key));
+            body.add(bundle);
+        }
+        return creator.createSubscriptionsWithAddOns(body, null, null, null).get(10, TimeUnit.SECONDS);
+    }
+
+    private static List<String> keys(final int from, final int to) {
+        final List<String> keys = new ArrayList<String>();
+        for (int i = from; i < to; i++) {
+            keys.add("key-" + i);
+        }
+        return keys;
+    }
+
+    private static List<Integer> list(final Integer... values) {
+        final List<Integer> list = new ArrayList<Integer>();
+        for (final Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static List<String> externalKeysOf(final Bundles bundles) {
+        final List<String> externalKeys = new ArrayList<String>();
+        for (final Bundle bundle : bundles) {
+            externalKeys.add(bundle.getExternalKey());
+        }
+        return externalKeys;
+    }
+
+    private static String externalKeyOf(final BulkSubscriptionsBundle bundle) {
+        return bundle.getBaseEntitlementAndAddOns().get(0).getExternalKey();
+    }
+
+    private static Response responseWithStatus(final int statusCode) {
+        final Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+
+    // Creates all the bundles of a chunk, or none if one of them is invalid, like Kill Bill
+    private static final class FakeSubscriptionApiAsync extends SubscriptionApiAsync {
+
+        private final Set<String> invalidKeys = new HashSet<String>();
+        private final List<Integer> chunkSizes = new ArrayList<Integer>();
+        private volatile KillBillClientException failure;
+
+        private FakeSubscriptionApiAsync() {
+            super((KillBillHttpClient) null);
+        }
+
+        @Override
+        public CompletableFuture<Bundles> createSubscriptionsWithAddOns(final BulkSubscriptionsBundles body, final LocalDate entitlementDate, final LocalDate billingDate,
+                                                                        final Map<String, String> pluginProperty, final RequestOptions inputOptions) {
+            final CompletableFuture<Bundles> result = new CompletableFuture<Bundles>();
+            final Bundles bundles = new Bundles();
+            synchronized (this) {
+                chunkSizes.add(body.size());
+            }
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return result;
+            }
+            for (final BulkSubscriptionsBundle bundle : body) {
+                if (invalidKeys.contains(externalKeyOf(bundle))) {
+                    result.completeExceptionally(new KillBillClientException(responseWithStatus(400)));
+                    return result;
+                }
+                bundles.add(new Bundle().setExternalKey(externalKeyOf(bundle)));
+            }
+            result.complete(bundles);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.asynchttpclient.Response;
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.UsageApiAsync;
+import org.killbill.billing.client.model.gen.SubscriptionUsageRecord;
+import org.killbill.billing.client.model.gen.UnitUsageRecord;
+import org.killbill.billing.client.model.gen.UsageRecord;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TestUsageRecorder {
+
+    private static final LocalDate RECORD_DATE = new LocalDate(2020, 1, 1);
+
+    private final UUID subscriptionId = UUID.randomUUID();
+    private FakeUsageApiAsync usageApi;
+
+    @BeforeMethod(groups = "fast")
+    public void setUp() {
+        usageApi = new FakeUsageApiAsync();
+    }
+
+    @Test(groups = "fast")
+    public void testEventsAreMerged() throws Exception {
+        final UsageRecorder recorder = open("recorder");
+        recorder.record(subscriptionId, "u", RECORD_DATE, 1);
+        recorder.record(subscriptionId, "u", RECORD_DATE, 2);
+        recorder.record(subscriptionId, "u", RECORD_DATE, 3);
+        recorder.flush().get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(usageApi.records.size(), 1);
+        Assert.assertEquals(usageApi.total(subscriptionId), 6);
+        recorder.close();
+    }
+
+    @Test(groups = "fast")
+    public void testRecorderIdReusedAfterRestart() throws Exception {
+        final UsageRecorder recorder = open("recorder");
+        recorder.record(subscriptionId, "u", RECORD_DATE, 5);
+        recorder.close();
+        Assert.assertEquals(usageApi.total(subscriptionId), 5);
+
+        // Same recorder id, flush sequence starting over: the events must not be taken for already recorded ones
+        final UsageRecorder restarted = open("recorder");
+        restarted.record(subscriptionId, "u", RECORD_DATE, 7);
+        restarted.close();
+        Assert.assertEquals(usageApi.total(subscriptionId), 12);
+        Assert.assertEquals(usageApi.nbDuplicates.get(), 0);
+        Assert.assertEquals(restarted.getNbDroppedRecords(), 0);
+    }
+
+    @Test(groups = "fast")
+    public void testLostResponseIsNotCountedTwice() throws Exception {
+        usageApi.loseResponses = true;
+        final UsageRecorder recorder = open("recorder");
+        recorder.record(subscriptionId, "u", RECORD_DATE, 4);
+        recorder.flush().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(usageApi.total(subscriptionId), 4);
+
+        // Sent again with the next flush, and rejected as already recorded
+        usageApi.loseResponses = false;
+        recorder.flush().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(usageApi.total(subscriptionId), 4);
+        Assert.assertEquals(usageApi.nbDuplicates.get(), 1);
+        Assert.assertEquals(recorder.getNbDroppedRecords(), 0);
+        recorder.close();
+    }
+
+    @Test(groups = "fast")
+    public void testRejectionsAreRetried() throws Exception {
+        usageApi.failure = new KillBillClientException(responseWithStatus(401));
+        final UsageRecorder recorder = open("recorder");
+        recorder.record(subscriptionId, "u", RECORD_DATE, 3);
+        recorder.flush().get(10, TimeUnit.SECONDS);
+        usageApi.failure = new KillBillClientException(responseWithStatus(429));
+        recorder.flush().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(usageApi.total(subscriptionId), 0);
+
+        usageApi.failure = null;
+        recorder.flush().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(usageApi.total(subscriptionId), 3);
+        Assert.assertEquals(recorder.getNbDroppedRecords(), 0);
+        recorder.close();
+    }
+
+    @Test(groups = "fast")
+    public void testDroppedAfterMaxFlushAttempts() throws Exception {
+        usageApi.failure = new KillBillClientException(responseWithStatus(400));
+        final UsageRecorder recorder = open("recorder");
+        recorder.record(subscriptionId, "u", RECORD_DATE, 3);
+        for (int i = 0; i < 3; i++) {
+            recorder.flush().get(10, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(recorder.getNbDroppedRecords(), 1);
+
+        usageApi.failure = null;
+        recorder.flush().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(usageApi.total(subscriptionId), 0);
+        recorder.close();
+    }
+
+    @Test(groups = "fast", expectedExceptions = IllegalStateException.class)
+    public void testRecordAfterClose() {
+        final UsageRecorder recorder = open("recorder");
+        recorder.close();
+        recorder.record(subscriptionId, "u", RECORD_DATE, 1);
+    }
+
+    private UsageRecorder open(final String recorderId) {
+        return UsageRecorder.builder()
+                            .withUsageApi(usageApi)
+                            .withRecorderId(recorderId)
+                            .withFlushIntervalMs(60000)
+                            .withMaxFlushAttempts(3)
+                            .withCloseTimeoutMs(10000)
+                            .build();
+    }
+
+    private static Response responseWithStatus(final int statusCode) {
+        final Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+
+    // Records each tracking id once, like Kill Bill
+    private static final class FakeUsageApiAsync extends UsageApiAsync {
+
+        private final ConcurrentMap<String, SubscriptionUsageRecord> records = new ConcurrentHashMap<String, SubscriptionUsageRecord>();
+        private final AtomicInteger nbDuplicates = new AtomicInteger();
+        private volatile KillBillClientException failure;
+        private volatile boolean loseResponses = false;
+
+        private FakeUsageApiAsync() {
+            super((KillBillHttpClient) null);
+        }
+
+        @Override
+        public CompletableFuture<Void> recordUsage(final SubscriptionUsageRecord body, final RequestOptions inputOptions) {
+            final CompletableFuture<Void> result = new CompletableFuture<Void>();
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else if (records.putIfAbsent(body.getTrackingId(), body) != null) {
+                nbDuplicates.incrementAndGet();
+                result.completeExceptionally(new KillBillClientException(responseWithStatus(409)));
+            } else if (loseResponses) {
+                result.completeExceptionally(new KillBillClientException(new IOException("Connection reset")));
+            } else {
+                result.complete(null);
+            }
+            return result;
+        }
+
+        private long total(final UUID subscriptionId) {
+            long total = 0;
+            for (final SubscriptionUsageRecord record : records.values()) {
+                if (!subscriptionId.equals(record.getSubscriptionId())) {
+                    continue;
+                }
+                for (final UnitUsageRecord unitUsageRecord : record.getUnitUsageRecords()) {
+                    for (final UsageRecord usageRecord : unitUsageRecord.getUsageRecords()) {
+                        total += usageRecord.getAmount();
+                    }
+                }
+            }
+            return total;
+        }
+    }
+}
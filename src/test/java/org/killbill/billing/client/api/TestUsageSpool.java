@@ -0,0 +1,350 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.asynchttpclient.Response;
+import org.joda.time.LocalDate;
+import org.killbill.billing.client.KillBillClientException;
+import org.killbill.billing.client.KillBillHttpClient;
+import org.killbill.billing.client.RequestOptions;
+import org.killbill.billing.client.api.gen.UsageApiAsync;
+import org.killbill.billing.client.model.gen.SubscriptionUsageRecord;
+import org.killbill.billing.client.model.gen.UnitUsageRecord;
+import org.killbill.billing.client.model.gen.UsageRecord;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class TestUsageSpool {
+
+    // Header (8 bytes) and payload (30 bytes, plus 2 per unit type character) of a record
+    private static final int RECORD_SIZE = 8 + 30 + 2;
+    private static final String FIRST_SEGMENT = "usage-00000000000000000000.spool";
+    private static final LocalDate RECORD_DATE = new LocalDate(2020, 1, 1);
+
+    private final UUID subscriptionId = UUID.randomUUID();
+    private File directory;
+    private FakeUsageApiAsync usageApi;
+
+    @BeforeMethod(groups = "fast")
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("usage-spool").toFile();
+        usageApi = new FakeUsageApiAsync();
+    }
+
+    @AfterMethod(groups = "fast")
+    public void tearDown() {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test(groups = "fast")
+    public void testRecoveryAfterTornWrite() throws Exception {
+        usageApi.failure = new KillBillClientException(new IOException("Connection refused"));
+        final UsageSpool spool = open(4096, 60000);
+        for (int amount = 1; amount <= 3; amount++) {
+            spool.append(subscriptionId, "u", RECORD_DATE, amount);
+        }
+        spool.close();
+
+        // Crash while appending a fourth record: length set, checksum and payload not written yet
+        final RandomAccessFile segment = new RandomAccessFile(new File(directory, FIRST_SEGMENT), "rw");
+        try {
+            segment.seek(3 * RECORD_SIZE);
+            segment.writeInt(RECORD_SIZE - 8);
+        } finally {
+            segment.close();
+        }
+
+        usageApi.failure = null;
+        final UsageSpool recovered = open(4096, 10);
+        try {
+            awaitTotal(6);
+            // Appends resume where the torn record started
+            recovered.append(subscriptionId, "u", RECORD_DATE, 4);
+            awaitTotal(10);
+            Assert.assertEquals(recovered.getNbCorruptedRecords(), 0);
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testSegmentRotation() throws Exception {
+        usageApi.failure = new KillBillClientException(new IOException("Connection refused"));
+        // 3 records per segment: the fourth one doesn't leave room for the end of segment marker
+        final UsageSpool spool = open(3 * RECORD_SIZE + 8, 60000);
+        for (int i = 0; i < 7; i++) {
+            spool.append(subscriptionId, "u", RECORD_DATE, 1);
+        }
+        Assert.assertEquals(spool.getNbSegments(), 3);
+        spool.close();
+
+        usageApi.failure = null;
+        final UsageSpool reopened = open(3 * RECORD_SIZE + 8, 10);
+        try {
+            awaitTotal(7);
+            reopened.append(subscriptionId, "u", RECORD_DATE, 1);
+            awaitTotal(8);
+            // Drained segments are deleted
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (reopened.getNbSegments() > 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(reopened.getNbSegments(), 1);
+            Assert.assertEquals(reopened.getNbCorruptedRecords(), 0);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testReplayIsDeduplicated() throws Exception {
+        // Kill Bill records the usage, but the response is lost: the batch isn't acknowledged
+        usageApi.loseResponses = true;
+        final UsageSpool spool = open(4096, 60000);
+        spool.append(subscriptionId, "u", RECORD_DATE, 5);
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (usageApi.records.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        spool.close();
+        Assert.assertEquals(usageApi.total(subscriptionId), 5);
+
+        usageApi.loseResponses = false;
+        final UsageSpool reopened = open(4096, 10);
+        try {
+            reopened.append(subscriptionId, "u", RECORD_DATE, 1);
+            awaitTotal(6);
+            // The batch was sent again, with the same tracking id
+            Assert.assertEquals(usageApi.nbDuplicates.get(), 1);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testRejectionsAreRetried() throws Exception {
+        // e.g. credentials being rotated, or throttling
+        usageApi.failure = new KillBillClientException(responseWithStatus(401));
+        final UsageSpool spool = open(4096, 10);
+        try {
+            spool.append(subscriptionId, "u", RECORD_DATE, 3);
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (usageApi.nbCalls.get() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(usageApi.total(subscriptionId), 0);
+
+            usageApi.failure = new KillBillClientException(responseWithStatus(429));
+            Thread.sleep(50);
+            Assert.assertEquals(usageApi.total(subscriptionId), 0);
+
+            usageApi.failure = null;
+            awaitTotal(3);
+        } finally {
+            spool.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testCorruptedRecordIsSkipped() throws Exception {
+        usageApi.failure = new KillBillClientException(new IOException("Connection refused"));
+        final UsageSpool spool = open(3 * RECORD_SIZE + 8, 60000);
+        for (int amount = 1; amount <= 5; amount++) {
+            spool.append(subscriptionId, "u", RECORD_DATE, amount);
+        }
+        spool.close();
+
+        // Flip a bit of the amount of the second record
+        final RandomAccessFile segment = new RandomAccessFile(new File(directory, FIRST_SEGMENT), "rw");
+        try {
+            final long position = RECORD_SIZE + 8 + 16 + 4 + 7;
+            segment.seek(position);
+            final int value = segment.read();
+            segment.seek(position);
+            segment.write(value ^ 1);
+        } finally {
+            segment.close();
+        }
+
+        usageApi.failure = null;
+        final UsageSpool reopened = open(3 * RECORD_SIZE + 8, 10);
+        try {
+            awaitTotal(1 + 3 + 4 + 5);
+            reopened.append(subscriptionId, "u", RECORD_DATE, 6);
+            awaitTotal(1 + 3 + 4 + 5 + 6);
+            Assert.assertEquals(reopened.getNbCorruptedRecords(), 1);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test(groups = "fast")
+    public void testRequestsOfABatchAreSentConcurrently() throws Exception {
+        final UUID[] subscriptionIds = new UUID[5];
+        usageApi.holdResponses = true;
+        final UsageSpool spool = UsageSpool.builder()
+                                           .withDirectory(directory)
+                                           .withUsageApi(usageApi)
+                                           .withMaxConcurrentRequests(2)
+                                           .withPollIntervalMs(60000)
+                                           .withCloseTimeoutMs(100)
+                                           .build();
+        try {
+            // Keeps the drainer busy while the next batch is appended
+            spool.append(subscriptionId, "u", RECORD_DATE, 1);
+            awaitCalls(1);
+            for (int i = 0; i < subscriptionIds.length; i++) {
+                subscriptionIds[i] = UUID.randomUUID();
+                spool.append(subscriptionIds[i], "u", RECORD_DATE, i + 1);
+            }
+            usageApi.heldResponses.poll().complete(null);
+
+            awaitCalls(1 + 2);
+            // Bounded
+            Thread.sleep(50);
+            Assert.assertEquals(usageApi.nbCalls.get(), 1 + 2);
+
+            usageApi.holdResponses = false;
+            usageApi.releaseHeldResponses();
+            for (int i = 0; i < subscriptionIds.length; i++) {
+                final long deadline = System.currentTimeMillis() + 10000;
+                while (usageApi.total(subscriptionIds[i]) != i + 1 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                Assert.assertEquals(usageApi.total(subscriptionIds[i]), i + 1);
+            }
+            Assert.assertEquals(usageApi.nbCalls.get(), 1 + subscriptionIds.length);
+        } finally {
+            spool.close();
+        }
+    }
+
+    private UsageSpool open(final int segmentSize, final long retryBackoffMs) throws IOException {
+        return UsageSpool.builder()
+                         .withDirectory(directory)
+                         .withUsageApi(usageApi)
+                         .withSegmentSize(segmentSize)
+                         .withMaxSegments(4)
+                         .withPollIntervalMs(10)
+                         .withRetryBackoffMs(retryBackoffMs)
+                         .withCloseTimeoutMs(100)
+                         .build();
+    }
+
+    private void awaitTotal(final long expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (usageApi.total(subscriptionId) != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(usageApi.total(subscriptionId), expected);
+    }
+
+    private void awaitCalls(final int expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (usageApi.nbCalls.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(usageApi.nbCalls.get(), expected);
+    }
+
+    private static Response responseWithStatus(final int statusCode) {
+        final Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+
+    // Records each tracking id once, like Kill Bill
+    private static final class FakeUsageApiAsync extends UsageApiAsync {
+
+        private final ConcurrentMap<String, SubscriptionUsageRecord> records = new ConcurrentHashMap<String, SubscriptionUsageRecord>();
+        private final AtomicInteger nbCalls = new AtomicInteger();
+        private final AtomicInteger nbDuplicates = new AtomicInteger();
+        private final Queue<CompletableFuture<Void>> heldResponses = new ConcurrentLinkedQueue<CompletableFuture<Void>>();
+        private volatile KillBillClientException failure;
+        private volatile boolean loseResponses = false;
+        private volatile boolean holdResponses = false;
+
+        private FakeUsageApiAsync() {
+            super((KillBillHttpClient) null);
+        }
+
+        @Override
+        public CompletableFuture<Void> recordUsage(final SubscriptionUsageRecord body, final RequestOptions inputOptions) {
+            nbCalls.incrementAndGet();
+            final CompletableFuture<Void> result = new CompletableFuture<Void>();
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else if (records.putIfAbsent(body.getTrackingId(), body) != null) {
+                nbDuplicates.incrementAndGet();
+                result.completeExceptionally(new KillBillClientException(responseWithStatus(409)));
+            } else if (loseResponses) {
+                result.completeExceptionally(new KillBillClientException(new IOException("Connection reset")));
+            } else if (holdResponses) {
+                heldResponses.add(result);
+            } else {
+                result.complete(null);
+            }
+            return result;
+        }
+
+        private void releaseHeldResponses() {
+            CompletableFuture<Void> response;
+            while ((response = heldResponses.poll()) != null) {
+                response.complete(null);
+            }
+        }
+
+        private long total(final UUID subscriptionId) {
+            long total = 0;
+            for (final SubscriptionUsageRecord record : records.values()) {
+                if (!subscriptionId.equals(record.getSubscriptionId())) {
+                    continue;
+                }
+                for (final UnitUsageRecord unitUsageRecord : record.getUnitUsageRecords()) {
+                    for (final UsageRecord usageRecord : unitUsageRecord.getUsageRecords()) {
+                        total += usageRecord.getAmount();
+                    }
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2010-2014 Ning, Inc.
+ * Copyright 2014-2020 Groupon, Inc
+ * Copyright 2020-2020 Equinix, Inc
+ * Copyright 2014-2020 The Billing Project, LLC
+ *
+ * The Billing Project licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.killbill.billing.client.model;
+
+import java.util.Collections;
+
+import org.joda.time.DateTime;
+import org.killbill.billing.client.model.gen.Catalog;
+import org.killbill.billing.client.model.gen.Plan;
+import org.killbill.billing.client.model.gen.Product;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestIndexedCatalog {
+
+    @Test(groups = "fast")
+    public void testUndatedLookupsIgnoreFutureVersions() {
+        final DateTime now = DateTime.now();
+        final Catalogs catalogs = new Catalogs();
+        catalogs.add(catalog(now.minusYears(1), "standard-monthly"));
+        catalogs.add(catalog(now.minusDays(1), "standard-monthly", "standard-annual"));
+        catalogs.add(catalog(now.plusMonths(1), "standard-annual", "premium-annual"));
+        final IndexedCatalog indexedCatalog = new IndexedCatalog(catalogs);
+
+        Assert.assertEquals(indexedCatalog.getCurrentVersion().getEffectiveDate(), now.minusDays(1));
+        Assert.assertNotNull(indexedCatalog.findPlan("standard-monthly"));
+        Assert.assertNull(indexedCatalog.findPlan("premium-annual"));
+        Assert.assertNotNull(indexedCatalog.findPlan("premium-annual", now.plusMonths(2)));
+        Assert.assertNotNull(indexedCatalog.findPlan("premium-annual", indexedCatalog.getLatestVersion().getEffectiveDate()));
+    }
+
+    @Test(groups = "fast")
+    public void testUndatedLookupsBeforeFirstVersion() {
+        final DateTime now = DateTime.now();
+        final Catalogs catalogs = new Catalogs();
+        catalogs.add(catalog(now.plusDays(1), "standard-monthly"));
+        catalogs.add(catalog(now.plusMonths(1), "premium-annual"));
+        final IndexedCatalog indexedCatalog = new IndexedCatalog(catalogs);
+
+        Assert.assertEquals(indexedCatalog.getCurrentVersion().getEffectiveDate(), now.plusDays(1));
+        Assert.assertNotNull(indexedCatalog.findPlan("standard-monthly"));
+        Assert.assertNull(indexedCatalog.findPlan("standard-monthly", now));
+    }
+
+    private static Catalog catalog(final DateTime effectiveDate, final String... planNames) {
+        final Product product = new Product().setName("standard");
+        for (final String planName : planNames) {
+            product.addPlansItem(new Plan().setName(planName));
+        }
+        return new Catalog().setEffectiveDate(effectiveDate)
+                            .setProducts(Collections.singletonList(product));
+    }
+}